@@ -39,4 +39,15 @@ trait DrawingAction {
 	 * @since 3.0
 	 */
 	def drawing = _drawing
+
+
+	/**
+	 * Modifies the shapes of the drawing: the modifications are notified as a single change.
+	 * @since 4.0
+	 */
+	protected def changeShapes(modify : => Unit) {
+		val dr = _drawing.get
+		dr.beginChanges
+		try modify finally dr.commitChanges
+	}
 }
@@ -4,10 +4,12 @@ import java.text.ParseException
 import org.malai.action.Action
 import org.malai.undo.Undoable
 import net.sf.latexdraw.badaboom.BadaboomCollector
+import net.sf.latexdraw.parsers.pst.parser.PSTParseSession
 import net.sf.latexdraw.parsers.pst.parser.PSTParser
 import javax.swing.JLabel
 import net.sf.latexdraw.lang.LangTool
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape
+import net.sf.latexdraw.glib.views.latex.DviPsColors
 
 /**
  * This action converts PST code into shapes and add them to the drawing.
@@ -41,9 +43,13 @@ class InsertPSTCode extends Action with DrawingAction with Undoable {
 
 
 	protected def doActionBody() {
-		PSTParser.cleanErrors
+		val session = new PSTParseSession
 		try {
-			new PSTParser().parsePSTCode(_code.get) match {
+			val parsed = new PSTParser().parsePSTCode(_code.get, session)
+			// The colours defined by the code are named in the generated code.
+			session.getColours.forEach{(name, colour) => DviPsColors.INSTANCE.addUserColour(colour, name)}
+
+			parsed match {
 				case Some(group) if !group.isEmpty =>
 					val sh = if(group.size()>1) group else group.getShapeAt(0)
 					val br = sh.getBottomRightPoint
@@ -63,7 +69,7 @@ class InsertPSTCode extends Action with DrawingAction with Undoable {
 				if(_statusBar.isDefined) _statusBar.get.setText(LangTool.INSTANCE.getString16("LaTeXDrawFrame.34"))
 			}
 
-		PSTParser.errorLogs.foreach{str => BadaboomCollector.INSTANCE.add(new ParseException(str, -1))}
+		session.getDiagnostics.forEach{diag => BadaboomCollector.INSTANCE.add(new ParseException(diag.toString, -1))}
 		done
 	}
 
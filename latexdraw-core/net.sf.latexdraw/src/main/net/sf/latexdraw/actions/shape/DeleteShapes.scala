@@ -27,7 +27,7 @@ import java.util.stream.Collectors
  * @since 3.0
  */
 class DeleteShapes extends Action with ShapesAction with DrawingAction with Undoable with Modifying {
-	/** The index of the deleted shapes into the original list. */
+	/** The index of the deleted shapes into the original list (-1 if a shape was not in the drawing). */
 	var positionShapes : java.util.List[Int] = _
 
 
@@ -36,11 +36,10 @@ class DeleteShapes extends Action with ShapesAction with DrawingAction with Undo
 	protected def doActionBody() = {
 		val dr = _drawing.get
 		val drawingSh = dr.getShapes
-		positionShapes = _shapes.stream.map[Int]{sh =>
-			val pos = drawingSh.indexOf(sh)
-			dr.removeShape(sh)
-			pos
-		}.collect(Collectors.toList())
+		positionShapes = _shapes.stream.map[Int]{drawingSh.indexOf(_)}.collect(Collectors.toList())
+		// The shapes must be removed from the selection before being removed from the drawing (see LDrawing.removeShape).
+		dr.getSelection.getShapes.removeAll(_shapes)
+		drawingSh.removeAll(_shapes)
 		dr.setModified(true)
 	}
 
@@ -48,8 +47,13 @@ class DeleteShapes extends Action with ShapesAction with DrawingAction with Undo
 
 	override def undo() {
 		val dr = _drawing.get
-		for(i <- positionShapes.size-1 to 0 by -1)
-			dr.addShape(_shapes.get(i), positionShapes.get(i))
+		// The shapes are put back by increasing former position so that each one retrieves its position.
+		// The shapes that were not in the drawing are added at the end.
+		changeShapes {
+			(0 until positionShapes.size).sortBy{i => if(positionShapes.get(i)== -1) Int.MaxValue else positionShapes.get(i)}.foreach{i =>
+				dr.addShape(_shapes.get(i), positionShapes.get(i))
+			}
+		}
 		dr.setModified(true)
 	}
 
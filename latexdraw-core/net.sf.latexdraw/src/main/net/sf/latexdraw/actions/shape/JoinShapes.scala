@@ -46,12 +46,14 @@ class JoinShapes extends Action with ShapesAction with DrawingAction with Undoab
 		// creating a map from the shapes to join and their index
 		val map = _shapes.map{sh => (drawingSh.indexOf(sh), sh)}.toMap
 
-		map.keySet.toIndexedSeq.sorted.map{index => map.get(index).get}.foreach{sh =>
-			dr.removeShape(sh)
-			addedGroup.addShape(sh)
-		}
+		changeShapes {
+			map.keySet.toIndexedSeq.sorted.map{index => map.get(index).get}.foreach{sh =>
+				dr.removeShape(sh)
+				addedGroup.addShape(sh)
+			}
 
-		dr.addShape(addedGroup)
+			dr.addShape(addedGroup)
+		}
 		dr.setModified(true)
 	}
 
@@ -61,8 +63,10 @@ class JoinShapes extends Action with ShapesAction with DrawingAction with Undoab
 		val drawingSh = dr.getShapes
 		val map = _shapes.map{sh => (sh, drawingSh.indexOf(sh))}.toMap
 
-		dr.removeShape(addedGroup)
-		addedGroup.getShapes.forEach{sh => dr.addShape(sh, map.get(sh).get)}
+		changeShapes {
+			dr.removeShape(addedGroup)
+			addedGroup.getShapes.forEach{sh => dr.addShape(sh, map.get(sh).get)}
+		}
 		addedGroup.clear
 		dr.setModified(true)
 	}
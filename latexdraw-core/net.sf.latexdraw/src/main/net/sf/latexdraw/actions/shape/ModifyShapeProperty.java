@@ -40,8 +40,8 @@ public class ModifyShapeProperty extends ShapePropertyAction implements Undoable
 	/** The shape to modify. */
 	protected IGroup shapes;
 
-	/** The old value of the property. */
-	protected List<?> oldValue;
+	/** The old values of the property (see ShapeProperties.getPropertySnapshot). */
+	protected Object oldValue;
 
 
     @Override
@@ -53,10 +53,9 @@ public class ModifyShapeProperty extends ShapePropertyAction implements Undoable
 			shapes = null;
 		}
 
-		if(oldValue!=null) {
-			oldValue.clear();
-			oldValue = null;
-		}
+		if(oldValue instanceof List<?>)
+			((List<?>)oldValue).clear();
+		oldValue = null;
 	}
 
 
@@ -68,7 +67,7 @@ public class ModifyShapeProperty extends ShapePropertyAction implements Undoable
 
 	@Override
 	public void undo() {
-		property.setPropertyValueList(shapes, oldValue);
+		property.setPropertySnapshot(shapes, oldValue);
 		shapes.setModified(true);
 	}
 
@@ -101,7 +100,7 @@ public class ModifyShapeProperty extends ShapePropertyAction implements Undoable
 	@Override
 	protected void doActionBody() {
 		if(oldValue==null)
-			oldValue = property.getPropertyValues(shapes);
+			oldValue = property.getPropertySnapshot(shapes);
 		applyValue(value);
 	}
 
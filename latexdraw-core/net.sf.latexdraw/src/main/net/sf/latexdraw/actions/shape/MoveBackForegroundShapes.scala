@@ -7,6 +7,7 @@ import net.sf.latexdraw.actions.Modifying
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape
 import net.sf.latexdraw.actions.ShapeAction
 import net.sf.latexdraw.glib.models.interfaces.shape.IGroup
+import net.sf.latexdraw.glib.models.interfaces.shape.IDrawing
 import collection.JavaConversions._
 import scala.collection.mutable.Buffer
 import net.sf.latexdraw.lang.LangTool
@@ -36,7 +37,7 @@ class MoveBackForegroundShapes extends Action with ShapeAction[IGroup] with Draw
 	/** The former position of the shapes. */
 	var formerId : Array[Int] = _
 
-	/** The shapes sorted by their position. */
+	/** The shapes of the drawing sorted by their position. */
 	var sortedSh : Buffer[IShape] = _
 
 
@@ -50,64 +51,37 @@ class MoveBackForegroundShapes extends Action with ShapeAction[IGroup] with Draw
 
 	/** Puts the shapes in the foreground. */
 	def moveInForeground() {
-		val size = _shape.get.size
-		formerId = Array.ofDim[Int](size)
-		var sh : IShape = null
 		val drawing = _drawing.get
-		val drawingShapes = drawing.getShapes
-		sortedSh = _shape.get.getShapes.sortBy(drawingShapes.indexOf(_))
-
-		for(i <- 0 until size) {
-			sh = sortedSh(i)
-			formerId(i) = drawingShapes.indexOf(sh)
-			drawing.removeShape(sh)
-			drawing.addShape(sh)
-		}
+		sortShapes(drawing)
+		val first = drawing.size - sortedSh.size
+		drawing.moveShapes(sortedSh, Array.tabulate(sortedSh.size)(first + _))
 		drawing.setModified(true)
 	}
 
 
 	/** Puts the shapes in the background. */
 	def moveInBackground() {
-		val size = _shape.get.size
-		formerId = Array.ofDim[Int](size)
-		var sh : IShape = null
 		val drawing = _drawing.get
-		val drawingShapes = drawing.getShapes
-		sortedSh = _shape.get.getShapes.sortBy(drawingShapes.indexOf(_))
-
-		for(i <- size-1 to 0 by -1) {
-			sh = sortedSh(i)
-			formerId(i) = drawingShapes.indexOf(sh)
-			drawing.removeShape(sh)
-			drawing.addShape(sh, 0)
-		}
+		sortShapes(drawing)
+		drawing.moveShapes(sortedSh, Array.range(0, sortedSh.size))
 		drawing.setModified(true)
 	}
 
 
+	/** Sorts the shapes of the drawing by their position and saves these positions. */
+	private def sortShapes(drawing : IDrawing) {
+		val drawingShapes = drawing.getShapes
+		val positions = _shape.get.getShapes.map{sh => (sh, drawingShapes.indexOf(sh))}.filter(_._2>=0).sortBy(_._2)
+		sortedSh = positions.map(_._1)
+		formerId = positions.map(_._2).toArray
+	}
+
+
 	override def canDo = _shape.isDefined && !_shape.get.isEmpty && _drawing.isDefined
 
 	override def undo() {
 		val drawing = _drawing.get
-
-		if(foreground) {
-			var i = formerId.size-1
-			sortedSh.reverse.foreach{sh =>
-				drawing.removeShape(sh)
-				drawing.addShape(sh, formerId(i))
-				i -= 1
-			}
-		}
-		else {
-			var i = 0
-			sortedSh.foreach{sh =>
-				drawing.removeShape(sh)
-				drawing.addShape(sh, formerId(i))
-				i += 1
-			}
-		}
-
+		drawing.moveShapes(sortedSh, formerId)
 		drawing.setModified(true)
 	}
 
@@ -53,11 +53,13 @@ class PasteShapes extends Action with DrawingAction with Undoable with Modifying
 		val gapPaste = if(_grid.isMagnetic) _grid.getGridSpacing else 10
 		val gap = _copy.nbTimeCopied*gapPaste
 
-		_copy.copiedShapes.forEach{shape =>
-			val sh = ShapeFactory.duplicate(shape)
-			pastedShapes = pastedShapes :+ sh
-			sh.translate(gap, gap)
-			dr.addShape(sh)
+		changeShapes {
+			_copy.copiedShapes.forEach{shape =>
+				val sh = ShapeFactory.duplicate(shape)
+				pastedShapes = pastedShapes :+ sh
+				sh.translate(gap, gap)
+				dr.addShape(sh)
+			}
 		}
 
 		if(_copy.isInstanceOf[CutShapes])
@@ -72,9 +74,11 @@ class PasteShapes extends Action with DrawingAction with Undoable with Modifying
 		val nbShapes = _copy.copiedShapes.size
 		val dr = _drawing.get
 
-		while(i<nbShapes && !dr.isEmpty) {
-			dr.removeShape(dr.size-1)
-			i+=1
+		changeShapes {
+			while(i<nbShapes && !dr.isEmpty) {
+				dr.removeShape(dr.size-1)
+				i+=1
+			}
 		}
 
 		_copy.nbTimeCopied-=1
@@ -87,7 +91,9 @@ class PasteShapes extends Action with DrawingAction with Undoable with Modifying
 		if(!_copy.isInstanceOf[CutShapes])
 			_copy.nbTimeCopied+=1
 
-		pastedShapes.foreach{sh => dr.addShape(sh)}
+		changeShapes {
+			pastedShapes.foreach{sh => dr.addShape(sh)}
+		}
 
 		if(_copy.isInstanceOf[CutShapes])
 			_copy.nbTimeCopied+=1
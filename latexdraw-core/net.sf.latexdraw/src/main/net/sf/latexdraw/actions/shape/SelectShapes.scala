@@ -34,9 +34,8 @@ class SelectShapes extends Action with ShapesAction with DrawingAction with Modi
 		if(_shapes.isEmpty)
 			selection.clear
 		else {
-			for(i <- selection.size-1 to 0 by -1)
-				if(!_shapes.contains(selection.getShapeAt(i)))
-					selection.removeShape(i)
+			// The unselected shapes are removed in one pass.
+			selection.getShapes.retainAll(_shapes)
 
 			_shapes.forEach{sh =>
 				if(!selection.contains(sh))
@@ -37,8 +37,10 @@ class SeparateShapes extends Action with ShapeAction[IGroup] with DrawingAction
 		val position = dr.getShapes.indexOf(_shape.get)
 		val insertPos = if(position>=(dr.size-1))  -1 else position
 
-		dr.removeShape(position)
-		_shape.get.getShapes.forEach{sh => dr.addShape(sh, insertPos)}
+		changeShapes {
+			dr.removeShape(position)
+			_shape.get.getShapes.forEach{sh => dr.addShape(sh, insertPos)}
+		}
 		dr.setModified(true)
 	}
 
@@ -48,9 +50,10 @@ class SeparateShapes extends Action with ShapeAction[IGroup] with DrawingAction
 		val position = dr.getShapes.indexOf(_shape.get.getShapeAt(0))
 		val addPosition = if(position>=dr.size) -1 else position
 
-		_shape.get.getShapes.forEach{_ => dr.removeShape(position)}
-
-		dr.addShape(_shape.get, addPosition)
+		changeShapes {
+			_shape.get.getShapes.forEach{_ => dr.removeShape(position)}
+			dr.addShape(_shape.get, addPosition)
+		}
 		dr.setModified(true)
 	}
 
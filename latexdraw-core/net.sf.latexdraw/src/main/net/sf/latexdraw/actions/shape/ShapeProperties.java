@@ -2,7 +2,11 @@ package net.sf.latexdraw.actions.shape;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
 
+import net.sf.latexdraw.glib.models.interfaces.prop.*;
 import net.sf.latexdraw.glib.models.interfaces.shape.*;
 import net.sf.latexdraw.lang.LangTool;
 
@@ -36,6 +40,8 @@ public enum ShapeProperties {
 	},
 	/** Polar or cartesian coordinates. **/
 	PLOT_POLAR {
+		@Override public Object getPropertySnapshot(final IGroup group) { return group==null ? null : ShapePropertyColumn.OfBoolean.capture(group, IPlotProp.class, IPlotProp::isPolar);}
+		@Override public void setPropertySnapshot(final IGroup group, final Object snapshot) { restoreBooleans(group, snapshot, IPlotProp.class, IPlotProp::setPolar);}
 		@Override public void setPropertyValue(final IGroup group, final Object value) { if(group!=null && isValueValid(value)) group.setPolar((Boolean)value);}
 		@SuppressWarnings("unchecked")
 		@Override public void setPropertyValueList(final IGroup group, final List<?> values) { if(group!=null) group.setPlotPolarList((List<Boolean>)values);}
@@ -54,6 +60,8 @@ public enum ShapeProperties {
 	},
 	/** Y-scale. **/
 	Y_SCALE {
+		@Override public Object getPropertySnapshot(final IGroup group) { return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IScalable.class, IScalable::getYScale);}
+		@Override public void setPropertySnapshot(final IGroup group, final Object snapshot) { restoreDoubles(group, snapshot, IScalable.class, IScalable::setYScale);}
 		@Override public void setPropertyValue(final IGroup group, final Object value) { if(group!=null && isValueValid(value)) group.setYScale((Double)value);}
 		@SuppressWarnings("unchecked")
 		@Override public void setPropertyValueList(final IGroup group, final List<?> values) { if(group!=null) group.setYScaleList((List<Double>)values);}
@@ -63,6 +71,8 @@ public enum ShapeProperties {
 	},
 	/** X-scale. **/
 	X_SCALE {
+		@Override public Object getPropertySnapshot(final IGroup group) { return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IScalable.class, IScalable::getXScale);}
+		@Override public void setPropertySnapshot(final IGroup group, final Object snapshot) { restoreDoubles(group, snapshot, IScalable.class, IScalable::setXScale);}
 		@Override public void setPropertyValue(final IGroup group, final Object value) { if(group!=null && isValueValid(value)) group.setXScale((Double)value);}
 		@SuppressWarnings("unchecked")
 		@Override public void setPropertyValueList(final IGroup group, final List<?> values) { if(group!=null) group.setXScaleList((List<Double>)values);}
@@ -72,6 +82,8 @@ public enum ShapeProperties {
 	},
 	/** The max-x of a plot. **/
 	PLOT_MAX_X {
+		@Override public Object getPropertySnapshot(final IGroup group) { return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IPlotProp.class, IPlotProp::getPlotMaxX);}
+		@Override public void setPropertySnapshot(final IGroup group, final Object snapshot) { restoreDoubles(group, snapshot, IPlotProp.class, IPlotProp::setPlotMaxX);}
 		@Override public void setPropertyValue(final IGroup group, final Object value) { if(group!=null && isValueValid(value)) group.setPlotMaxX((Double)value);}
 		@SuppressWarnings("unchecked")
 		@Override public void setPropertyValueList(final IGroup group, final List<?> values) { if(group!=null) group.setPlotMaxXList((List<Double>)values);}
@@ -81,6 +93,8 @@ public enum ShapeProperties {
 	},
 	/** The min-x of a plot. **/
 	PLOT_MIN_X {
+		@Override public Object getPropertySnapshot(final IGroup group) { return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IPlotProp.class, IPlotProp::getPlotMinX);}
+		@Override public void setPropertySnapshot(final IGroup group, final Object snapshot) { restoreDoubles(group, snapshot, IPlotProp.class, IPlotProp::setPlotMinX);}
 		@Override public void setPropertyValue(final IGroup group, final Object value) { if(group!=null && isValueValid(value)) group.setPlotMinX((Double)value);}
 		@SuppressWarnings("unchecked")
 		@Override public void setPropertyValueList(final IGroup group, final List<?> values) { if(group!=null) group.setPlotMinXList((List<Double>)values);}
@@ -90,6 +104,8 @@ public enum ShapeProperties {
 	},
 	/** The number of plotted points. **/
 	PLOT_NB_PTS {
+		@Override public Object getPropertySnapshot(final IGroup group) { return group==null ? null : ShapePropertyColumn.OfInt.capture(group, IPlotProp.class, IPlotProp::getNbPlottedPoints);}
+		@Override public void setPropertySnapshot(final IGroup group, final Object snapshot) { restoreInts(group, snapshot, IPlotProp.class, IPlotProp::setNbPlottedPoints);}
 		@Override public void setPropertyValue(final IGroup group, final Object value) { if(group!=null && isValueValid(value)) group.setNbPlottedPoints((Integer)value);}
 		@SuppressWarnings("unchecked")
 		@Override public void setPropertyValueList(final IGroup group, final List<?> values) { if(group!=null) group.setNbPlottedPointsList((List<Integer>)values);}
@@ -99,6 +115,16 @@ public enum ShapeProperties {
 	},
 	/** Show/Hide the origin of the axes. */
 	SHOW_POINTS {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfBoolean.captureIf(group, IShape::isShowPtsable, IShape::isShowPts);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreBooleans(group, snapshot, IShape.class, IShape::setShowPts);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.12"); //$NON-NLS-1$
@@ -129,6 +155,16 @@ public enum ShapeProperties {
 	},
 	/** Show/Hide the origin of the axes. */
 	AXES_SHOW_ORIGIN {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfBoolean.capture(group, IAxesProp.class, IAxesProp::isShowOrigin);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreBooleans(group, snapshot, IAxesProp.class, IAxesProp::setShowOrigin);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.13"); //$NON-NLS-1$
@@ -279,6 +315,16 @@ public enum ShapeProperties {
 	},
 	/** The width of the sub-grids. */
 	GRID_SUBGRID_WIDTH {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IGridProp.class, IGridProp::getSubGridWidth);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IGridProp.class, IGridProp::setSubGridWidth);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.14"); //$NON-NLS-1$
@@ -309,6 +355,16 @@ public enum ShapeProperties {
 	},
 	/** Defines if the free hand shapes are open. */
 	FREEHAND_OPEN {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfBoolean.capture(group, IFreeHandProp.class, IFreeHandProp::isOpen);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreBooleans(group, snapshot, IFreeHandProp.class, IFreeHandProp::setOpen);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.15"); //$NON-NLS-1$
@@ -339,6 +395,16 @@ public enum ShapeProperties {
 	},
 	/** The interval between the points of free hand shapes. */
 	FREEHAND_INTERVAL {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfInt.capture(group, IFreeHandProp.class, IFreeHandProp::getInterval);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreInts(group, snapshot, IFreeHandProp.class, IFreeHandProp::setInterval);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.15"); //$NON-NLS-1$
@@ -369,6 +435,16 @@ public enum ShapeProperties {
 	},
 	/** The division the sub-lines of grids. */
 	GRID_SUBGRID_DIV {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfInt.capture(group, IGridProp.class, IGridProp::getSubGridDiv);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreInts(group, snapshot, IGridProp.class, IGridProp::setSubGridDiv);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.14"); //$NON-NLS-1$
@@ -399,6 +475,16 @@ public enum ShapeProperties {
 	},
 	/** The number of dots composing the sub-lines of grids. */
 	GRID_SUBGRID_DOTS {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfInt.capture(group, IGridProp.class, IGridProp::getSubGridDots);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreInts(group, snapshot, IGridProp.class, IGridProp::setSubGridDots);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.14"); //$NON-NLS-1$
@@ -429,6 +515,16 @@ public enum ShapeProperties {
 	},
 	/** The number of dots composing the main lines of grids. */
 	GRID_DOTS {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfInt.capture(group, IGridProp.class, IGridProp::getGridDots);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreInts(group, snapshot, IGridProp.class, IGridProp::setGridDots);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.14"); //$NON-NLS-1$
@@ -459,6 +555,16 @@ public enum ShapeProperties {
 	},
 	/** The width of the grids. */
 	GRID_WIDTH {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IGridProp.class, IGridProp::getGridWidth);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IGridProp.class, IGridProp::setGridWidth);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.14"); //$NON-NLS-1$
@@ -609,6 +715,16 @@ public enum ShapeProperties {
 	},
 	/** The X-coordinate of the grid's labels. */
 	GRID_LABEL_POSITION_X {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfBoolean.capture(group, IGridProp.class, IGridProp::isYLabelWest);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreBooleans(group, snapshot, IGridProp.class, IGridProp::setYLabelWest);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.14"); //$NON-NLS-1$
@@ -639,6 +755,16 @@ public enum ShapeProperties {
 	},
 	/** The Y-coordinate of the grid's labels. */
 	GRID_LABEL_POSITION_Y {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfBoolean.capture(group, IGridProp.class, IGridProp::isXLabelSouth);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreBooleans(group, snapshot, IGridProp.class, IGridProp::setXLabelSouth);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.14"); //$NON-NLS-1$
@@ -669,6 +795,16 @@ public enum ShapeProperties {
 	},
 	/** The size of the labels of grids. */
 	GRID_SIZE_LABEL {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfInt.capture(group, IStdGridProp.class, IStdGridProp::getLabelsSize);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreInts(group, snapshot, IStdGridProp.class, IStdGridProp::setLabelsSize);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.14"); //$NON-NLS-1$
@@ -699,6 +835,16 @@ public enum ShapeProperties {
 	},
 	/** The t bar num of arrows. */
 	ARROW_T_BAR_SIZE_DIM {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getTBarSizeDim);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setTBarSizeDim);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -729,6 +875,16 @@ public enum ShapeProperties {
 	},
 	/** The t bar num of arrows. */
 	ARROW_T_BAR_SIZE_NUM {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getTBarSizeNum);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setTBarSizeNum);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -759,6 +915,16 @@ public enum ShapeProperties {
 	},
 	/** The dot size dim of arrows. */
 	ARROW_DOT_SIZE_NUM {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getDotSizeNum);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setDotSizeNum);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -789,6 +955,16 @@ public enum ShapeProperties {
 	},
 	/** The dot size dim of arrows. */
 	ARROW_DOT_SIZE_DIM {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getDotSizeDim);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setDotSizeDim);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -819,6 +995,16 @@ public enum ShapeProperties {
 	},
 	/** The bracket num of arrows. */
 	ARROW_BRACKET_NUM {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getBracketNum);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setBracketNum);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -849,6 +1035,16 @@ public enum ShapeProperties {
 	},
 	/** The round bracket num of arrows. */
 	ARROW_R_BRACKET_NUM {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getRBracketNum);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setRBracketNum);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -879,6 +1075,16 @@ public enum ShapeProperties {
 	},
 	/** The size num of arrows. */
 	ARROW_SIZE_NUM {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getArrowSizeNum);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setArrowSizeNum);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -909,6 +1115,16 @@ public enum ShapeProperties {
 	},
 	/** The size dim of arrows. */
 	ARROW_SIZE_DIM {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getArrowSizeDim);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setArrowSizeDim);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -938,6 +1154,16 @@ public enum ShapeProperties {
 		}
 	},
 	ARROW_LENGTH {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getArrowLength);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setArrowLength);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -968,6 +1194,16 @@ public enum ShapeProperties {
 	},
 	/** The inset of arrows. */
 	ARROW_INSET {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArrowableShape.class, IArrowableShape::getArrowInset);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArrowableShape.class, IArrowableShape::setArrowInset);
+		}
+
 		@Override
 		public void setPropertyValue(final IGroup group, final Object value) {
 			if(group!=null)
@@ -1094,6 +1330,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the start angle of arcs. */
 	ARC_START_ANGLE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArcProp.class, IArcProp::getAngleStart);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArcProp.class, IArcProp::setAngleStart);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.17"); //$NON-NLS-1$
@@ -1124,6 +1370,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the end angle of arcs. */
 	ARC_END_ANGLE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IArcProp.class, IArcProp::getAngleEnd);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IArcProp.class, IArcProp::setAngleEnd);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.17"); //$NON-NLS-1$
@@ -1303,6 +1559,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the hatchings angle of shapes. */
 	HATCHINGS_ANGLE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isInteriorStylable, IShape::getHatchingsAngle);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setHatchingsAngle);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.19"); //$NON-NLS-1$
@@ -1333,6 +1599,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the hatchings width a shape. */
 	HATCHINGS_WIDTH {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isInteriorStylable, IShape::getHatchingsWidth);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setHatchingsWidth);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.19"); //$NON-NLS-1$
@@ -1363,6 +1639,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the hatching spacing a shape. */
 	HATCHINGS_SEP {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isInteriorStylable, IShape::getHatchingsSep);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setHatchingsSep);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.19"); //$NON-NLS-1$
@@ -1393,6 +1679,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the gradient angle a shape. */
 	GRAD_ANGLE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isInteriorStylable, IShape::getGradAngle);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setGradAngle);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.20"); //$NON-NLS-1$
@@ -1423,6 +1719,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the middle point of the gradient a shape. */
 	GRAD_MID_POINT {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isInteriorStylable, IShape::getGradMidPt);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setGradMidPt);
+		}
+
 			@Override
 			public String getMessage() {
 				return LangTool.INSTANCE.getStringActions("Actions.20"); //$NON-NLS-1$
@@ -1453,6 +1759,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the round corner value of a shape. */
 	ROUND_CORNER_VALUE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, ILineArcProp.class, ILineArcProp::getLineArc);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, ILineArcProp.class, ILineArcProp::setLineArc);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.21"); //$NON-NLS-1$
@@ -1633,6 +1949,16 @@ public enum ShapeProperties {
 	},
 	/** Defines if a shape must have double borders. */
 	DBLE_BORDERS {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfBoolean.captureIf(group, IShape::isDbleBorderable, IShape::hasDbleBord);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreBooleans(group, snapshot, IShape.class, IShape::setHasDbleBord);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.24"); //$NON-NLS-1$
@@ -1663,6 +1989,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the size of the double borders of a shape. */
 	DBLE_BORDERS_SIZE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isDbleBorderable, IShape::getDbleBordSep);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setDbleBordSep);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.24"); //$NON-NLS-1$
@@ -1723,6 +2059,16 @@ public enum ShapeProperties {
 	},
 	/** Defines if a shape must have a shadow. */
 	SHADOW {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfBoolean.captureIf(group, IShape::isShadowable, IShape::hasShadow);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreBooleans(group, snapshot, IShape.class, IShape::setHasShadow);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.25"); //$NON-NLS-1$
@@ -1753,6 +2099,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the size of the shadow of a shape. */
 	SHADOW_SIZE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isShadowable, IShape::getShadowSize);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setShadowSize);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.25"); //$NON-NLS-1$
@@ -1783,6 +2139,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the angle of the shadow of a shape. */
 	SHADOW_ANGLE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isShadowable, IShape::getShadowAngle);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setShadowAngle);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.25"); //$NON-NLS-1$
@@ -1903,6 +2269,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the thickness of the borders of a shape. */
 	LINE_THICKNESS {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.captureIf(group, IShape::isThicknessable, IShape::getThickness);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IShape.class, IShape::setThickness);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.26"); //$NON-NLS-1$
@@ -2083,6 +2459,16 @@ public enum ShapeProperties {
 	},
 	/** Modification of the size of dots. */
 	DOT_SIZE {
+		@Override
+		public Object getPropertySnapshot(final IGroup group) {
+			return group==null ? null : ShapePropertyColumn.OfDouble.capture(group, IDotProp.class, IDotProp::getDiametre);
+		}
+
+		@Override
+		public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+			restoreDoubles(group, snapshot, IDotProp.class, IDotProp::setDiametre);
+		}
+
 		@Override
 		public String getMessage() {
 			return LangTool.INSTANCE.getStringActions("Actions.29"); //$NON-NLS-1$
@@ -2147,6 +2533,46 @@ public enum ShapeProperties {
 	public abstract List<?> getPropertyValues(final IGroup group);
 
 
+	/**
+	 * Captures the values of the property of the shapes of the given group so that they can be restored later
+	 * using setPropertySnapshot. The numerical and boolean properties are captured into primitive columns
+	 * (see ShapePropertyColumn); the other ones into a list (see getPropertyValues).
+	 * @param group The group to explore.
+	 * @return The snapshot of the property values or null if the group is null.
+	 * @since 4.0
+	 */
+	public Object getPropertySnapshot(final IGroup group) {
+		return group==null ? null : getPropertyValues(group);
+	}
+
+	/**
+	 * Sets the values captured by getPropertySnapshot back to the shapes of the given group.
+	 * @param group The group to modify.
+	 * @param snapshot The values to set. Nothing is done if the snapshot has not been captured
+	 * from a group having the same number of shapes.
+	 * @since 4.0
+	 */
+	public void setPropertySnapshot(final IGroup group, final Object snapshot) {
+		if(snapshot instanceof List<?>)
+			setPropertyValueList(group, (List<?>)snapshot);
+	}
+
+	private static <T> void restoreDoubles(final IGroup group, final Object snapshot, final Class<T> type, final ObjDoubleConsumer<? super T> setter) {
+		if(group!=null && snapshot instanceof ShapePropertyColumn.OfDouble)
+			((ShapePropertyColumn.OfDouble)snapshot).restore(group, type, setter);
+	}
+
+	private static <T> void restoreInts(final IGroup group, final Object snapshot, final Class<T> type, final ObjIntConsumer<? super T> setter) {
+		if(group!=null && snapshot instanceof ShapePropertyColumn.OfInt)
+			((ShapePropertyColumn.OfInt)snapshot).restore(group, type, setter);
+	}
+
+	private static <T> void restoreBooleans(final IGroup group, final Object snapshot, final Class<T> type, final BiConsumer<? super T, Boolean> setter) {
+		if(group!=null && snapshot instanceof ShapePropertyColumn.OfBoolean)
+			((ShapePropertyColumn.OfBoolean)snapshot).restore(group, type, setter);
+	}
+
+
 	/**
 	 * @return The title of the properties.
 	 * @since 3.0
@@ -0,0 +1,262 @@
+package net.sf.latexdraw.actions.shape;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+import net.sf.latexdraw.glib.models.interfaces.shape.IGroup;
+import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
+
+/**
+ * A snapshot of a numerical or boolean property of the shapes of a group, stored in primitive arrays.
+ * Capturing the property of n shapes allocates a fixed number of objects (no boxed value per shape).
+ * Each shape of the group is mapped to a cell of the column, in the order of the group; the cells of
+ * the shapes that do not support the property are marked as not applicable and are not restored.<br>
+ * <br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2016 Arnaud BLOUIN<br>
+ * <br>
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * <br>
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.<br>
+ * <br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+public abstract class ShapePropertyColumn {
+	/** The cells that have a value (the shape supports the property). */
+	protected final BitSet applicable;
+
+	/** The number of cells (the number of shapes of the captured group). */
+	protected final int size;
+
+
+	ShapePropertyColumn(final int nbShapes) {
+		super();
+		size = nbShapes;
+		applicable = new BitSet(nbShapes);
+	}
+
+
+	/**
+	 * @return The number of cells of the column.
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/**
+	 * @param index The index of a shape in the captured group.
+	 * @return True if the shape at the given index supports the property.
+	 */
+	public boolean isApplicable(final int index) {
+		return applicable.get(index);
+	}
+
+
+	/**
+	 * Calls the given action on each shape of the group that has a value in the column.
+	 * Nothing is done if the group does not have as many shapes as the captured one.
+	 */
+	protected <T> void forEachApplicable(final IGroup group, final Class<T> type, final ObjIntConsumer<T> action) {
+		final List<IShape> shapes = group.getShapes();
+
+		if(shapes.size()==size)
+			for(int i = applicable.nextSetBit(0); i>=0; i = applicable.nextSetBit(i+1)) {
+				final IShape sh = shapes.get(i);
+				if(type.isInstance(sh))
+					action.accept(type.cast(sh), i);
+			}
+	}
+
+
+	/**
+	 * A column of double values.
+	 */
+	public static final class OfDouble extends ShapePropertyColumn {
+		private final double[] values;
+
+		private OfDouble(final int nbShapes) {
+			super(nbShapes);
+			values = new double[nbShapes];
+		}
+
+		/**
+		 * Captures the property of the shapes of the given group that are instances of the given type.
+		 * @param group The group to capture.
+		 * @param type The type of the shapes supporting the property.
+		 * @param getter Gets the value of the property of a shape.
+		 * @return The created column.
+		 */
+		public static <T> OfDouble capture(final IGroup group, final Class<T> type, final ToDoubleFunction<? super T> getter) {
+			return captureIf(group, type::isInstance, sh -> getter.applyAsDouble(type.cast(sh)));
+		}
+
+		/**
+		 * Captures the property of the shapes of the given group that satisfy the given predicate.
+		 * @param group The group to capture.
+		 * @param supported Tests whether a shape supports the property.
+		 * @param getter Gets the value of the property of a shape.
+		 * @return The created column.
+		 */
+		public static OfDouble captureIf(final IGroup group, final Predicate<IShape> supported, final ToDoubleFunction<IShape> getter) {
+			final List<IShape> shapes = group.getShapes();
+			final OfDouble column = new OfDouble(shapes.size());
+
+			for(int i=0; i<column.size; i++) {
+				final IShape sh = shapes.get(i);
+				if(supported.test(sh)) {
+					column.applicable.set(i);
+					column.values[i] = getter.applyAsDouble(sh);
+				}
+			}
+
+			return column;
+		}
+
+		/**
+		 * @param index The index of a shape in the captured group.
+		 * @return The value of the shape at the given index (undefined if the property is not applicable).
+		 */
+		public double get(final int index) {
+			return values[index];
+		}
+
+		/**
+		 * Sets the captured values back to the shapes of the given group.
+		 * @param group The group that has been captured.
+		 * @param type The type of the shapes supporting the property.
+		 * @param setter Sets the value of the property of a shape.
+		 */
+		public <T> void restore(final IGroup group, final Class<T> type, final ObjDoubleConsumer<? super T> setter) {
+			forEachApplicable(group, type, (sh, i) -> setter.accept(sh, values[i]));
+		}
+	}
+
+
+	/**
+	 * A column of int values.
+	 */
+	public static final class OfInt extends ShapePropertyColumn {
+		private final int[] values;
+
+		private OfInt(final int nbShapes) {
+			super(nbShapes);
+			values = new int[nbShapes];
+		}
+
+		/**
+		 * Captures the property of the shapes of the given group that are instances of the given type.
+		 * @param group The group to capture.
+		 * @param type The type of the shapes supporting the property.
+		 * @param getter Gets the value of the property of a shape.
+		 * @return The created column.
+		 */
+		public static <T> OfInt capture(final IGroup group, final Class<T> type, final ToIntFunction<? super T> getter) {
+			final List<IShape> shapes = group.getShapes();
+			final OfInt column = new OfInt(shapes.size());
+
+			for(int i=0; i<column.size; i++) {
+				final IShape sh = shapes.get(i);
+				if(type.isInstance(sh)) {
+					column.applicable.set(i);
+					column.values[i] = getter.applyAsInt(type.cast(sh));
+				}
+			}
+
+			return column;
+		}
+
+		/**
+		 * @param index The index of a shape in the captured group.
+		 * @return The value of the shape at the given index (undefined if the property is not applicable).
+		 */
+		public int get(final int index) {
+			return values[index];
+		}
+
+		/**
+		 * Sets the captured values back to the shapes of the given group.
+		 * @param group The group that has been captured.
+		 * @param type The type of the shapes supporting the property.
+		 * @param setter Sets the value of the property of a shape.
+		 */
+		public <T> void restore(final IGroup group, final Class<T> type, final ObjIntConsumer<? super T> setter) {
+			forEachApplicable(group, type, (sh, i) -> setter.accept(sh, values[i]));
+		}
+	}
+
+
+	/**
+	 * A column of boolean values.
+	 */
+	public static final class OfBoolean extends ShapePropertyColumn {
+		private final BitSet values;
+
+		private OfBoolean(final int nbShapes) {
+			super(nbShapes);
+			values = new BitSet(nbShapes);
+		}
+
+		/**
+		 * Captures the property of the shapes of the given group that are instances of the given type.
+		 * @param group The group to capture.
+		 * @param type The type of the shapes supporting the property.
+		 * @param getter Gets the value of the property of a shape.
+		 * @return The created column.
+		 */
+		public static <T> OfBoolean capture(final IGroup group, final Class<T> type, final Predicate<? super T> getter) {
+			return captureIf(group, type::isInstance, sh -> getter.test(type.cast(sh)));
+		}
+
+		/**
+		 * Captures the property of the shapes of the given group that satisfy the given predicate.
+		 * @param group The group to capture.
+		 * @param supported Tests whether a shape supports the property.
+		 * @param getter Gets the value of the property of a shape.
+		 * @return The created column.
+		 */
+		public static OfBoolean captureIf(final IGroup group, final Predicate<IShape> supported, final Predicate<IShape> getter) {
+			final List<IShape> shapes = group.getShapes();
+			final OfBoolean column = new OfBoolean(shapes.size());
+
+			for(int i=0; i<column.size; i++) {
+				final IShape sh = shapes.get(i);
+				if(supported.test(sh)) {
+					column.applicable.set(i);
+					column.values.set(i, getter.test(sh));
+				}
+			}
+
+			return column;
+		}
+
+		/**
+		 * @param index The index of a shape in the captured group.
+		 * @return The value of the shape at the given index (undefined if the property is not applicable).
+		 */
+		public boolean get(final int index) {
+			return values.get(index);
+		}
+
+		/**
+		 * Sets the captured values back to the shapes of the given group.
+		 * @param group The group that has been captured.
+		 * @param type The type of the shapes supporting the property.
+		 * @param setter Sets the value of the property of a shape.
+		 */
+		public <T> void restore(final IGroup group, final Class<T> type, final BiConsumer<? super T, Boolean> setter) {
+			forEachApplicable(group, type, (sh, i) -> setter.accept(sh, values.get(i)));
+		}
+	}
+}
@@ -7,8 +7,6 @@ import net.sf.latexdraw.parsers.svg.*;
 import net.sf.latexdraw.parsers.svg.path.*;
 import net.sf.latexdraw.util.LNamespace;
 
-import java.awt.geom.Point2D;
-
 /**
  * Defines a SVG generator for a Bézier curve.<br>
  *<br>
@@ -85,30 +83,35 @@ class LBezierCurveSVGGenerator extends LShapeSVGGenerator<IBezierCurve> {
 	 * @since 2.0.0
 	 */
 	public void setPath(final SVGPathSegList list) {
-		if(list==null || list.size()<2 || !(list.get(0) instanceof SVGPathSegMoveto))
+		if(list==null)
 			throw new IllegalArgumentException();
+		setPath(list.getPath());
+	}
 
-		final SVGPathSegMoveto m = (SVGPathSegMoveto)list.get(0);
-		CtrlPointsSeg c;
-		int i=1;
-        final int size = list.size();
-		Point2D pt = new Point2D.Double();// Creating a point to support when the first path element is relative.
 
-		pt = m.getPoint(pt);
-        shape.addPoint(ShapeFactory.createPoint(pt));
+	/**
+	 * Sets the shape path according to the given SVG path. The points are read from the path without creating segment objects.
+	 * @param path The SVG path.
+	 * @since 4.0
+	 */
+	public void setPath(final SVGPath path) {
+		if(path==null || path.size()<2 || path.getType(0)!='M')
+			throw new IllegalArgumentException();
 
-		if(size>1 && list.get(1) instanceof CtrlPointsSeg) {// We set the control point of the first point.
-			c = (CtrlPointsSeg)list.get(1);
-			shape.getFirstCtrlPtAt(-1).setPoint(ShapeFactory.createPoint(c.getCtrl1(pt)));
-		}
+		final SVGPath.Cursor cursor = path.cursor();// The cursor starts at (0,0) to support when the first path element is relative.
+		boolean hasNext;
+
+		cursor.next();
+        shape.addPoint(ShapeFactory.createPoint(cursor.getX(), cursor.getY()));
+		hasNext = cursor.next();
 
-		while(i<size && list.get(i) instanceof CtrlPointsSeg) {
-			c = (CtrlPointsSeg)list.get(i);
-			Point2D currPt = c.getPoint(pt);
-			shape.addPoint(ShapeFactory.createPoint(currPt));
-			shape.getFirstCtrlPtAt(-1).setPoint(ShapeFactory.createPoint(c.getCtrl2(pt)));
-			pt = currPt;
-			i++;
+		if(hasNext && isCurveto(cursor))// We set the control point of the first point.
+			shape.getFirstCtrlPtAt(-1).setPoint(cursor.getCtrl1X(), cursor.getCtrl1Y());
+
+		while(hasNext && isCurveto(cursor)) {
+			shape.addPoint(ShapeFactory.createPoint(cursor.getX(), cursor.getY()));
+			shape.getFirstCtrlPtAt(-1).setPoint(cursor.getCtrl2X(), cursor.getCtrl2Y());
+			hasNext = cursor.next();
 		}
 
 		if(shape.getNbPoints()>2 && shape.getPtAt(-1).equals(shape.getPtAt(0), 0.00001)) {// We set the shape as closed
@@ -116,7 +119,7 @@ class LBezierCurveSVGGenerator extends LShapeSVGGenerator<IBezierCurve> {
 			shape.setIsClosed(true);
 		}
 		else
-			if(i<size && list.get(i) instanceof SVGPathSegClosePath)// There is something else at the end of the path.
+			if(hasNext && cursor.getType()=='Z')// There is something else at the end of the path.
 				shape.setIsClosed(true);
 			else
 				shape.setIsClosed(false);
@@ -125,6 +128,14 @@ class LBezierCurveSVGGenerator extends LShapeSVGGenerator<IBezierCurve> {
 	}
 
 
+	/**
+	 * @return True if the current segment of the cursor is a cubic curveto (smooth or not).
+	 */
+	private static boolean isCurveto(final SVGPath.Cursor cursor) {
+		return cursor.getType()=='C' || cursor.getType()=='S';
+	}
+
+
 
 
 	/**
@@ -139,22 +150,22 @@ class LBezierCurveSVGGenerator extends LShapeSVGGenerator<IBezierCurve> {
         int i;
         final SVGPathSegList path = new SVGPathSegList();
 
-		path.add(new SVGPathSegMoveto(shape.getPtAt(0).getX(), shape.getPtAt(0).getY(), false));
-		path.add(new SVGPathSegCurvetoCubic(shape.getPtAt(1).getX(), shape.getPtAt(1).getY(), shape.getFirstCtrlPtAt(0).getX(),
-				shape.getFirstCtrlPtAt(0).getY(), shape.getFirstCtrlPtAt(1).getX(), shape.getFirstCtrlPtAt(1).getY(), false));
+		path.onMoveto(shape.getPtAt(0).getX(), shape.getPtAt(0).getY(), false);
+		path.onCurvetoCubic(shape.getPtAt(1).getX(), shape.getPtAt(1).getY(), shape.getFirstCtrlPtAt(0).getX(),
+				shape.getFirstCtrlPtAt(0).getY(), shape.getFirstCtrlPtAt(1).getX(), shape.getFirstCtrlPtAt(1).getY(), false);
 
 		for(i=2; i<size; i++)
-			path.add(new SVGPathSegCurvetoCubic(shape.getPtAt(i).getX(), shape.getPtAt(i).getY(),
+			path.onCurvetoCubic(shape.getPtAt(i).getX(), shape.getPtAt(i).getY(),
 												shape.getSecondCtrlPtAt(i-1).getX(), shape.getSecondCtrlPtAt(i-1).getY(),
-												shape.getFirstCtrlPtAt(i).getX(), shape.getFirstCtrlPtAt(i).getY(), false));
+												shape.getFirstCtrlPtAt(i).getX(), shape.getFirstCtrlPtAt(i).getY(), false);
 
 		if(shape.isClosed()) {
             final IPoint ctrl1b = shape.getFirstCtrlPtAt(0).centralSymmetry(shape.getPtAt(0));
             final IPoint ctrl2b = shape.getFirstCtrlPtAt(-1).centralSymmetry(shape.getPtAt(-1));
 
-            path.add(new SVGPathSegCurvetoCubic(shape.getPtAt(0).getX(), shape.getPtAt(0).getY(), ctrl2b.getX(), ctrl2b.getY(), ctrl1b.getX(), ctrl1b.getY(), false));
+            path.onCurvetoCubic(shape.getPtAt(0).getX(), shape.getPtAt(0).getY(), ctrl2b.getX(), ctrl2b.getY(), ctrl1b.getX(), ctrl1b.getY(), false);
 
-            path.add(new SVGPathSegClosePath());
+            path.onClosePath();
 		}
 
 		return path;
@@ -14,12 +14,9 @@ import net.sf.latexdraw.parsers.svg.SVGElement;
 import net.sf.latexdraw.parsers.svg.SVGGElement;
 import net.sf.latexdraw.parsers.svg.SVGPathElement;
 import net.sf.latexdraw.parsers.svg.parsers.SVGPointsParser;
-import net.sf.latexdraw.parsers.svg.path.SVGPathSegClosePath;
-import net.sf.latexdraw.parsers.svg.path.SVGPathSegCurvetoCubic;
-import net.sf.latexdraw.parsers.svg.path.SVGPathSegLineto;
 import net.sf.latexdraw.parsers.svg.path.SVGPathSegList;
-import net.sf.latexdraw.parsers.svg.path.SVGPathSegMoveto;
 import net.sf.latexdraw.util.LNamespace;
+import net.sf.latexdraw.util.LNumberFormatter;
 
 /**
  * Defines a SVG generator for a free hand drawing.<br>
@@ -111,7 +108,7 @@ class LFreeHandSVGGenerator extends LShapeSVGGenerator<IFreehand> {
 		final int size = shape.getNbPoints();
 		final int interval = shape.getInterval();
 
-    	path.add(new SVGPathSegMoveto(curx, cury, false));
+    	path.onMoveto(curx, cury, false);
 
         if(size>interval) {
            prevx = curx;
@@ -120,7 +117,7 @@ class LFreeHandSVGGenerator extends LShapeSVGGenerator<IFreehand> {
            cury = shape.getPtAt(interval).getY();
            midx = (curx + prevx) / 2.;
            midy = (cury + prevy) / 2.;
-           path.add(new SVGPathSegLineto(midx, midy, false));
+           path.onLineto(midx, midy, false);
         }
 
         for(i=interval*2; i<size; i+=interval)  {
@@ -135,7 +132,7 @@ class LFreeHandSVGGenerator extends LShapeSVGGenerator<IFreehand> {
             final double x2 = (prevx + midx) / 2.;
             final double y2 = (prevy + midy) / 2.;
 
-            path.add(new SVGPathSegCurvetoCubic(midx, midy, x1, y1, x2, y2, false));
+            path.onCurvetoCubic(midx, midy, x1, y1, x2, y2, false);
         }
 
         if(i-interval+1<size) {
@@ -150,7 +147,7 @@ class LFreeHandSVGGenerator extends LShapeSVGGenerator<IFreehand> {
             final double x2 = (prevx + midx) / 2.;
             final double y2 = (prevy + midy) / 2.;
 
-            path.add(new SVGPathSegCurvetoCubic(shape.getPtAt(-1).getX(), shape.getPtAt(-1).getY(), x1, y1, x2, y2, false));
+            path.onCurvetoCubic(shape.getPtAt(-1).getX(), shape.getPtAt(-1).getY(), x1, y1, x2, y2, false);
         }
 	}
 
@@ -165,13 +162,13 @@ class LFreeHandSVGGenerator extends LShapeSVGGenerator<IFreehand> {
 		final int size = shape.getNbPoints();
 		final int interval = shape.getInterval();
 
-		path.add(new SVGPathSegMoveto(p.getX(), p.getY(), false));
+		path.onMoveto(p.getX(), p.getY(), false);
 
 		for(i=interval; i<size; i+=interval)
-			path.add(new SVGPathSegLineto(shape.getPtAt(i).getX(), shape.getPtAt(i).getY(), false));
+			path.onLineto(shape.getPtAt(i).getX(), shape.getPtAt(i).getY(), false);
 
 		if(i-interval<size)
-			path.add(new SVGPathSegLineto(shape.getPtAt(-1).getX(), shape.getPtAt(-1).getY(), false));
+			path.onLineto(shape.getPtAt(-1).getX(), shape.getPtAt(-1).getY(), false);
 	}
 
 
@@ -193,7 +190,7 @@ class LFreeHandSVGGenerator extends LShapeSVGGenerator<IFreehand> {
 		}
 
 		if(!shape.isOpen())
-			path.add(new SVGPathSegClosePath());
+			path.onClosePath();
 
 		return path;
 	}
@@ -216,7 +213,7 @@ class LFreeHandSVGGenerator extends LShapeSVGGenerator<IFreehand> {
 		final StringBuilder pts = new StringBuilder();
 
 		for(int i = 0, size = shape.getNbPoints(); i < size; i++)
-				pts.append(shape.getPtAt(i).getX()).append(' ').append(shape.getPtAt(i).getY()).append(' ');
+				LNumberFormatter.INSTANCE.appendDouble(LNumberFormatter.INSTANCE.appendDouble(pts, shape.getPtAt(i).getX()).append(' '), shape.getPtAt(i).getY()).append(' ');
 
 		root.setAttribute(LNamespace.LATEXDRAW_NAMESPACE + ':' + LNamespace.XML_POINTS, pts.toString());
 
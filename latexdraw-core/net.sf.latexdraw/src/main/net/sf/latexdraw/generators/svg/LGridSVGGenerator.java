@@ -13,6 +13,10 @@ import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
 import net.sf.latexdraw.parsers.svg.*;
 import net.sf.latexdraw.parsers.svg.parsers.SVGPointsParser;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegLinetoHorizontal;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegLinetoVertical;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegList;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegMoveto;
 import net.sf.latexdraw.util.LNamespace;
 import net.sf.latexdraw.util.LNumber;
 import sun.font.FontDesignMetrics;
@@ -226,47 +230,30 @@ class LGridSVGGenerator extends LShapeSVGGenerator<IGrid> {
 
 	/**
 	 * Creates the SVG element corresponding to the sub dotted part of the grid.
+	 * The dots are drawn by two patterns: one for the dots of the columns, one for the dots of the rows.
 	 */
 	private void createSVGSubGridDots(final SVGDocument document, final SVGElement elt, final String prefix, final double subGridDiv, final double unit,
 									  final double xSubStep, final double ySubStep, final double minX, final double maxX,
 									  final double minY, final double maxY, final int subGridDots, final double subGridWidth,
-									  final double tlx, final double tly, final double brx, final double bry, final Color subGridColour) {
+									  final double tlx, final double tly, final Color subGridColour) {
 		final double dotStep = unit*IShape.PPC/(subGridDots*subGridDiv);
 		final double nbX = (maxX-minX)*subGridDiv;
 		final double nbY = (maxY-minY)*subGridDiv;
+		final String colour = CSSColors.INSTANCE.getColorName(subGridColour, true);
 		final SVGElement subgridDots = new SVGGElement(document);
-		SVGElement dot;
 
-		subgridDots.setAttribute(SVGAttributes.SVG_FILL, CSSColors.INSTANCE.getColorName(subGridColour, true));
+		subgridDots.setAttribute(SVGAttributes.SVG_FILL, colour);
 		subgridDots.setAttribute(prefix+LNamespace.XML_TYPE, LNamespace.XML_TYPE_GRID_SUB);
 		subgridDots.setAttribute(prefix+LNamespace.XML_GRID_DOTS, String.valueOf(subGridDots));
-		subgridDots.setAttribute(prefix+LNamespace.XML_GRID_SUB_DIV, String.valueOf(subGridDots));
+		subgridDots.setAttribute(prefix+LNamespace.XML_GRID_SUB_DIV, String.valueOf(subGridDiv));
 		subgridDots.setAttribute(prefix+LNamespace.XML_GRID_WIDTH, String.valueOf(subGridWidth));
 
-		for(double i=0, n=tlx; i<nbX; i++, n+=xSubStep)
-			for(double j=0, m=tly; j<=nbY; j++, m+=ySubStep)
-				for(double k=0; k<subGridDots; k++) {
-					dot = new SVGCircleElement(document);
-					dot.setAttribute(SVGAttributes.SVG_CX, String.valueOf(n+k*dotStep));
-					dot.setAttribute(SVGAttributes.SVG_CY, String.valueOf(m));
-					dot.setAttribute(SVGAttributes.SVG_R, String.valueOf(subGridWidth/2.));
-					subgridDots.appendChild(dot);
-				}
-
-		for(double j=0, n=tly; j<nbY; j++, n+=ySubStep)
-			for(double i=0, m=tlx; i<=nbX; i++, m+=xSubStep)
-				for(double k=0; k<subGridDots; k++) {
-					dot = new SVGCircleElement(document);
-					dot.setAttribute(SVGAttributes.SVG_CX, String.valueOf(m));
-					dot.setAttribute(SVGAttributes.SVG_CY, String.valueOf(n+k*dotStep));
-					dot.setAttribute(SVGAttributes.SVG_R, String.valueOf(subGridWidth/2.));
-					subgridDots.appendChild(dot);
-				}
-
-		dot = new SVGCircleElement(document);
-		dot.setAttribute(SVGAttributes.SVG_CX, String.valueOf(brx));
-		dot.setAttribute(SVGAttributes.SVG_CY, String.valueOf(bry));
-		dot.setAttribute(SVGAttributes.SVG_R, String.valueOf(subGridWidth/2.));
+		// The dots of the rows.
+		createSVGDotsLattice(document, subgridDots, getSVGID()+"-subRows", firstDot(tlx, xSubStep, nbSteps(0, nbX)), dotStep, //$NON-NLS-1$
+							nbSteps(0, nbX)*subGridDots, tly, ySubStep, nbStepsInclusive(0, nbY), subGridWidth/2., colour);
+		// The dots of the columns.
+		createSVGDotsLattice(document, subgridDots, getSVGID()+"-subColumns", tlx, xSubStep, nbStepsInclusive(0, nbX), //$NON-NLS-1$
+							firstDot(tly, ySubStep, nbSteps(0, nbY)), dotStep, nbSteps(0, nbY)*subGridDots, subGridWidth/2., colour);
 
 		elt.appendChild(subgridDots);
 	}
@@ -285,7 +272,7 @@ class LGridSVGGenerator extends LShapeSVGGenerator<IGrid> {
 		double j;
 		double k;
 		final SVGElement subgrids = new SVGGElement(document);
-		SVGElement line;
+		final SVGPathSegList path = new SVGPathSegList();
 
 		subgrids.setAttribute(SVGAttributes.SVG_STROKE_WIDTH, String.valueOf(subGridWidth));
 		subgrids.setAttribute(SVGAttributes.SVG_STROKE, CSSColors.INSTANCE.getColorName(subGridColour, true));
@@ -296,72 +283,47 @@ class LGridSVGGenerator extends LShapeSVGGenerator<IGrid> {
 
 		for(k=minX, i=posX; k<maxX; i+=xStep, k++)
 			for(j=0; j<=subGridDiv; j++) {
-				line = new SVGLineElement(document);
-				line.setAttribute(SVGAttributes.SVG_X1, String.valueOf(i+xSubStep*j));
-				line.setAttribute(SVGAttributes.SVG_X2, String.valueOf(i+xSubStep*j));
-				line.setAttribute(SVGAttributes.SVG_Y1, String.valueOf(bry));
-				line.setAttribute(SVGAttributes.SVG_Y2, String.valueOf(tly));
-				subgrids.appendChild(line);
+				path.add(new SVGPathSegMoveto(i+xSubStep*j, bry, false));
+				path.add(new SVGPathSegLinetoVertical(tly, false));
 			}
 
 		for(k=minY, i=posY; k<maxY; i-=yStep, k++)
 			for(j=0; j<=subGridDiv; j++) {
-				line = new SVGLineElement(document);
-				line.setAttribute(SVGAttributes.SVG_X1, String.valueOf(tlx));
-				line.setAttribute(SVGAttributes.SVG_X2, String.valueOf(brx));
-				line.setAttribute(SVGAttributes.SVG_Y1, String.valueOf(i-ySubStep*j));
-				line.setAttribute(SVGAttributes.SVG_Y2, String.valueOf(i-ySubStep*j));
-				subgrids.appendChild(line);
+				path.add(new SVGPathSegMoveto(tlx, i-ySubStep*j, false));
+				path.add(new SVGPathSegLinetoHorizontal(brx, false));
 			}
 
+		subgrids.appendChild(createSVGLinesPath(document, path));
 		elt.appendChild(subgrids);
 	}
 
 
 	/**
 	 * Creates the SVG element corresponding to the main dotted part of the grid.
+	 * The dots are drawn by two patterns: one for the dots of the columns, one for the dots of the rows.
 	 */
 	private void createSVGGridDots(final SVGDocument document, final SVGElement elt, final String prefix, final double absStep,
 								   final double minX, final double maxX, final double minY, final double maxY, final double tlx,
 								   final double tly, final double brx, final double bry, final double unit, final double posX,
 								   final double posY, final double xStep, final double yStep, final double gridWidth, final Color linesColour) {
-		double k;
-		double i;
-		double m;
-		double n;
-		double l;
-		double j;
 		final int gridDots = shape.getGridDots();
 		final double dotStep = unit*IShape.PPC/gridDots;
+		final String colour = CSSColors.INSTANCE.getColorName(linesColour, true);
 		final SVGElement gridDotsElt = new SVGGElement(document);
-		SVGElement dot;
+		final SVGElement dot = new SVGCircleElement(document);
 
-		gridDotsElt.setAttribute(SVGAttributes.SVG_FILL, CSSColors.INSTANCE.getColorName(linesColour, true));
+		gridDotsElt.setAttribute(SVGAttributes.SVG_FILL, colour);
 		gridDotsElt.setAttribute(prefix+LNamespace.XML_TYPE, LNamespace.XML_TYPE_GRID);
 		gridDotsElt.setAttribute(prefix+LNamespace.XML_GRID_DOTS, String.valueOf(gridDots));
 		gridDotsElt.setAttribute(prefix+LNamespace.XML_GRID_WIDTH, String.valueOf(gridWidth));
 
-		for(k=minX, i=posX; k<=maxX; i+=xStep, k++)
-			for(m=tly, n=minY; n<maxY; n++, m+=absStep)
-				for(l=0, j=m; l<gridDots; l++, j+=dotStep) {
-					dot = new SVGCircleElement(document);
-					dot.setAttribute(SVGAttributes.SVG_CX, String.valueOf(i));
-					dot.setAttribute(SVGAttributes.SVG_CY, String.valueOf(j));
-					dot.setAttribute(SVGAttributes.SVG_R, String.valueOf(gridWidth/2.));
-					gridDotsElt.appendChild(dot);
-				}
-
-		for(k=minY, i=posY; k<=maxY; i-=yStep, k++)
-			for(m=tlx, n=minX; n<maxX; n++, m+=absStep)
-				for(l=0, j=m; l<gridDots; l++, j+=dotStep) {
-					dot = new SVGCircleElement(document);
-					dot.setAttribute(SVGAttributes.SVG_CX, String.valueOf(j));
-					dot.setAttribute(SVGAttributes.SVG_CY, String.valueOf(i));
-					dot.setAttribute(SVGAttributes.SVG_R, String.valueOf(gridWidth/2.));
-					gridDotsElt.appendChild(dot);
-				}
-
-		dot = new SVGCircleElement(document);
+		// The dots of the columns.
+		createSVGDotsLattice(document, gridDotsElt, getSVGID()+"-columns", posX, xStep, nbStepsInclusive(minX, maxX), //$NON-NLS-1$
+							tly, dotStep, nbSteps(minY, maxY)*gridDots, gridWidth/2., colour);
+		// The dots of the rows.
+		createSVGDotsLattice(document, gridDotsElt, getSVGID()+"-rows", tlx, dotStep, nbSteps(minX, maxX)*gridDots, //$NON-NLS-1$
+							posY, -yStep, nbStepsInclusive(minY, maxY), gridWidth/2., colour);
+
 		dot.setAttribute(SVGAttributes.SVG_CX, String.valueOf(brx));
 		dot.setAttribute(SVGAttributes.SVG_CY, String.valueOf(bry));
 		dot.setAttribute(SVGAttributes.SVG_R, String.valueOf(gridWidth/2.));
@@ -380,7 +342,7 @@ class LGridSVGGenerator extends LShapeSVGGenerator<IGrid> {
 		double k;
 		double i;
 		final SVGElement grids = new SVGGElement(document);
-		SVGElement line;
+		final SVGPathSegList path = new SVGPathSegList();
 
 		grids.setAttribute(SVGAttributes.SVG_STROKE_WIDTH, String.valueOf(gridWidth));
 		grids.setAttribute(SVGAttributes.SVG_STROKE, CSSColors.INSTANCE.getColorName(linesColour, true));
@@ -388,27 +350,109 @@ class LGridSVGGenerator extends LShapeSVGGenerator<IGrid> {
 		grids.setAttribute(prefix+LNamespace.XML_TYPE, LNamespace.XML_TYPE_GRID);
 
 		for(k=minX, i=posX; k<=maxX; i+=xStep, k++) {
-			line = new SVGLineElement(document);
-			line.setAttribute(SVGAttributes.SVG_X1, String.valueOf(i));
-			line.setAttribute(SVGAttributes.SVG_X2, String.valueOf(i));
-			line.setAttribute(SVGAttributes.SVG_Y1, String.valueOf(bry));
-			line.setAttribute(SVGAttributes.SVG_Y2, String.valueOf(tly));
-			grids.appendChild(line);
+			path.add(new SVGPathSegMoveto(i, bry, false));
+			path.add(new SVGPathSegLinetoVertical(tly, false));
 		}
 
 		for(k=minY, i=posY; k<=maxY; i-=yStep, k++) {
-			line = new SVGLineElement(document);
-			line.setAttribute(SVGAttributes.SVG_X1, String.valueOf(tlx));
-			line.setAttribute(SVGAttributes.SVG_X2, String.valueOf(brx));
-			line.setAttribute(SVGAttributes.SVG_Y1, String.valueOf(i));
-			line.setAttribute(SVGAttributes.SVG_Y2, String.valueOf(i));
-			grids.appendChild(line);
+			path.add(new SVGPathSegMoveto(tlx, i, false));
+			path.add(new SVGPathSegLinetoHorizontal(brx, false));
 		}
 
+		grids.appendChild(createSVGLinesPath(document, path));
 		elt.appendChild(grids);
 	}
 
 
+	/**
+	 * @return A path element that draws the given lines (its stroke is inherited).
+	 */
+	private static SVGElement createSVGLinesPath(final SVGDocument document, final SVGPathSegList lines) {
+		final SVGElement path = new SVGPathElement(document);
+		path.setAttribute(SVGAttributes.SVG_FILL, SVGAttributes.SVG_VALUE_NONE);
+		path.setAttribute(SVGAttributes.SVG_D, lines.toString());
+		return path;
+	}
+
+
+	/**
+	 * Creates a lattice of dots using a pattern, instead of one element per dot.
+	 * The dot (i, j) is located at (x+i*xStep, y+j*yStep). The steps can be negative.
+	 * @param elt The element where the pattern and the rectangle it fills are added.
+	 * @param id The identifier of the pattern.
+	 */
+	private static void createSVGDotsLattice(final SVGDocument document, final SVGElement elt, final String id,
+											final double x, final double xStep, final int nbX, final double y, final double yStep, final int nbY,
+											final double radius, final String colour) {
+		if(nbX<1 || nbY<1)
+			return;
+
+		// The pattern tile is centred on the dot.
+		final double tileWidth = latticeStep(xStep, nbX, radius);
+		final double tileHeight = latticeStep(yStep, nbY, radius);
+		final double minX = Math.min(x, x+(nbX-1)*xStep) - tileWidth/2.;
+		final double minY = Math.min(y, y+(nbY-1)*yStep) - tileHeight/2.;
+		final SVGElement pattern = new SVGPatternElement(document);
+		final SVGElement dot = new SVGCircleElement(document);
+		final SVGElement rect = new SVGRectElement(document);
+
+		pattern.setAttribute(SVGAttributes.SVG_ID, id);
+		pattern.setAttribute(SVGAttributes.SVG_PATTERN_UNITS, SVGAttributes.SVG_UNITS_VALUE_USR);
+		pattern.setAttribute(SVGAttributes.SVG_X, String.valueOf(minX));
+		pattern.setAttribute(SVGAttributes.SVG_Y, String.valueOf(minY));
+		pattern.setAttribute(SVGAttributes.SVG_WIDTH, String.valueOf(tileWidth));
+		pattern.setAttribute(SVGAttributes.SVG_HEIGHT, String.valueOf(tileHeight));
+		dot.setAttribute(SVGAttributes.SVG_CX, String.valueOf(tileWidth/2.));
+		dot.setAttribute(SVGAttributes.SVG_CY, String.valueOf(tileHeight/2.));
+		dot.setAttribute(SVGAttributes.SVG_R, String.valueOf(radius));
+		dot.setAttribute(SVGAttributes.SVG_FILL, colour);
+		pattern.appendChild(dot);
+		rect.setAttribute(SVGAttributes.SVG_X, String.valueOf(minX));
+		rect.setAttribute(SVGAttributes.SVG_Y, String.valueOf(minY));
+		rect.setAttribute(SVGAttributes.SVG_WIDTH, String.valueOf(nbX*tileWidth));
+		rect.setAttribute(SVGAttributes.SVG_HEIGHT, String.valueOf(nbY*tileHeight));
+		rect.setAttribute(SVGAttributes.SVG_FILL, SVG_URL_TOKEN_BEGIN + id + ')');
+		elt.appendChild(pattern);
+		elt.appendChild(rect);
+	}
+
+
+	/**
+	 * @return The size of the pattern tile of a lattice of dots in one direction.
+	 */
+	private static double latticeStep(final double step, final int nb, final double radius) {
+		// A single dot (or superimposed dots) only needs a tile that contains the dot.
+		if(nb==1 || LNumber.equalsDouble(step, 0.))
+			return Math.max(2.*radius, 1.);
+		return Math.abs(step);
+	}
+
+
+	/**
+	 * @return The position of the first dot of 'nbBlocks' consecutive blocks of dots,
+	 * the first block starting at 'start' and the next ones being separated by 'blockStep'.
+	 */
+	private static double firstDot(final double start, final double blockStep, final int nbBlocks) {
+		return blockStep<0 ? start+(nbBlocks-1)*blockStep : start;
+	}
+
+
+	/**
+	 * @return The number of values in [from, to[ separated by 1.
+	 */
+	private static int nbSteps(final double from, final double to) {
+		return to<=from ? 0 : (int)Math.ceil(to-from);
+	}
+
+
+	/**
+	 * @return The number of values in [from, to] separated by 1.
+	 */
+	private static int nbStepsInclusive(final double from, final double to) {
+		return to<from ? 0 : (int)Math.floor(to-from)+1;
+	}
+
+
 	/**
 	 * Creates the SVG element corresponding to the labels of the grid.
 	 */
@@ -515,7 +559,7 @@ class LGridSVGGenerator extends LShapeSVGGenerator<IGrid> {
 		// Creation of the sub-grid
 		if(subGridDots>0)
 			createSVGSubGridDots(document, elt, prefix, subGridDiv, unit, xSubStep, ySubStep, minX, maxX, minY, maxY, subGridDots, shape.getSubGridWidth(),
-								tlx, tly, brx, bry, subGridColor);
+								tlx, tly, subGridColor);
 		else
 			if(subGridDiv>1)
 				createSVGSubGridDiv(document, elt, prefix, subGridDiv, xSubStep, ySubStep, minX, maxX, minY, maxY, subGridDots, shape.getSubGridWidth(),
@@ -4,10 +4,7 @@ import net.sf.latexdraw.glib.models.ShapeFactory;
 import net.sf.latexdraw.glib.models.interfaces.shape.IModifiablePointsShape;
 import net.sf.latexdraw.parsers.svg.AbstractPointsElement;
 import net.sf.latexdraw.parsers.svg.SVGPathElement;
-import net.sf.latexdraw.parsers.svg.path.SVGPathSeg;
-import net.sf.latexdraw.parsers.svg.path.SVGPathSegClosePath;
-import net.sf.latexdraw.parsers.svg.path.SVGPathSegLineto;
-import net.sf.latexdraw.parsers.svg.path.SVGPathSegList;
+import net.sf.latexdraw.parsers.svg.path.SVGPath;
 
 import java.awt.geom.Point2D;
 import java.util.List;
@@ -67,20 +64,17 @@ abstract class LModifiablePointsGenerator<S extends IModifiablePointsShape> exte
 	 * @since 3.0
 	 */
 	protected void initModifiablePointsShape(final SVGPathElement elt) {
-		final SVGPathSegList segs = elt.getSegList();
-		SVGPathSeg seg;
-		final int size = segs.get(segs.size()-1) instanceof SVGPathSegClosePath ? segs.size()-1 : segs.size();
-		int i;
-		Point2D pt = new Point2D.Double();// Creating a point to support when the first path element is relative.
+		final SVGPath path = elt.getPath();
+		final int size = path.getType(path.size()-1)=='Z' ? path.size()-1 : path.size();
+		final SVGPath.Cursor cursor = path.cursor();// The cursor starts at (0,0) to support when the first path element is relative.
 
-		for(i=0; i<size; i++) {
-			seg = segs.get(i);
+		while(cursor.next() && cursor.getIndex()<size) {
+			final char type = cursor.getType();
 
-			if(!(seg instanceof SVGPathSegLineto))
+			if(type!='M' && type!='L' && type!='H' && type!='V')
 				throw new IllegalArgumentException("The given SVG path element is not a polygon."); //$NON-NLS-1$
 
-			pt = ((SVGPathSegLineto)seg).getPoint(pt);
-			shape.addPoint(ShapeFactory.createPoint(pt.getX(), pt.getY()));
+			shape.addPoint(ShapeFactory.createPoint(cursor.getX(), cursor.getY()));
 		}
 
 		setSVGParameters(elt);
@@ -14,6 +14,7 @@ import net.sf.latexdraw.parsers.svg.SVGGElement;
 import net.sf.latexdraw.parsers.svg.SVGPathElement;
 import net.sf.latexdraw.parsers.svg.SVGPolygonElement;
 import net.sf.latexdraw.util.LNamespace;
+import net.sf.latexdraw.util.LNumberFormatter;
 
 /**
  * Defines a SVG generator for a polygon.<br>
@@ -112,7 +113,7 @@ class LPolygonSVGGenerator extends LModifiablePointsGenerator<IPolygon> {
         root.setAttribute(SVGAttributes.SVG_ID, getSVGID());
 
         for(final IPoint pt : shape.getPoints())
-     	   pointsBuilder.append(pt.getX()).append(',').append(pt.getY()).append(' ');
+     	   LNumberFormatter.INSTANCE.appendDouble(LNumberFormatter.INSTANCE.appendDouble(pointsBuilder, pt.getX()).append(','), pt.getY()).append(' ');
 
         final String points = pointsBuilder.toString();
 
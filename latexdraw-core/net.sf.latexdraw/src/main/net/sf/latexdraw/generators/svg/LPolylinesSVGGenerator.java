@@ -8,6 +8,7 @@ import net.sf.latexdraw.glib.models.interfaces.shape.IPolyline;
 import net.sf.latexdraw.glib.views.pst.PSTricksConstants;
 import net.sf.latexdraw.parsers.svg.*;
 import net.sf.latexdraw.util.LNamespace;
+import net.sf.latexdraw.util.LNumberFormatter;
 
 import java.text.ParseException;
 import java.util.List;
@@ -136,7 +137,7 @@ class LPolylinesSVGGenerator extends LModifiablePointsGenerator<IPolyline> {
 		root.setAttribute(SVGAttributes.SVG_ID, getSVGID());
 
 		for(final IPoint pt : pts)
-			points.append(pt.getX()).append(',').append(pt.getY()).append(' ');
+			LNumberFormatter.INSTANCE.appendDouble(LNumberFormatter.INSTANCE.appendDouble(points, pt.getX()).append(','), pt.getY()).append(' ');
 
 		final String pointsStr = points.toString();
 
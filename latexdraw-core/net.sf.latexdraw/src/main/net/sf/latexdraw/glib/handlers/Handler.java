@@ -99,7 +99,8 @@ abstract class Handler<T extends Shape, S extends IShape> implements IHandler<S>
 	 */
 	@Override
 	public void update(final S model, final double zoom) {
-		colour.setO(opacity);
+		if(colour.getO()!=opacity)
+			colour = ShapeFactory.createColor(colour.getR(), colour.getG(), colour.getB(), opacity);
 		updateShape();
 	}
 
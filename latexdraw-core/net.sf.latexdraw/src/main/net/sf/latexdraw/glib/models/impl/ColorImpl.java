@@ -1,10 +1,15 @@
 package net.sf.latexdraw.glib.models.impl;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import net.sf.latexdraw.glib.models.GLibUtilities;
 import net.sf.latexdraw.glib.models.interfaces.shape.Color;
 
 /**
- * An implementation of a colour.<br>
+ * An implementation of a colour. Colours are immutable and interned: the colours created by the
+ * factory with the same channels are the same instance (up to a maximal number of interned colours).
+ * Their JavaFX and AWT versions are created once and cached.<br>
  * <br>
  * This file is part of LaTeXDraw.<br>
  * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
@@ -22,33 +27,87 @@ import net.sf.latexdraw.glib.models.interfaces.shape.Color;
  * @version 4.0
  * @since 4.0
  */
-class ColorImpl implements Color {
-	protected double r;
-	protected double g;
-	protected double b;
-	protected double o;
-	
-	ColorImpl(final double red, final double green, final double blue, final double opacity) {
+final class ColorImpl implements Color {
+	/** The maximal number of interned colours. Beyond, new colours are no more interned. */
+	private static final int MAX_INTERNED = 16384;
+
+	/** The interned colours, by their channels packed on 16 bits each. */
+	private static final Map<Long, ColorImpl> INTERNED = new ConcurrentHashMap<>();
+
+	private final double r;
+	private final double g;
+	private final double b;
+	private final double o;
+	private final int hash;
+
+	/** The JavaFX version of the colour, created on demand. */
+	private volatile javafx.scene.paint.Color jfx;
+
+	/** The AWT version of the colour, created on demand. */
+	private volatile java.awt.Color awt;
+
+
+	private ColorImpl(final double red, final double green, final double blue, final double opacity) {
 		super();
-		setR(red);
-		setG(green);
-		setB(blue);
-		setO(opacity);
+		r = red;
+		g = green;
+		b = blue;
+		o = opacity;
+		hash = computeHash();
+	}
+
+
+	/**
+	 * Gives the colour that has the given channels: an interned colour if possible.
+	 * @throws IllegalArgumentException If a channel is not in [0,1].
+	 */
+	static ColorImpl valueOf(final double red, final double green, final double blue, final double opacity) {
+		checkChannel(red);
+		checkChannel(green);
+		checkChannel(blue);
+		checkChannel(opacity);
+
+		final Long key = pack(red) << 48 | pack(green) << 32 | pack(blue) << 16 | pack(opacity);
+		ColorImpl colour = INTERNED.get(key);
+
+		if(colour==null && INTERNED.size()<MAX_INTERNED)
+			colour = INTERNED.computeIfAbsent(key, k -> new ColorImpl(red, green, blue, opacity));
+
+		// Two close colours may have the same key: only the first one is interned.
+		if(colour==null || colour.r!=red || colour.g!=green || colour.b!=blue || colour.o!=opacity)
+			return new ColorImpl(red, green, blue, opacity);
+
+		return colour;
+	}
+
+
+	private static long pack(final double val) {
+		return Math.round(val*65535.0);
 	}
 
-	
+
 	@Override
 	public javafx.scene.paint.Color toJFX() {
-		return new javafx.scene.paint.Color(r, g, b, o);
+		javafx.scene.paint.Color col = jfx;
+		if(col==null) {
+			col = new javafx.scene.paint.Color(r, g, b, o);
+			jfx = col;
+		}
+		return col;
 	}
-	
-	
+
+
 	@Override
 	public java.awt.Color toAWT() {
-		return new java.awt.Color((float)r, (float)g, (float)b, (float)o);
+		java.awt.Color col = awt;
+		if(col==null) {
+			col = new java.awt.Color((float)r, (float)g, (float)b, (float)o);
+			awt = col;
+		}
+		return col;
 	}
-	
-	
+
+
 	@Override
 	public double getR() {
 		return r;
@@ -68,36 +127,12 @@ class ColorImpl implements Color {
 	public double getO() {
 		return o;
 	}
-	
-	
-	private void checkChannel(final double val) {
-		if(val<0.0 || val>1.0 || !GLibUtilities.isValidCoordinate(val)) throw new IllegalArgumentException();
-	}
-	
-	@Override
-	public void setR(final double red) {
-		checkChannel(red);
-		r = red;
-	}
 
-	@Override
-	public void setG(final double green) {
-		checkChannel(green);
-		g = green;
-	}
 
-	@Override
-	public void setB(final double blue) {
-		checkChannel(blue);
-		b = blue;
+	private static void checkChannel(final double val) {
+		if(val<0.0 || val>1.0 || !GLibUtilities.isValidCoordinate(val)) throw new IllegalArgumentException();
 	}
 
-	@Override
-	public void setO(final double opacity) {
-		checkChannel(opacity);
-		o = opacity;
-	}
-	
     @Override public boolean equals(Object obj) {
         if (obj == this) return true;
         if (obj instanceof Color)
@@ -106,13 +141,17 @@ class ColorImpl implements Color {
     }
 
     @Override public int hashCode() {
-        int hash = (int)Math.round(r*255.0);
-        hash = ((hash<<8) | (int)Math.round(g*255.0));
-        hash = ((hash<<8) | (int)Math.round(b*255.0));
-        hash = ((hash<<8) | (int)Math.round(o* 255.0));
         return hash;
     }
 
+    private int computeHash() {
+        int h = (int)Math.round(r*255.0);
+        h = ((h<<8) | (int)Math.round(g*255.0));
+        h = ((h<<8) | (int)Math.round(b*255.0));
+        h = ((h<<8) | (int)Math.round(o* 255.0));
+        return h;
+    }
+
     @Override public String toString() {
         return String.format("[%d,%d,%d,%d]" , (int)Math.round(r*255.0), (int)Math.round(g*255.0), (int)Math.round(b*255.0), (int)Math.round(o*255.0));
     }
@@ -0,0 +1,361 @@
+package net.sf.latexdraw.glib.models.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ModifiableObservableListBase;
+import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
+
+/**
+ * An observable list of shapes that indexes the position of its shapes: contains and indexOf
+ * take a constant time. The shapes are compared by identity (as IShape does not redefine equals).<br>
+ * The index is updated lazily: an insertion or a removal only invalidates the positions of the
+ * shapes located after it, which are computed again by the next query. Appending shapes keeps the index up to date.
+ * The bulk operations (removeAll, retainAll, addAll, clear) take a linear time and notify the listeners once.
+ * Several modifications can be notified as a single change using transactions, and shapes can be moved
+ * without being removed: the listeners are then notified of a permutation.<br>
+ * <br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ * <br>
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * <br>
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.<br>
+ * <br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+final class IndexedShapeList extends ModifiableObservableListBase<IShape> {
+	/** The shapes. */
+	private final List<IShape> shapes;
+
+	/**
+	 * The position of the first occurrence of the shapes. The positions of the shapes located
+	 * before 'indexed' are up to date, the other ones may be outdated.
+	 */
+	private final Map<IShape, Integer> positions;
+
+	/** The number of shapes, from the start of the list, whose position is up to date. */
+	private int indexed;
+
+
+	IndexedShapeList() {
+		super();
+		shapes = new ArrayList<>();
+		positions = new IdentityHashMap<>();
+		indexed = 0;
+	}
+
+
+	@Override
+	public IShape get(final int index) {
+		return shapes.get(index);
+	}
+
+
+	@Override
+	public int size() {
+		return shapes.size();
+	}
+
+
+	@Override
+	public int indexOf(final Object o) {
+		Integer pos = positions.get(o);
+
+		if(!isUpToDate(o, pos)) {
+			if(indexed==shapes.size())
+				return -1;
+			updateIndex();
+			pos = positions.get(o);
+			if(!isUpToDate(o, pos))
+				return -1;
+		}
+
+		return pos;
+	}
+
+
+	@Override
+	public boolean contains(final Object o) {
+		return indexOf(o)!=-1;
+	}
+
+
+	@Override
+	protected void doAdd(final int index, final IShape sh) {
+		shapes.add(index, sh);
+
+		if(index==indexed && index==shapes.size()-1) {
+			// Appending a shape to an up to date list.
+			if(!isUpToDate(sh, positions.get(sh)))
+				positions.put(sh, index);
+			indexed = shapes.size();
+		}else
+			indexed = Math.min(indexed, index);
+	}
+
+
+	@Override
+	protected IShape doSet(final int index, final IShape sh) {
+		final IShape old = shapes.set(index, sh);
+		forget(old, index);
+		indexed = Math.min(indexed, index);
+		return old;
+	}
+
+
+	@Override
+	protected IShape doRemove(final int index) {
+		final IShape old = shapes.remove(index);
+		forget(old, index);
+		indexed = Math.min(indexed, index);
+		return old;
+	}
+
+
+	@Override
+	public boolean addAll(final Collection<? extends IShape> c) {
+		return addAll(shapes.size(), c);
+	}
+
+
+	@Override
+	public boolean addAll(final int index, final Collection<? extends IShape> c) {
+		if(index<0 || index>shapes.size())
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+
+		final List<IShape> added = new ArrayList<>(c);
+
+		if(added.isEmpty())
+			return false;
+
+		beginChange();
+		try {
+			shapes.addAll(index, added);
+			indexed = Math.min(indexed, index);
+			modCount++;
+			nextAdd(index, index+added.size());
+		}finally {
+			endChange();
+		}
+		return true;
+	}
+
+
+	@Override
+	protected void removeRange(final int fromIndex, final int toIndex) {
+		if(fromIndex>=toIndex)
+			return;
+
+		beginChange();
+		try {
+			final List<IShape> range = shapes.subList(fromIndex, toIndex);
+			final List<IShape> removed = new ArrayList<>(range);
+			range.clear();
+			if(shapes.isEmpty())
+				positions.clear();
+			else
+				removed.forEach(sh -> forget(sh, fromIndex));
+			indexed = Math.min(indexed, fromIndex);
+			modCount++;
+			nextRemove(fromIndex, removed);
+		}finally {
+			endChange();
+		}
+	}
+
+
+	@Override
+	public boolean removeAll(final Collection<?> c) {
+		return removeIfContained(c, true);
+	}
+
+
+	@Override
+	public boolean retainAll(final Collection<?> c) {
+		return removeIfContained(c, false);
+	}
+
+
+	/**
+	 * Starts a transaction: the modifications of the list are notified as a single change when the
+	 * transaction is committed. Transactions can be nested.
+	 */
+	void beginTransaction() {
+		beginChange();
+	}
+
+
+	/**
+	 * Commits the transaction started by beginTransaction.
+	 * @throws IllegalStateException If no transaction has been started.
+	 */
+	void commitTransaction() {
+		endChange();
+	}
+
+
+	/**
+	 * Moves shapes of the list to the given positions. The other shapes keep their relative order.
+	 * The listeners are notified of a permutation.
+	 * @param moved The shapes to move.
+	 * @param newPositions The new position of each shape to move.
+	 * @throws IllegalArgumentException If a shape is not in the list or is given twice, or if the positions are not valid.
+	 */
+	void move(final List<IShape> moved, final int[] newPositions) {
+		final int size = shapes.size();
+		final IShape[] newShapes = new IShape[size];
+		final Map<IShape, Integer> movedPos = new IdentityHashMap<>();
+
+		if(moved.size()!=newPositions.length)
+			throw new IllegalArgumentException("Not the same number of shapes and positions."); //$NON-NLS-1$
+
+		for(int i=0, nb=moved.size(); i<nb; i++) {
+			final IShape sh = moved.get(i);
+			final int pos = newPositions[i];
+
+			if(pos<0 || pos>=size || newShapes[pos]!=null || !contains(sh) || movedPos.put(sh, pos)!=null)
+				throw new IllegalArgumentException("Cannot move the shape " + i + " at " + pos); //$NON-NLS-1$ //$NON-NLS-2$
+			newShapes[pos] = sh;
+		}
+
+		// perm[i] is the new position of the shape at the position i.
+		final int[] perm = new int[size];
+		int free = 0;
+
+		for(int i=0; i<size; i++) {
+			final Integer pos = movedPos.remove(shapes.get(i));
+
+			if(pos==null) {
+				while(newShapes[free]!=null)
+					free++;
+				newShapes[free] = shapes.get(i);
+				perm[i] = free;
+			}else
+				perm[i] = pos;
+		}
+
+		int from = 0;
+		int to = size;
+
+		while(from<size && perm[from]==from)
+			from++;
+
+		if(from==size)
+			return;
+
+		while(perm[to-1]==to-1)
+			to--;
+
+		beginChange();
+		try {
+			for(int i=from; i<to; i++)
+				shapes.set(i, newShapes[i]);
+			indexed = Math.min(indexed, from);
+			nextPermutation(from, to, Arrays.copyOfRange(perm, from, to));
+		}finally {
+			endChange();
+		}
+	}
+
+
+	/**
+	 * Removes in one pass the shapes that are (or are not) in the given collection.
+	 * @param c The shapes to look for.
+	 * @param contained True: the shapes of the collection are removed. False: the other shapes are removed.
+	 * @return True if the list has been modified.
+	 */
+	private boolean removeIfContained(final Collection<?> c, final boolean contained) {
+		final Set<Object> set = Collections.newSetFromMap(new IdentityHashMap<>());
+		final int size = shapes.size();
+		List<IShape> removed = null;
+		int removedPos = 0;
+		int kept = 0;
+
+		set.addAll(c);
+		beginChange();
+		try {
+			for(int i=0; i<size; i++) {
+				final IShape sh = shapes.get(i);
+
+				if(set.contains(sh)==contained) {
+					if(removed==null) {
+						removed = new ArrayList<>();
+						removedPos = kept;
+					}
+					removed.add(sh);
+				}else {
+					if(removed!=null) {
+						nextRemove(removedPos, removed);
+						removed = null;
+					}
+					shapes.set(kept++, sh);
+				}
+			}
+
+			if(removed!=null)
+				nextRemove(removedPos, removed);
+
+			if(kept==size)
+				return false;
+
+			shapes.subList(kept, size).clear();
+			positions.clear();
+			indexed = 0;
+			modCount++;
+			return true;
+		}finally {
+			endChange();
+		}
+	}
+
+
+	/**
+	 * @return True if the given position is the up to date position of the given object.
+	 */
+	private boolean isUpToDate(final Object o, final Integer pos) {
+		return pos!=null && pos<indexed && shapes.get(pos)==o;
+	}
+
+
+	/**
+	 * Removes from the index a shape removed from the given position, unless the index gives
+	 * an other occurrence of this shape located before.
+	 */
+	private void forget(final IShape sh, final int index) {
+		final Integer pos = positions.get(sh);
+
+		if(pos!=null && (pos>=index || !isUpToDate(sh, pos)))
+			positions.remove(sh);
+	}
+
+
+	/**
+	 * Computes the positions of the shapes located after the up to date ones.
+	 */
+	private void updateIndex() {
+		final int size = shapes.size();
+
+		for(int i=indexed; i<size; i++) {
+			final IShape sh = shapes.get(i);
+			final Integer pos = positions.get(sh);
+
+			// Only the first occurrence of a shape is indexed.
+			if(pos==null || pos>=i || shapes.get(pos)!=sh)
+				positions.put(sh, i);
+		}
+
+		indexed = size;
+	}
+}
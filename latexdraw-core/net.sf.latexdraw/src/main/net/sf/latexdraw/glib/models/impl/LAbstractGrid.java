@@ -146,8 +146,10 @@ abstract class LAbstractGrid extends LPositionShape implements IStandardGrid {
 
 	@Override
 	public void setLabelsSize(final int labelsSize) {
-		if(labelsSize>=0)
+		if(labelsSize>=0) {
 			labelSize = labelsSize;
+			incrementModificationCount();
+		}
 	}
 
 
@@ -201,15 +203,19 @@ abstract class LAbstractGrid extends LPositionShape implements IStandardGrid {
 
 	@Override
 	public void setGridEndX(final double x) {
-		if(x>=gridStartx && GLibUtilities.isValidCoordinate(x))
+		if(x>=gridStartx && GLibUtilities.isValidCoordinate(x)) {
 			gridEndx = x;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setGridEndY(final double y) {
-		if(y>=gridStarty && GLibUtilities.isValidCoordinate(y))
+		if(y>=gridStarty && GLibUtilities.isValidCoordinate(y)) {
 			gridEndy = y;
+			incrementModificationCount();
+		}
 	}
 
 
@@ -222,15 +228,19 @@ abstract class LAbstractGrid extends LPositionShape implements IStandardGrid {
 
 	@Override
 	public void setGridStartX(final double x) {
-		if(x<=gridEndx && GLibUtilities.isValidCoordinate(x))
+		if(x<=gridEndx && GLibUtilities.isValidCoordinate(x)) {
 			gridStartx = x;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setGridStartY(final double y) {
-		if(y<=gridEndy && GLibUtilities.isValidCoordinate(y))
+		if(y<=gridEndy && GLibUtilities.isValidCoordinate(y)) {
 			gridStarty = y;
+			incrementModificationCount();
+		}
 	}
 
 
@@ -243,15 +253,19 @@ abstract class LAbstractGrid extends LPositionShape implements IStandardGrid {
 
 	@Override
 	public void setOriginX(final double x) {
-		if(GLibUtilities.isValidCoordinate(x))
+		if(GLibUtilities.isValidCoordinate(x)) {
 			originx = x;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setOriginY(final double y) {
-		if(GLibUtilities.isValidCoordinate(y))
+		if(GLibUtilities.isValidCoordinate(y)) {
 			originy = y;
+			incrementModificationCount();
+		}
 	}
 
 
@@ -269,6 +283,7 @@ abstract class LAbstractGrid extends LPositionShape implements IStandardGrid {
 			originx 	= grid.getOriginX();
 			originy 	= grid.getOriginY();
 			setLabelsSize(grid.getLabelsSize());
+			incrementModificationCount();
 		}
 	}
 
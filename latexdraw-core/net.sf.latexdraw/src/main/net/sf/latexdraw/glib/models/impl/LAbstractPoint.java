@@ -0,0 +1,243 @@
+package net.sf.latexdraw.glib.models.impl;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.atan;
+
+import java.awt.geom.Point2D;
+
+import net.sf.latexdraw.glib.models.GLibUtilities;
+import net.sf.latexdraw.glib.models.ShapeFactory;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
+import net.sf.latexdraw.util.LNumber;
+
+/**
+ * The geometrical operations of a point. The storage of the coordinates is defined
+ * by the sub-classes (JavaFX properties for LPoint, a packed array for the points of
+ * the modifiable points shapes).<br>
+ * <br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ * <br>
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * <br>
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.<br>
+ * <br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+abstract class LAbstractPoint implements IPoint {
+	protected LAbstractPoint() {
+		super();
+	}
+
+
+	/**
+	 * Computes the cosine and the sine of a rotation angle. Exact values are used for the right angles.
+	 * @param theta The rotation angle.
+	 * @return The cosine and the sine of the angle or null if the angle is equal to 0 (modulo 2PI).
+	 */
+	static double[] getRotationCosSin(final double theta) {
+		double angle = theta;
+
+		if(angle < 0.)
+			angle = 2. * PI + angle;
+
+		angle %= 2. * PI;
+
+		if(LNumber.equalsDouble(angle, 0.))
+			return null;
+		if(LNumber.equalsDouble(angle - PI / 2., 0.))
+			return new double[]{0., 1.};
+		if(LNumber.equalsDouble(angle - PI, 0.))
+			return new double[]{-1., 0.};
+		if(LNumber.equalsDouble(angle - 3. * PI / 2., 0.))
+			return new double[]{0., -1.};
+		return new double[]{Math.cos(angle), Math.sin(angle)};
+	}
+
+	@Override
+	public double computeAngle(final IPoint pt) {
+		if(!GLibUtilities.isValidPoint(pt))
+			return java.lang.Double.NaN;
+
+		double angle;
+		final double x2 = pt.getX() - getX();
+		final double y2 = pt.getY() - getY();
+
+		if(LNumber.equalsDouble(x2, 0.)) {
+			angle = Math.PI / 2.;
+
+			if(y2 < 0.)
+				angle = Math.PI * 2. - angle;
+		}else
+			angle = x2 < 0.?Math.PI - atan(-y2 / x2):atan(y2 / x2);
+
+		return angle;
+	}
+
+	@Override
+	public IPoint zoom(final double zoomLevel) {
+		return ShapeFactory.createPoint(getX() * zoomLevel, getX() * zoomLevel);
+	}
+
+	@Override
+	public double computeRotationAngle(final IPoint pt1, final IPoint pt2) {
+		if(!GLibUtilities.isValidPoint(pt1) || !GLibUtilities.isValidPoint(pt2))
+			return java.lang.Double.NaN;
+
+		final double thetaOld = computeAngle(pt1);
+		final double thetaNew = computeAngle(pt2);
+
+		return thetaNew - thetaOld;
+	}
+
+	@Override
+	public IPoint centralSymmetry(final IPoint centre) {
+		return rotatePoint(centre, Math.PI);
+	}
+
+	@Override
+	public IPoint rotatePoint(final IPoint gravityC, final double theta) {
+		if(!GLibUtilities.isValidPoint(gravityC) || !GLibUtilities.isValidCoordinate(theta))
+			return null;
+
+		final double[] cosSin = getRotationCosSin(theta);
+
+		if(cosSin == null)
+			return ShapeFactory.createPoint(this);
+
+		final double gx = gravityC.getX();
+		final double gy = gravityC.getY();
+		final IPoint pt = ShapeFactory.createPoint();
+
+		pt.setX(cosSin[0] * (getX() - gx) - cosSin[1] * (getY() - gy) + gx);
+		pt.setY(cosSin[1] * (getX() - gx) + cosSin[0] * (getY() - gy) + gy);
+
+		return pt;
+	}
+
+	@Override
+	public boolean equals(final IPoint p, final double gap) {
+		return !(!GLibUtilities.isValidCoordinate(gap) || !GLibUtilities.isValidPoint(p)) && LNumber.equalsDouble(getX(), p.getX(), gap) && LNumber.equalsDouble(getY(), p.getY(), gap);
+	}
+
+	@Override
+	public IPoint getMiddlePoint(final IPoint p) {
+		return p == null?null:ShapeFactory.createPoint((getX() + p.getX()) / 2., (getY() + p.getY()) / 2.);
+	}
+
+	@Override
+	public void translate(final double tx, final double ty) {
+		if(GLibUtilities.isValidPoint(tx, ty))
+			setPoint(getX() + tx, getY() + ty);
+	}
+
+	@Override
+	public IPoint horizontalSymmetry(final IPoint origin) {
+		if(!GLibUtilities.isValidPoint(origin))
+			return null;
+
+		return ShapeFactory.createPoint(2. * origin.getX() - getX(), getY());
+	}
+
+	@Override
+	public IPoint verticalSymmetry(final IPoint origin) {
+		if(!GLibUtilities.isValidPoint(origin))
+			return null;
+
+		return ShapeFactory.createPoint(getX(), 2. * origin.getY() - getY());
+	}
+
+	@Override
+	public void setPoint(final double newX, final double newY) {
+		setX(newX);
+		setY(newY);
+	}
+
+	@Override
+	public void setPoint(final IPoint pt) {
+		if(pt != null)
+			setPoint(pt.getX(), pt.getY());
+	}
+
+	@Override
+	public double distance(final IPoint pt) {
+		return pt == null?java.lang.Double.NaN:distance(pt.getX(), pt.getY());
+	}
+
+	@Override
+	public Point2D.Double toPoint2D() {
+		return new Point2D.Double(getX(), getY());
+	}
+
+	@Override
+	public void setPoint2D(final Point2D pt) {
+		if(pt != null)
+			setPoint(pt.getX(), pt.getY());
+	}
+
+	@Override
+	public IPoint substract(final IPoint pt) {
+		if(pt == null)
+			return null;
+		return ShapeFactory.createPoint(getX() - pt.getX(), getY() - pt.getY());
+	}
+
+	@Override
+	public IPoint normalise() {
+		final double magnitude = magnitude();
+		return ShapeFactory.createPoint(getX() / magnitude, getY() / magnitude);
+	}
+
+	@Override
+	public double magnitude() {
+		return Math.sqrt(getX() * getX() + getY() * getY());
+	}
+
+	@Override
+	public IPoint add(final IPoint pt) {
+		final IPoint added = ShapeFactory.createPoint(this);
+		if(pt != null)
+			added.translate(pt.getX(), pt.getY());
+		return added;
+	}
+
+	@Override
+	public double distance(final double xCoord, final double yCoord) {
+		return Math.sqrt(Math.pow(xCoord - getX(), 2) + Math.pow(yCoord - getY(), 2));
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		long temp = Double.doubleToLongBits(getX());
+		result = prime * result + (int)(temp ^ (temp >>> 32));
+		temp = Double.doubleToLongBits(getY());
+		result = prime * result + (int)(temp ^ (temp >>> 32));
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if(this == obj)
+			return true;
+		if(!(obj instanceof IPoint))
+			return false;
+		final IPoint other = (IPoint)obj;
+		if(Double.doubleToLongBits(getX()) != Double.doubleToLongBits(other.getX()))
+			return false;
+		if(Double.doubleToLongBits(getY()) != Double.doubleToLongBits(other.getY()))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "LPoint [x=" + getX() + ", y=" + getY() + "]";
+	}
+}
@@ -28,6 +28,8 @@ import net.sf.latexdraw.glib.models.interfaces.shape.ArcStyle
  * @since 3.0
  */
 private[impl] trait LArc extends IArc with LArrowableShape {
+	this: LShape =>
+
 	/** The style of the arc. */
 	var style = ArcStyle.ARC
 
@@ -68,17 +70,23 @@ private[impl] trait LArc extends IArc with LArrowableShape {
 	override def getArcStyle: ArcStyle = style
 
 	override def setAngleEnd(angleEnd:Double) {
-		if(GLibUtilities.isValidCoordinate(angleEnd))
+		if(GLibUtilities.isValidCoordinate(angleEnd)) {
 			this.endAngle = angleEnd
+			incrementModificationCount()
+		}
 	}
 
 	override def setAngleStart(angleStart:Double) {
-		if(GLibUtilities.isValidCoordinate(angleStart))
+		if(GLibUtilities.isValidCoordinate(angleStart)) {
 			this.startAngle = angleStart
+			incrementModificationCount()
+		}
 	}
 
 	override def setArcStyle(styl:ArcStyle) {
-		if(styl!=null)
+		if(styl!=null) {
 			this.style = styl
+			incrementModificationCount()
+		}
 	}
 }
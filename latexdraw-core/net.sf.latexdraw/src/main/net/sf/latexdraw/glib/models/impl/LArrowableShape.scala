@@ -14,6 +14,8 @@ import net.sf.latexdraw.glib.models.interfaces.shape.IShape
  * @author Arnaud Blouin
  */
 private[impl] trait LArrowableShape extends IArrowableShape {
+	this: LShape =>
+
 	val arrows : Buffer[IArrow] = new ArrayBuffer[IArrow]()
 
 	override def copy(sh:IShape) {
@@ -22,6 +24,7 @@ private[impl] trait LArrowableShape extends IArrowableShape {
 			arrows.clear
 			for(i <- 0 until arr.getNbArrows)
 				arrows += ShapeFactory.createArrow(arr.getArrowAt(i), this)
+			incrementModificationCount()
 		}else {
 			sh match {
 				case arr:IArrowableShape =>
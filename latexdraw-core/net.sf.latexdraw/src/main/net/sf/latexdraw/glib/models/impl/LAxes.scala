@@ -162,53 +162,72 @@ private[impl] class LAxes(pt:IPoint) extends LAbstractGrid(pt) with IAxes with L
 	override def isShowOrigin = showOrigin
 
 	override def setAxesStyle(axesStyle:AxesStyle) {
-		if(axesStyle!=null)
+		if(axesStyle!=null) {
 			this.axesStyle = axesStyle
+			incrementModificationCount()
+		}
 	}
 
 	override def setDistLabelsX(distLabelsX:Double) {
-		if(distLabelsX>0 && GLibUtilities.isValidCoordinate(distLabelsX))
-				this.distLabelsX = distLabelsX
+		if(distLabelsX>0 && GLibUtilities.isValidCoordinate(distLabelsX)) {
+			this.distLabelsX = distLabelsX
+			incrementModificationCount()
+		}
 	}
 
 	override def setDistLabelsY(distLabelsY:Double) {
-		if(distLabelsY>0 && GLibUtilities.isValidCoordinate(distLabelsY))
+		if(distLabelsY>0 && GLibUtilities.isValidCoordinate(distLabelsY)) {
 			this.distLabelsY = distLabelsY
+			incrementModificationCount()
+		}
 	}
 
 	override def setIncrementX(increment:Double) {
-		if(increment>0 && GLibUtilities.isValidCoordinate(increment))
+		if(increment>0 && GLibUtilities.isValidCoordinate(increment)) {
 			this.incrementX = increment
+			incrementModificationCount()
+		}
 	}
 
 
 	override def setIncrementY(increment:Double) {
-		if(increment>0 && GLibUtilities.isValidCoordinate(increment))
+		if(increment>0 && GLibUtilities.isValidCoordinate(increment)) {
 			this.incrementY = increment
+			incrementModificationCount()
+		}
 	}
 
 	override def setLabelsDisplayed(labelsDisplayed:PlottingStyle) {
-		if(labelsDisplayed!=null)
+		if(labelsDisplayed!=null) {
 			this.labelsDisplayed = labelsDisplayed
+			incrementModificationCount()
+		}
 	}
 
 	override def setShowOrigin(showOrigin:Boolean) {
 		this.showOrigin = showOrigin
+		incrementModificationCount()
 	}
 
 	override def setTicksDisplayed(ticksDisplayed:PlottingStyle) {
-		if(ticksDisplayed!=null)
+		if(ticksDisplayed!=null) {
 			this.ticksDisplayed = ticksDisplayed
+			incrementModificationCount()
+		}
 	}
 
 	override def setTicksSize(ticksSize:Double) {
-		if(ticksSize>0 && GLibUtilities.isValidCoordinate(ticksSize))
+		if(ticksSize>0 && GLibUtilities.isValidCoordinate(ticksSize)) {
 			this.ticksSize = ticksSize
+			incrementModificationCount()
+		}
 	}
 
 	override def setTicksStyle(ticksStyle:TicksStyle) {
-		if(ticksStyle!=null)
+		if(ticksStyle!=null) {
 			this.ticksStyle = ticksStyle
+			incrementModificationCount()
+		}
 	}
 
 	override def getStep = IShape.PPC
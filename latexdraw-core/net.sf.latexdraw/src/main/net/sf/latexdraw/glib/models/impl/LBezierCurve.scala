@@ -53,6 +53,7 @@ private[impl] class LBezierCurve(var isClosed:Boolean) extends LAbstractCtrlPoin
 
 	override def setIsClosed(isClosed:Boolean) {
 		this.isClosed = isClosed
+		incrementModificationCount()
 	}
 
 	override def isDbleBorderable = true
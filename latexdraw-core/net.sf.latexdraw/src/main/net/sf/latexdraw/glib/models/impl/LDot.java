@@ -71,15 +71,19 @@ class LDot extends LPositionShape implements IDot {
 
 	@Override
 	public void setDotStyle(final DotStyle style) {
-		if(style != null)
+		if(style != null) {
 			this.style = style;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setDiametre(final double diam) {
-		if(diam > 0. && GLibUtilities.isValidCoordinate(diam))
+		if(diam > 0. && GLibUtilities.isValidCoordinate(diam)) {
 			this.diametre = diam;
+			incrementModificationCount();
+		}
 	}
 
 
@@ -43,6 +43,18 @@ private[impl] class LDrawing extends IDrawing with LSetShapes {
 		selection.clear
 	}
 
+	override def beginChanges() {
+		indexedShapes.beginTransaction
+	}
+
+	override def commitChanges() {
+		indexedShapes.commitTransaction
+	}
+
+	override def moveShapes(shapesToMove : java.util.List[IShape], positions : Array[Int]) {
+		indexedShapes.move(shapesToMove, positions)
+	}
+
 	override def removeShape(sh : IShape) : Boolean = {
 		selection.removeShape(sh)
 		super.removeShape(sh)
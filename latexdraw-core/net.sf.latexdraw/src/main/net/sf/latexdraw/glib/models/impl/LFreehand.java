@@ -57,6 +57,7 @@ class LFreehand extends LModifiablePointsShape implements IFreehand {
 			open 	= fh.isOpen();
 			interval= fh.getInterval();
 			type 	= fh.getType();
+			incrementModificationCount();
 		}
 	}
 
@@ -81,21 +82,26 @@ class LFreehand extends LModifiablePointsShape implements IFreehand {
 
 	@Override
 	public void setInterval(final int interval) {
-		if(interval>0)
+		if(interval>0) {
 			this.interval = interval;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setOpen(final boolean open) {
 		this.open = open;
+		incrementModificationCount();
 	}
 
 
 	@Override
 	public void setType(final FreeHandStyle type) {
-		if(type!=null)
+		if(type!=null) {
 			this.type = type;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
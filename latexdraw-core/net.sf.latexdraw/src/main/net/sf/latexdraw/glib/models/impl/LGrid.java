@@ -93,6 +93,7 @@ class LGrid extends LAbstractGrid implements IGrid {
 			unit			= grid.getUnit();
 			gridWidth		= grid.getGridWidth();
 			subGridWidth	= grid.getSubGridWidth();
+			incrementModificationCount();
 		}
 	}
 
@@ -112,12 +113,14 @@ class LGrid extends LAbstractGrid implements IGrid {
 	@Override
 	public void setXLabelSouth(final boolean isXLabelSouth) {
 		xLabelSouth = isXLabelSouth;
+		incrementModificationCount();
 	}
 
 
 	@Override
 	public void setYLabelWest(final boolean isYLabelWest) {
 		yLabelWest = isYLabelWest;
+		incrementModificationCount();
 	}
 
 	@Override
@@ -227,58 +230,74 @@ class LGrid extends LAbstractGrid implements IGrid {
 
 	@Override
 	public void setGridDots(final int grDots) {
-		if(grDots>=0)
+		if(grDots>=0) {
 			this.gridDots = grDots;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setGridLabelsColour(final Color gridLabelsCol) {
-		if(gridLabelsCol!=null)
+		if(gridLabelsCol!=null) {
 			this.gridLabelsColour = gridLabelsCol;
+			incrementModificationCount();
+		}
 	}
 
 
 
 	@Override
 	public void setGridWidth(final double gridW) {
-		if(gridW>0 && GLibUtilities.isValidCoordinate(gridW))
+		if(gridW>0 && GLibUtilities.isValidCoordinate(gridW)) {
 			this.gridWidth = gridW;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setSubGridColour(final Color subGridCol) {
-		if(subGridCol!=null)
+		if(subGridCol!=null) {
 			this.subGridColour = subGridCol;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setSubGridDiv(final int subGridD) {
-		if(subGridD>=0)
+		if(subGridD>=0) {
 			this.subGridDiv = subGridD;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setSubGridDots(final int subGridD) {
-		if(subGridD>=0)
+		if(subGridD>=0) {
 			this.subGridDots = subGridD;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setSubGridWidth(final double subGridW) {
-		if(subGridW>0 && GLibUtilities.isValidCoordinate(subGridW))
+		if(subGridW>0 && GLibUtilities.isValidCoordinate(subGridW)) {
 			this.subGridWidth = subGridW;
+			incrementModificationCount();
+		}
 	}
 
 
 	@Override
 	public void setUnit(final double un) {
-		if(un>0 && GLibUtilities.isValidCoordinate(un))//TODO unit may be lesser than 0.
+		if(un>0 && GLibUtilities.isValidCoordinate(un)) {//TODO unit may be lesser than 0.
 			this.unit = un;
+			incrementModificationCount();
+		}
 	}
 
 
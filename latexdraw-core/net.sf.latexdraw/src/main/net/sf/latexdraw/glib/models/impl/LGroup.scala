@@ -63,6 +63,12 @@ private[impl] class LGroup() extends IShape
 
 	override def isModified() = getShapes.stream.filter{_.isModified}.findAny.isPresent
 
+	override def getModificationCount() = {
+		var count = 0L
+		getShapes.forEach{sh => count += sh.getModificationCount}
+		count
+	}
+
 	override def duplicateDeep(duplicateShapes : Boolean) : IGroup = {
 		val dup = ShapeFactory.createGroup()
 
@@ -1,11 +1,20 @@
 package net.sf.latexdraw.glib.models.impl;
 
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+
 import net.sf.latexdraw.glib.models.GLibUtilities;
+import net.sf.latexdraw.glib.models.ShapeFactory;
 import net.sf.latexdraw.glib.models.interfaces.shape.IModifiablePointsShape;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
+import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
+import net.sf.latexdraw.glib.models.interfaces.shape.Position;
 
 /**
  * Defines a model of a shape that contains points that can be modified.<br>
+ * The coordinates of the points are packed into a single array (see PackedPointList) so that
+ * shapes with many points (free hand drawings, plots) stay light; the geometrical operations
+ * work directly on this array.<br>
  * <br>
  * This file is part of LaTeXDraw.<br>
  * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
@@ -24,11 +33,104 @@ import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
  * @since 3.0
  */
 abstract class LModifiablePointsShape extends LShape implements IModifiablePointsShape {
+	/** The points of the shape (the same list as the attribute points). */
+	protected final PackedPointList packedPoints;
+
 	/**
 	 * Creates the shape.
 	 */
     protected LModifiablePointsShape() {
-		super();
+		this(new PackedPointList());
+	}
+
+
+	private LModifiablePointsShape(final PackedPointList pts) {
+		super(pts);
+		packedPoints = pts;
+	}
+
+
+	@Override
+	protected void copyPoints(final IShape sh) {
+		if(sh != null && getClass().isInstance(sh) && sh.getPoints() instanceof PackedPointList) {
+			packedPoints.copy((PackedPointList)sh.getPoints());
+			incrementModificationCount();
+		}else
+			super.copyPoints(sh);
+	}
+
+
+	@Override
+	public void translate(final double tx, final double ty) {
+		if(GLibUtilities.isValidPoint(tx, ty))
+			packedPoints.translate(tx, ty);
+	}
+
+
+	@Override
+	public void mirrorHorizontal(final IPoint origin) {
+		if(GLibUtilities.isValidPoint(origin))
+			packedPoints.mirrorHorizontal(origin.getX());
+	}
+
+
+	@Override
+	public void mirrorVertical(final IPoint origin) {
+		if(GLibUtilities.isValidPoint(origin))
+			packedPoints.mirrorVertical(origin.getY());
+	}
+
+
+	@Override
+	protected void scaleSetPoints(final List<IPoint> pts, final double prevWidth, final double prevHeight, final Position pos, final Rectangle2D bound) {
+		if(pts == packedPoints) {
+			final IPoint refPt = pos.getReferencePoint(bound);
+			packedPoints.scale(refPt.getX(), refPt.getY(), prevWidth / bound.getWidth(), prevHeight / bound.getHeight(),
+					pos.isEast() || pos.isWest(), pos.isNorth() || pos.isSouth());
+		}else
+			super.scaleSetPoints(pts, prevWidth, prevHeight, pos, bound);
+	}
+
+
+	@Override
+	protected void scaleSetPointsWithRatio(final List<IPoint> pts, final double prevWidth, final double prevHeight, final Position pos, final Rectangle2D bound) {
+		if(pts == packedPoints) {
+			final double s = Math.max(prevWidth / bound.getWidth(), prevHeight / bound.getHeight());
+			final IPoint refPt = pos.getReferencePoint(bound);
+			packedPoints.scale(refPt.getX(), refPt.getY(), s, s, true, true);
+		}else
+			super.scaleSetPointsWithRatio(pts, prevWidth, prevHeight, pos, bound);
+	}
+
+
+	@Override
+	public IPoint getTopLeftPoint() {
+		return getBoundPoint(false, false);
+	}
+
+
+	@Override
+	public IPoint getTopRightPoint() {
+		return getBoundPoint(true, false);
+	}
+
+
+	@Override
+	public IPoint getBottomLeftPoint() {
+		return getBoundPoint(false, true);
+	}
+
+
+	@Override
+	public IPoint getBottomRightPoint() {
+		return getBoundPoint(true, true);
+	}
+
+
+	private IPoint getBoundPoint(final boolean maxX, final boolean maxY) {
+		if(packedPoints.isEmpty())
+			return ShapeFactory.createPoint();
+		return ShapeFactory.createPoint(packedPoints.getExtremum(maxX, false), packedPoints.getExtremum(maxY, true));
 	}
 
 
@@ -44,7 +146,8 @@ abstract class LModifiablePointsShape extends LShape implements IModifiablePoint
 			final IPoint gc2 = gc==null ? getGravityCentre() : gc;
 
 			super.setRotationAngle(rotationAngle);
-			points.forEach(pt -> pt.setPoint(pt.rotatePoint(gc2, diff)));
+			if(GLibUtilities.isValidPoint(gc2) && GLibUtilities.isValidCoordinate(diff))
+				packedPoints.rotate(gc2.getX(), gc2.getY(), diff);
 		}
 	}
 
@@ -67,8 +170,7 @@ abstract class LModifiablePointsShape extends LShape implements IModifiablePoint
 		if(!GLibUtilities.isValidPoint(x, y) || position<-1 || position>points.size() || points.isEmpty())
 			return false;
 
-		final IPoint p = position==-1 ? points.get(points.size()-1) : points.get(position);
-		p.setPoint(x, y);
+		packedPoints.setPoint(position==-1 ? points.size()-1 : position, x, y);
 
 		return true;
 	}
@@ -85,8 +187,10 @@ abstract class LModifiablePointsShape extends LShape implements IModifiablePoint
 
 	@Override
 	public IPoint removePoint(final int position) {
-		if(position>=-1 && position<points.size())
+		if(position>=-1 && position<points.size()) {
+			incrementModificationCount();
 			return points.remove(position==-1 ? points.size()-1 : position);
+		}
 		return null;
 	}
 
@@ -103,6 +207,7 @@ abstract class LModifiablePointsShape extends LShape implements IModifiablePoint
 		else
 			points.add(position, pt);
 
+		incrementModificationCount();
 		return pRemoved;
 	}
 
@@ -115,10 +220,12 @@ abstract class LModifiablePointsShape extends LShape implements IModifiablePoint
 
 	@Override
 	public void addPoint(final IPoint pt, final int position) {
-		if(GLibUtilities.isValidPoint(pt) && position>=-1 && position<=points.size())
+		if(GLibUtilities.isValidPoint(pt) && position>=-1 && position<=points.size()) {
 			if(position==-1 || position==points.size())
 				points.add(pt);
 			else
 				points.add(position, pt);
+			incrementModificationCount();
+		}
 	}
 }
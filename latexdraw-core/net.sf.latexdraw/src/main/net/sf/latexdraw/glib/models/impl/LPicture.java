@@ -206,6 +206,7 @@ class LPicture extends LPositionShape implements IPicture {
 	@Override
 	public void setPathSource(final String pathSource) throws IOException {
 		this.pathSource = pathSource;
+		incrementModificationCount();
 		loadImage();
 	}
 
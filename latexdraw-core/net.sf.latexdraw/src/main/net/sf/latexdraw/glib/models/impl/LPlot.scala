@@ -37,6 +37,7 @@ private[impl] class LPlot(pt:IPoint, var minX:Double, var maxX:Double, var equat
 
 		sh match {
 			case plot:IPlotProp =>
+				invalidateSamples()
 				style = plot.getPlotStyle()
 				nbPoints = plot.getNbPlottedPoints
 				polar = plot.isPolar
@@ -47,9 +48,11 @@ private[impl] class LPlot(pt:IPoint, var minX:Double, var maxX:Double, var equat
 				xscale = plot.getXScale
 				yscale = plot.getYScale
 				setPlotEquation(plot.getPlotEquation)
+				incrementModificationCount()
       case dot:IDotProp =>
         dotStyle = dot.getDotStyle()
         dotDiametre = dot.getDiametre
+        incrementModificationCount()
 			case _ =>
 		}
 	}
@@ -69,14 +72,19 @@ private[impl] class LPlot(pt:IPoint, var minX:Double, var maxX:Double, var equat
   
 
 	override def setPlotStyle(style:PlotStyle) {
-		if(style!=null) this.style = style
+		if(style!=null) {
+			this.style = style
+			incrementModificationCount()
+		}
 	}
 
 	override def getPlotStyle = style
 
 	override def setNbPlottedPoints(nbPts:Int) {
-		if(nbPts>1)
+		if(nbPts>1 && nbPts!=nbPoints) {
 			nbPoints = nbPts
+			invalidateSamples()
+		}
 	}
 
 	override def isShowPtsable = false
@@ -89,28 +97,82 @@ private[impl] class LPlot(pt:IPoint, var minX:Double, var maxX:Double, var equat
 
 	override def getPlottingStep = (maxX-minX)/(nbPoints-1)
 
-	override def getTopLeftPoint = {
+	/** The cached plotted points (null when they must be sampled again). */
+	@volatile private var samples:PlotSamples = _
+
+	/**
+	 * @return The plotted points, sampled if the cached ones are no more valid.
+	 */
+	private def getSamples : PlotSamples = {
+		var current = samples
+		if(current==null) {
+			current = sample()
+			samples = current
+		}
+		current
+	}
+
+	/**
+	 * Evaluates the function for the plotted points at once (no object is allocated per point).
+	 */
+	private def sample() : PlotSamples = {
 		val step = getPlottingStep
+		val xs = new Array[Double](nbPoints)
+		val ys = new Array[Double](nbPoints)
+		var i = 0
+
+		while(i<nbPoints) {
+			xs(i) = minX+i*step
+			i += 1
+		}
+
+		parser.evaluate(xs, ys)
+		var min = ys(0)
+		var max = ys(0)
+		i = 1
+
+		// Same results as the max and min of the Scala collections (NaN values included).
+		while(i<nbPoints) {
+			if(!(max>=ys(i))) max = ys(i)
+			if(!(min<=ys(i))) min = ys(i)
+			i += 1
+		}
+
+		new PlotSamples(xs, ys, min, max)
+	}
+
+	/** Invalidates the plotted points: called when the equation, the X-min, the X-max or the number of points change. */
+	private def invalidateSamples() {
+		samples = null
+		incrementModificationCount()
+	}
+
+	override def getPlottedX(index:Int) = getSamples.xs(index)
+
+	override def getPlottedY(index:Int) = getSamples.ys(index)
+
+	override def getPlottedMinY = getSamples.minY
+
+	override def getPlottedMaxY = getSamples.maxY
+
+	override def getTopLeftPoint = {
 		val pos = getPosition
-		ShapeFactory.createPoint(pos.getX+minX*IShape.PPC*xscale, pos.getY-(0 until nbPoints).map{x=>getY(minX+x*step)}.max*IShape.PPC*yscale)
+		ShapeFactory.createPoint(pos.getX+minX*IShape.PPC*xscale, pos.getY-getPlottedMaxY*IShape.PPC*yscale)
 	}
 
 	override def getBottomRightPoint = {
-		val step = getPlottingStep
 		val pos = getPosition
-		ShapeFactory.createPoint(pos.getX+maxX*IShape.PPC*xscale, pos.getY-(0 until nbPoints).map{x=>getY(minX+x*step)}.min*IShape.PPC*yscale)
+		ShapeFactory.createPoint(pos.getX+maxX*IShape.PPC*xscale, pos.getY-getPlottedMinY*IShape.PPC*yscale)
 	}
 
 	override def getTopRightPoint = {
-		val step = getPlottingStep
 		val pos = getPosition
-		ShapeFactory.createPoint(pos.getX+maxX*IShape.PPC*xscale, pos.getY-(0 until nbPoints).map{x=>getY(minX+x*step)}.max*IShape.PPC*yscale)
+		ShapeFactory.createPoint(pos.getX+maxX*IShape.PPC*xscale, pos.getY-getPlottedMaxY*IShape.PPC*yscale)
 	}
 
 	override def getBottomLeftPoint = {
-		val step = getPlottingStep
 		val pos = getPosition
-		ShapeFactory.createPoint(pos.getX+minX*IShape.PPC*xscale, pos.getY-(0 until nbPoints).map{x=>getY(minX+x*step)}.min*IShape.PPC*yscale)
+		ShapeFactory.createPoint(pos.getX+minX*IShape.PPC*xscale, pos.getY-getPlottedMinY*IShape.PPC*yscale)
 	}
 	
 	protected override def scaleSetPointsWithRatio(pts:java.util.List[IPoint], prevWidth:Double, prevHeight:Double, pos:Position, bound:Rectangle2D) {
@@ -142,6 +204,7 @@ private[impl] class LPlot(pt:IPoint, var minX:Double, var maxX:Double, var equat
 		if(eq!=null && !eq.isEmpty) {
 			equation = eq
       parser = new PSFunctionParser(equation)
+      invalidateSamples()
 		}
 	}
 
@@ -151,18 +214,23 @@ private[impl] class LPlot(pt:IPoint, var minX:Double, var maxX:Double, var equat
 
 	override def setPolar(pol:Boolean) {
 		polar = pol
+		incrementModificationCount()
 	}
 
 	override def isPolar = polar
 
 	override def setPlotMaxX(x:Double) {
-		if(GLibUtilities.isValidCoordinate(x) && x>minX)
+		if(GLibUtilities.isValidCoordinate(x) && x>minX) {
 			maxX = x
+			invalidateSamples()
+		}
 	}
 
 	override def setPlotMinX(x:Double) {
-		if(GLibUtilities.isValidCoordinate(x) && x<maxX)
+		if(GLibUtilities.isValidCoordinate(x) && x<maxX) {
 			minX = x
+			invalidateSamples()
+		}
 	}
 	
 	
@@ -173,7 +241,10 @@ private[impl] class LPlot(pt:IPoint, var minX:Double, var maxX:Double, var equat
   def getDotStyle(): DotStyle = dotStyle
 
   def setDiametre(diam: Double) {
-  	if(diam>0.0 && GLibUtilities.isValidCoordinate(diam)) dotDiametre = diam
+  	if(diam>0.0 && GLibUtilities.isValidCoordinate(diam)) {
+  		dotDiametre = diam
+  		incrementModificationCount()
+  	}
   }
 
   def setDotFillingCol(col: Color) {
@@ -181,6 +252,16 @@ private[impl] class LPlot(pt:IPoint, var minX:Double, var maxX:Double, var equat
   }
 
   def setDotStyle(dotst: DotStyle) {
-  	if(dotst!=null) dotStyle = dotst
+  	if(dotst!=null) {
+  		dotStyle = dotst
+  		incrementModificationCount()
+  	}
   }
 }
+
+
+/**
+ * The points of a plot sampled from its function (immutable once created).
+ * @since 4.0
+ */
+private class PlotSamples(val xs:Array[Double], val ys:Array[Double], val minY:Double, val maxY:Double)
@@ -9,17 +9,23 @@ import net.sf.latexdraw.glib.models.GLibUtilities
  * @since 3.2
  */
 trait LScalable extends IScalable {
+	this: LShape =>
+
 	var xscale:Double = 1.0
 	var yscale:Double = 1.0
 
 	override def setXScale(xscale:Double) {
-		if(xscale>0 && GLibUtilities.isValidCoordinate(xscale))
+		if(xscale>0 && GLibUtilities.isValidCoordinate(xscale)) {
 			this.xscale = xscale
+			incrementModificationCount()
+		}
 	}
 
 	override def setYScale(yscale:Double) {
-		if(yscale>0 && GLibUtilities.isValidCoordinate(yscale))
+		if(yscale>0 && GLibUtilities.isValidCoordinate(yscale)) {
 			this.yscale = yscale
+			incrementModificationCount()
+		}
 	}
 
 	override def setScale(scale:Double) {
@@ -3,7 +3,6 @@ package net.sf.latexdraw.glib.models.impl
 import net.sf.latexdraw.glib.models.interfaces.prop.ISetShapesProp
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape
 import javafx.collections.ObservableList
-import javafx.collections.FXCollections
 
 /**
  * This trait implements the ISetShapes interface.<br>
@@ -24,8 +23,11 @@ import javafx.collections.FXCollections
  * @since 3.0
  */
 private[impl] trait LSetShapes extends ISetShapesProp {
+	/** The set of shapes. Their position is indexed: contains and indexOf take a constant time. */
+	private[impl] val indexedShapes = new IndexedShapeList
+
 	/** The set of shapes. */
-	val shapes : ObservableList[IShape] = FXCollections.observableArrayList()
+	val shapes : ObservableList[IShape] = indexedShapes
 
 
 	override def contains(sh : IShape) = if(sh==null) false else shapes.contains(sh)
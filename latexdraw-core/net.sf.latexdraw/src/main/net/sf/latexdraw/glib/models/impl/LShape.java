@@ -127,10 +127,22 @@ abstract class LShape implements ISingleShape {
 	/** Defined if the shape has been modified. */
 	protected boolean modified;
 
+	/** The number of modifications of the attributes of the shape (see getModificationCount). */
+	private long modificationCount;
+
 	/**
 	 * The second default constructor
 	 */
 	protected LShape() {
+		this(new ArrayList<>());
+	}
+
+	/**
+	 * Creates the shape using the given list to store its points.
+	 * @param pts The list of the points of the shape.
+	 * @since 4.0
+	 */
+	protected LShape(final List<IPoint> pts) {
 		super();
 		modified = false;
 		thickness = new SimpleDoubleProperty(2.0);
@@ -159,7 +171,7 @@ abstract class LShape implements ISingleShape {
 		gradColEnd = PSTricksConstants.DEFAULT_GRADIENT_END_COLOR;
 		gradMidPt = PSTricksConstants.DEFAULT_GRADIENT_MID_POINT;
 		showPts = false;
-		points = new ArrayList<>();
+		points = pts;
 	}
 
 	@Override
@@ -202,6 +214,7 @@ abstract class LShape implements ISingleShape {
 			return;
 		points.clear();
 		sh.getPoints().forEach(pt -> points.add(ShapeFactory.createPoint(pt)));
+		incrementModificationCount();
 	}
 
 	@Override
@@ -489,32 +502,42 @@ abstract class LShape implements ISingleShape {
 
 	@Override
 	public void setDashSepBlack(final double dashSepBlack) {
-		if(dashSepBlack > 0 && GLibUtilities.isValidCoordinate(dashSepBlack))
+		if(dashSepBlack > 0 && GLibUtilities.isValidCoordinate(dashSepBlack)) {
 			this.dashSepBlack = dashSepBlack;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setDashSepWhite(final double dashSepWhite) {
-		if(dashSepWhite > 0 && GLibUtilities.isValidCoordinate(dashSepWhite))
+		if(dashSepWhite > 0 && GLibUtilities.isValidCoordinate(dashSepWhite)) {
 			this.dashSepWhite = dashSepWhite;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setDbleBordCol(final Color dbleBordCol) {
-		if(dbleBordCol != null && isDbleBorderable())
+		if(dbleBordCol != null && isDbleBorderable()) {
 			this.dbleBordCol = dbleBordCol;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setDbleBordSep(final double dbleBordSep) {
-		if(dbleBordSep >= 0 && isDbleBorderable() && GLibUtilities.isValidCoordinate(dbleBordSep))
+		if(dbleBordSep >= 0 && isDbleBorderable() && GLibUtilities.isValidCoordinate(dbleBordSep)) {
 			this.dbleBordSep = dbleBordSep;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setDotSep(final double dotSep) {
-		if(dotSep >= 0 && GLibUtilities.isValidCoordinate(dotSep))
+		if(dotSep >= 0 && GLibUtilities.isValidCoordinate(dotSep)) {
 			this.dotSep = dotSep;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
@@ -578,8 +601,10 @@ abstract class LShape implements ISingleShape {
 
 	@Override
 	public void setFillingCol(final Color fillingCol) {
-		if(fillingCol != null && isFillable())
+		if(fillingCol != null && isFillable()) {
 			this.fillingCol = fillingCol;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
@@ -590,62 +615,82 @@ abstract class LShape implements ISingleShape {
 
 	@Override
 	public void setGradAngle(final double gradAngle) {
-		if(GLibUtilities.isValidCoordinate(gradAngle) && isInteriorStylable())
+		if(GLibUtilities.isValidCoordinate(gradAngle) && isInteriorStylable()) {
 			this.gradAngle = gradAngle;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setGradColEnd(final Color gradColEnd) {
-		if(gradColEnd != null && isInteriorStylable())
+		if(gradColEnd != null && isInteriorStylable()) {
 			this.gradColEnd = gradColEnd;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setGradColStart(final Color gradColStart) {
-		if(gradColStart != null && isInteriorStylable())
+		if(gradColStart != null && isInteriorStylable()) {
 			this.gradColStart = gradColStart;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setGradMidPt(final double gradMidPt) {
-		if(gradMidPt >= 0 && gradMidPt <= 1 && isInteriorStylable())
+		if(gradMidPt >= 0 && gradMidPt <= 1 && isInteriorStylable()) {
 			this.gradMidPt = gradMidPt;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setHasDbleBord(final boolean hasDbleBord) {
-		if(isDbleBorderable())
+		if(isDbleBorderable()) {
 			this.hasDbleBord = hasDbleBord;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setHasShadow(final boolean hasShadow) {
-		if(isShadowable())
+		if(isShadowable()) {
 			this.hasShadow = hasShadow;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setHatchingsAngle(final double hatchingsAngle) {
-		if(GLibUtilities.isValidCoordinate(hatchingsAngle) && isInteriorStylable())
+		if(GLibUtilities.isValidCoordinate(hatchingsAngle) && isInteriorStylable()) {
 			this.hatchingsAngle = hatchingsAngle;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setHatchingsCol(final Color hatchingsCol) {
-		if(hatchingsCol != null && isInteriorStylable())
+		if(hatchingsCol != null && isInteriorStylable()) {
 			this.hatchingsCol = hatchingsCol;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setHatchingsSep(final double hatchingsSep) {
-		if(GLibUtilities.isValidCoordinate(hatchingsSep) && hatchingsSep >= 0 && isInteriorStylable())
+		if(GLibUtilities.isValidCoordinate(hatchingsSep) && hatchingsSep >= 0 && isInteriorStylable()) {
 			this.hatchingsSep = hatchingsSep;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setHatchingsWidth(final double hatchingsWidth) {
-		if(GLibUtilities.isValidCoordinate(hatchingsWidth) && hatchingsWidth > 0 && isInteriorStylable())
+		if(GLibUtilities.isValidCoordinate(hatchingsWidth) && hatchingsWidth > 0 && isInteriorStylable()) {
 			this.hatchingsWidth = hatchingsWidth;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
@@ -707,32 +752,42 @@ abstract class LShape implements ISingleShape {
 
 	@Override
 	public void setRotationAngle(final double rotationAngle) {
-		if(GLibUtilities.isValidCoordinate(rotationAngle))
+		if(GLibUtilities.isValidCoordinate(rotationAngle)) {
 			this.rotationAngle = rotationAngle;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setShadowAngle(final double shadowAngle) {
-		if(isShadowable() && GLibUtilities.isValidCoordinate(shadowAngle))
+		if(isShadowable() && GLibUtilities.isValidCoordinate(shadowAngle)) {
 			this.shadowAngle = shadowAngle;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setShadowCol(final Color shadowCol) {
-		if(shadowCol != null && isShadowable())
+		if(shadowCol != null && isShadowable()) {
 			this.shadowCol = shadowCol;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setShadowSize(final double shadowSize) {
-		if(isShadowable() && shadowSize > 0 && GLibUtilities.isValidCoordinate(shadowSize))
+		if(isShadowable() && shadowSize > 0 && GLibUtilities.isValidCoordinate(shadowSize)) {
 			this.shadowSize = shadowSize;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
 	public void setShowPts(final boolean showPts) {
-		if(isShowPtsable())
+		if(isShowPtsable()) {
 			this.showPts = showPts;
+			incrementModificationCount();
+		}
 	}
 
 	@Override
@@ -804,6 +859,19 @@ abstract class LShape implements ISingleShape {
 		return modified;
 	}
 
+	@Override
+	public long getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Notifies that an attribute of the shape that is not observable has been modified.
+	 * @since 4.0
+	 */
+	protected void incrementModificationCount() {
+		modificationCount++;
+	}
+
 	@Override
 	public void rotate(final IPoint point, final double angle) {
 		final IPoint gc = getGravityCentre();
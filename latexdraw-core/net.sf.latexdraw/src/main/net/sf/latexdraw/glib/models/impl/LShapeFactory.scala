@@ -128,7 +128,7 @@ class LShapeFactory extends IShapeFactory {
 	  return createColor(col.getRed, col.getGreen, col.getBlue, col.getOpacity)
 	}
 	
-	override def createColor(r:Double, g:Double, b:Double, o:Double) : Color = new ColorImpl(r, g, b, o)
+	override def createColor(r:Double, g:Double, b:Double, o:Double) : Color = ColorImpl.valueOf(r, g, b, o)
 	
 	override def createColor(r:Double, g:Double, b:Double) : Color = createColor(r,g,b,1.0)
 	
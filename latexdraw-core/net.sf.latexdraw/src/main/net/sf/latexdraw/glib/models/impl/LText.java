@@ -65,8 +65,10 @@ class LText extends LPositionShape implements IText {
 
 	@Override
 	public void setText(final String text) {
-		if(text!=null && !text.isEmpty())
+		if(text!=null && !text.isEmpty()) {
 			this.text = text;
+			incrementModificationCount();
+		}
 	}
 
 
@@ -78,6 +80,7 @@ class LText extends LPositionShape implements IText {
 			final ITextProp textSh= (ITextProp)s;
 			text 			= textSh.getText();
 			textPosition	= textSh.getTextPosition();
+			incrementModificationCount();
 		}
 	}
 
@@ -90,7 +93,9 @@ class LText extends LPositionShape implements IText {
 
 	@Override
 	public void setTextPosition(final TextPosition textPosition) {
-		if(textPosition!=null)
+		if(textPosition!=null) {
 			this.textPosition = textPosition;
+			incrementModificationCount();
+		}
 	}
 }
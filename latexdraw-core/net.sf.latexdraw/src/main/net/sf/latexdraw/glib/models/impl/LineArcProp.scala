@@ -8,6 +8,8 @@ import net.sf.latexdraw.glib.models.GLibUtilities
  * @author Arnaud Blouin
  */
 private[impl] trait LineArcProp extends ILineArcProp {
+	this: LShape =>
+
 		/** The radius of arcs drawn at the corners of lines. */
 	var frameArc:Double = 0.0
 
@@ -16,7 +18,9 @@ private[impl] trait LineArcProp extends ILineArcProp {
 	override def isRoundCorner = frameArc>0
 
 	override def setLineArc(arc:Double) {
-		if(GLibUtilities.isValidCoordinate(arc) && arc>=0 && arc<=1)
+		if(GLibUtilities.isValidCoordinate(arc) && arc>=0 && arc<=1) {
 			frameArc = arc
+			incrementModificationCount()
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,508 @@
+package net.sf.latexdraw.glib.models.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import net.sf.latexdraw.glib.models.GLibUtilities;
+import net.sf.latexdraw.glib.models.ShapeFactory;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
+import net.sf.latexdraw.util.LNumber;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A list of points that stores the coordinates in a single array (x and y interleaved).
+ * The IPoint objects of the list are views on this array: they are created the first time
+ * they are requested and then kept (and moved) with their point so that the points of a shape
+ * remain the same objects. The JavaFX properties of a view are created only when requested
+ * (e.g. to bind a JavaFX node to the point).<br>
+ * Adding a point copies its coordinates: the given point object is not kept by the list.
+ * A removed point is detached from the list and keeps its coordinates.<br>
+ * <br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ * <br>
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * <br>
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.<br>
+ * <br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+final class PackedPointList extends AbstractList<IPoint> implements RandomAccess {
+	private static final int DEFAULT_CAPACITY = 8;
+
+	/** The coordinates of the points: x0, y0, x1, y1, etc. */
+	private double[] coords;
+
+	/** The number of points. */
+	private int size;
+
+	/** The views created so far (null cells for the points never requested), or null if no view has been created. */
+	private View[] views;
+
+	/** The number of views whose JavaFX properties have been created (they must be updated by the bulk operations). */
+	private int nbPropertyViews;
+
+
+	PackedPointList() {
+		super();
+		coords = new double[DEFAULT_CAPACITY * 2];
+	}
+
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+
+	@Override
+	public IPoint get(final int index) {
+		checkIndex(index);
+
+		if(views == null)
+			views = new View[coords.length / 2];
+
+		View view = views[index];
+
+		if(view == null) {
+			view = new View(this, index);
+			views[index] = view;
+		}
+
+		return view;
+	}
+
+
+	/**
+	 * @param index The position of the point.
+	 * @return The X-coordinate of the point at the given position. No view is created.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 */
+	double getX(final int index) {
+		checkIndex(index);
+		return coords[index * 2];
+	}
+
+
+	/**
+	 * @param index The position of the point.
+	 * @return The Y-coordinate of the point at the given position. No view is created.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 */
+	double getY(final int index) {
+		checkIndex(index);
+		return coords[index * 2 + 1];
+	}
+
+
+	/**
+	 * Moves the point at the given position. The coordinates that are not valid are ignored.
+	 * @param index The position of the point.
+	 * @param x The new X-coordinate.
+	 * @param y The new Y-coordinate.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 */
+	void setPoint(final int index, final double x, final double y) {
+		checkIndex(index);
+		if(GLibUtilities.isValidCoordinate(x))
+			coords[index * 2] = x;
+		if(GLibUtilities.isValidCoordinate(y))
+			coords[index * 2 + 1] = y;
+		updateProperties(index);
+	}
+
+
+	@Override
+	public IPoint set(final int index, final IPoint pt) {
+		Objects.requireNonNull(pt);
+		final IPoint old = detach(index);
+		coords[index * 2] = pt.getX();
+		coords[index * 2 + 1] = pt.getY();
+		return old;
+	}
+
+
+	@Override
+	public void add(final int index, final IPoint pt) {
+		Objects.requireNonNull(pt);
+		if(index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ensureCapacity(size + 1);
+		System.arraycopy(coords, index * 2, coords, index * 2 + 2, (size - index) * 2);
+		coords[index * 2] = pt.getX();
+		coords[index * 2 + 1] = pt.getY();
+
+		if(views != null) {
+			System.arraycopy(views, index, views, index + 1, size - index);
+			views[index] = null;
+		}
+
+		size++;
+		reindexViews(index + 1);
+		modCount++;
+	}
+
+
+	@Override
+	public IPoint remove(final int index) {
+		final IPoint removed = detach(index);
+		final int nbMoved = size - index - 1;
+
+		System.arraycopy(coords, index * 2 + 2, coords, index * 2, nbMoved * 2);
+
+		if(views != null) {
+			System.arraycopy(views, index + 1, views, index, nbMoved);
+			views[size - 1] = null;
+		}
+
+		size--;
+		reindexViews(index);
+		modCount++;
+		return removed;
+	}
+
+
+	@Override
+	public void clear() {
+		if(views != null) {
+			for(int i = 0; i < size; i++)
+				if(views[i] != null)
+					views[i].detach();
+			Arrays.fill(views, 0, size, null);
+		}
+
+		nbPropertyViews = 0;
+		size = 0;
+		modCount++;
+	}
+
+
+	@Override
+	public int indexOf(final Object o) {
+		if(o instanceof IPoint) {
+			final long x = Double.doubleToLongBits(((IPoint)o).getX());
+			final long y = Double.doubleToLongBits(((IPoint)o).getY());
+
+			for(int i = 0; i < size; i++)
+				if(Double.doubleToLongBits(coords[i * 2]) == x && Double.doubleToLongBits(coords[i * 2 + 1]) == y)
+					return i;
+		}
+		return -1;
+	}
+
+
+	@Override
+	public int lastIndexOf(final Object o) {
+		if(o instanceof IPoint) {
+			final long x = Double.doubleToLongBits(((IPoint)o).getX());
+			final long y = Double.doubleToLongBits(((IPoint)o).getY());
+
+			for(int i = size - 1; i >= 0; i--)
+				if(Double.doubleToLongBits(coords[i * 2]) == x && Double.doubleToLongBits(coords[i * 2 + 1]) == y)
+					return i;
+		}
+		return -1;
+	}
+
+
+	@Override
+	public boolean contains(final Object o) {
+		return indexOf(o) != -1;
+	}
+
+
+	/**
+	 * Replaces the points of this list by the points of the given list.
+	 * @param list The list to copy.
+	 */
+	void copy(final PackedPointList list) {
+		clear();
+		ensureCapacity(list.size);
+		System.arraycopy(list.coords, 0, coords, 0, list.size * 2);
+		size = list.size;
+		modCount++;
+	}
+
+
+	/**
+	 * Translates all the points.
+	 */
+	void translate(final double tx, final double ty) {
+		for(int i = 0, length = size * 2; i < length; i += 2) {
+			coords[i] += tx;
+			coords[i + 1] += ty;
+		}
+		updateProperties();
+	}
+
+
+	/**
+	 * Rotates all the points.
+	 * @param gx The X-coordinate of the rotation centre.
+	 * @param gy The Y-coordinate of the rotation centre.
+	 * @param theta The rotation angle in radian.
+	 */
+	void rotate(final double gx, final double gy, final double theta) {
+		final double[] cosSin = LAbstractPoint.getRotationCosSin(theta);
+
+		if(cosSin == null)
+			return;
+
+		final double cos = cosSin[0];
+		final double sin = cosSin[1];
+
+		for(int i = 0, length = size * 2; i < length; i += 2) {
+			final double dx = coords[i] - gx;
+			final double dy = coords[i + 1] - gy;
+			storeCoord(i, cos * dx - sin * dy + gx);
+			storeCoord(i + 1, sin * dx + cos * dy + gy);
+		}
+		updateProperties();
+	}
+
+
+	/**
+	 * Moves all the points to their symmetric point using the given vertical axis (x = originX).
+	 */
+	void mirrorHorizontal(final double originX) {
+		for(int i = 0, length = size * 2; i < length; i += 2)
+			coords[i] = 2. * originX - coords[i];
+		updateProperties();
+	}
+
+
+	/**
+	 * Moves all the points to their symmetric point using the given horizontal axis (y = originY).
+	 */
+	void mirrorVertical(final double originY) {
+		for(int i = 1, length = size * 2; i < length; i += 2)
+			coords[i] = 2. * originY - coords[i];
+		updateProperties();
+	}
+
+
+	/**
+	 * Scales all the points. The coordinates equal to the coordinates of the reference point are not modified.
+	 * @param refX The X-coordinate of the reference point.
+	 * @param refY The Y-coordinate of the reference point.
+	 * @param sx The horizontal scale factor.
+	 * @param sy The vertical scale factor.
+	 * @param xScale True: the X-coordinates must be scaled.
+	 * @param yScale True: the Y-coordinates must be scaled.
+	 */
+	void scale(final double refX, final double refY, final double sx, final double sy, final boolean xScale, final boolean yScale) {
+		for(int i = 0, length = size * 2; i < length; i += 2) {
+			if(xScale && !LNumber.equalsDouble(coords[i], refX))
+				storeCoord(i, refX + (coords[i] - refX) * sx);
+			if(yScale && !LNumber.equalsDouble(coords[i + 1], refY))
+				storeCoord(i + 1, refY + (coords[i + 1] - refY) * sy);
+		}
+		updateProperties();
+	}
+
+
+	/**
+	 * @param max True: the maximal value is returned; the minimal one otherwise.
+	 * @param y True: the Y-coordinates are considered; the X-coordinates otherwise.
+	 * @return The minimal or maximal coordinate of the points or NaN if the list is empty.
+	 */
+	double getExtremum(final boolean max, final boolean y) {
+		if(size == 0)
+			return Double.NaN;
+
+		double value = coords[y ? 1 : 0];
+
+		for(int i = y ? 3 : 2, length = size * 2; i < length; i += 2)
+			value = max ? Math.max(value, coords[i]) : Math.min(value, coords[i]);
+
+		return value;
+	}
+
+
+	private void storeCoord(final int i, final double value) {
+		if(GLibUtilities.isValidCoordinate(value))
+			coords[i] = value;
+	}
+
+
+	private void checkIndex(final int index) {
+		if(index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+
+	private void ensureCapacity(final int capacity) {
+		if(capacity * 2 > coords.length) {
+			final int newCapacity = Math.max(capacity, coords.length / 2 + (coords.length >> 2));
+			coords = Arrays.copyOf(coords, newCapacity * 2);
+			if(views != null)
+				views = Arrays.copyOf(views, newCapacity);
+		}
+	}
+
+
+	private void reindexViews(final int from) {
+		if(views != null)
+			for(int i = from; i < size; i++)
+				if(views[i] != null)
+					views[i].index = i;
+	}
+
+
+	/**
+	 * Detaches the view of the point at the given position (if it exists) from the list.
+	 * @return The detached view or a copy of the point if it has no view.
+	 */
+	private IPoint detach(final int index) {
+		checkIndex(index);
+
+		if(views != null && views[index] != null) {
+			final View view = views[index];
+			views[index] = null;
+			return view.detach();
+		}
+
+		return ShapeFactory.createPoint(coords[index * 2], coords[index * 2 + 1]);
+	}
+
+
+	private void updateProperties(final int index) {
+		if(nbPropertyViews > 0 && views[index] != null)
+			views[index].updateProperties();
+	}
+
+
+	private void updateProperties() {
+		if(nbPropertyViews > 0)
+			for(int i = 0; i < size; i++)
+				if(views[i] != null)
+					views[i].updateProperties();
+	}
+
+
+	/**
+	 * A point of the list. Its coordinates are read from the array of the list until it is removed from the list.
+	 */
+	static final class View extends LAbstractPoint {
+		/** The list that contains the point or null if the point has been removed from the list. */
+		private PackedPointList list;
+
+		/** The position of the point in the list. */
+		private int index;
+
+		/** The properties of the point, created when requested or when the point is removed from its list. */
+		private DoubleProperty x;
+
+		private DoubleProperty y;
+
+
+		View(final PackedPointList pts, final int position) {
+			super();
+			list = pts;
+			index = position;
+		}
+
+
+		@Override
+		public double getX() {
+			return x == null ? list.coords[index * 2] : x.get();
+		}
+
+
+		@Override
+		public double getY() {
+			return y == null ? list.coords[index * 2 + 1] : y.get();
+		}
+
+
+		@Override
+		public void setX(final double newX) {
+			if(GLibUtilities.isValidCoordinate(newX))
+				if(x == null)
+					list.coords[index * 2] = newX;
+				else
+					x.set(newX);
+		}
+
+
+		@Override
+		public void setY(final double newY) {
+			if(GLibUtilities.isValidCoordinate(newY))
+				if(y == null)
+					list.coords[index * 2 + 1] = newY;
+				else
+					y.set(newY);
+		}
+
+
+		@Override
+		public @NonNull DoubleProperty xProperty() {
+			createProperties();
+			return x;
+		}
+
+
+		@Override
+		public @NonNull DoubleProperty yProperty() {
+			createProperties();
+			return y;
+		}
+
+
+		/**
+		 * Creates the properties of the point. Their modifications are forwarded to the array of the list.
+		 */
+		private void createProperties() {
+			if(x == null) {
+				x = new SimpleDoubleProperty(getX());
+				y = new SimpleDoubleProperty(getY());
+				x.addListener(obs -> {
+					if(list != null)
+						list.coords[index * 2] = x.get();
+				});
+				y.addListener(obs -> {
+					if(list != null)
+						list.coords[index * 2 + 1] = y.get();
+				});
+				list.nbPropertyViews++;
+			}
+		}
+
+
+		/**
+		 * Sets the values of the array of the list to the properties (if they exist).
+		 */
+		void updateProperties() {
+			if(x != null) {
+				x.set(list.coords[index * 2]);
+				y.set(list.coords[index * 2 + 1]);
+			}
+		}
+
+
+		/**
+		 * Detaches the point from its list: from now, the coordinates of the point are stored in its properties.
+		 */
+		View detach() {
+			if(x == null) {
+				x = new SimpleDoubleProperty(getX());
+				y = new SimpleDoubleProperty(getY());
+			}else
+				list.nbPropertyViews--;
+
+			list = null;
+			return this;
+		}
+	}
+}
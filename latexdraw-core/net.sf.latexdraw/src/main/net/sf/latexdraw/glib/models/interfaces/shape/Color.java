@@ -3,7 +3,7 @@ package net.sf.latexdraw.glib.models.interfaces.shape;
 
 
 /**
- * Defines the concept of colour.<br>
+ * Defines the concept of colour. Colours are immutable.<br>
  * <br>
  * This file is part of LaTeXDraw.<br>
  * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
@@ -51,28 +51,4 @@ public interface Color {
 	 * @throws IllegalArgumentException If the value in not in [0,1].
 	 */
 	double getO();
-	
-	/**
-	 * Sets the red channel.
-	 * @param red the red to set
-	 */
-	void setR(final double red);
-	
-	/**
-	 * Sets the green channel.
-	 * @param green the green to set
-	 */
-	void setG(final double green);
-	
-	/**
-	 * Sets the blue channel.
-	 * @param blue the blue to set
-	 */
-	void setB(final double blue);
-	
-	/**
-	 * Sets the opacity channel.
-	 * @param opacity the opacity to set
-	 */
-	void setO(final double opacity);
 }
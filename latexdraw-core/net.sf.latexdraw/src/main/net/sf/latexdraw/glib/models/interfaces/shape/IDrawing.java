@@ -40,4 +40,29 @@ public interface IDrawing extends ISetShapesProp, AbstractPresentation {
 	 * @since 3.0
 	 */
 	void setSelection(final List<IShape> shapes);
+
+	/**
+	 * Starts a set of modifications of the shapes of the drawing: the listeners of the list of shapes
+	 * are notified of these modifications by a single change when the set is committed.
+	 * The sets of modifications can be nested: the change is notified when the outermost set is committed.
+	 * @since 4.0
+	 */
+	void beginChanges();
+
+	/**
+	 * Commits the set of modifications started by beginChanges.
+	 * @throws IllegalStateException If no set of modifications has been started.
+	 * @since 4.0
+	 */
+	void commitChanges();
+
+	/**
+	 * Moves shapes of the drawing without removing them: the listeners of the list of shapes are
+	 * notified of a permutation. The other shapes keep their relative order.
+	 * @param shapesToMove The shapes to move. Cannot be null.
+	 * @param positions The new position of each shape to move. Cannot be null.
+	 * @throws IllegalArgumentException If a shape is not in the drawing or is given twice, or if the positions are not valid.
+	 * @since 4.0
+	 */
+	void moveShapes(final List<IShape> shapesToMove, final int[] positions);
 }
@@ -27,4 +27,34 @@ public interface IPlot extends IPositionShape, IPlotProp {
 	 * @return The corresponding Y coordinate or NaN if a problem occurs.
 	 */
 	double getY(final double x);
+
+	/**
+	 * The plotted points are sampled once and cached until the equation, the X-min, the X-max
+	 * or the number of plotted points change.
+	 * @param index The index of a plotted point, between 0 and the number of plotted points (excluded).
+	 * @return The X coordinate of the plotted point (X-min + index * plotting step).
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 4.0
+	 */
+	double getPlottedX(final int index);
+
+	/**
+	 * @param index The index of a plotted point, between 0 and the number of plotted points (excluded).
+	 * @return The Y coordinate of the plotted point (see getPlottedX).
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 4.0
+	 */
+	double getPlottedY(final int index);
+
+	/**
+	 * @return The minimal Y coordinate of the plotted points.
+	 * @since 4.0
+	 */
+	double getPlottedMinY();
+
+	/**
+	 * @return The maximal Y coordinate of the plotted points.
+	 * @since 4.0
+	 */
+	double getPlottedMaxY();
 }
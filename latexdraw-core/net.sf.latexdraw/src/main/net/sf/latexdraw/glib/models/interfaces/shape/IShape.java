@@ -56,6 +56,15 @@ public interface IShape extends Modifiable {
 	 */
 	void copy(final IShape s);
 
+	/**
+	 * @return The number of modifications of the shape: it changes each time an attribute, the list of the
+	 * points, an arrow or a shape of the shape is modified. The changes of the observable properties of the
+	 * shape (e.g. its thickness or its line colour) and of the coordinates of its points are not counted:
+	 * they can be listened.
+	 * @since 4.0
+	 */
+	long getModificationCount();
+
 	/**
 	 * @return True if the thickness of the shape can be changed.
 	 * @since 3.0
@@ -13,6 +13,7 @@ import net.sf.latexdraw.glib.models.interfaces.shape.IPolygon;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPolyline;
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
 import net.sf.latexdraw.glib.models.interfaces.shape.PlotStyle;
+import net.sf.latexdraw.util.LNumber;
 
 public class PlotViewHelper {
 	public static final PlotViewHelper INSTANCE = new PlotViewHelper();
@@ -22,29 +23,48 @@ public class PlotViewHelper {
 	}
 
 	
-	private IPoint getPolarPoint(final IPlot shape, final double x, final double xs, final double ys, final double posX, final double posY) {
-		final double radius = shape.getY(x);
+	private IPoint getPolarPoint(final double x, final double radius, final double xs, final double ys, final double posX, final double posY) {
 		final double angle = Math.toRadians(x);
 		final double x1 = radius * Math.cos(angle);
 		final double y1 = -radius * Math.sin(angle);
 		return ShapeFactory.createPoint(x1 * IShape.PPC * xs + posX, y1 * IShape.PPC * ys + posY);
 	}
-	
+
+
+	/**
+	 * @return The Y coordinate of the given X coordinate: the cached plotted point of the shape
+	 * is used if the X coordinate is the one of a plotted point; the function is evaluated otherwise.
+	 */
+	private double getY(final IPlot shape, final double x, final int sample) {
+		return sample >= 0 && sample < shape.getNbPlottedPoints() ? shape.getPlottedY(sample) : shape.getY(x);
+	}
+
+
 	public void fillPoints(final IPlot shape, final IModifiablePointsShape sh, final double posX, final double posY, 
 							final double minX, final double maxX, final double step) {
 		final double xs = shape.getXScale();
 		final double ys = shape.getYScale();
-		double x = minX;
-		
-		if(shape.isPolar()) {
-			for(int i=0; i<shape.getNbPlottedPoints(); i++, x += step)
-				sh.addPoint(getPolarPoint(shape, x, xs, ys, posX, posY));
-			sh.addPoint(getPolarPoint(shape, maxX, xs, ys, posX, posY));
-		}else {
-			for(int i=0; i<shape.getNbPlottedPoints(); i++, x += step)
-				sh.addPoint(ShapeFactory.createPoint(x * IShape.PPC * xs + posX, -shape.getY(x) * IShape.PPC * ys + posY));
-			sh.addPoint(ShapeFactory.createPoint(maxX * IShape.PPC * xs + posX, -shape.getY(maxX) * IShape.PPC * ys + posY));
+		final int nbPts = shape.getNbPlottedPoints();
+		final double shift = (minX - shape.getPlotMinX()) / step;
+		// The index of the plotted point of the shape corresponding to minX (the curves can start one step after
+		// the min X). The cached plotted points are not used if the given parameters do not correspond to them.
+		final int first = Double.compare(step, shape.getPlottingStep()) == 0 && LNumber.equalsDouble(shift, Math.rint(shift)) ?
+							(int)Math.rint(shift) : -nbPts;
+
+		for(int i=0; i<nbPts; i++) {
+			final double x = minX + i * step;
+			final double y = getY(shape, x, first + i);
+
+			if(shape.isPolar())
+				sh.addPoint(getPolarPoint(x, y, xs, ys, posX, posY));
+			else
+				sh.addPoint(ShapeFactory.createPoint(x * IShape.PPC * xs + posX, -y * IShape.PPC * ys + posY));
 		}
+
+		if(shape.isPolar())
+			sh.addPoint(getPolarPoint(maxX, shape.getY(maxX), xs, ys, posX, posY));
+		else
+			sh.addPoint(ShapeFactory.createPoint(maxX * IShape.PPC * xs + posX, -shape.getY(maxX) * IShape.PPC * ys + posY));
 	}
 
 	
@@ -198,21 +198,14 @@ public final class DviPsColors  {
 
 	private final Map<Color, String> nameColourHT 	= new HashMap<>();
 
-	/** The colours defined by the user and their name. */
-	private final Map<String, Color> userColourHT 		= new HashMap<>();
-
-	/** The colours defined by the user and their name. */
-	private final Map<Color, String> userNameColourHT 	= new HashMap<>();
-
-	/** The counter is used to name the user defined colours. */
-	private int ctColours;
+	/** The colours defined by the user (e.g. by the parsed code) and their name. */
+	private final DviPsColourRegistry userColours 	= new DviPsColourRegistry();
 
 
 	private DviPsColors() {
 		super();
 		createColourHashTable();
 		createNameColourHashTable();
-		ctColours = 0;
 	}
 
 
@@ -407,16 +400,34 @@ public final class DviPsColors  {
 	}
 
 
+	/**
+	 * @param colour The colour which name is looking for.
+	 * @return The name of the corresponding predefined colour.
+	 * @since 4.0
+	 */
+	public Optional<String> getPredefinedColourName(final Color colour) {
+		if(colour==null) return Optional.empty();
+		return Optional.ofNullable(nameColourHT.get(colour));
+	}
+
+
+	/**
+	 * @return The registry of the colours defined by the user. The code generators use their own
+	 * registry that also looks up these colours.
+	 * @since 4.0
+	 */
+	public DviPsColourRegistry getUserColours() {
+		return userColours;
+	}
+
+
 	/**
 	 * Allows to get the name of  a given colour.
 	 * @param colour The colour that we want the name .
 	 * @return The name of the colour : null if it can not be found.
 	 */
 	public Optional<String> getColourName(final Color colour) {
-		if(colour==null) return Optional.empty();
-		String name = nameColourHT.get(colour);
-		if(name==null) name = userNameColourHT.get(colour);
-		return Optional.ofNullable(name);
+		return userColours.getColourName(colour);
 	}
 
 
@@ -426,10 +437,7 @@ public final class DviPsColors  {
 	 * @return The colour, null if the name is invalid of do not correspond at any colour.
 	 */
 	public Optional<Color> getColour(final String name) {
-		if(name==null) return Optional.empty();
-		Color c = userColourHT.get(name);
-		if(c==null) c = colourHT.get(name);
-		return Optional.ofNullable(c);
+		return userColours.getColour(name);
 	}
 
 
@@ -439,10 +447,7 @@ public final class DviPsColors  {
 	 * @return The name of this colour.
 	 */
 	public Optional<String> addUserColour(final Color colour) {
-		if(colour==null) return Optional.empty();
-		final String name = generateColourName();
-		addUserColour(colour, name);
-		return Optional.of(name);
+		return userColours.addUserColour(colour);
 	}
 
 
@@ -452,36 +457,30 @@ public final class DviPsColors  {
 	 * @param name The name of the colour.
 	 */
 	public void addUserColour(final Color colour, final String name) {
-		if(colour!=null && name!=null && !name.isEmpty()) {
-			userColourHT.put(name, colour);
-			userNameColourHT.put(colour, name);
-		}
+		userColours.addUserColour(colour, name);
 	}
 
 
 	/**
-	 * @return A unique name for a user defined colour.
-	 * @since 3.0
+	 * Allows to get the PSTricks code of a given colour.
+	 * @param colourName The name of the colour used to generate the code.
+	 * @return The code of the colour or an empty string if the given colour is not valid.
 	 */
-	private String generateColourName() {
-		return "colour" + ctColours++; //$NON-NLS-1$
+	public String getUsercolourCode(final String colourName) {
+		return userColours.getUsercolourCode(colourName);
 	}
 
 
 	/**
-	 * Allows to get the PSTricks code of a given colour.
-	 * @param colourName The name of the colour used to generate the code.
-	 * @return The code of the colour or an empty string if the given colour is not valid.
+	 * Allows to get the PSTricks code that defines a colour.
+	 * @param colourName The name of the colour.
+	 * @param col The colour.
+	 * @return The definecolor command of the colour.
+	 * @since 4.0
 	 */
-	public String getUsercolourCode(final String colourName) {
-		final Optional<Color> colour = getColour(colourName);
-
-		if(colour.isPresent()) {
-			final Color col = colour.get();
-			return "\\definecolor{" + colourName + "}{rgb}{" + //$NON-NLS-1$ //$NON-NLS-2$
-				(float)(col.getR()/255.) + ',' + (float)(col.getG()/255.) + ',' + (float)(col.getB()/255.) + "}\n";
-		}
-		return "";
+	public static String getColourCode(final String colourName, final Color col) {
+		return "\\definecolor{" + colourName + "}{rgb}{" + //$NON-NLS-1$ //$NON-NLS-2$
+			(float)(col.getR()/255.) + ',' + (float)(col.getG()/255.) + ',' + (float)(col.getB()/255.) + "}\n";
 	}
 
 
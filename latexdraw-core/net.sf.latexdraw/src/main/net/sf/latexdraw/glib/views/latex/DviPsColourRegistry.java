@@ -0,0 +1,205 @@
+package net.sf.latexdraw.glib.views.latex;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sf.latexdraw.glib.models.interfaces.shape.Color;
+
+/**
+ * A registry of user colours: the colours that are not predefined by DviPsColors and that
+ * are defined in the PSTricks code using \definecolor. A registry is dedicated to a drawing or
+ * an export session, so that several drawings can be exported concurrently.<br>
+ * The name of a generated colour only depends on the colour (e.g. colourff8000ff), so the generated
+ * code does not depend on the order in which the colours are met. The registry is thread-safe and
+ * its \definecolor commands are computed once.<br>
+ *<br>
+ * This file is part of LaTeXDraw<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+public final class DviPsColourRegistry {
+	/** The prefix of the names of the generated colours. */
+	private static final String COLOUR_PREFIX = "colour"; //$NON-NLS-1$
+
+	/** The user colours by name. */
+	private final Map<String, Color> colours;
+
+	/** The names of the user colours. */
+	private final Map<Color, String> names;
+
+	/** The \definecolor commands of the user colours, by name. */
+	private final Map<String, String> codes;
+
+	/** The registry whose colours are also looked up (e.g. the colours defined by the parsed code). Can be null. */
+	private final DviPsColourRegistry parent;
+
+
+	/**
+	 * Creates an empty registry.
+	 */
+	public DviPsColourRegistry() {
+		this(null);
+	}
+
+
+	/**
+	 * Creates an empty registry.
+	 * @param parent The registry whose colours are also looked up by this registry. The colours
+	 * added to this registry are not added to the parent. Can be null.
+	 */
+	public DviPsColourRegistry(final DviPsColourRegistry parent) {
+		super();
+		this.parent = parent;
+		colours = new ConcurrentHashMap<>();
+		names = new ConcurrentHashMap<>();
+		codes = new ConcurrentHashMap<>();
+	}
+
+
+	/**
+	 * @param name The name of the wanted colour.
+	 * @return The user colour that has this name or the predefined colour that has this name.
+	 */
+	public Optional<Color> getColour(final String name) {
+		if(name==null) return Optional.empty();
+		final Color colour = getUserColour(name);
+		return colour==null ? DviPsColors.INSTANCE.getPredefinedColour(name) : Optional.of(colour);
+	}
+
+
+	/**
+	 * @param colour The colour which name is looking for.
+	 * @return The name of the predefined colour or of the user colour that corresponds to the given colour.
+	 */
+	public Optional<String> getColourName(final Color colour) {
+		if(colour==null) return Optional.empty();
+		final Optional<String> name = DviPsColors.INSTANCE.getPredefinedColourName(colour);
+		return name.isPresent() ? name : Optional.ofNullable(getUserColourName(colour));
+	}
+
+
+	/**
+	 * Gives the name of the given colour. If the colour is not defined yet, it is added to the
+	 * registry with a name computed from the colour.
+	 * @param colour The colour to add.
+	 * @return The name of this colour.
+	 */
+	public Optional<String> addUserColour(final Color colour) {
+		if(colour==null) return Optional.empty();
+		final Optional<String> name = getColourName(colour);
+		return name.isPresent() ? name : Optional.of(names.computeIfAbsent(colour, this::registerColour));
+	}
+
+
+	/**
+	 * Adds a colour defined by the user.
+	 * @param colour The colour to add.
+	 * @param name The name of the colour.
+	 */
+	public void addUserColour(final Color colour, final String name) {
+		if(colour!=null && name!=null && !name.isEmpty()) {
+			final Color previous = colours.put(name, colour);
+			if(previous!=null && !previous.equals(colour)) {
+				names.remove(previous, name);
+				codes.remove(name);
+			}
+			names.put(colour, name);
+		}
+	}
+
+
+	/**
+	 * @param colourName The name of the colour used to generate the code.
+	 * @return The \definecolor command of the given colour or an empty string if the colour is not defined.
+	 */
+	public String getUsercolourCode(final String colourName) {
+		if(colourName==null) return ""; //$NON-NLS-1$
+		final String code = codes.get(colourName);
+		if(code!=null) return code;
+
+		final Optional<Color> colour = getColour(colourName);
+		if(!colour.isPresent()) return ""; //$NON-NLS-1$
+
+		final String newCode = DviPsColors.getColourCode(colourName, colour.get());
+		// Only the codes of the own colours are cached: the colours of the parent may change.
+		if(colours.get(colourName)==colour.get())
+			codes.put(colourName, newCode);
+		return newCode;
+	}
+
+
+	/**
+	 * @return The colours added to this registry (not those of its parent), by name.
+	 */
+	public Map<String, Color> getUserColours() {
+		return Collections.unmodifiableMap(colours);
+	}
+
+
+	/**
+	 * Removes the colours added to this registry.
+	 */
+	public void clear() {
+		colours.clear();
+		names.clear();
+		codes.clear();
+	}
+
+
+	private Color getUserColour(final String name) {
+		final Color colour = colours.get(name);
+		if(colour!=null || parent==null) return colour;
+		return parent.getUserColour(name);
+	}
+
+
+	private String getUserColourName(final Color colour) {
+		final String name = names.get(colour);
+		if(name!=null || parent==null) return name;
+		return parent.getUserColourName(colour);
+	}
+
+
+	/**
+	 * Adds the given colour using a name computed from its channels; a suffix is added if
+	 * another colour already has this name.
+	 */
+	private String registerColour(final Color colour) {
+		final String base = COLOUR_PREFIX + String.format("%02x%02x%02x%02x", toByte(colour.getR()), toByte(colour.getG()), //$NON-NLS-1$
+						toByte(colour.getB()), toByte(colour.getO()));
+		String name = base;
+		int suffix = 0;
+
+		while(!isNameAvailable(name, colour))
+			name = base + 'x' + suffix++;
+
+		return name;
+	}
+
+
+	private boolean isNameAvailable(final String name, final Color colour) {
+		if(DviPsColors.INSTANCE.getPredefinedColour(name).isPresent()) return false;
+		final Color inParent = parent==null ? null : parent.getUserColour(name);
+		if(inParent!=null && !inParent.equals(colour)) return false;
+		final Color previous = colours.putIfAbsent(name, colour);
+		return previous==null || previous.equals(colour);
+	}
+
+
+	private static int toByte(final double channel) {
+		return (int)Math.round(channel*255.0);
+	}
+}
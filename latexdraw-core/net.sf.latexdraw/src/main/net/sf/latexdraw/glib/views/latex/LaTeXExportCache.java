@@ -0,0 +1,326 @@
+package net.sf.latexdraw.glib.views.latex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import net.sf.latexdraw.badaboom.BadaboomCollector;
+import net.sf.latexdraw.util.LPath;
+import net.sf.latexdraw.util.LSystem;
+
+/**
+ * An on-disk cache of the documents produced by the latex tool chain (PS, EPS, PDF).<br>
+ * An entry is identified by a key computed from everything the produced document depends on:
+ * the latex document, the versions of the tools and their options. The entries are stored
+ * in a directory whose size is bounded: the least recently used entries are removed first.<br>
+ * <br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ * <br>
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later version.
+ * <br>
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.<br>
+ * <br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+public final class LaTeXExportCache {
+	/** The maximal size of the default cache (in bytes). */
+	public static final long DEFAULT_MAX_SIZE = 100L * 1024L * 1024L;
+
+	/** The cache used by the latex generator. */
+	public static final LaTeXExportCache INSTANCE = new LaTeXExportCache(new File(LPath.PATH_CACHE_DIR, "export"), DEFAULT_MAX_SIZE); //$NON-NLS-1$
+
+	/** The directory that contains the entries. */
+	private final File directory;
+
+	/** The maximal size of the entries (in bytes). */
+	private final long maxSize;
+
+	/** The sizes of the entries, from the least recently used one. Null until the directory is read. */
+	private LinkedHashMap<String, Long> entries;
+
+	/** The sum of the sizes of the entries. */
+	private long size;
+
+	private long hits;
+
+	private long misses;
+
+	/** The versions of the tools, computed once per execution. */
+	private final Map<String, String> versions;
+
+
+	/**
+	 * Creates a cache.
+	 * @param directory The directory that contains the entries. It is created if it does not exist.
+	 * @param maxSize The maximal size of the entries (in bytes).
+	 * @throws IllegalArgumentException If the directory is null or the size is not positive.
+	 */
+	public LaTeXExportCache(final File directory, final long maxSize) {
+		super();
+		if(directory==null || maxSize<=0L)
+			throw new IllegalArgumentException();
+		this.directory = directory;
+		this.maxSize = maxSize;
+		versions = new ConcurrentHashMap<>();
+	}
+
+
+	/**
+	 * Computes the key of an entry.
+	 * @param parts What the cached document depends on (format, latex document, versions, options).
+	 * @return The key (a SHA-256 hexadecimal digest).
+	 */
+	public static String createKey(final String... parts) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			final StringBuilder key = new StringBuilder();
+
+			for(final String part : parts) {
+				if(part!=null)
+					digest.update(part.getBytes(StandardCharsets.UTF_8));
+				// Separates the parts so that moving characters from a part to another changes the key.
+				digest.update((byte)0);
+			}
+
+			for(final byte b : digest.digest())
+				key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+			return key.toString();
+		}catch(final NoSuchAlgorithmException ex) {
+			// SHA-256 is provided by every Java platform.
+			throw new IllegalStateException(ex);
+		}
+	}
+
+
+	/**
+	 * @param binPath The path of a binary of the tool chain.
+	 * @return The version of the binary (the output of the --version option), computed once per execution.
+	 */
+	public String getToolVersion(final String binPath) {
+		if(binPath==null)
+			return ""; //$NON-NLS-1$
+		return versions.computeIfAbsent(binPath, bin -> {
+			final String version = LSystem.INSTANCE.execute(new String[] {bin, "--version"}, null); //$NON-NLS-1$
+			return version==null ? "" : version; //$NON-NLS-1$
+		});
+	}
+
+
+	/**
+	 * Copies the cached document of the given key to the target file, or produces (and caches) the document
+	 * if there is no such entry.
+	 * @param key The key of the document (see createKey).
+	 * @param target The file where the cached document is copied.
+	 * @param producer Produces the document on a cache miss. It returns the produced file or null.
+	 * @return The target file on a cache hit, the produced file otherwise.
+	 */
+	public File getOrCreate(final String key, final File target, final Supplier<File> producer) {
+		if(fetch(key, target))
+			return target;
+
+		final File created = producer.get();
+
+		if(created!=null && created.isFile())
+			store(key, created);
+
+		return created;
+	}
+
+
+	/**
+	 * Copies the cached document of the given key to the target file.
+	 * @param key The key of the document (see createKey).
+	 * @param target The file where the cached document is copied.
+	 * @return True if the document was in the cache and has been copied.
+	 */
+	public synchronized boolean fetch(final String key, final File target) {
+		if(key==null || target==null || !getEntries().containsKey(key)) {
+			misses++;
+			return false;
+		}
+
+		final File file = new File(directory, key);
+
+		try {
+			Files.copy(file.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}catch(final IOException ex) {
+			// The entry has been removed or damaged: it is forgotten.
+			BadaboomCollector.INSTANCE.add(ex);
+			remove(key);
+			misses++;
+			return false;
+		}
+
+		// The last modification date keeps the LRU order between two executions.
+		file.setLastModified(System.currentTimeMillis());
+		entries.get(key);
+		hits++;
+		return true;
+	}
+
+
+	/**
+	 * Adds a document to the cache. The least recently used entries are removed if the cache is full.
+	 * Nothing is done if the document is larger than the cache.
+	 * @param key The key of the document (see createKey).
+	 * @param document The file to cache.
+	 */
+	public synchronized void store(final String key, final File document) {
+		if(key==null || document==null || !document.isFile() || document.length()>maxSize)
+			return;
+
+		final File file = new File(directory, key);
+		final File tmp = new File(directory, key + ".tmp"); //$NON-NLS-1$
+
+		getEntries();
+		remove(key);
+
+		try {
+			Files.createDirectories(directory.toPath());
+			Files.copy(document.toPath(), tmp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}catch(final IOException ex) {
+			BadaboomCollector.INSTANCE.add(ex);
+			tmp.delete();
+			return;
+		}
+
+		final long length = file.length();
+		entries.put(key, length);
+		size += length;
+		evict();
+	}
+
+
+	/**
+	 * Removes all the entries of the cache.
+	 */
+	public synchronized void clear() {
+		for(final String key : getEntries().keySet())
+			new File(directory, key).delete();
+		entries.clear();
+		size = 0L;
+	}
+
+
+	/**
+	 * Resets the numbers of hits and misses.
+	 */
+	public synchronized void resetStatistics() {
+		hits = 0L;
+		misses = 0L;
+	}
+
+
+	/**
+	 * @return The number of fetched documents that were in the cache.
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+
+	/**
+	 * @return The number of fetched documents that were not in the cache.
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+
+	/**
+	 * @return The number of entries.
+	 */
+	public synchronized int getEntryCount() {
+		return getEntries().size();
+	}
+
+
+	/**
+	 * @return The sum of the sizes of the entries (in bytes).
+	 */
+	public synchronized long getSize() {
+		getEntries();
+		return size;
+	}
+
+
+	/**
+	 * @return The maximal size of the entries (in bytes).
+	 */
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+
+	/**
+	 * @return The directory that contains the entries.
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+
+	/**
+	 * @return The entries, read from the directory the first time (from the least recently modified one).
+	 */
+	private Map<String, Long> getEntries() {
+		if(entries==null) {
+			entries = new LinkedHashMap<>(16, 0.75f, true);
+			size = 0L;
+			final File[] files = directory.listFiles(file -> file.isFile() && !file.getName().endsWith(".tmp")); //$NON-NLS-1$
+
+			if(files!=null) {
+				Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+				for(final File file : files) {
+					entries.put(file.getName(), file.length());
+					size += file.length();
+				}
+				evict();
+			}
+		}
+		return entries;
+	}
+
+
+	private void remove(final String key) {
+		final Long length = entries.remove(key);
+		if(length!=null) {
+			size -= length;
+			new File(directory, key).delete();
+		}
+	}
+
+
+	/**
+	 * Removes the least recently used entries until the size of the cache is lower than its maximal size.
+	 */
+	private void evict() {
+		final Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+
+		while(size>maxSize && it.hasNext()) {
+			final Map.Entry<String, Long> entry = it.next();
+			size -= entry.getValue();
+			new File(directory, entry.getKey()).delete();
+			it.remove();
+		}
+	}
+}
@@ -5,6 +5,7 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.util.concurrent.ForkJoinPool;
 
 import net.sf.latexdraw.badaboom.BadaboomCollector;
 import net.sf.latexdraw.filters.EPSFilter;
@@ -24,7 +25,8 @@ import org.malai.mapping.IUnary;
 import org.malai.properties.Modifiable;
 
 /**
- * Defines an abstract LaTeX generator.<br>
+ * Defines an abstract LaTeX generator. The PS, EPS and PDF documents produced by the latex
+ * tool chain are cached (see LaTeXExportCache).<br>
  * <br>
  * This file is part of LaTeXDraw.<br>
  * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
@@ -335,7 +337,7 @@ public abstract class LaTeXGenerator implements Modifiable {
 	 * @since 3.0
 	 */
 	public static String getLatexDrawing(final PSTCodeGenerator pstGen) {
-		pstGen.updateFull();
+		pstGen.updateFull(ForkJoinPool.commonPool());
 		return pstGen.getCache().toString();
 	}
 
@@ -363,7 +365,7 @@ public abstract class LaTeXGenerator implements Modifiable {
 			tr.setY(0.0);
 		}
 
-		pstGen.updateFull();
+		pstGen.updateFull(ForkJoinPool.commonPool());
 		doc.append("\\documentclass{article}").append(LResources.EOL).append("\\pagestyle{empty}").append(LResources.EOL).append(getPackages()).append(LResources.EOL).append( //$NON-NLS-1$ //$NON-NLS-2$
 		"\\usepackage[left=0cm,top=0.1cm,right=0cm,bottom=0cm,nohead,nofoot,paperwidth=").append( //$NON-NLS-1$
 		tr.getX()/ppc*scale).append("cm,paperheight=").append( //$NON-NLS-1$
@@ -393,13 +395,23 @@ public abstract class LaTeXGenerator implements Modifiable {
 	public static File createLatexFile(final IDrawing drawing, final String pathExportTex, final ViewsSynchroniserHandler synchronizer, final PSTCodeGenerator pstGen) {
 		if(drawing==null || pathExportTex==null)
 			return null;
+		return createLatexFile(getLatexDocument(drawing, synchronizer, pstGen), pathExportTex);
+	}
+
 
+	/**
+	 * Creates a latex file that contains the given latex document.
+	 * @param latexDoc The latex document.
+	 * @param pathExportTex The location where the file must be created.
+	 * @return The latex file or null.
+	 */
+	private static File createLatexFile(final String latexDoc, final String pathExportTex) {
 		boolean ok = true;
 
 		try {
 			try(FileOutputStream fos = new FileOutputStream(pathExportTex);
 				OutputStreamWriter osw = new OutputStreamWriter(fos)){
-				osw.append(getLatexDocument(drawing, synchronizer, pstGen));
+				osw.append(latexDoc);
 			}
 		} catch(final IOException ex) { ok = false; }
 
@@ -407,6 +419,19 @@ public abstract class LaTeXGenerator implements Modifiable {
 	}
 
 
+	/**
+	 * @return The size of the page given to dvips.
+	 */
+	private static String getDvipsPaperSize(final ViewsSynchroniserHandler synchronizer, final PSTCodeGenerator pstGen) {
+		final float scale	= (float)pstGen.getScale();
+		final IPoint tr		= synchronizer.getTopRightDrawingPoint();
+		final IPoint bl		= synchronizer.getBottomLeftDrawingPoint();
+		final int ppc			= synchronizer.getPPCDrawing();
+		final float dec		= 0.2f;
+		return (tr.getX()-bl.getX())/ppc*scale+dec+"cm,"+((bl.getY()-tr.getY())/ppc*scale+dec)+"cm"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+
 
 	/**
 	 * Create a .ps file that corresponds to the compiled latex document containing
@@ -433,15 +458,42 @@ public abstract class LaTeXGenerator implements Modifiable {
 	 * @since 3.0
 	 */
 	public static File createEPSFile(final IDrawing drawing, final String pathExportEPS, final ViewsSynchroniserHandler synchronizer, final PSTCodeGenerator pstGen){
+		if(drawing==null || pathExportEPS==null || synchronizer==null)
+			return null;
+
+		final String latexDoc = getLatexDocument(drawing, synchronizer, pstGen);
+		final OperatingSystem os = LSystem.INSTANCE.getSystem();
+		final LaTeXExportCache cache = LaTeXExportCache.INSTANCE;
+		final String key = LaTeXExportCache.createKey(EPSFilter.EPS_EXTENSION, latexDoc, getDvipsPaperSize(synchronizer, pstGen),
+				cache.getToolVersion(os.getLatexBinPath()), cache.getToolVersion(os.getDvipsBinPath()), cache.getToolVersion(os.getPS2EPSBinPath()));
+
+		return cache.getOrCreate(key, new File(pathExportEPS), () -> compileEPSFile(latexDoc, pathExportEPS, synchronizer, pstGen));
+	}
+
+
+	/**
+	 * Compiles the given latex document into an .eps file.
+	 */
+	private static File compileEPSFile(final String latexDoc, final String pathExportEPS, final ViewsSynchroniserHandler synchronizer, final PSTCodeGenerator pstGen) {
 		final File tmpDir = LFileUtils.INSTANCE.createTempDir();
-		final File psFile = createPSFile(drawing, tmpDir.getAbsolutePath() + LResources.FILE_SEP + "tmpPSFile.ps", synchronizer, tmpDir, pstGen); //$NON-NLS-1$
+
+		if(tmpDir==null) {
+			BadaboomCollector.INSTANCE.add(new FileNotFoundException("Cannot create a temporary folder.")); //$NON-NLS-1$
+			return null;
+		}
+
+		final File psFile = compilePSFile(latexDoc, tmpDir.getAbsolutePath() + LResources.FILE_SEP + "tmpPSFile.ps", synchronizer, tmpDir, pstGen); //$NON-NLS-1$
+
+		if(psFile==null)
+			return null;
+
 		final File finalFile = new File(pathExportEPS);
 		final File fileEPS = new File(psFile.getAbsolutePath().replace(".ps", EPSFilter.EPS_EXTENSION)); //$NON-NLS-1$
 		final String[] paramsLatex = {LSystem.INSTANCE.getSystem().getPS2EPSBinPath(), psFile.getAbsolutePath(), fileEPS.getAbsolutePath()};
 
 		final String log = LSystem.INSTANCE.execute(paramsLatex, tmpDir);
 		if(!fileEPS.exists()) {
-			BadaboomCollector.INSTANCE.add(new IllegalAccessException(getLatexDocument(drawing, synchronizer, pstGen) + LResources.EOL + log));
+			BadaboomCollector.INSTANCE.add(new IllegalAccessException(latexDoc + LResources.EOL + log));
 			return null;
 		}
 		LFileUtils.INSTANCE.copy(fileEPS, finalFile);
@@ -469,13 +521,27 @@ public abstract class LaTeXGenerator implements Modifiable {
 	 */
 	public static File createPSFile(final IDrawing drawing, final String pathExportPs, final ViewsSynchroniserHandler synchronizer, final File tmpDir,
 			final PSTCodeGenerator pstGen) {
-		if(pathExportPs==null)
+		if(drawing==null || pathExportPs==null || synchronizer==null)
 			return null;
 
+		final String latexDoc = getLatexDocument(drawing, synchronizer, pstGen);
+		final OperatingSystem os = LSystem.INSTANCE.getSystem();
+		final LaTeXExportCache cache = LaTeXExportCache.INSTANCE;
+		final String key = LaTeXExportCache.createKey(".ps", latexDoc, getDvipsPaperSize(synchronizer, pstGen), //$NON-NLS-1$
+				cache.getToolVersion(os.getLatexBinPath()), cache.getToolVersion(os.getDvipsBinPath()));
+
+		return cache.getOrCreate(key, new File(pathExportPs), () -> compilePSFile(latexDoc, pathExportPs, synchronizer, tmpDir, pstGen));
+	}
+
+
+	/**
+	 * Compiles the given latex document into a .ps file.
+	 */
+	private static File compilePSFile(final String latexDoc, final String pathExportPs, final ViewsSynchroniserHandler synchronizer, final File tmpDir,
+			final PSTCodeGenerator pstGen) {
 		final int lastSep			= pathExportPs.lastIndexOf(LResources.FILE_SEP)+1;
 		final String name			= pathExportPs.substring(lastSep==-1 ? 0 : lastSep, pathExportPs.lastIndexOf(".ps")); //$NON-NLS-1$
 		final File tmpDir2		= tmpDir==null ? LFileUtils.INSTANCE.createTempDir() : tmpDir;
-		final float scale	= (float)pstGen.getScale();
 
 		if(tmpDir2==null) {
 			BadaboomCollector.INSTANCE.add(new FileNotFoundException("Cannot create a temporary folder.")); //$NON-NLS-1$
@@ -483,13 +549,9 @@ public abstract class LaTeXGenerator implements Modifiable {
 		}
 
 		final String path		= tmpDir2.getAbsolutePath() + LResources.FILE_SEP;
-		final File texFile    = createLatexFile(drawing, path + name + TeXFilter.TEX_EXTENSION, synchronizer, pstGen);
+		final File texFile    = createLatexFile(latexDoc, path + name + TeXFilter.TEX_EXTENSION);
 		String log;
 		File finalPS;
-		final IPoint tr		= synchronizer.getTopRightDrawingPoint();
-		final IPoint bl		= synchronizer.getBottomLeftDrawingPoint();
-		final int ppc			= synchronizer.getPPCDrawing();
-		final float dec		= 0.2f;
 		final OperatingSystem os = LSystem.INSTANCE.getSystem();
 
 		if(texFile==null || !texFile.exists())
@@ -502,8 +564,7 @@ public abstract class LaTeXGenerator implements Modifiable {
 		final boolean dviRenamed = dviFile.renameTo(new File(tmpDir2.getAbsolutePath() + LResources.FILE_SEP + name));
 
 		final String[] paramsDvi = {os.getDvipsBinPath(), "-Pdownload35", "-T", //$NON-NLS-1$ //$NON-NLS-2$
-				(tr.getX()-bl.getX())/ppc*scale+dec+"cm,"+((bl.getY()-tr.getY())/ppc*scale+dec)+"cm", //$NON-NLS-1$ //$NON-NLS-2$ 
-						name, "-o", pathExportPs}; //$NON-NLS-1$
+				getDvipsPaperSize(synchronizer, pstGen), name, "-o", pathExportPs}; //$NON-NLS-1$
 		log   += LSystem.INSTANCE.execute(paramsDvi, tmpDir2);
 
 		texFile.delete();
@@ -514,7 +575,7 @@ public abstract class LaTeXGenerator implements Modifiable {
 		finalPS = new File(pathExportPs);
 
 		if(!finalPS.exists()) {
-			BadaboomCollector.INSTANCE.add(new IllegalAccessException(getLatexDocument(drawing, synchronizer, pstGen) + LResources.EOL + log));
+			BadaboomCollector.INSTANCE.add(new IllegalAccessException(latexDoc + LResources.EOL + log));
 			finalPS = null;
 		}
 
@@ -539,9 +600,25 @@ public abstract class LaTeXGenerator implements Modifiable {
 	 */
 	public static File createPDFFile(final IDrawing drawing, final String pathExportPdf, final ViewsSynchroniserHandler synchronizer, final boolean crop,
 			final PSTCodeGenerator pstGen) {
-		if(pathExportPdf==null)
+		if(drawing==null || pathExportPdf==null || synchronizer==null)
 			return null;
 
+		final String latexDoc = getLatexDocument(drawing, synchronizer, pstGen);
+		final OperatingSystem os = LSystem.INSTANCE.getSystem();
+		final LaTeXExportCache cache = LaTeXExportCache.INSTANCE;
+		final String key = LaTeXExportCache.createKey(PDFFilter.PDF_EXTENSION, latexDoc, getDvipsPaperSize(synchronizer, pstGen), String.valueOf(crop),
+				cache.getToolVersion(os.getLatexBinPath()), cache.getToolVersion(os.getDvipsBinPath()), cache.getToolVersion(os.getPs2pdfBinPath()),
+				crop ? cache.getToolVersion(os.getPdfcropBinPath()) : ""); //$NON-NLS-1$
+
+		return cache.getOrCreate(key, new File(pathExportPdf), () -> compilePDFFile(latexDoc, pathExportPdf, synchronizer, crop, pstGen));
+	}
+
+
+	/**
+	 * Compiles the given latex document into a .pdf file.
+	 */
+	private static File compilePDFFile(final String latexDoc, final String pathExportPdf, final ViewsSynchroniserHandler synchronizer, final boolean crop,
+			final PSTCodeGenerator pstGen) {
 		final File tmpDir = LFileUtils.INSTANCE.createTempDir();
 
 		if(tmpDir==null) {
@@ -550,7 +627,7 @@ public abstract class LaTeXGenerator implements Modifiable {
 		}
 
 		final String name = pathExportPdf.substring(pathExportPdf.lastIndexOf(LResources.FILE_SEP)+1, pathExportPdf.lastIndexOf(PDFFilter.PDF_EXTENSION));
-		final File psFile = createPSFile(drawing, tmpDir.getAbsolutePath() + LResources.FILE_SEP + name + ".ps", synchronizer, tmpDir, pstGen); //$NON-NLS-1$
+		final File psFile = compilePSFile(latexDoc, tmpDir.getAbsolutePath() + LResources.FILE_SEP + name + ".ps", synchronizer, tmpDir, pstGen); //$NON-NLS-1$
 		String log;
 		File pdfFile;
 		final OperatingSystem os = LSystem.INSTANCE.getSystem();
@@ -579,7 +656,7 @@ public abstract class LaTeXGenerator implements Modifiable {
 		psFile.delete();
 
 		if(!pdfFile.exists()) {
-			BadaboomCollector.INSTANCE.add(new IllegalAccessException(getLatexDocument(drawing, synchronizer, pstGen) + LResources.EOL + log));
+			BadaboomCollector.INSTANCE.add(new IllegalAccessException(latexDoc + LResources.EOL + log));
 			pdfFile = null;
 		}
 
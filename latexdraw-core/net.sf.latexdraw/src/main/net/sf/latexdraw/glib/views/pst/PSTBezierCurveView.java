@@ -8,6 +8,7 @@ import net.sf.latexdraw.glib.models.GLibUtilities;
 import net.sf.latexdraw.glib.models.interfaces.shape.IBezierCurve;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
 import net.sf.latexdraw.util.LNumber;
+import net.sf.latexdraw.util.LNumberFormatter;
 
 /**
  * Defines a PSTricks view of the LBezierCurve model.<br>
@@ -66,13 +67,13 @@ class PSTBezierCurveView extends PSTClassicalView<IBezierCurve> {
 		if(size<2)
 			return ;
 
-		coord.append('(').append(LNumber.getCutNumberFloat((pts.get(0).getX()-originx)/ppc));
-		coord.append(',').append(LNumber.getCutNumberFloat((originy-pts.get(0).getY())/ppc));
-		coord.append(')').append('(').append(LNumber.getCutNumberFloat((fCtrlPts.get(0).getX()-originx)/ppc));
-		coord.append(',').append(LNumber.getCutNumberFloat((originy-fCtrlPts.get(0).getY())/ppc));
-		coord.append(')').append('(').append(LNumber.getCutNumberFloat((fCtrlPts.get(1).getX()-originx)/ppc));
-		coord.append(',').append(LNumber.getCutNumberFloat((originy-fCtrlPts.get(1).getY())/ppc));
-		coord.append(')').append('(').append(LNumber.getCutNumberFloat((pts.get(1).getX()-originx)/ppc));
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append('('), (pts.get(0).getX()-originx)/ppc);
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-pts.get(0).getY())/ppc);
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append(')').append('('), (fCtrlPts.get(0).getX()-originx)/ppc);
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-fCtrlPts.get(0).getY())/ppc);
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append(')').append('('), (fCtrlPts.get(1).getX()-originx)/ppc);
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-fCtrlPts.get(1).getY())/ppc);
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append(')').append('('), (pts.get(1).getX()-originx)/ppc);
 		coord.append(',').append(LNumber.getCutNumber((originy-pts.get(1).getY())/ppc));
 		coord.append(')');
 
@@ -80,30 +81,30 @@ class PSTBezierCurveView extends PSTClassicalView<IBezierCurve> {
 			ctrlPt1 = fCtrlPts.get(i);
 			ctrlPt2 = sCtrlPts.get(i-1);
 
-			coord.append('(').append(LNumber.getCutNumberFloat((ctrlPt2.getX()-originx)/ppc));
-			coord.append(',').append(LNumber.getCutNumberFloat((originy-ctrlPt2.getY())/ppc));
-			coord.append(')').append('(').append(LNumber.getCutNumberFloat((ctrlPt1.getX()-originx)/ppc));
-			coord.append(',').append(LNumber.getCutNumberFloat((originy-ctrlPt1.getY())/ppc));
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append('('), (ctrlPt2.getX()-originx)/ppc);
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-ctrlPt2.getY())/ppc);
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append(')').append('('), (ctrlPt1.getX()-originx)/ppc);
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-ctrlPt1.getY())/ppc);
 			coord.append(')').append('(');
 
 			pt = pts.get(i);
-			coord.append(LNumber.getCutNumberFloat((pt.getX()-originx)/ppc)).append(',');
-			coord.append(LNumber.getCutNumberFloat((originy-pt.getY())/ppc)).append(')');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (pt.getX()-originx)/ppc).append(',');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (originy-pt.getY())/ppc).append(')');
 		}
 
 		if(shape.isClosed()) {
 			ctrlPt1 = sCtrlPts.get(0);
 			ctrlPt2 = sCtrlPts.get(sCtrlPts.size()-1);
 
-			coord.append('(').append(LNumber.getCutNumberFloat((ctrlPt2.getX()-originx)/ppc));
-			coord.append(',').append(LNumber.getCutNumberFloat((originy-ctrlPt2.getY())/ppc));
-			coord.append(')').append('(').append(LNumber.getCutNumberFloat((ctrlPt1.getX()-originx)/ppc));
-			coord.append(',').append(LNumber.getCutNumberFloat((originy-ctrlPt1.getY())/ppc));
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append('('), (ctrlPt2.getX()-originx)/ppc);
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-ctrlPt2.getY())/ppc);
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append(')').append('('), (ctrlPt1.getX()-originx)/ppc);
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-ctrlPt1.getY())/ppc);
 			coord.append(')').append('(');
 
 			pt = pts.get(0);
-			coord.append(LNumber.getCutNumberFloat((pt.getX()-originx)/ppc)).append(',');
-			coord.append(LNumber.getCutNumberFloat((originy-pt.getY())/ppc)).append(')');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (pt.getX()-originx)/ppc).append(',');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (originy-pt.getY())/ppc).append(')');
 		}
 
 		cache.append("\\psbezier["); //$NON-NLS-1$
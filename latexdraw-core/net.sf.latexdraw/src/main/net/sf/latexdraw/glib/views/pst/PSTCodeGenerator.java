@@ -2,12 +2,14 @@ package net.sf.latexdraw.glib.views.pst;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.jdt.annotation.NonNull;
 
 import net.sf.latexdraw.glib.models.interfaces.shape.IDrawing;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
+import net.sf.latexdraw.glib.views.latex.DviPsColourRegistry;
 import net.sf.latexdraw.glib.views.latex.DviPsColors;
 import net.sf.latexdraw.glib.views.latex.LaTeXGenerator;
 import net.sf.latexdraw.glib.views.latex.VerticalPosition;
@@ -45,6 +47,9 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 	/** The PSTricks views. */
 	@NonNull protected final PSTViewsSynchroniser synchro;
 
+	/** The user colours of the generated code. They include the colours defined by the user (see DviPsColors). */
+	@NonNull protected final DviPsColourRegistry colours;
+
 	/** The code cache. */
 	@NonNull protected final StringBuilder cache;
 
@@ -73,7 +78,8 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 
 		this.withComments 	 	= withComments;
 		this.withLatexParams 	= withLatexParams;
-		synchro 				= new PSTViewsSynchroniser(handler, drawing);
+		colours					= new DviPsColourRegistry(DviPsColors.INSTANCE.getUserColours());
+		synchro 				= new PSTViewsSynchroniser(handler, drawing, colours);
 		cache   				= new StringBuilder();
 	}
 
@@ -89,6 +95,16 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 
 
 
+	/**
+	 * @return The registry of the user colours of the generated code.
+	 * @since 4.0
+	 */
+	@NonNull public DviPsColourRegistry getColourRegistry() {
+		return colours;
+	}
+
+
+
 	/**
 	 * @return the cache.
 	 * @since 3.0
@@ -194,7 +210,7 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 			for(final String nameColour : pstView.coloursName)
 				if(addedColours.get(nameColour)==null && !DviPsColors.INSTANCE.getPredefinedColour(nameColour).isPresent()) {
 					addedColours.put(nameColour, nameColour);
-					cache.append(DviPsColors.INSTANCE.getUsercolourCode(nameColour)).append(LResources.EOL);
+					cache.append(colours.getUsercolourCode(nameColour)).append(LResources.EOL);
 				}
 	}
 
@@ -220,6 +236,33 @@ public class PSTCodeGenerator extends LaTeXGenerator {
 	}
 
 
+	/**
+	 * Updates the cache of every shapes and those of this generator. The code of the shapes is
+	 * generated in parallel by the given pool and then merged in the order of the shapes: the
+	 * generated code is the same as the code generated by updateFull().
+	 * @param pool The pool that generates the code of the shapes.
+	 * @throws NullPointerException If the given pool is null.
+	 * @since 4.0
+	 */
+	public void updateFull(final ForkJoinPool pool) {
+		synchro.updateFull(pool);
+		update();
+	}
+
+
+	/**
+	 * Updates the cache of the shapes modified since the last update and those of this generator.
+	 * The code of the other shapes is reused: this update is dedicated to the frequent refreshes
+	 * of the code while the drawing is edited. A shape is considered as modified when one of its observable
+	 * properties, its points, its shapes or its modification count changed (see PSTShapeView.isDirty).
+	 * @since 4.0
+	 */
+	public void updateIncremental() {
+		synchro.updateDirty();
+		update();
+	}
+
+
 	/**
 	 * @return True: The latex parameters must be used by the generated code.
 	 * @since 3.0
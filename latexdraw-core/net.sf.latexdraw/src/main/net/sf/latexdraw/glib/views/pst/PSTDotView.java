@@ -6,6 +6,7 @@ import net.sf.latexdraw.glib.models.interfaces.shape.DotStyle;
 import net.sf.latexdraw.glib.models.interfaces.shape.IDot;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
 import net.sf.latexdraw.util.LNumber;
+import net.sf.latexdraw.util.LNumberFormatter;
 
 /**
  * Defines a PSTricks view of the LDot model.<br>
@@ -62,8 +63,8 @@ class PSTDotView extends PSTClassicalView<IDot> {
 		if(shape.isFillable())
 			cache.append(", fillcolor=").append(getColourName(shape.getFillingCol()));
 		cache.append(']').append('(');
-		cache.append(LNumber.getCutNumberFloat(x/ppc)).append(',');
-		cache.append(LNumber.getCutNumberFloat(y/ppc)).append(')');
+		LNumberFormatter.INSTANCE.appendCutFloat(cache, x/ppc).append(',');
+		LNumberFormatter.INSTANCE.appendCutFloat(cache, y/ppc).append(')');
 
 		if(rotation!=null)
 			cache.append('}');
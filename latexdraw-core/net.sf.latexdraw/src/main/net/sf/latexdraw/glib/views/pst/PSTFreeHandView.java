@@ -5,7 +5,7 @@ import java.util.List;
 import net.sf.latexdraw.glib.models.GLibUtilities;
 import net.sf.latexdraw.glib.models.interfaces.shape.IFreehand;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
-import net.sf.latexdraw.util.LNumber;
+import net.sf.latexdraw.util.LNumberFormatter;
 
 import org.eclipse.jdt.annotation.NonNull;
 
@@ -55,8 +55,8 @@ class PSTFreeHandView extends PSTClassicalView<IFreehand> {
         float midx=0;
         float midy=0;
 
-        coord.append("\\moveto(").append(LNumber.getCutNumberFloat(((curx-originx)/ppc)));//$NON-NLS-1$
-        coord.append(',').append(LNumber.getCutNumberFloat((originy-cury)/ppc)).append(')').append('\n');
+        LNumberFormatter.INSTANCE.appendCutFloat(coord.append("\\moveto("), (curx-originx)/ppc);//$NON-NLS-1$
+        LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-cury)/ppc).append(')').append('\n');
 
         if(pts.size()>interval) {
             prevx = curx;
@@ -66,8 +66,8 @@ class PSTFreeHandView extends PSTClassicalView<IFreehand> {
             midx = (curx + prevx) / 2.0f;
             midy = (cury + prevy) / 2.0f;
 
-            coord.append("\\lineto(").append(LNumber.getCutNumberFloat(((midx-originx)/ppc)));//$NON-NLS-1$
-            coord.append(',').append(LNumber.getCutNumberFloat((originy-midy)/ppc)).append(')').append('\n');
+            LNumberFormatter.INSTANCE.appendCutFloat(coord.append("\\lineto("), (midx-originx)/ppc);//$NON-NLS-1$
+            LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-midy)/ppc).append(')').append('\n');
         }
 
         for(i=interval*2; i<size; i+=interval) {
@@ -82,12 +82,12 @@ class PSTFreeHandView extends PSTClassicalView<IFreehand> {
 			final float x2 	= (prevx + midx) / 2.0f;
 			final float y2 	= (prevy + midy) / 2.0f;
 
-            coord.append("\\curveto(").append(LNumber.getCutNumberFloat((x1-originx)/ppc));//$NON-NLS-1$
-            coord.append(',').append(LNumber.getCutNumberFloat((originy-y1)/ppc)).append(')').append('(');
-            coord.append(LNumber.getCutNumberFloat((x2-originx)/ppc)).append(',');
-            coord.append(LNumber.getCutNumberFloat((originy-y2)/ppc)).append(')').append('(');
-            coord.append(LNumber.getCutNumberFloat((midx-originx)/ppc)).append(',');
-            coord.append(LNumber.getCutNumberFloat((originy-midy)/ppc)).append(')').append('\n');
+            LNumberFormatter.INSTANCE.appendCutFloat(coord.append("\\curveto("), (x1-originx)/ppc);//$NON-NLS-1$
+            LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-y1)/ppc).append(')').append('(');
+            LNumberFormatter.INSTANCE.appendCutFloat(coord, (x2-originx)/ppc).append(',');
+            LNumberFormatter.INSTANCE.appendCutFloat(coord, (originy-y2)/ppc).append(')').append('(');
+            LNumberFormatter.INSTANCE.appendCutFloat(coord, (midx-originx)/ppc).append(',');
+            LNumberFormatter.INSTANCE.appendCutFloat(coord, (originy-midy)/ppc).append(')').append('\n');
         }
 
         if(i-interval+1<size) {
@@ -103,12 +103,12 @@ class PSTFreeHandView extends PSTClassicalView<IFreehand> {
             final float y2 	= (prevy + midy) / 2.0f;
 
             coord.append("\\curveto("); //$NON-NLS-1$
-    		coord.append(LNumber.getCutNumberFloat((x1-originx)/ppc)).append(',');
-			coord.append(LNumber.getCutNumberFloat((originy-y1)/ppc)).append(')').append('(');
-			coord.append(LNumber.getCutNumberFloat((x2-originx)/ppc)).append(',');
-			coord.append(LNumber.getCutNumberFloat((originy-y2)/ppc)).append(')').append('(');
-			coord.append(LNumber.getCutNumberFloat((pts.get(pts.size()-1).getX()-originx)/ppc)).append(',');
-			coord.append(LNumber.getCutNumberFloat((originy-pts.get(pts.size()-1).getY())/ppc)).append(')').append('\n');
+    		LNumberFormatter.INSTANCE.appendCutFloat(coord, (x1-originx)/ppc).append(',');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (originy-y1)/ppc).append(')').append('(');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (x2-originx)/ppc).append(',');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (originy-y2)/ppc).append(')').append('(');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (pts.get(pts.size()-1).getX()-originx)/ppc).append(',');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (originy-pts.get(pts.size()-1).getY())/ppc).append(')').append('\n');
         }
 	}
 
@@ -123,19 +123,19 @@ class PSTFreeHandView extends PSTClassicalView<IFreehand> {
 		final int size = shape.getNbPoints();
 		final int interval = shape.getInterval();
 
-		coord.append("\\moveto(").append(LNumber.getCutNumberFloat((p.getX()-originx)/ppc));//$NON-NLS-1$
-		coord.append(',').append(LNumber.getCutNumberFloat((originy-p.getY())/ppc)).append(')').append('\n');
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append("\\moveto("), (p.getX()-originx)/ppc);//$NON-NLS-1$
+		LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-p.getY())/ppc).append(')').append('\n');
 
 		for(i=interval; i<size; i+=interval) {
 			p = pts.get(i);
-			coord.append("\\lineto(").append(LNumber.getCutNumberFloat((p.getX()-originx)/ppc));//$NON-NLS-1$
-			coord.append(',').append(LNumber.getCutNumberFloat((originy-p.getY())/ppc)).append(')').append('\n');
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append("\\lineto("), (p.getX()-originx)/ppc);//$NON-NLS-1$
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append(','), (originy-p.getY())/ppc).append(')').append('\n');
 		}
 
-		if(i-interval<size)
-			coord.append("\\lineto(").append(LNumber.getCutNumberFloat((pts.get(pts.size()-1).getX()-originx)/ppc)).append(//$NON-NLS-1$
-				',').append(LNumber.getCutNumberFloat((originy-pts.get(pts.size()-1).getY())/ppc)).append(')').append('\n');
-
+		if(i-interval<size) {
+			LNumberFormatter.INSTANCE.appendCutFloat(coord.append("\\lineto("), (pts.get(pts.size()-1).getX()-originx)/ppc).append(',');//$NON-NLS-1$
+			LNumberFormatter.INSTANCE.appendCutFloat(coord, (originy-pts.get(pts.size()-1).getY())/ppc).append(')').append('\n');
+		}
 	}
 
 
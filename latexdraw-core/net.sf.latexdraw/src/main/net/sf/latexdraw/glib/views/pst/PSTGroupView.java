@@ -5,6 +5,7 @@ import org.eclipse.jdt.annotation.NonNull;
 import net.sf.latexdraw.glib.models.GLibUtilities;
 import net.sf.latexdraw.glib.models.interfaces.shape.IGroup;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
+import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
 
 /**
  * Defines a PSTricks view of the LDrawing model.<br>
@@ -49,18 +50,29 @@ class PSTGroupView extends PSTShapeView<IGroup> {
 
 		int i;
         final int size 	= shape.size()-1;
-        PSTShapeView<?> pstView;
 
 		if(size>0) {
-			for(i=0; i<size; i++) {
-				pstView = PSTViewsFactory.INSTANCE.createView(shape.getShapeAt(i));
-				pstView.updateCache(origin, ppc);
-				cache.append(pstView.getCache()).append('\n');
-			}
-
-			pstView = PSTViewsFactory.INSTANCE.createView(shape.getShapeAt(i));
-			pstView.updateCache(origin, ppc);
-			cache.append(pstView.getCache());
+			for(i=0; i<size; i++)
+				cache.append(getShapeCode(shape.getShapeAt(i), origin, ppc)).append('\n');
+
+			cache.append(getShapeCode(shape.getShapeAt(i), origin, ppc));
 		}
 	}
+
+
+	/**
+	 * Generates the code of a shape of the group. The shape uses the colour registry of the group
+	 * and its colours are added to those of the group.
+	 */
+	private StringBuilder getShapeCode(final IShape sh, final IPoint origin, final float ppc) {
+		final PSTShapeView<?> pstView = PSTViewsFactory.INSTANCE.createView(sh);
+
+		pstView.setColourRegistry(colours);
+		pstView.updateCache(origin, ppc);
+
+		if(pstView.coloursName!=null)
+			pstView.coloursName.forEach(name -> addColour(name));
+
+		return pstView.getCache();
+	}
 }
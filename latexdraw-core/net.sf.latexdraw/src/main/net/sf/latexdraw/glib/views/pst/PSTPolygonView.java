@@ -5,7 +5,7 @@ import org.eclipse.jdt.annotation.NonNull;
 import net.sf.latexdraw.glib.models.GLibUtilities;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPolygon;
-import net.sf.latexdraw.util.LNumber;
+import net.sf.latexdraw.util.LNumberFormatter;
 
 /**
  * Defines a PSTricks view of the LPolygon model.<br>
@@ -55,8 +55,8 @@ class PSTPolygonView extends PSTClassicalView<IPolygon> {
 
 		for(i=0; i<size; i++) {
 			p = shape.getPtAt(i);
-			points.append('(').append(LNumber.getCutNumberFloat((p.getX()-position.getX())/ppc));
-			points.append(',').append(LNumber.getCutNumberFloat((position.getY()-p.getY())/ppc)).append(')');
+			LNumberFormatter.INSTANCE.appendCutFloat(points.append('('), (p.getX()-position.getX())/ppc);
+			LNumberFormatter.INSTANCE.appendCutFloat(points.append(','), (position.getY()-p.getY())/ppc).append(')');
 		}
 
 		return points;
@@ -2,21 +2,30 @@ package net.sf.latexdraw.glib.views.pst;
 
 import static java.lang.Math.toDegrees;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
 import org.eclipse.jdt.annotation.NonNull;
 
 import net.sf.latexdraw.glib.models.GLibUtilities;
+import net.sf.latexdraw.glib.models.interfaces.prop.ISetShapesProp;
 import net.sf.latexdraw.glib.models.interfaces.shape.ArrowStyle;
 import net.sf.latexdraw.glib.models.interfaces.shape.Color;
 import net.sf.latexdraw.glib.models.interfaces.shape.FillingStyle;
 import net.sf.latexdraw.glib.models.interfaces.shape.IArrow;
 import net.sf.latexdraw.glib.models.interfaces.shape.IArrowableShape;
+import net.sf.latexdraw.glib.models.interfaces.shape.IControlPointShape;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
+import net.sf.latexdraw.glib.models.interfaces.shape.ISingleShape;
 import net.sf.latexdraw.glib.views.AbstractCodeView;
-import net.sf.latexdraw.glib.views.latex.DviPsColors;
+import net.sf.latexdraw.glib.views.latex.DviPsColourRegistry;
 import net.sf.latexdraw.util.LNumber;
 
 /**
@@ -43,15 +52,181 @@ abstract class PSTShapeView<S extends IShape> extends AbstractCodeView<S> {
 	 * the code to define the colours in the latex document. */
 	protected Set<String> coloursName;
 
+	/** The registry that names the user colours used by the generated code. */
+	protected DviPsColourRegistry colours;
+
+	/** Defines if the cache must be updated: the shape has been modified since the last update of the cache. */
+	private boolean dirty;
+
+	/** Marks the view as dirty when an observed property of the shape changes. */
+	private final ChangeListener<Object> dirtyListener;
+
+	/** The properties listened by the view (null: the shape is not observed). */
+	private List<ObservableValue<?>> observed;
+
+	/** The number of points and shapes of the shape when its properties started to be observed. */
+	private int observedSize;
+
+	/** The modification count of the shape when the cache was updated (see IShape.getModificationCount). */
+	private long cachedModificationCount;
+
 
 	/**
-	 * Creates and initialises an abstract PSTricks view.
+	 * Creates and initialises an abstract PSTricks view. The view names its user colours using its own
+	 * registry until setColourRegistry is called.
 	 * @param model The model to view.
 	 * @throws IllegalArgumentException If the given model is not valid.
 	 * @since 3.0
 	 */
 	protected PSTShapeView(@NonNull final S model) {
 		super(model);
+		colours = new DviPsColourRegistry();
+		dirty = true;
+		dirtyListener = (obs, oldVal, newVal) -> dirty = true;
+	}
+
+
+	/**
+	 * Listens the properties of the shape to mark the cache as outdated when they change: the line and
+	 * filling properties and the coordinates of the points (the position, the points and the control points)
+	 * of the shape or of the shapes of the group. The changes of the other attributes of the shape are
+	 * detected using its modification count (see isDirty).
+	 * Must be followed by a call to dispose when the view is no more used.
+	 * @since 4.0
+	 */
+	public void observeShape() {
+		if(observed==null) {
+			observed = new ArrayList<>();
+			collectObservables(shape, observed);
+			observed.forEach(prop -> prop.addListener(dirtyListener));
+			observedSize = sizeOf(shape);
+		}
+	}
+
+
+	/**
+	 * @return True if the cache must be updated: the shape is not observed (see observeShape), an observed
+	 * property of the shape changed, points or shapes have been added or removed, the modification count of
+	 * the shape changed, or setDirty has been called since the last update of the cache (or the cache has
+	 * never been computed).
+	 * @since 4.0
+	 */
+	public boolean isDirty() {
+		return dirty || observed==null || observedSize!=sizeOf(shape) ||
+				cachedModificationCount!=shape.getModificationCount();
+	}
+
+
+	/**
+	 * Marks the cache as outdated.
+	 * @since 4.0
+	 */
+	public void setDirty() {
+		dirty = true;
+	}
+
+
+	/**
+	 * Updates the cache and marks it as up to date.
+	 * @param origin The origin point of the PST drawing.
+	 * @param ppc The number of point per centimetre.
+	 * @since 4.0
+	 */
+	public void refreshCache(final IPoint origin, final float ppc) {
+		// The added points and shapes must be observed as well.
+		if(observed!=null && observedSize!=sizeOf(shape)) {
+			dispose();
+			observeShape();
+		}
+		// Reset before the generation: a modification done meanwhile will be detected by the next update.
+		dirty = false;
+		cachedModificationCount = shape.getModificationCount();
+		updateCache(origin, ppc);
+	}
+
+
+	/**
+	 * Sets the registry that names the user colours used by the generated code.
+	 * @param registry The registry of the drawing or of the export session.
+	 * @throws NullPointerException If the given registry is null.
+	 * @since 4.0
+	 */
+	public void setColourRegistry(final DviPsColourRegistry registry) {
+		colours = Objects.requireNonNull(registry);
+	}
+
+
+	/**
+	 * Updates the cache if it is outdated (see isDirty).
+	 * @param origin The origin point of the PST drawing.
+	 * @param ppc The number of point per centimetre.
+	 * @return True if the cache has been updated.
+	 * @since 4.0
+	 */
+	public boolean refreshCacheIfDirty(final IPoint origin, final float ppc) {
+		if(isDirty()) {
+			refreshCache(origin, ppc);
+			return true;
+		}
+		return false;
+	}
+
+
+	/**
+	 * Stops listening the shape (see observeShape).
+	 * @since 4.0
+	 */
+	public void dispose() {
+		if(observed!=null) {
+			observed.forEach(prop -> prop.removeListener(dirtyListener));
+			observed = null;
+		}
+	}
+
+
+	private static void collectObservables(final IShape sh, final List<ObservableValue<?>> props) {
+		if(sh instanceof ISingleShape) {
+			final ISingleShape single = (ISingleShape)sh;
+			props.add(single.thicknessProperty());
+			props.add(single.linestyleProperty());
+			props.add(single.borderPosProperty());
+			props.add(single.lineColourProperty());
+			props.add(single.fillingProperty());
+		}
+
+		collectPoints(sh.getPoints(), props);
+
+		if(sh instanceof IControlPointShape) {
+			collectPoints(((IControlPointShape)sh).getFirstCtrlPts(), props);
+			collectPoints(((IControlPointShape)sh).getSecondCtrlPts(), props);
+		}
+
+		if(sh instanceof ISetShapesProp)
+			((ISetShapesProp)sh).getShapes().forEach(child -> collectObservables(child, props));
+	}
+
+
+	private static void collectPoints(final List<IPoint> pts, final List<ObservableValue<?>> props) {
+		if(pts!=null)
+			pts.forEach(pt -> {
+				props.add(pt.xProperty());
+				props.add(pt.yProperty());
+			});
+	}
+
+
+	/** @return The number of points and shapes of the given shape (its shapes are counted when it is a group). */
+	private static int sizeOf(final IShape sh) {
+		int size = sh.getPoints()==null ? 0 : sh.getPoints().size();
+
+		if(sh instanceof IControlPointShape)
+			size += ((IControlPointShape)sh).getFirstCtrlPts().size() + ((IControlPointShape)sh).getSecondCtrlPts().size();
+
+		if(sh instanceof ISetShapesProp)
+			for(final IShape child : ((ISetShapesProp)sh).getShapes())
+				size += 1 + sizeOf(child);
+
+		return size;
 	}
 
 
@@ -63,7 +238,7 @@ abstract class PSTShapeView<S extends IShape> extends AbstractCodeView<S> {
 	protected void addColour(final String name) {
 		if(name!=null) {
 			if(coloursName==null)
-				coloursName = new HashSet<>();
+				coloursName = new LinkedHashSet<>();
 			if(!coloursName.contains(name))
 				coloursName.add(name);
 		}
@@ -231,7 +406,7 @@ abstract class PSTShapeView<S extends IShape> extends AbstractCodeView<S> {
 	 * @since 3.0
 	 */
 	protected String getColourName(final Color colour) {
-		final String name = DviPsColors.INSTANCE.getColourName(colour).orElseGet(() -> DviPsColors.INSTANCE.addUserColour(colour).orElse(""));
+		final String name = colours.addUserColour(colour).orElse(""); //$NON-NLS-1$
 		addColour(name);
 		return name;
 	}
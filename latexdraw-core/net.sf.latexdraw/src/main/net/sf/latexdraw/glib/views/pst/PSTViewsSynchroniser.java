@@ -1,14 +1,35 @@
 package net.sf.latexdraw.glib.views.pst;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
 import net.sf.latexdraw.badaboom.BadaboomCollector;
+import net.sf.latexdraw.glib.models.ShapeFactory;
 import net.sf.latexdraw.glib.models.interfaces.shape.IDrawing;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
+import net.sf.latexdraw.glib.views.AbstractCodeView;
+import net.sf.latexdraw.glib.views.latex.DviPsColourRegistry;
 import net.sf.latexdraw.glib.views.synchroniser.ViewsSynchroniser;
 import net.sf.latexdraw.glib.views.synchroniser.ViewsSynchroniserHandler;
 
 /**
  * Defines a synchroniser between a sets of Java2D views and their
  * PSTricks views.<br>
+ * The views of the removed shapes are discarded. The caches of the views are updated
+ * incrementally by updateDirty: only the shapes that changed are processed again. For the exports,
+ * the caches of all the views can be updated in parallel. The views name their user colours using
+ * the colour registry of the synchroniser.<br>
  * <br>
  * This file is part of LaTeXDraw.<br>
  * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
@@ -26,27 +47,118 @@ import net.sf.latexdraw.glib.views.synchroniser.ViewsSynchroniserHandler;
  * @since 3.0
  */
 public class PSTViewsSynchroniser extends ViewsSynchroniser {
+	/** Discards the views of the shapes removed from the drawing. */
+	private final ListChangeListener<IShape> shapesListener;
+
+	/** The origin point used to compute the caches of the views (null: no cache computed yet). */
+	private IPoint cacheOrigin;
+
+	/** The PPC used to compute the caches of the views. */
+	private int cachePPC;
+
+	/** The registry that names the user colours of the views. */
+	private final DviPsColourRegistry colours;
+
+
 	/**
 	 * Creates and launches the synchronisation of the synchroniser.
 	 * @param drawing The shapes to synchronise.
 	 * @param h The object called for several operations needed by the synchroniser.
-	 * @since 3.0
+	 * @param colours The registry that names the user colours of the views.
+	 * @throws NullPointerException If one of the given parameters is null.
+	 * @since 4.0
 	 */
-	public PSTViewsSynchroniser(final ViewsSynchroniserHandler h, final IDrawing drawing) {
+	public PSTViewsSynchroniser(final ViewsSynchroniserHandler h, final IDrawing drawing, final DviPsColourRegistry colours) {
 		super(h, drawing);
+		this.colours = Objects.requireNonNull(colours);
 
+		shapesListener = (Change<? extends IShape> evt) -> {
+			while(evt.next())
+				if(evt.wasRemoved())
+					evt.getRemoved().forEach(sh -> removeView(sh));
+		};
+		observeDrawing();
 		synchronise();
 	}
 
 
+	@SuppressWarnings("unchecked")
+	private void observeDrawing() {
+		if(drawing.getShapes() instanceof ObservableList)
+			((ObservableList<IShape>)drawing.getShapes()).addListener(shapesListener);
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private void unobserveDrawing() {
+		if(drawing.getShapes() instanceof ObservableList)
+			((ObservableList<IShape>)drawing.getShapes()).removeListener(shapesListener);
+	}
+
+
+	private void removeView(final IShape shape) {
+		final AbstractCodeView<?> view = viewsCode.remove(shape);
+
+		if(view instanceof PSTShapeView<?>)
+			((PSTShapeView<?>)view).dispose();
+	}
+
+
+	/**
+	 * Removes the views whose shape is no more in the drawing (when the removals have not been notified).
+	 */
+	private void removeStaleViews() {
+		final Set<IShape> shapes = Collections.newSetFromMap(new IdentityHashMap<>());
+		shapes.addAll(drawing.getShapes());
+
+		for(final Iterator<Map.Entry<IShape, AbstractCodeView<?>>> it = viewsCode.entrySet().iterator(); it.hasNext();) {
+			final Map.Entry<IShape, AbstractCodeView<?>> entry = it.next();
+
+			if(!shapes.contains(entry.getKey())) {
+				if(entry.getValue() instanceof PSTShapeView<?>)
+					((PSTShapeView<?>)entry.getValue()).dispose();
+				it.remove();
+			}
+		}
+	}
+
+
+	@Override
+	public void setViews2D(final IDrawing newDrawing) {
+		if(newDrawing!=null && newDrawing!=drawing) {
+			unobserveDrawing();
+			viewsCode.values().forEach(view -> ((PSTShapeView<?>)view).dispose());
+			viewsCode.clear();
+			super.setViews2D(newDrawing);
+			observeDrawing();
+		}
+	}
+
 
 	@Override
 	public void synchronise() {
 		if(drawing.isEmpty()) {
+			viewsCode.values().forEach(view -> ((PSTShapeView<?>)view).dispose());
 			viewsCode.clear();
 			return ;
 		}
 
+		createMissingViews(true);
+
+		if(viewsCode.size()>drawing.size())
+			removeStaleViews();
+
+		if(viewsCode.size()<drawing.size())
+			BadaboomCollector.INSTANCE.add(new ArrayIndexOutOfBoundsException("Error during the synchronisation.")); //$NON-NLS-1$
+	}
+
+
+
+	/**
+	 * Creates the views of the shapes that have no view.
+	 * @param updateCaches True: the caches of the created views are updated.
+	 */
+	private void createMissingViews(final boolean updateCaches) {
 		PSTShapeView<?> pstView;
 
 		for(final IShape shape : drawing.getShapes())
@@ -54,13 +166,13 @@ public class PSTViewsSynchroniser extends ViewsSynchroniser {
 				pstView = PSTViewsFactory.INSTANCE.createView(shape);
 
 				if(pstView!=null) {
-					pstView.updateCache(handler.getOriginDrawingPoint(), handler.getPPCDrawing());
+					pstView.setColourRegistry(colours);
+					pstView.observeShape();
+					if(updateCaches)
+						pstView.refreshCache(handler.getOriginDrawingPoint(), handler.getPPCDrawing());
 					viewsCode.put(shape, pstView);
 				}
 			}
-
-		if(viewsCode.size()<drawing.size())
-			BadaboomCollector.INSTANCE.add(new ArrayIndexOutOfBoundsException("Error during the synchronisation.")); //$NON-NLS-1$
 	}
 
 
@@ -81,13 +193,14 @@ public class PSTViewsSynchroniser extends ViewsSynchroniser {
 
 	@Override
 	public boolean updateCode(final IShape view) {
-		if(view!=null && drawing.contains(view)) {
+		// The views of the removed shapes are discarded: a shape that has a view is in the drawing.
+		if(view!=null && (viewsCode.containsKey(view) || drawing.contains(view))) {
 			final PSTShapeView<?> pst = getView(view);
 
 			if(pst==null)
 				synchronise();
 			else
-				pst.updateCache(handler.getOriginDrawingPoint(), handler.getPPCDrawing());
+				pst.refreshCache(handler.getOriginDrawingPoint(), handler.getPPCDrawing());
 
 			return true;
 		}
@@ -104,7 +217,79 @@ public class PSTViewsSynchroniser extends ViewsSynchroniser {
 	public void updateFull() {
 		synchronise();
 
-		for(final IShape shape : drawing.getShapes())
-			updateCode(shape);
+		final IPoint origin = handler.getOriginDrawingPoint();
+		final int ppc = handler.getPPCDrawing();
+
+		for(final IShape shape : drawing.getShapes()) {
+			final PSTShapeView<?> pst = getView(shape);
+			if(pst!=null)
+				pst.refreshCache(origin, ppc);
+		}
+
+		cacheOrigin = ShapeFactory.createPoint(origin);
+		cachePPC = ppc;
+	}
+
+
+	/**
+	 * @return The registry that names the user colours of the views.
+	 * @since 4.0
+	 */
+	public DviPsColourRegistry getColourRegistry() {
+		return colours;
+	}
+
+
+	/**
+	 * Updates the cache of every shapes, the shapes being processed in parallel by the given pool.
+	 * The views only depend on their shape: the names of the user colours only depend on the colours
+	 * and the colour registry is thread-safe. So, the generated code is the same as the code generated by updateFull.
+	 * @param pool The pool that updates the caches.
+	 * @throws NullPointerException If the given pool is null.
+	 * @since 4.0
+	 */
+	public void updateFull(final ForkJoinPool pool) {
+		if(drawing.isEmpty()) {
+			synchronise();
+			return;
+		}
+
+		createMissingViews(false);
+		if(viewsCode.size()>drawing.size())
+			removeStaleViews();
+
+		final IPoint origin = handler.getOriginDrawingPoint();
+		final int ppc = handler.getPPCDrawing();
+		final PSTShapeView<?>[] views = drawing.getShapes().stream().map(sh -> getView(sh)).toArray(PSTShapeView<?>[]::new);
+
+		pool.submit(() -> Arrays.stream(views).parallel().filter(Objects::nonNull).forEach(view ->
+			view.refreshCache(origin, ppc))).join();
+
+		cacheOrigin = ShapeFactory.createPoint(origin);
+		cachePPC = ppc;
+	}
+
+
+	/**
+	 * Updates the cache of the shapes modified since the last update (see PSTShapeView.isDirty).
+	 * Every cache is updated if the origin or the PPC of the drawing changed.
+	 * @since 4.0
+	 */
+	public void updateDirty() {
+		final IPoint origin = handler.getOriginDrawingPoint();
+		final int ppc = handler.getPPCDrawing();
+
+		if(cacheOrigin==null || ppc!=cachePPC || !cacheOrigin.equals(origin)) {
+			updateFull();
+			return;
+		}
+
+		synchronise();
+
+		for(final IShape shape : drawing.getShapes()) {
+			final PSTShapeView<?> pst = getView(shape);
+			if(pst!=null)
+				pst.refreshCacheIfDirty(origin, ppc);
+		}
 	}
 }
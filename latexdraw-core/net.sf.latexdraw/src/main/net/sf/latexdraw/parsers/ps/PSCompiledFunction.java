@@ -0,0 +1,248 @@
+package net.sf.latexdraw.parsers.ps;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.sf.latexdraw.util.LNumber;
+
+/**
+ * A post-fixed postscript function compiled into an array of opcodes evaluated on a stack of
+ * primitive doubles.<br>
+ * The number of values in the stack before each command does not depend on x, so it is computed
+ * once at compile time: the size of the stack is known and the stack underflows are detected
+ * without checking the stack at each evaluation. As for the arithmetic commands, an invalid function
+ * fails (InvalidFormatPSFunctionException) when it is evaluated, after the execution of the commands
+ * that precede the invalid one.<br>
+ * An evaluation does not allocate any object: the stack is reused by the successive evaluations.
+ * A function can be evaluated by several threads concurrently.<br>
+ * <br>
+ * This file is part of LaTeXDraw<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ * <br>
+ * LaTeXDraw is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.<br>
+ * <br>
+ * LaTeXDraw is distributed without any warranty; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.<br>
+ * <br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+final class PSCompiledFunction {
+	private static final byte VALUE = 0;
+	private static final byte X = 1;
+	private static final byte ADD = 2;
+	private static final byte SUB = 3;
+	private static final byte MUL = 4;
+	private static final byte DIV = 5;
+	private static final byte IDIV = 6;
+	private static final byte MOD = 7;
+	private static final byte EXP = 8;
+	private static final byte NEG = 9;
+	private static final byte ABS = 10;
+	private static final byte CEILING = 11;
+	private static final byte FLOOR = 12;
+	private static final byte SIN = 13;
+	private static final byte COS = 14;
+	private static final byte LOG = 15;
+	private static final byte DUP = 16;
+	private static final byte EXCH = 17;
+	private static final byte POP = 18;
+	private static final byte CLEAR = 19;
+
+	/** The opcodes of the commands. */
+	private final byte[] opcodes;
+
+	/** The values pushed by the VALUE opcodes (indexed as the opcodes). */
+	private final double[] values;
+
+	/** The maximal number of values in the stack. */
+	private final int stackSize;
+
+	/**
+	 * The position of the first command that cannot be executed (stack underflow or unsupported command),
+	 * the number of commands if the stack is empty at the end, -1 if the function is valid.
+	 */
+	private final int errorPosition;
+
+	/** A stack that can be reused by the next evaluation (null while it is used). */
+	private final AtomicReference<double[]> spareStack;
+
+
+	/**
+	 * Compiles the given commands.
+	 * @param commands The names of the commands of the function, in the post-fixed order.
+	 * @throws InvalidFormatPSFunctionException If a command is neither a command name nor a number.
+	 */
+	PSCompiledFunction(final List<String> commands) {
+		super();
+		final int nbCmds = commands.size();
+		opcodes = new byte[nbCmds];
+		values = new double[nbCmds];
+		int depth = 0;
+		int maxDepth = 0;
+		int error = -1;
+
+		for(int i = 0; i < nbCmds && error == -1; i++) {
+			final String cmd = commands.get(i);
+			final byte opcode;
+			int needed = 0;
+			int newDepth;
+
+			switch(cmd) {
+				case "x": opcode = X; newDepth = depth + 1; break; //$NON-NLS-1$
+				case "add": opcode = ADD; needed = 2; newDepth = depth - 1; break; //$NON-NLS-1$
+				case "sub": opcode = SUB; needed = 2; newDepth = depth - 1; break; //$NON-NLS-1$
+				case "mul": opcode = MUL; needed = 2; newDepth = depth - 1; break; //$NON-NLS-1$
+				case "div": opcode = DIV; needed = 2; newDepth = depth - 1; break; //$NON-NLS-1$
+				case "idiv": opcode = IDIV; needed = 2; newDepth = depth - 1; break; //$NON-NLS-1$
+				case "mod": opcode = MOD; needed = 2; newDepth = depth - 1; break; //$NON-NLS-1$
+				case "exp": opcode = EXP; needed = 2; newDepth = depth - 1; break; //$NON-NLS-1$
+				case "neg": opcode = NEG; needed = 1; newDepth = depth; break; //$NON-NLS-1$
+				case "abs": opcode = ABS; needed = 1; newDepth = depth; break; //$NON-NLS-1$
+				case "ceiling": opcode = CEILING; needed = 1; newDepth = depth; break; //$NON-NLS-1$
+				case "floor": opcode = FLOOR; needed = 1; newDepth = depth; break; //$NON-NLS-1$
+				case "sin": opcode = SIN; needed = 1; newDepth = depth; break; //$NON-NLS-1$
+				case "cos": opcode = COS; needed = 1; newDepth = depth; break; //$NON-NLS-1$
+				case "log": opcode = LOG; needed = 1; newDepth = depth; break; //$NON-NLS-1$
+				case "dup": opcode = DUP; needed = 1; newDepth = depth + 1; break; //$NON-NLS-1$
+				case "exch": opcode = EXCH; needed = 2; newDepth = depth; break; //$NON-NLS-1$
+				case "pop": opcode = POP; needed = 1; newDepth = depth - 1; break; //$NON-NLS-1$
+				case "clear": opcode = CLEAR; newDepth = 0; break; //$NON-NLS-1$
+				case "count": // The size of the stack is a constant.
+					opcode = VALUE;
+					values[i] = depth;
+					newDepth = depth + 1;
+					break;
+				case "roll": //$NON-NLS-1$
+				case "sqrt": // Not supported. //$NON-NLS-1$
+					opcode = VALUE;
+					needed = Integer.MAX_VALUE;
+					newDepth = depth;
+					break;
+				default:
+					opcode = VALUE;
+					values[i] = parseValue(cmd);
+					newDepth = depth + 1;
+					break;
+			}
+
+			opcodes[i] = opcode;
+
+			if(depth < needed)
+				error = i;
+			else {
+				depth = newDepth;
+				maxDepth = Math.max(maxDepth, depth);
+			}
+		}
+
+		errorPosition = error == -1 && depth == 0 ? nbCmds : error;
+		stackSize = maxDepth;
+		spareStack = new AtomicReference<>(new double[stackSize]);
+	}
+
+
+	/**
+	 * @param x The X-coordinate used to compute the Y using the function.
+	 * @return The y value corresponding to the given X value.
+	 * @throws InvalidFormatPSFunctionException If the function is not correct.
+	 * @throws ArithmeticException If an error occurs during the computation (e.g. division by 0).
+	 */
+	double evaluate(final double x) {
+		final double[] stack = takeStack();
+		try {
+			return evaluate(x, stack);
+		}finally {
+			spareStack.set(stack);
+		}
+	}
+
+
+	/**
+	 * Computes the y values of the given x values.
+	 * @param xs The X-coordinates.
+	 * @param out The array that receives the y values (at the same indexes as the X-coordinates).
+	 * @throws IllegalArgumentException If out is smaller than xs.
+	 * @throws InvalidFormatPSFunctionException If the function is not correct.
+	 * @throws ArithmeticException If an error occurs during the computation (e.g. division by 0).
+	 */
+	void evaluate(final double[] xs, final double[] out) {
+		if(out.length < xs.length)
+			throw new IllegalArgumentException();
+
+		final double[] stack = takeStack();
+		try {
+			for(int i = 0; i < xs.length; i++)
+				out[i] = evaluate(xs[i], stack);
+		}finally {
+			spareStack.set(stack);
+		}
+	}
+
+
+	private double[] takeStack() {
+		final double[] stack = spareStack.getAndSet(null);
+		return stack == null ? new double[stackSize] : stack;
+	}
+
+
+	private double evaluate(final double x, final double[] stack) {
+		final int end = errorPosition == -1 ? opcodes.length : errorPosition;
+		int top = 0;
+
+		for(int i = 0; i < end; i++) {
+			switch(opcodes[i]) {
+				case VALUE: stack[top++] = values[i]; break;
+				case X: stack[top++] = x; break;
+				case ADD: top--; stack[top - 1] += stack[top]; break;
+				case SUB: top--; stack[top - 1] -= stack[top]; break;
+				case MUL: top--; stack[top - 1] *= stack[top]; break;
+				case DIV: top--; stack[top - 1] = stack[top - 1] / checkDivisor(stack[top]); break;
+				case IDIV: top--; stack[top - 1] = Math.floor(stack[top - 1] / checkDivisor(stack[top])); break;
+				case MOD: top--; stack[top - 1] = stack[top - 1] % checkDivisor(stack[top]); break;
+				case EXP: top--; stack[top - 1] = Math.pow(stack[top - 1], stack[top]); break;
+				case NEG: stack[top - 1] = -stack[top - 1]; break;
+				case ABS: stack[top - 1] = Math.abs(stack[top - 1]); break;
+				case CEILING: stack[top - 1] = Math.ceil(stack[top - 1]); break;
+				case FLOOR: stack[top - 1] = Math.floor(stack[top - 1]); break;
+				case SIN: stack[top - 1] = Math.sin(Math.toRadians(stack[top - 1])); break;
+				case COS: stack[top - 1] = Math.cos(Math.toRadians(stack[top - 1])); break;
+				case LOG: stack[top - 1] = Math.log10(stack[top - 1]); break;
+				case DUP: stack[top] = stack[top - 1]; top++; break;
+				case EXCH:
+					final double tmp = stack[top - 1];
+					stack[top - 1] = stack[top - 2];
+					stack[top - 2] = tmp;
+					break;
+				case POP: top--; break;
+				case CLEAR: top = 0; break;
+				default: break;
+			}
+		}
+
+		if(errorPosition != -1)
+			throw new InvalidFormatPSFunctionException();
+
+		return stack[top - 1];
+	}
+
+
+	private static double parseValue(final String cmd) {
+		try {
+			return Double.parseDouble(cmd);
+		}catch(final NumberFormatException ex) {
+			throw new InvalidFormatPSFunctionException("Cannot parse: "+cmd); //$NON-NLS-1$
+		}
+	}
+
+
+	private static double checkDivisor(final double divisor) {
+		if(LNumber.equalsDouble(divisor, 0.0))
+			throw new ArithmeticException();
+		return divisor;
+	}
+}
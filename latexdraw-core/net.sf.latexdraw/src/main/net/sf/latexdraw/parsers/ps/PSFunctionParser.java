@@ -1,14 +1,14 @@
 package net.sf.latexdraw.parsers.ps;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Defines a postscript function parser.<br>
+ * The parsed function is compiled (see PSCompiledFunction) so that its evaluation does not
+ * allocate any object.<br>
  * <br>
  * This file is part of LaTeXDraw<br>
  * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
@@ -56,12 +56,14 @@ public class PSFunctionParser {
 		}
 	}
 
+	/** The factories of the arithmetic commands, by name (see identifyCommand). */
+	private static final Map<String, PSCmd> FACTORY_MAP = createFactoryMap();
+
 	/** The postscript function. */
 	protected final String function;
 
-	protected final List<PSArithemticCommand> commands;
-
-	private final Map<String, PSCmd> factoryMap;
+	/** The compiled form of the function, used to evaluate it. */
+	private PSCompiledFunction compiledFunction;
 
 	/**
 	 * Creates and parser from postscript functions.
@@ -77,15 +79,12 @@ public class PSFunctionParser {
 		if(fct==null||fct.isEmpty())
 			throw new IllegalArgumentException();
 
-		factoryMap = new HashMap<>();
-		commands = new ArrayList<>();
 		function = fct;
-
-		initFactoryMap();
 		parseFunction();
 	}
 
-	private void initFactoryMap() {
+	private static Map<String, PSCmd> createFactoryMap() {
+		final Map<String, PSCmd> factoryMap = new HashMap<>();
 		factoryMap.put("add", () -> new PSAddCommand());
 		factoryMap.put("mul", () -> new PSMulCommand());
 		factoryMap.put("sub", () -> new PSSubCommand());
@@ -108,6 +107,7 @@ public class PSFunctionParser {
 		factoryMap.put("count", () -> new PSCountCommand());
 		factoryMap.put("x", () -> new PSPlotXVariable());
 		factoryMap.put("log", () -> new PSLogCommand());
+		return factoryMap;
 	}
 
 	/**
@@ -122,18 +122,32 @@ public class PSFunctionParser {
 	 *             division by 0).
 	 */
 	public double getY(final double x) throws InvalidFormatPSFunctionException {
-		final Deque<Double> stack = new ArrayDeque<>();
-
-		commands.forEach(cmd -> cmd.execute(stack, x));
-
-		if(stack.isEmpty())
-			throw new InvalidFormatPSFunctionException();
+		return compiledFunction.evaluate(x);
+	}
 
-		return stack.pop();
+	/**
+	 * Computes the y values of several x values at once.
+	 * @param xs
+	 *            The X-coordinates used to compute the Y using the function.
+	 * @param out
+	 *            The array that receives the y values, at the same indexes as the
+	 *            X-coordinates. Must be at least as long as xs.
+	 * @throws IllegalArgumentException
+	 *             If out is shorter than xs.
+	 * @throws InvalidFormatPSFunctionException
+	 *             If the function is not correct.
+	 * @throws ArithmeticException
+	 *             If an error occurs during the computation of the points (e.g.
+	 *             division by 0).
+	 * @since 4.0
+	 */
+	public void evaluate(final double[] xs, final double[] out) throws InvalidFormatPSFunctionException {
+		compiledFunction.evaluate(xs, out);
 	}
 
 	/**
-	 * Parses the function.
+	 * Parses the function. Only the compiled form of the function is created: the arithmetic commands
+	 * (see identifyCommand) are not.
 	 * 
 	 * @throws InvalidFormatPSFunctionException
 	 *             If the function is not correct.
@@ -144,6 +158,7 @@ public class PSFunctionParser {
 		int i = 0;
 		final int lgth = function.length();
 		final StringBuilder cmd = new StringBuilder();
+		final List<String> names = new ArrayList<>();
 
 		while(i<lgth) {
 			cmd.delete(0, cmd.length());
@@ -155,8 +170,10 @@ public class PSFunctionParser {
 				cmd.append(function.charAt(i++));
 
 			if(cmd.length()>0)
-				commands.add(identifyCommand(cmd.toString()));
+				names.add(cmd.toString());
 		}
+
+		compiledFunction = new PSCompiledFunction(names);
 	}
 
 	/**
@@ -174,7 +191,7 @@ public class PSFunctionParser {
 			throw new InvalidFormatPSFunctionException();
 
 		try {
-			return factoryMap.getOrDefault(cmd, () -> new PSValue(Double.parseDouble(cmd))).create();
+			return FACTORY_MAP.getOrDefault(cmd, () -> new PSValue(Double.parseDouble(cmd))).create();
 		}catch(final NumberFormatException ex) {
 			throw new InvalidFormatPSFunctionException("Cannot parse: "+cmd);} //$NON-NLS-1$
 	}
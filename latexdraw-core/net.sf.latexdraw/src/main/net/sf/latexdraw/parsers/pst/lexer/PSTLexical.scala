@@ -70,7 +70,7 @@ class PSTLexical extends Lexical with PSTTokens {
 				elem('/')|elem('@')|elem('`')) ^^ {case char => Identifier(char.toString) }
 
 
-	def comment : Parser[PSTToken] = positioned('%' ~> rep(chrExcept(EofCh, '\n')) ^^ { case content => Comment(content.mkString) })
+	def comment : Parser[PSTToken] = positioned('%' ~> charsUntilLineEnd ^^ { case content => Comment(content) })
 
 
 	def mathMode : Parser[MathMode] =
@@ -79,16 +79,68 @@ class PSTLexical extends Lexical with PSTTokens {
 		positioned('\\' ~> '[' ~> mathModeBracketsMultiLine ^^ { case math => MathMode(math.chars) })
 
 
-	protected def mathModeMultiLine : Parser[MathMode] =
-		'$' ^^ { case _ => MathMode("")  } | chrExcept(EofCh) ~ mathModeMultiLine ^^ { case c ~ rc => MathMode(c+rc.chars) }
+	protected def mathModeMultiLine : Parser[MathMode] = charsUntil("$") ^^ { case math => MathMode(math) }
 
 
-	protected def mathModeParenthesisMultiLine : Parser[MathMode] =
-		'\\' ~ ')' ^^ { case _ => MathMode("")  } | chrExcept(EofCh) ~ mathModeParenthesisMultiLine ^^ { case c ~ rc => MathMode(c+rc.chars) }
+	protected def mathModeParenthesisMultiLine : Parser[MathMode] = charsUntil("\\)") ^^ { case math => MathMode(math) }
 
 
-	protected def mathModeBracketsMultiLine : Parser[MathMode] =
-		'\\' ~ ']' ^^ { case _ => MathMode("")  } | chrExcept(EofCh) ~ mathModeBracketsMultiLine ^^ { case c ~ rc => MathMode(c+rc.chars) }
+	protected def mathModeBracketsMultiLine : Parser[MathMode] = charsUntil("\\]") ^^ { case math => MathMode(math) }
+
+
+	/**
+	 * Reads the characters up to the given end delimiter, which is consumed but not returned.
+	 * The characters are read in a loop into a single builder: long math expressions are
+	 * scanned in linear time without using the stack.
+	 * Fails if the end of the input is reached before the delimiter.
+	 */
+	protected def charsUntil(end : String) : Parser[String] = Parser { in =>
+		val chars = new StringBuilder
+		var rest = in
+		var result : ParseResult[String] = null
+
+		while(result==null)
+			if(rest.atEnd || rest.first==EofCh)
+				result = Failure("'"+end+"' expected but end of source found", rest)
+			else if(startsWith(rest, end))
+				result = Success(chars.toString, rest.drop(end.length))
+			else {
+				chars += rest.first
+				rest = rest.rest
+			}
+
+		result
+	}
+
+
+	/**
+	 * Reads the characters up to the end of the line (the line break is not consumed) in a single loop.
+	 */
+	protected def charsUntilLineEnd : Parser[String] = Parser { in =>
+		val chars = new StringBuilder
+		var rest = in
+
+		while(!rest.atEnd && rest.first!=EofCh && rest.first!='\n') {
+			chars += rest.first
+			rest = rest.rest
+		}
+
+		Success(chars.toString, rest)
+	}
+
+
+	/** @return True if the given input starts with the given string. */
+	private def startsWith(in : Input, str : String) : Boolean = {
+		var rest = in
+		var i = 0
+
+		while(i<str.length && !rest.atEnd && rest.first==str.charAt(i)) {
+			rest = rest.rest
+			i += 1
+		}
+
+		i==str.length
+	}
 
 
 	/**
@@ -43,7 +43,7 @@ trait PSCircleParser extends PSTAbstractParser with PSTParamParser with PSTCoord
 
 				val pt2d = transformPointTo2DScene(pt, ctx)
 				checkTextParsed(ctx) ::: List(createCircle(cmdName.endsWith("*"), pt2d, value._1*IShape.PPC, ctx))
-			case None => PSTParser.errorLogs += "Bracket's content cannot be empty: " + cmdName; Nil
+			case None => session.logError("Bracket's content cannot be empty: " + cmdName); Nil
 		}
 	}
 
@@ -56,7 +56,7 @@ trait PSCircleParser extends PSTAbstractParser with PSTParamParser with PSTCoord
 		parseValueDim(radius) match {
 			case Some(value) =>
 				checkTextParsed(ctx) ::: List(createCircle(true, transformPointTo2DScene(pos, ctx), value._1*IShape.PPC, ctx))
-			case None => PSTParser.errorLogs += "Bracket's content cannot be empty: " + cmdName; Nil
+			case None => session.logError("Bracket's content cannot be empty: " + cmdName); Nil
 		}
 	}
 
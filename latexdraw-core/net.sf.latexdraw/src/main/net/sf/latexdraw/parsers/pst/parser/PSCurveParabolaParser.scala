@@ -43,7 +43,7 @@ trait PSCurveParabolaParser extends PSTAbstractParser with PSTParamParser with P
 	private def parsePscurves(ctx : PSTContext) : Parser[List[IShape]] =
 		opt(parseParam(ctx)) ~ opt(parseBracket(ctx)) ~ repN(3, parseCoord(ctx)) ~ rep(parseCoord(ctx)) ^^ {
 		case _ ~ arrowRaw ~ firstPtsRaw ~ lastPtsRaw =>
-		PSTParser.errorLogs += "Commands pscurve, psecurve, and psccurve not supported yet."
+		session.logError("Commands pscurve, psecurve, and psccurve not supported yet.")
 		Nil
 	}
 
@@ -54,7 +54,7 @@ trait PSCurveParabolaParser extends PSTAbstractParser with PSTParamParser with P
 	def parseParabola(ctx : PSTContext) : Parser[List[IShape]] =
 		("\\parabola*" | "\\parabola") ~ opt(parseParam(ctx)) ~ opt(parseBracket(ctx)) ~ parseCoord(ctx) ~ parseCoord(ctx) ^^ {
 			case cmdName ~ _ ~ arrowRaw ~ pt1Raw ~ pt2Raw =>
-		PSTParser.errorLogs += "Command parabola not supported yet."
+		session.logError("Command parabola not supported yet.")
 		Nil
 	}
 }
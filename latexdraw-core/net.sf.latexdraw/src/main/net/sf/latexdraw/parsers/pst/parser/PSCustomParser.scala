@@ -42,9 +42,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseRlineto(ctx : PSTContext) : Parser[List[IShape]] = "\\rlineto" ~ parseCoord(ctx) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command rlineto is not supported yet."
+			session.logError("The command rlineto is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command rlineto " + notIntoPscustomBlockErrorMsg
+			session.logError("The command rlineto " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -54,9 +54,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseMovepath(ctx : PSTContext) : Parser[List[IShape]] = "\\movepath" ~ parseCoord(ctx) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command movepath is not supported yet."
+			session.logError("The command movepath is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command movepath " + notIntoPscustomBlockErrorMsg
+			session.logError("The command movepath " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -66,9 +66,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseClosedshadow(ctx : PSTContext) : Parser[List[IShape]] = "\\closedshadow" ~ opt(parseParam(ctx)) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command closedshadow is not supported yet."
+			session.logError("The command closedshadow is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command closedshadow " + notIntoPscustomBlockErrorMsg
+			session.logError("The command closedshadow " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -78,9 +78,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseOpenshadow(ctx : PSTContext) : Parser[List[IShape]] = "\\openshadow" ~ opt(parseParam(ctx)) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command openshadow is not supported yet."
+			session.logError("The command openshadow is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command openshadow " + notIntoPscustomBlockErrorMsg
+			session.logError("The command openshadow " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -90,9 +90,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseMrestore(ctx : PSTContext) : Parser[List[IShape]] = "\\mrestore" ^^ { case _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command mrestore is not supported yet."
+			session.logError("The command mrestore is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command mrestore " + notIntoPscustomBlockErrorMsg
+			session.logError("The command mrestore " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -102,9 +102,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseMsave(ctx : PSTContext) : Parser[List[IShape]] = "\\msave" ^^ { case _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command msave is not supported yet."
+			session.logError("The command msave is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command msave " + notIntoPscustomBlockErrorMsg
+			session.logError("The command msave " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -114,9 +114,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseSwapaxes(ctx : PSTContext) : Parser[List[IShape]] = "\\swapaxes" ^^ { case _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command swapaxes is not supported yet."
+			session.logError("The command swapaxes is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command swapaxes " + notIntoPscustomBlockErrorMsg
+			session.logError("The command swapaxes " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -126,9 +126,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseRotate(ctx : PSTContext) : Parser[List[IShape]] = "\\rotate" ~ parseBracket(ctx) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command rotate is not supported yet."
+			session.logError("The command rotate is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command rotate " + notIntoPscustomBlockErrorMsg
+			session.logError("The command rotate " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -138,9 +138,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseScale(ctx : PSTContext) : Parser[List[IShape]] = "\\scale" ~ parseBracket(ctx) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command scale is not supported yet."
+			session.logError("The command scale is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command scale " + notIntoPscustomBlockErrorMsg
+			session.logError("The command scale " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -150,9 +150,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseTranslate(ctx : PSTContext) : Parser[List[IShape]] = "\\translate" ~ parseCoord(ctx) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command translate is not supported yet."
+			session.logError("The command translate is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command translate " + notIntoPscustomBlockErrorMsg
+			session.logError("The command translate " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -162,9 +162,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseFill(ctx : PSTContext) : Parser[List[IShape]] = "\\fill" ~ opt(parseParam(ctx)) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command fill is not supported yet."
+			session.logError("The command fill is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command fill " + notIntoPscustomBlockErrorMsg
+			session.logError("The command fill " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -174,9 +174,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseStroke(ctx : PSTContext) : Parser[List[IShape]] = "\\stroke" ~ opt(parseParam(ctx)) ^^ { case _ ~ _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command stroke is not supported yet."
+			session.logError("The command stroke is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command stroke " + notIntoPscustomBlockErrorMsg
+			session.logError("The command stroke " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -186,9 +186,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseGrestore(ctx : PSTContext) : Parser[List[IShape]] = "\\grestore" ^^ { case _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command grestore is not supported yet."
+			session.logError("The command grestore is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command grestore " + notIntoPscustomBlockErrorMsg
+			session.logError("The command grestore " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -198,9 +198,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseGsave(ctx : PSTContext) : Parser[List[IShape]] = "\\gsave" ^^ { case _ =>
 		if(ctx.isPsCustom)
-			PSTParser.errorLogs += "The command gsave is not supported yet."
+			session.logError("The command gsave is not supported yet.")
 		else
-			PSTParser.errorLogs += "The command gsave " + notIntoPscustomBlockErrorMsg
+			session.logError("The command gsave " + notIntoPscustomBlockErrorMsg)
 		Nil
 	}
 
@@ -211,9 +211,9 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	def parseRcurveTo(ctx : PSTContext) : Parser[List[IShape]] = "\\rcurveto" ~ parseCoord(ctx) ~ parseCoord(ctx) ~ parseCoord(ctx) ^^ {
 		case _ ~ _ ~ _ ~ _ =>
 			if(ctx.isPsCustom)
-				PSTParser.errorLogs += "The command rcurveto is not supported yet."
+				session.logError("The command rcurveto is not supported yet.")
 			else
-				PSTParser.errorLogs += "The command rcurveto " + notIntoPscustomBlockErrorMsg
+				session.logError("The command rcurveto " + notIntoPscustomBlockErrorMsg)
 			Nil
 	}
 
@@ -228,7 +228,7 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 			checkTextParsed(ctx) ::: List(fh)
 		}
 		else {
-			PSTParser.errorLogs += "The command closepath " + notIntoPscustomBlockErrorMsg
+			session.logError("The command closepath " + notIntoPscustomBlockErrorMsg)
 			Nil
 		}
 	}
@@ -242,7 +242,7 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 			if(ctx.isPsCustom)
 				checkTextParsed(ctx) ::: List(createFreeHand(false, ctx, pt3))
 			else {
-				PSTParser.errorLogs += "The command curveto " + notIntoPscustomBlockErrorMsg
+				session.logError("The command curveto " + notIntoPscustomBlockErrorMsg)
 				Nil
 		}
 	}
@@ -255,7 +255,7 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 		if(ctx.isPsCustom)
 			checkTextParsed(ctx) ::: List(createFreeHand(true, ctx, pt))
 		else {
-			PSTParser.errorLogs += "The command lineto " + notIntoPscustomBlockErrorMsg
+			session.logError("The command lineto " + notIntoPscustomBlockErrorMsg)
 			Nil
 		}
 	}
@@ -284,7 +284,7 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 		if(ctx.isPsCustom)
 			ctx.psCustomLatestPt.setPoint(transformPointTo2DScene(pt, ctx))
 		else
-			PSTParser.errorLogs += "The command moveto " + notIntoPscustomBlockErrorMsg
+			session.logError("The command moveto " + notIntoPscustomBlockErrorMsg)
 		checkTextParsed(ctx)
 	}
 
@@ -294,7 +294,7 @@ trait PSCustomParser extends PSTAbstractParser with PSTCoordinateParser with PST
 	 */
 	def parseNewpath(ctx : PSTContext) : Parser[List[IShape]] = "\\newpath" ^^ { case _ =>
 		if(!ctx.isPsCustom)
-			PSTParser.errorLogs += "The command newpath " + notIntoPscustomBlockErrorMsg
+			session.logError("The command newpath " + notIntoPscustomBlockErrorMsg)
 		checkTextParsed(ctx)
 	}
 }
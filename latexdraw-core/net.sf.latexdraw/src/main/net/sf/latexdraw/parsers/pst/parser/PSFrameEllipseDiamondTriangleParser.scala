@@ -91,7 +91,7 @@ trait PSFrameEllipseDiamondTriangleParser extends PSTAbstractParser with PSTPara
 				case "psellipse*" | "psellipse" => List(createEllipse(hasStar, p12D, p22D, ctx))
 				case "psdiamond*" | "psdiamond" => List(createDiamond(hasStar, p12D, p22D, ctx))
 				case "pstriangle*" | "pstriangle" => List(createTriangle(hasStar, p12D, p22D, ctx))
-				case _ => PSTParser.errorLogs += "Unknown command: " + name ; Nil
+				case _ => session.logError("Unknown command: " + name); Nil
 			}
 	}
 
@@ -1,7 +1,5 @@
 package net.sf.latexdraw.parsers.pst.parser
 
-import net.sf.latexdraw.glib.views.latex.DviPsColors
-
 /**
  * A parser parsing psframebox commands.<br>
  *<br>
@@ -33,7 +31,7 @@ trait PSFrameboxParser extends PSTAbstractParser with PSTBracketBlockParser {
 						// Searching into the parameters a user colour.
 						// These colours must be included into the parsed text.
 						p.split(",").filter(s=>s.contains(colStr)).map(s=>s.split("=")).filter(s=>s.length==2).map(s=>s(1)).foreach{
-							col => DviPsColors.INSTANCE.getUsercolourCode(col) match {
+							col => session.getUsercolourCode(col) match {
 								case "" =>
 								// The colour must not be already included.
 								case str if !ctx.textParsed.contains(str) => ctx.textParsed += str
@@ -41,6 +41,9 @@ trait PSTAbstractParser extends TokenParsers {
 	protected val keywordCache : HashMap[String, Parser[String]] = HashMap.empty
 	protected val delimCache : HashMap[String, Parser[String]] = HashMap.empty
 
+	/** The session of the code being parsed: the parsers log their errors into it. */
+	protected var session : PSTParseSession = new PSTParseSession
+
 
 	/** A parser which matches an identifier. */
 	def ident : Parser[String] = elem("identifier", _.isInstanceOf[Identifier]) ^^ (_.toString)
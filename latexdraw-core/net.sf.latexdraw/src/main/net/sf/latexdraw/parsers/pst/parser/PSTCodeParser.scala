@@ -32,22 +32,7 @@ trait PSTCodeParser extends PSTAbstractParser
 	with PSBezierParser with PSCurveParabolaParser with PSDotParser with PSGridAxes with PSTPlotParser with PSCustomParser
 	with TextCommandsParser with PSFrameboxParser with IPSTCodeParser {
 
-	override def parsePSTCode(ctx : PSTContext) : Parser[IGroup] =
-		rep(consume(parsePSTBlock(ctx, ctx.isPsCustom))() | consume(parsePspictureBlock(ctx))() | consume(parseCenterBlock(ctx))() | consume(parsePsset(ctx))() |
-			consume(parsePsellipse(new PSTContext(ctx)))() | consume(parsePsframe(new PSTContext(ctx)))() |
-			consume(parsePsdiamond(new PSTContext(ctx)))() | consume(parsePstriangle(new PSTContext(ctx)))() |
-			consume(parsePsline(new PSTContext(ctx)))() | consume(parserQline(new PSTContext(ctx)))() |
-			consume(parsePscircle(new PSTContext(ctx)))() | consume(parseQdisk(new PSTContext(ctx)))() |
-			consume(parsePspolygon(new PSTContext(ctx)))() | consume(parsePsbezier(new PSTContext(ctx)))() |
-			consume(parsePsdot(new PSTContext(ctx)))() | consume(parsePsdots(new PSTContext(ctx)))() | consume(parsePsaxes(new PSTContext(ctx)))() |
-			consume(parsePsgrid(new PSTContext(ctx)))() | consume(parseRput(ctx))() | consume(parseScalebox(ctx))() | consume(parsePsscalebox(ctx))() |
-			consume(parsePswedge(new PSTContext(ctx)))() | consume(parsePsarc(new PSTContext(ctx)))() | consume(parsePsarcn(new PSTContext(ctx)))() |
-			consume(parsePsellipticarc(new PSTContext(ctx)))() | consume(parsePsellipticarcn(new PSTContext(ctx)))() |
-			consume(parseParabola(new PSTContext(ctx)))() | consume(parsePscurve(new PSTContext(ctx)))() | consume(parsePsecurve(new PSTContext(ctx)))() |
-			consume(parsePsccurve(new PSTContext(ctx)))() | consume(parsePSTPlotCommands(new PSTContext(ctx)))() | consume(parseNewpsobject(ctx))() |
-			consume(parseNewpsstyle(ctx))() | consume(parsePscustom(new PSTContext(ctx)))() | consume(parseDefineColor(ctx))() |
-			consume(parseIncludeGraphics(ctx))() | consume(parsePSCustomCommands(ctx))() | consume(parsePsFrameboxCmds(ctx))() | consume(parsetextCommands(ctx))() |
-			consume(parseText(ctx))()) ^^ {
+	override def parsePSTCode(ctx : PSTContext) : Parser[IGroup] = rep(parsePSTElement(ctx)) ^^ {
 		case list =>
 		val group = ShapeFactory.createGroup()
 
@@ -62,6 +47,83 @@ trait PSTCodeParser extends PSTAbstractParser
 	}
 
 
+	/**
+	 * Parses the next element of the PST code. A command is only parsed by the parsers
+	 * of this command (see commandParsers). The other tokens start blocks or texts.
+	 * The errors logged while parsing the element are located at its first token.
+	 */
+	private def parsePSTElement(ctx : PSTContext) : Parser[Any] = Parser { in =>
+		val cmdParser = in.first match {
+			case lexical.Command(name) => commandParsers.get(name)
+			case _ => None
+		}
+
+		session.located(in.pos) {
+			cmdParser match {
+				case Some(parser) => parser(ctx)(in)
+				case None => (parsePSTBlock(ctx, ctx.isPsCustom) | parseText(ctx))(in)
+			}
+		}
+	}
+
+
+	/**
+	 * The parsers of the PST commands, indexed by the name of the command they start with.
+	 * Several parsers are tried only for commands they share (e.g. begin). The parsers are
+	 * created for each parsed command since most of them create their own PST context.
+	 */
+	private lazy val commandParsers : Map[String, PSTContext => Parser[Any]] = {
+		def cmds(names : String*)(parser : PSTContext => Parser[Any]) = names.map(name => name -> parser)
+
+		(cmds("\\begin")(ctx => parsePspictureBlock(ctx) | parseCenterBlock(ctx)) ++
+		cmds("\\pspicture")(ctx => parsePspictureBlock(ctx)) ++
+		cmds("\\psset")(ctx => parsePsset(ctx)) ++
+		cmds("\\psellipse", "\\psellipse*")(ctx => parsePsellipse(new PSTContext(ctx))) ++
+		cmds("\\psframe", "\\psframe*")(ctx => parsePsframe(new PSTContext(ctx))) ++
+		cmds("\\psdiamond", "\\psdiamond*")(ctx => parsePsdiamond(new PSTContext(ctx))) ++
+		cmds("\\pstriangle", "\\pstriangle*")(ctx => parsePstriangle(new PSTContext(ctx))) ++
+		cmds("\\psline", "\\psline*")(ctx => parsePsline(new PSTContext(ctx))) ++
+		cmds("\\qline")(ctx => parserQline(new PSTContext(ctx))) ++
+		cmds("\\pscircle", "\\pscircle*")(ctx => parsePscircle(new PSTContext(ctx))) ++
+		cmds("\\qdisk")(ctx => parseQdisk(new PSTContext(ctx))) ++
+		cmds("\\pspolygon", "\\pspolygon*")(ctx => parsePspolygon(new PSTContext(ctx))) ++
+		cmds("\\psbezier", "\\psbezier*")(ctx => parsePsbezier(new PSTContext(ctx))) ++
+		cmds("\\psdot", "\\psdot*")(ctx => parsePsdot(new PSTContext(ctx))) ++
+		cmds("\\psdots", "\\psdots*")(ctx => parsePsdots(new PSTContext(ctx))) ++
+		cmds("\\psaxes")(ctx => parsePsaxes(new PSTContext(ctx))) ++
+		cmds("\\psgrid")(ctx => parsePsgrid(new PSTContext(ctx))) ++
+		cmds("\\rput", "\\rput*")(ctx => parseRput(ctx)) ++
+		cmds("\\scalebox")(ctx => parseScalebox(ctx)) ++
+		cmds("\\psscalebox")(ctx => parsePsscalebox(ctx)) ++
+		cmds("\\pswedge", "\\pswedge*")(ctx => parsePswedge(new PSTContext(ctx))) ++
+		cmds("\\psarc", "\\psarc*")(ctx => parsePsarc(new PSTContext(ctx))) ++
+		cmds("\\psarcn", "\\psarcn*")(ctx => parsePsarcn(new PSTContext(ctx))) ++
+		cmds("\\psellipticarc", "\\psellipticarc*")(ctx => parsePsellipticarc(new PSTContext(ctx))) ++
+		cmds("\\psellipticarcn", "\\psellipticarcn*")(ctx => parsePsellipticarcn(new PSTContext(ctx))) ++
+		cmds("\\parabola", "\\parabola*")(ctx => parseParabola(new PSTContext(ctx))) ++
+		cmds("\\pscurve", "\\pscurve*")(ctx => parsePscurve(new PSTContext(ctx))) ++
+		cmds("\\psecurve", "\\psecurve*")(ctx => parsePsecurve(new PSTContext(ctx))) ++
+		cmds("\\psccurve", "\\psccurve*")(ctx => parsePsccurve(new PSTContext(ctx))) ++
+		cmds("\\fileplot", "\\fileplot*", "\\dataplot", "\\dataplot*", "\\savedata", "\\readdata", "\\listplot", "\\listplot*",
+			"\\psplot", "\\psplot*", "\\parametricplot", "\\parametricplot*")(ctx => parsePSTPlotCommands(new PSTContext(ctx))) ++
+		cmds("\\newpsobject")(ctx => parseNewpsobject(ctx)) ++
+		cmds("\\newpsstyle")(ctx => parseNewpsstyle(ctx)) ++
+		cmds("\\pscustom", "\\pscustom*")(ctx => parsePscustom(new PSTContext(ctx))) ++
+		cmds("\\definecolor")(ctx => parseDefineColor(ctx)) ++
+		cmds("\\includegraphics")(ctx => parseIncludeGraphics(ctx)) ++
+		cmds("\\newpath", "\\moveto", "\\lineto", "\\curveto", "\\closepath", "\\rcurveto", "\\gsave", "\\grestore", "\\stroke",
+			"\\fill", "\\translate", "\\scale", "\\rotate", "\\swapaxes", "\\msave", "\\mrestore", "\\openshadow", "\\closedshadow",
+			"\\movepath", "\\rlineto")(ctx => parsePSCustomCommands(ctx)) ++
+		cmds("\\psframebox", "\\psframebox*", "\\psdblframebox", "\\psdblframebox*", "\\psshadowbox", "\\psshadowbox*", "\\pscirclebox",
+			"\\pscirclebox*", "\\psovalbox", "\\psovalbox*", "\\psdiabox", "\\psdiabox*", "\\pstribox", "\\pstribox*")(ctx => parsePsFrameboxCmds(ctx)) ++
+		cmds("\\usefont", "\\color", "\\textcolor", "\\tiny", "\\scriptsize", "\\footnotesize", "\\small", "\\normalsize", "\\large",
+			"\\Large", "\\huge", "\\Huge", "\\`", "\\'", "\\^", "\\\"", "\\H", "\\~", "\\c", "\\k", "\\=", "\\b", "\\.", "\\d", "\\r",
+			"\\u", "\\v", "\\t", "\\textsf", "\\textsc", "\\textsl", "\\underline", "\\texttt", "\\emph", "\\textbf", "\\textit", "\\l",
+			"\\rmfamily", "\\sffamily", "\\ttfamily", "\\mdseries", "\\bfseries", "\\bf", "\\upshape", "\\itshape", "\\slshape",
+			"\\scshape", "\\it", "\\sc", "\\sl")(ctx => parsetextCommands(ctx))).toMap
+	}
+
+
 	/**
 	 * Parses the command psscalebox.
 	 */
@@ -81,7 +143,7 @@ trait PSTCodeParser extends PSTAbstractParser
 	override def parseText(ctx : PSTContext) : Parser[List[IShape]] =  (math | text | ident | numeric | commandUnknown) ^^ {
 		case obj =>
 			if(obj.replace("\\\\", "").startsWith("\\"))
-				PSTParser.errorLogs += "Unknown command: " + obj
+				session.logError("Unknown command: " + obj)
 
 			ctx.textParsed match {
 				case "" => ctx.textParsed = obj.mkString
@@ -94,7 +156,7 @@ trait PSTCodeParser extends PSTAbstractParser
 
 	override def parseIncludeGraphics(ctx : PSTContext) : Parser[IShape] = "\\includegraphics" ~ opt(parseParam(ctx)) ~ "{" ~ rep1(text|ident|numeric) ~ "}" ^^ {
 		case _ ~ _ ~ _ ~ paths ~ _ =>
-			PSTParser.errorLogs += "The command includegraphics is not supported yet."
+			session.logError("The command includegraphics is not supported yet.")
 			null
 //			val pic = DrawingTK.getFactory.createPicture(true, DrawingTK.getFactory.createPoint)
 //			val pathEPS = paths.mkString
@@ -133,12 +195,12 @@ trait PSTCodeParser extends PSTAbstractParser
 
 
 	override def parseNewpsobject(ctx : PSTContext) : Parser[List[IShape]] = "\\newpsobject" ~ parseBracket(ctx) ~ parseBracket(ctx) ~ parseBracket(ctx) ^^ {
-		case _ ~ name ~ obj ~ attributes => PSTParser.errorLogs += "The command newpsobject is not supported yet" ; Nil
+		case _ ~ name ~ obj ~ attributes => session.logError("The command newpsobject is not supported yet"); Nil
 	}
 
 
 	override def parseNewpsstyle(ctx : PSTContext) : Parser[List[IShape]] = "\\newpsstyle" ~ parseBracket(ctx) ~ parseBracket(ctx) ^^ {
-		case _ ~ name ~ attributes => PSTParser.errorLogs += "The command newpsstyle is not supported yet" ; Nil
+		case _ ~ name ~ attributes => session.logError("The command newpsstyle is not supported yet"); Nil
 	}
 
 
@@ -160,33 +222,33 @@ trait PSTCodeParser extends PSTAbstractParser
 				colType match {
 					case "rgb" => colSpec.split(',') match {
 							case Array(r,g,b) => colour = ShapeFactory.createColor(r.toDouble, g.toDouble, b.toDouble)
-							case _ => PSTParser.errorLogs += "An rgb colour must have 3 numbers."
+							case _ => session.logError("An rgb colour must have 3 numbers.")
 						}
 					case "RGB" => colSpec.split(',') match {
 							case Array(r,g,b) => colour = DviPsColors.INSTANCE.convertRGB2rgb(r.toDouble, g.toDouble, b.toDouble)
-							case _ => PSTParser.errorLogs += "An RGB colour must have 3 numbers."
+							case _ => session.logError("An RGB colour must have 3 numbers.")
 						}
 					case "gray" => colour = DviPsColors.INSTANCE.convertgray2rgb(colSpec.toDouble)
 					case "HTML" => colour = DviPsColors.INSTANCE.convertHTML2rgb(colSpec)
 					case "cmyk" => colSpec.split(',') match {
 							case Array(c,m,y,k) => colour = DviPsColors.INSTANCE.convertcmyk2rgb(c.toDouble, m.toDouble, y.toDouble, k.toDouble)
-							case _ => PSTParser.errorLogs += "An cmyk colour must have 3 numbers."
+							case _ => session.logError("An cmyk colour must have 3 numbers.")
 						}
 					case "cmy" => colSpec.split(',') match {
 							case Array(c,m,y) => colour = ShapeFactory.createColor(1-c.toDouble, 1-m.toDouble, 1-y.toDouble)
-							case _ => PSTParser.errorLogs += "An cmy colour must have 3 numbers."
+							case _ => session.logError("An cmy colour must have 3 numbers.")
 						}
 					case "hsb" => colSpec.split(',') match {
 							case Array(h,s,b) => colour = ShapeFactory.createColorHSB(h.toDouble, s.toDouble, b.toDouble)
-							case _ => PSTParser.errorLogs += "An hsb colour must have 3 numbers."
+							case _ => session.logError("An hsb colour must have 3 numbers.")
 						}
-					case _ => PSTParser.errorLogs += "Unknown color type: " + colType
+					case _ => session.logError("Unknown color type: " + colType)
 				}
-			}catch{case e: Throwable => PSTParser.errorLogs +=
-				"Error during colour conversion: " + colName + " " + colType + " " + colSpec + " " + e.getStackTrace.map(_.toString()).mkString("\n") }
+			}catch{case e: Throwable => session.logError(
+				"Error during colour conversion: " + colName + " " + colType + " " + colSpec + " " + e.getStackTrace.map(_.toString()).mkString("\n")) }
 
 			if(colour!=null)
-				DviPsColors.INSTANCE.addUserColour(colour, colName)
+				session.defineColour(colName, colour)
 	}
 
 
@@ -86,9 +86,73 @@ import fontFamily._
 import fontSerie._
 
 
+/**
+ * The values of the PST parameters of a PST context. These values are shared by a context and
+ * the contexts copied from it until one of them modifies a parameter: the parser creates a context
+ * for each command it tries to parse, most of these contexts are only read.<br>
+ *<br>
+ * This file is part of LaTeXDraw<br>
+ * Copyright (c) 2005-2014 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+private[parser] final class PSTContextValues(var axesStyle : AxesStyle, var arrowStyle : (ArrowStyle, ArrowStyle),
+		var arrowSize : (Double, Double), var arrowLgth : Double, var arrowInset : Double, var arrowTBar : (Double, Double),
+		var arrowBrLgth : Double, var arrowrBrLgth : Double, var arrowDotSize : (Double, Double), var arrowScale : (Double, Double),
+		var arcSep : Double, var arcSepA : Double, var arcSepB : Double, var boxSep : Boolean, var borderColor : Color,
+		var borderPos : BorderPos, var border : Double, var curvature : (Double, Double, Double), var dxIncrement : Double,
+		var dyIncrement : Double, var dxLabelDist : Double, var dyLabelDist : Double, var dotStyle : DotStyle,
+		var dotScale : (Double, Double), var dotAngle : Double, var dotSep : Double, var dash : (Double, Double), var dbleLine : Boolean,
+		var dbleSep : Double, var dbleColor : Color, var degrees : Double, var frameSep : Double, var frameArc : Double,
+		var fillStyle : FillingStyle, var fillColor : Color, var gridWidth : Double, var gridLabel : Double, var gridDots : Double,
+		var gradAngle : Double, var gridColor : Color, var gradMidPoint : Double, var gradBegin : Color, var gradEnd : Color,
+		var gradLines : Int, var gangle : Double, var hatchWidth : Double, var hatchSep : Double, var hatchCol : Color,
+		var hatchAngle : Double, var isCornerRel : Boolean, var isShadow : Boolean, var lineWidth : Double, var lineColor : Color,
+		var labels : PlottingStyle, var lineArc : Double, var lineStyle : LineStyle, var ox : Double, var oy : Double,
+		var onRadians : Boolean, var origin : PointUnit, var specialCoor : Boolean, var showPoints : Boolean, var showOrigin : Boolean,
+		var subGridWidth : Double, var swapAxes : Boolean, var shadowCol : Color, var subGridCol : Color, var shadowAngle : Double,
+		var shadowSize : Double, var subGridDots : Double, var subGridDiv : Double, var ticks : PlottingStyle, var ticksStyle : TicksStyle,
+		var ticksSize : Double, var unit : Double, var xUnit : Double, var yUnit : Double, var textColor : Color, var shadow : Boolean,
+		var gridlabelcolor : Color, var isCentered : Boolean, var pictureSWPt : IPoint, var pictureNEPt : IPoint,
+		var tokenPosition : String, var plotStyle : String, var plotPoints : Int, var addfillstyle : FillingStyle, var liftpen : Int,
+		var textPosition : String, var rputAngle : Double, var parsedTxtNoTxt : Boolean, var currFontShape : FontShapeVal,
+		var currFontSerie : FontSerieVal, var currFontFamily : FontFamilyVal, var psCustomLatestPt : IPoint, var opacity : Double,
+		var strokeopacity : Double, var polarPlot : Boolean) {
+
+	/** True: several contexts use these values, they must be copied before being modified. */
+	var shared = false
+
+	/**
+	 * Duplicates the values. The points are copied since they can be modified.
+	 */
+	def dup : PSTContextValues = new PSTContextValues(axesStyle, arrowStyle, arrowSize, arrowLgth, arrowInset, arrowTBar, arrowBrLgth,
+			arrowrBrLgth, arrowDotSize, arrowScale, arcSep, arcSepA, arcSepB, boxSep, borderColor, borderPos, border, curvature,
+			dxIncrement, dyIncrement, dxLabelDist, dyLabelDist, dotStyle, dotScale, dotAngle, dotSep, dash, dbleLine, dbleSep, dbleColor,
+			degrees, frameSep, frameArc, fillStyle, fillColor, gridWidth, gridLabel, gridDots, gradAngle, gridColor, gradMidPoint,
+			gradBegin, gradEnd, gradLines, gangle, hatchWidth, hatchSep, hatchCol, hatchAngle, isCornerRel, isShadow, lineWidth, lineColor,
+			labels, lineArc, lineStyle, ox, oy, onRadians, origin, specialCoor, showPoints, showOrigin, subGridWidth, swapAxes, shadowCol,
+			subGridCol, shadowAngle, shadowSize, subGridDots, subGridDiv, ticks, ticksStyle, ticksSize, unit, xUnit, yUnit, textColor,
+			shadow, gridlabelcolor, isCentered, ShapeFactory.createPoint(pictureSWPt), ShapeFactory.createPoint(pictureNEPt),
+			tokenPosition, plotStyle, plotPoints, addfillstyle, liftpen, textPosition, rputAngle, parsedTxtNoTxt, currFontShape,
+			currFontSerie, currFontFamily, ShapeFactory.createPoint(psCustomLatestPt), opacity, strokeopacity, polarPlot)
+}
+
+
 /**
  * A PST context contains the value of the PST parameters used during the parsing
  * and the creation of PST objects.<br>
+ * Copying a context is cheap: the copy shares the values of the PST parameters with the original
+ * context until one of them modifies a parameter (copy-on-write).<br>
  *<br>
  * This file is part of LaTeXDraw<br>
  * Copyright (c) 2005-2014 Arnaud BLOUIN<br>
@@ -106,34 +170,17 @@ import fontSerie._
  * @author Arnaud BLOUIN
  * @version 3.0
  */
-class PSTContext(var axesStyle : AxesStyle, var arrowStyle : (ArrowStyle, ArrowStyle), var arrowSize : (Double, Double),
-		var arrowLgth : Double, var arrowInset : Double, var arrowTBar : (Double, Double),
-		var arrowBrLgth : Double, var arrowrBrLgth : Double, var arrowDotSize : (Double, Double), var arrowScale : (Double, Double),
-		var arcSep : Double, var arcSepA : Double, var arcSepB : Double, var boxSep : Boolean,
-		var borderColor : Color, var borderPos : BorderPos, var border : Double, var curvature : (Double, Double, Double),
-		var dxIncrement : Double, var dyIncrement : Double, var dxLabelDist : Double, var dyLabelDist : Double,
-		var dotStyle : DotStyle, var dotScale : (Double, Double), var dotAngle : Double, var dotSep : Double,
-		var dash : (Double, Double), var dbleLine : Boolean, var dbleSep : Double, var dbleColor : Color,
-		var degrees : Double, var frameSep : Double, var frameArc : Double, var fillStyle : FillingStyle, var fillColor : Color,
-		var gridWidth : Double, var gridLabel : Double, var gridDots : Double, var gradAngle : Double, var gridColor : Color,
-		var gradMidPoint : Double, var gradBegin : Color, var gradEnd : Color, var gradLines : Int, var gangle : Double,
-		var hatchWidth : Double, var hatchSep : Double, var hatchCol : Color, var hatchAngle : Double, var isCornerRel : Boolean, var isShadow : Boolean,
-		var lineWidth : Double, var lineColor : Color, var labels : PlottingStyle, var lineArc : Double,
-		var lineStyle : LineStyle, var ox : Double, var oy : Double, var onRadians : Boolean, var origin : PointUnit, var specialCoor : Boolean,
-		var showPoints : Boolean, var showOrigin : Boolean, var subGridWidth : Double, var swapAxes : Boolean, var shadowCol : Color,
-		var subGridCol : Color, var shadowAngle : Double, var shadowSize : Double, var subGridDots : Double, var subGridDiv : Double,
-		var ticks : PlottingStyle, var ticksStyle : TicksStyle, var ticksSize : Double, var unit : Double, var xUnit : Double,
-		var yUnit : Double, var textColor : Color, var shadow : Boolean, var gridlabelcolor : Color, var isCentered : Boolean,
-		var pictureSWPt : IPoint, var pictureNEPt : IPoint, var tokenPosition : String, var plotStyle : String, var plotPoints : Int,
-		var addfillstyle : FillingStyle, var liftpen : Int, var isPsCustom : Boolean, var textPosition : String,
-		var rputAngle : Double, var parsedTxtNoTxt:Boolean, var currFontShape:FontShapeVal, var currFontSerie:FontSerieVal,
-		var currFontFamily:FontFamilyVal, val psCustomLatestPt : IPoint, var opacity:Double, var strokeopacity:Double, var polarPlot:Boolean) {
+class PSTContext private(private var values : PSTContextValues, var isPsCustom : Boolean, val session : PSTParseSession) {
 
 	/** Text text parsed in the current context. */
 	var textParsed : String = ""
 
-	def this(psCustom : Boolean) {
-		this(PSTricksConstants.DEFAULT_AXES_STYLE, Tuple2(ArrowStyle.NONE, ArrowStyle.NONE), Tuple2(PSTricksConstants.DEFAULT_ARROW_SIZE_DIM,
+	/**
+	 * Creates a PST context with the default values of the parameters.
+	 * @param session The session of the parsed code, shared by the copies of the context.
+	 */
+	def this(session : PSTParseSession, psCustom : Boolean) {
+		this(new PSTContextValues(PSTricksConstants.DEFAULT_AXES_STYLE, Tuple2(ArrowStyle.NONE, ArrowStyle.NONE), Tuple2(PSTricksConstants.DEFAULT_ARROW_SIZE_DIM,
 			PSTricksConstants.DEFAULT_ARROW_SIZE_NUM), PSTricksConstants.DEFAULT_ARROW_LENGTH, PSTricksConstants.DEFAULT_ARROW_INSET,
 			Tuple2(PSTricksConstants.DEFAULT_ARROW_TBARSIZE_DIM, PSTricksConstants.DEFAULT_ARROW_TBARSIZE_NUM), PSTricksConstants.DEFAULT_ARROW_BRACKET_LGTH,
 			PSTricksConstants.DEFAULT_ARROW_RBRACKET_LGTH, Tuple2(PSTricksConstants.DEFAULT_ARROW_DOTSIZE_DIM, PSTricksConstants.DEFAULT_ARROW_DOTSIZE_NUM),
@@ -162,35 +209,25 @@ class PSTContext(var axesStyle : AxesStyle, var arrowStyle : (ArrowStyle, ArrowS
 			PSTricksConstants.DEFAULT_SUBGRIDDIV, PSTricksConstants.DEFAULT_TICKS_DISPLAYED, PSTricksConstants.DEFAULT_TICKS_STYLE,
 			PSTricksConstants.DEFAULT_TICKS_SIZE, PSTricksConstants.DEFAULT_UNIT, PSTricksConstants.DEFAULT_UNIT, PSTricksConstants.DEFAULT_UNIT, DviPsColors.BLACK,
 			PSTricksConstants.DEFAULT_SHADOW, PSTricksConstants.DEFAULT_LABELGRIDCOLOR, false, ShapeFactory.createPoint,
-			ShapeFactory.createPoint, "", "line", 50, PSTricksConstants.DEFAULT_FILL_STYLE, 0, psCustom, "", 0, true,
-			fontShape.normal, fontSerie.normal, fontFamily.rm, ShapeFactory.createPoint, 1.0, 1.0, false)
+			ShapeFactory.createPoint, "", "line", 50, PSTricksConstants.DEFAULT_FILL_STYLE, 0, "", 0, true,
+			fontShape.normal, fontSerie.normal, fontFamily.rm, ShapeFactory.createPoint, 1.0, 1.0, false), psCustom, session)
+	}
+
+	def this(psCustom : Boolean) {
+		this(new PSTParseSession, psCustom)
 	}
 
 
 	/**
-	 * Creates the PST context by copying the given one.
+	 * Creates the PST context by copying the given one. The values of the parameters are shared
+	 * until one of the two contexts modifies them.
 	 */
 	def this(model : PSTContext, psCustom : Boolean) {
-		this(model.axesStyle, Tuple2(model.arrowStyle._1, model.arrowStyle._2), Tuple2(model.arrowSize._1, model.arrowSize._2), model.arrowLgth, model.arrowInset,
-			Tuple2(model.arrowTBar._1, model.arrowTBar._2), model.arrowBrLgth, model.arrowrBrLgth, Tuple2(model.arrowDotSize._1, model.arrowDotSize._2),
-			Tuple2(model.arrowScale._1, model.arrowScale._2), model.arcSep, model.arcSepA, model.arcSepB, model.boxSep, model.borderColor, model.borderPos,
-			model.border, Tuple3(model.curvature._1, model.curvature._2, model.curvature._3), model.dxIncrement, model.dyIncrement, model.dxLabelDist,
-			model.dyLabelDist, model.dotStyle,  Tuple2(model.dotScale._1,  model.dotScale._2), model.dotAngle, model.dotSep, Tuple2(model.dash._1, model.dash._2),
-			model.dbleLine, model.dbleSep, model.dbleColor, model.degrees,
-			  model.frameSep, model.frameArc, model.fillStyle, model.fillColor, model.gridWidth, model.gridLabel, model.gridDots, model.gradAngle,
-			  model.gridColor, model.gradMidPoint, model.gradBegin, model.gradEnd, model.gradLines, model.gangle, model.hatchWidth, model.hatchSep,
-			  model.hatchCol, model.hatchAngle, model.isCornerRel, model.isShadow, model.lineWidth, model.lineColor,
-			  model.labels, model.lineArc, model.lineStyle, model.ox, model.oy, model.onRadians, model.origin.dup,
-			  model.specialCoor, model.showPoints, model.showOrigin, model.subGridWidth, model.swapAxes, model.shadowCol, model.subGridCol,
-			  model.shadowAngle, model.shadowSize, model.subGridDots, model.subGridDiv, model.ticks, model.ticksStyle, model.ticksSize, model.unit,
-			  model.xUnit, model.yUnit, model.textColor, model.shadow, model.gridlabelcolor, model.isCentered, ShapeFactory.createPoint(model.pictureSWPt),
-			  ShapeFactory.createPoint(model.pictureNEPt), model.tokenPosition, model.plotStyle, model.plotPoints, model.fillStyle, model.liftpen, psCustom,
-			  model.textPosition, model.rputAngle, model.parsedTxtNoTxt, model.currFontShape, model.currFontSerie, model.currFontFamily,
-			  ShapeFactory.createPoint(model.psCustomLatestPt), model.opacity, model.strokeopacity, model.polarPlot)
-
-			  if(model.currFontShape!=fontShape.normal) textParsed += model.currFontShape.equivCmd
-			  if(model.currFontSerie!=fontSerie.normal) textParsed += model.currFontSerie.equivCmd
-			  if(model.currFontFamily!=fontFamily.rm) textParsed += model.currFontFamily.equivCmd
+		this(model.shareValues, psCustom, model.session)
+
+		if(model.currFontShape!=fontShape.normal) textParsed += model.currFontShape.equivCmd
+		if(model.currFontSerie!=fontSerie.normal) textParsed += model.currFontSerie.equivCmd
+		if(model.currFontFamily!=fontFamily.rm) textParsed += model.currFontFamily.equivCmd
 	}
 
 	def this(model:PSTContext) {
@@ -198,6 +235,224 @@ class PSTContext(var axesStyle : AxesStyle, var arrowStyle : (ArrowStyle, ArrowS
 	}
 
 
+	/**
+	 * Marks the values of the context as shared and returns them.
+	 */
+	private def shareValues : PSTContextValues = {
+		values.shared = true
+		values
+	}
+
+
+	/**
+	 * Returns values that the context can modify: the shared values are copied first.
+	 */
+	private def writableValues : PSTContextValues = {
+		if(values.shared)
+			values = values.dup
+		values
+	}
+
+
+	// The PST parameters. Setting a parameter to its current value does not copy the shared values.
+	def axesStyle : AxesStyle = values.axesStyle
+	def axesStyle_=(value : AxesStyle) { if(value!=values.axesStyle) writableValues.axesStyle = value }
+	def arrowStyle : (ArrowStyle, ArrowStyle) = values.arrowStyle
+	def arrowStyle_=(value : (ArrowStyle, ArrowStyle)) { if(value!=values.arrowStyle) writableValues.arrowStyle = value }
+	def arrowSize : (Double, Double) = values.arrowSize
+	def arrowSize_=(value : (Double, Double)) { if(value!=values.arrowSize) writableValues.arrowSize = value }
+	def arrowLgth : Double = values.arrowLgth
+	def arrowLgth_=(value : Double) { if(value!=values.arrowLgth) writableValues.arrowLgth = value }
+	def arrowInset : Double = values.arrowInset
+	def arrowInset_=(value : Double) { if(value!=values.arrowInset) writableValues.arrowInset = value }
+	def arrowTBar : (Double, Double) = values.arrowTBar
+	def arrowTBar_=(value : (Double, Double)) { if(value!=values.arrowTBar) writableValues.arrowTBar = value }
+	def arrowBrLgth : Double = values.arrowBrLgth
+	def arrowBrLgth_=(value : Double) { if(value!=values.arrowBrLgth) writableValues.arrowBrLgth = value }
+	def arrowrBrLgth : Double = values.arrowrBrLgth
+	def arrowrBrLgth_=(value : Double) { if(value!=values.arrowrBrLgth) writableValues.arrowrBrLgth = value }
+	def arrowDotSize : (Double, Double) = values.arrowDotSize
+	def arrowDotSize_=(value : (Double, Double)) { if(value!=values.arrowDotSize) writableValues.arrowDotSize = value }
+	def arrowScale : (Double, Double) = values.arrowScale
+	def arrowScale_=(value : (Double, Double)) { if(value!=values.arrowScale) writableValues.arrowScale = value }
+	def arcSep : Double = values.arcSep
+	def arcSep_=(value : Double) { if(value!=values.arcSep) writableValues.arcSep = value }
+	def arcSepA : Double = values.arcSepA
+	def arcSepA_=(value : Double) { if(value!=values.arcSepA) writableValues.arcSepA = value }
+	def arcSepB : Double = values.arcSepB
+	def arcSepB_=(value : Double) { if(value!=values.arcSepB) writableValues.arcSepB = value }
+	def boxSep : Boolean = values.boxSep
+	def boxSep_=(value : Boolean) { if(value!=values.boxSep) writableValues.boxSep = value }
+	def borderColor : Color = values.borderColor
+	def borderColor_=(value : Color) { if(value!=values.borderColor) writableValues.borderColor = value }
+	def borderPos : BorderPos = values.borderPos
+	def borderPos_=(value : BorderPos) { if(value!=values.borderPos) writableValues.borderPos = value }
+	def border : Double = values.border
+	def border_=(value : Double) { if(value!=values.border) writableValues.border = value }
+	def curvature : (Double, Double, Double) = values.curvature
+	def curvature_=(value : (Double, Double, Double)) { if(value!=values.curvature) writableValues.curvature = value }
+	def dxIncrement : Double = values.dxIncrement
+	def dxIncrement_=(value : Double) { if(value!=values.dxIncrement) writableValues.dxIncrement = value }
+	def dyIncrement : Double = values.dyIncrement
+	def dyIncrement_=(value : Double) { if(value!=values.dyIncrement) writableValues.dyIncrement = value }
+	def dxLabelDist : Double = values.dxLabelDist
+	def dxLabelDist_=(value : Double) { if(value!=values.dxLabelDist) writableValues.dxLabelDist = value }
+	def dyLabelDist : Double = values.dyLabelDist
+	def dyLabelDist_=(value : Double) { if(value!=values.dyLabelDist) writableValues.dyLabelDist = value }
+	def dotStyle : DotStyle = values.dotStyle
+	def dotStyle_=(value : DotStyle) { if(value!=values.dotStyle) writableValues.dotStyle = value }
+	def dotScale : (Double, Double) = values.dotScale
+	def dotScale_=(value : (Double, Double)) { if(value!=values.dotScale) writableValues.dotScale = value }
+	def dotAngle : Double = values.dotAngle
+	def dotAngle_=(value : Double) { if(value!=values.dotAngle) writableValues.dotAngle = value }
+	def dotSep : Double = values.dotSep
+	def dotSep_=(value : Double) { if(value!=values.dotSep) writableValues.dotSep = value }
+	def dash : (Double, Double) = values.dash
+	def dash_=(value : (Double, Double)) { if(value!=values.dash) writableValues.dash = value }
+	def dbleLine : Boolean = values.dbleLine
+	def dbleLine_=(value : Boolean) { if(value!=values.dbleLine) writableValues.dbleLine = value }
+	def dbleSep : Double = values.dbleSep
+	def dbleSep_=(value : Double) { if(value!=values.dbleSep) writableValues.dbleSep = value }
+	def dbleColor : Color = values.dbleColor
+	def dbleColor_=(value : Color) { if(value!=values.dbleColor) writableValues.dbleColor = value }
+	def degrees : Double = values.degrees
+	def degrees_=(value : Double) { if(value!=values.degrees) writableValues.degrees = value }
+	def frameSep : Double = values.frameSep
+	def frameSep_=(value : Double) { if(value!=values.frameSep) writableValues.frameSep = value }
+	def frameArc : Double = values.frameArc
+	def frameArc_=(value : Double) { if(value!=values.frameArc) writableValues.frameArc = value }
+	def fillStyle : FillingStyle = values.fillStyle
+	def fillStyle_=(value : FillingStyle) { if(value!=values.fillStyle) writableValues.fillStyle = value }
+	def fillColor : Color = values.fillColor
+	def fillColor_=(value : Color) { if(value!=values.fillColor) writableValues.fillColor = value }
+	def gridWidth : Double = values.gridWidth
+	def gridWidth_=(value : Double) { if(value!=values.gridWidth) writableValues.gridWidth = value }
+	def gridLabel : Double = values.gridLabel
+	def gridLabel_=(value : Double) { if(value!=values.gridLabel) writableValues.gridLabel = value }
+	def gridDots : Double = values.gridDots
+	def gridDots_=(value : Double) { if(value!=values.gridDots) writableValues.gridDots = value }
+	def gradAngle : Double = values.gradAngle
+	def gradAngle_=(value : Double) { if(value!=values.gradAngle) writableValues.gradAngle = value }
+	def gridColor : Color = values.gridColor
+	def gridColor_=(value : Color) { if(value!=values.gridColor) writableValues.gridColor = value }
+	def gradMidPoint : Double = values.gradMidPoint
+	def gradMidPoint_=(value : Double) { if(value!=values.gradMidPoint) writableValues.gradMidPoint = value }
+	def gradBegin : Color = values.gradBegin
+	def gradBegin_=(value : Color) { if(value!=values.gradBegin) writableValues.gradBegin = value }
+	def gradEnd : Color = values.gradEnd
+	def gradEnd_=(value : Color) { if(value!=values.gradEnd) writableValues.gradEnd = value }
+	def gradLines : Int = values.gradLines
+	def gradLines_=(value : Int) { if(value!=values.gradLines) writableValues.gradLines = value }
+	def gangle : Double = values.gangle
+	def gangle_=(value : Double) { if(value!=values.gangle) writableValues.gangle = value }
+	def hatchWidth : Double = values.hatchWidth
+	def hatchWidth_=(value : Double) { if(value!=values.hatchWidth) writableValues.hatchWidth = value }
+	def hatchSep : Double = values.hatchSep
+	def hatchSep_=(value : Double) { if(value!=values.hatchSep) writableValues.hatchSep = value }
+	def hatchCol : Color = values.hatchCol
+	def hatchCol_=(value : Color) { if(value!=values.hatchCol) writableValues.hatchCol = value }
+	def hatchAngle : Double = values.hatchAngle
+	def hatchAngle_=(value : Double) { if(value!=values.hatchAngle) writableValues.hatchAngle = value }
+	def isCornerRel : Boolean = values.isCornerRel
+	def isCornerRel_=(value : Boolean) { if(value!=values.isCornerRel) writableValues.isCornerRel = value }
+	def isShadow : Boolean = values.isShadow
+	def isShadow_=(value : Boolean) { if(value!=values.isShadow) writableValues.isShadow = value }
+	def lineWidth : Double = values.lineWidth
+	def lineWidth_=(value : Double) { if(value!=values.lineWidth) writableValues.lineWidth = value }
+	def lineColor : Color = values.lineColor
+	def lineColor_=(value : Color) { if(value!=values.lineColor) writableValues.lineColor = value }
+	def labels : PlottingStyle = values.labels
+	def labels_=(value : PlottingStyle) { if(value!=values.labels) writableValues.labels = value }
+	def lineArc : Double = values.lineArc
+	def lineArc_=(value : Double) { if(value!=values.lineArc) writableValues.lineArc = value }
+	def lineStyle : LineStyle = values.lineStyle
+	def lineStyle_=(value : LineStyle) { if(value!=values.lineStyle) writableValues.lineStyle = value }
+	def ox : Double = values.ox
+	def ox_=(value : Double) { if(value!=values.ox) writableValues.ox = value }
+	def oy : Double = values.oy
+	def oy_=(value : Double) { if(value!=values.oy) writableValues.oy = value }
+	def onRadians : Boolean = values.onRadians
+	def onRadians_=(value : Boolean) { if(value!=values.onRadians) writableValues.onRadians = value }
+	def origin : PointUnit = values.origin
+	def origin_=(value : PointUnit) { if(value!=values.origin) writableValues.origin = value }
+	def specialCoor : Boolean = values.specialCoor
+	def specialCoor_=(value : Boolean) { if(value!=values.specialCoor) writableValues.specialCoor = value }
+	def showPoints : Boolean = values.showPoints
+	def showPoints_=(value : Boolean) { if(value!=values.showPoints) writableValues.showPoints = value }
+	def showOrigin : Boolean = values.showOrigin
+	def showOrigin_=(value : Boolean) { if(value!=values.showOrigin) writableValues.showOrigin = value }
+	def subGridWidth : Double = values.subGridWidth
+	def subGridWidth_=(value : Double) { if(value!=values.subGridWidth) writableValues.subGridWidth = value }
+	def swapAxes : Boolean = values.swapAxes
+	def swapAxes_=(value : Boolean) { if(value!=values.swapAxes) writableValues.swapAxes = value }
+	def shadowCol : Color = values.shadowCol
+	def shadowCol_=(value : Color) { if(value!=values.shadowCol) writableValues.shadowCol = value }
+	def subGridCol : Color = values.subGridCol
+	def subGridCol_=(value : Color) { if(value!=values.subGridCol) writableValues.subGridCol = value }
+	def shadowAngle : Double = values.shadowAngle
+	def shadowAngle_=(value : Double) { if(value!=values.shadowAngle) writableValues.shadowAngle = value }
+	def shadowSize : Double = values.shadowSize
+	def shadowSize_=(value : Double) { if(value!=values.shadowSize) writableValues.shadowSize = value }
+	def subGridDots : Double = values.subGridDots
+	def subGridDots_=(value : Double) { if(value!=values.subGridDots) writableValues.subGridDots = value }
+	def subGridDiv : Double = values.subGridDiv
+	def subGridDiv_=(value : Double) { if(value!=values.subGridDiv) writableValues.subGridDiv = value }
+	def ticks : PlottingStyle = values.ticks
+	def ticks_=(value : PlottingStyle) { if(value!=values.ticks) writableValues.ticks = value }
+	def ticksStyle : TicksStyle = values.ticksStyle
+	def ticksStyle_=(value : TicksStyle) { if(value!=values.ticksStyle) writableValues.ticksStyle = value }
+	def ticksSize : Double = values.ticksSize
+	def ticksSize_=(value : Double) { if(value!=values.ticksSize) writableValues.ticksSize = value }
+	def unit : Double = values.unit
+	def unit_=(value : Double) { if(value!=values.unit) writableValues.unit = value }
+	def xUnit : Double = values.xUnit
+	def xUnit_=(value : Double) { if(value!=values.xUnit) writableValues.xUnit = value }
+	def yUnit : Double = values.yUnit
+	def yUnit_=(value : Double) { if(value!=values.yUnit) writableValues.yUnit = value }
+	def textColor : Color = values.textColor
+	def textColor_=(value : Color) { if(value!=values.textColor) writableValues.textColor = value }
+	def shadow : Boolean = values.shadow
+	def shadow_=(value : Boolean) { if(value!=values.shadow) writableValues.shadow = value }
+	def gridlabelcolor : Color = values.gridlabelcolor
+	def gridlabelcolor_=(value : Color) { if(value!=values.gridlabelcolor) writableValues.gridlabelcolor = value }
+	def isCentered : Boolean = values.isCentered
+	def isCentered_=(value : Boolean) { if(value!=values.isCentered) writableValues.isCentered = value }
+	def pictureSWPt : IPoint = values.pictureSWPt
+	def pictureSWPt_=(value : IPoint) { if(value!=values.pictureSWPt) writableValues.pictureSWPt = value }
+	def pictureNEPt : IPoint = values.pictureNEPt
+	def pictureNEPt_=(value : IPoint) { if(value!=values.pictureNEPt) writableValues.pictureNEPt = value }
+	def tokenPosition : String = values.tokenPosition
+	def tokenPosition_=(value : String) { if(value!=values.tokenPosition) writableValues.tokenPosition = value }
+	def plotStyle : String = values.plotStyle
+	def plotStyle_=(value : String) { if(value!=values.plotStyle) writableValues.plotStyle = value }
+	def plotPoints : Int = values.plotPoints
+	def plotPoints_=(value : Int) { if(value!=values.plotPoints) writableValues.plotPoints = value }
+	def addfillstyle : FillingStyle = values.addfillstyle
+	def addfillstyle_=(value : FillingStyle) { if(value!=values.addfillstyle) writableValues.addfillstyle = value }
+	def liftpen : Int = values.liftpen
+	def liftpen_=(value : Int) { if(value!=values.liftpen) writableValues.liftpen = value }
+	def textPosition : String = values.textPosition
+	def textPosition_=(value : String) { if(value!=values.textPosition) writableValues.textPosition = value }
+	def rputAngle : Double = values.rputAngle
+	def rputAngle_=(value : Double) { if(value!=values.rputAngle) writableValues.rputAngle = value }
+	def parsedTxtNoTxt : Boolean = values.parsedTxtNoTxt
+	def parsedTxtNoTxt_=(value : Boolean) { if(value!=values.parsedTxtNoTxt) writableValues.parsedTxtNoTxt = value }
+	def currFontShape : FontShapeVal = values.currFontShape
+	def currFontShape_=(value : FontShapeVal) { if(value!=values.currFontShape) writableValues.currFontShape = value }
+	def currFontSerie : FontSerieVal = values.currFontSerie
+	def currFontSerie_=(value : FontSerieVal) { if(value!=values.currFontSerie) writableValues.currFontSerie = value }
+	def currFontFamily : FontFamilyVal = values.currFontFamily
+	def currFontFamily_=(value : FontFamilyVal) { if(value!=values.currFontFamily) writableValues.currFontFamily = value }
+	/** The point is modified during the parsing: the context must have its own values. */
+	def psCustomLatestPt : IPoint = writableValues.psCustomLatestPt
+	def opacity : Double = values.opacity
+	def opacity_=(value : Double) { if(value!=values.opacity) writableValues.opacity = value }
+	def strokeopacity : Double = values.strokeopacity
+	def strokeopacity_=(value : Double) { if(value!=values.strokeopacity) writableValues.strokeopacity = value }
+	def polarPlot : Boolean = values.polarPlot
+	def polarPlot_=(value : Boolean) { if(value!=values.polarPlot) writableValues.polarPlot = value }
+
+
 	/**
 	 * Returns the value corresponding to the given parameter.
 	 */
@@ -273,7 +528,7 @@ class PSTContext(var axesStyle : AxesStyle, var arrowStyle : (ArrowStyle, ArrowS
 				case "arrowscale" => arrowScale
 				case "liftpen" => liftpen
 				case "polarplot" => polarPlot
-				case _ => PSTParser.errorLogs += "Parameter unknown: " + name
+				case _ => session.logError("Parameter unknown: " + name)
 			}
 	}
 
@@ -365,7 +620,7 @@ class PSTContext(var axesStyle : AxesStyle, var arrowStyle : (ArrowStyle, ArrowS
 				case "dash" if value.isInstanceOf[(_, _)] => dash = value.asInstanceOf[(Double, Double)]
 				case "curvature" if value.isInstanceOf[(_, _, _)] => curvature = value.asInstanceOf[(Double, Double, Double)]
 				case "polarplot" if value.isInstanceOf[Boolean] => polarPlot = value.asInstanceOf[Boolean]
-				case _ => PSTParser.errorLogs += "[PSTContext.setParam] Parameter unknown: " + name + " " + value
+				case _ => session.logError("[PSTContext.setParam] Parameter unknown: " + name + " " + value)
 			}
 	}
 }
@@ -0,0 +1,26 @@
+package net.sf.latexdraw.parsers.pst.parser
+
+/**
+ * A message produced while parsing PST code, located in the parsed code.<br>
+ *<br>
+ * This file is part of LaTeXDraw<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @param message The message.
+ * @param line The line (starting at 1) of the command that produced the message, 0 if unknown.
+ * @param column The column (starting at 1) of the command that produced the message, 0 if unknown.
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+class PSTDiagnostic(val message : String, val line : Int, val column : Int) {
+	override def toString = if(line>0) line + ":" + column + ": " + message else message
+}
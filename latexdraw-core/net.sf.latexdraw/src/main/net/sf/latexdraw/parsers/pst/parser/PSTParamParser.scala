@@ -135,9 +135,9 @@ trait PSTParamParser extends PSTAbstractParser with PSTValueParser {
 		paramsMap.get(name) match {
 			case Some(fct) => fct(valueStr, ctx) match {
 				case Some(res) => ctx.setParam(name, res)
-				case None => PSTParser.errorLogs += "Value not valid: " + name + "=" + valueStr
+				case None => session.logError("Value not valid: " + name + "=" + valueStr)
 			}
-			case None => PSTParser.errorLogs += "Unknown parameter: " + name + "=" + valueStr
+			case None => session.logError("Unknown parameter: " + name + "=" + valueStr)
 		}
 	}
 }
@@ -0,0 +1,103 @@
+package net.sf.latexdraw.parsers.pst.parser
+
+import java.util.ArrayList
+import java.util.Collections
+import java.util.LinkedHashMap
+import java.util.Optional
+
+import scala.util.parsing.input.NoPosition
+import scala.util.parsing.input.Position
+
+import net.sf.latexdraw.glib.models.interfaces.shape.Color
+import net.sf.latexdraw.glib.views.latex.DviPsColors
+
+/**
+ * The state of the parsing of a PST code: the messages produced while parsing the code
+ * and the colours defined by the code. Giving its own session to each parsed code permits
+ * to parse several codes concurrently (with one parser per code): the parsings do not share any state.
+ * A session is used by one parsing at a time.<br>
+ *<br>
+ * This file is part of LaTeXDraw<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+class PSTParseSession {
+	private val diagnostics = new ArrayList[PSTDiagnostic]()
+
+	/** The colours defined by the parsed code (\definecolor), in their definition order. */
+	private val colours = new LinkedHashMap[String, Color]()
+
+	/** The position of the command being parsed. */
+	private var position : Position = NoPosition
+
+
+	/**
+	 * Adds a message located at the command being parsed.
+	 */
+	def logError(msg : String) {
+		// The parsed code is preceded by one line (see PSTParser.parsePSTCode).
+		if(position==NoPosition)
+			diagnostics.add(new PSTDiagnostic(msg, 0, 0))
+		else
+			diagnostics.add(new PSTDiagnostic(msg, Math.max(1, position.line-1), position.column))
+	}
+
+
+	/** The messages produced while parsing the code, in their production order. */
+	def getDiagnostics : java.util.List[PSTDiagnostic] = Collections.unmodifiableList(diagnostics)
+
+
+	/**
+	 * Defines a colour for the rest of the parsed code.
+	 */
+	def defineColour(name : String, colour : Color) {
+		if(colour!=null && name!=null && !name.isEmpty)
+			colours.put(name, colour)
+	}
+
+
+	/**
+	 * @return The colour defined in the session with the given name, or the colour of DviPsColors that has this name.
+	 */
+	def getColour(name : String) : Optional[Color] =
+		colours.get(name) match {
+			case null => DviPsColors.INSTANCE.getColour(name)
+			case colour => Optional.of(colour)
+		}
+
+
+	/**
+	 * @return The PST code that defines the given colour, or an empty string if the colour is unknown.
+	 */
+	def getUsercolourCode(name : String) : String =
+		colours.get(name) match {
+			case null => DviPsColors.INSTANCE.getUsercolourCode(name)
+			case colour => DviPsColors.getColourCode(name, colour)
+		}
+
+
+	/** The colours defined by the parsed code, indexed by their name. */
+	def getColours : java.util.Map[String, Color] = Collections.unmodifiableMap(colours)
+
+
+	/**
+	 * Parses a command located at the given position: the messages produced while parsing
+	 * this command are located at this position.
+	 */
+	private[parser] def located[T](pos : Position)(parse : => T) : T = {
+		val previous = position
+		position = pos
+		try parse finally position = previous
+	}
+}
@@ -1,7 +1,11 @@
 package net.sf.latexdraw.parsers.pst.parser
 
 import java.text.ParseException
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executor
+
 import net.sf.latexdraw.glib.models.interfaces.shape.IGroup
+import net.sf.latexdraw.glib.views.latex.DviPsColors
 import scala.collection.mutable.ListBuffer
 
 /**
@@ -24,19 +28,49 @@ import scala.collection.mutable.ListBuffer
  * @version 3.0
  */
 class PSTParser extends PSTAbstractParser with PSTCodeParser {
+	/**
+	 * Parses the given PST code. The errors are added to the error logs of the PSTParser object
+	 * and the colours defined by the code are added to the user colours of DviPsColors.
+	 * This method is kept for the callers that do not use a session: the other callers should use
+	 * parsePSTCode(content, session) and get the errors from the session.
+	 */
 	@throws(classOf[ParseException])
 	def parsePSTCode(content : String) : Option[IGroup] = {
-		val tokens = new lexical.Scanner("{\n" + content + "\n}\n")
-		val result = phrase(parsePSTCode(new PSTContext(false)))(tokens)
+		val session = new PSTParseSession
+
+		try {
+			parsePSTCode(content, session)
+		}finally{
+			session.getDiagnostics.forEach{diag => PSTParser.errorLogs_+=(diag.message)}
+			session.getColours.forEach{(name, colour) => DviPsColors.INSTANCE.addUserColour(colour, name)}
+		}
+	}
+
+
+	/**
+	 * Parses the given PST code in the given session: the errors and the colours defined by the code
+	 * are only stored in the session. A parser parses one code at a time but several parsers can parse
+	 * codes concurrently.
+	 * @since 4.0
+	 */
+	@throws(classOf[ParseException])
+	def parsePSTCode(content : String, session : PSTParseSession) : Option[IGroup] = {
+		val previousSession = this.session
+		this.session = session
 
-		PSTParser._errorLogs.foreach{msg => println(msg)}
+		try {
+			val tokens = new lexical.Scanner("{\n" + content + "\n}\n")
+			val result = phrase(parsePSTCode(new PSTContext(session, false)))(tokens)
 
-		result match {
-			case Success(tree, _) =>
-				if(tree.size==1 && tree.getShapeAt(0).isInstanceOf[IGroup])
-					Some(tree.getShapeAt(0).asInstanceOf[IGroup])
-				else Some(tree)
-			case e: NoSuccess => throw new ParseException(result.toString, -1)
+			result match {
+				case Success(tree, _) =>
+					if(tree.size==1 && tree.getShapeAt(0).isInstanceOf[IGroup])
+						Some(tree.getShapeAt(0).asInstanceOf[IGroup])
+					else Some(tree)
+				case e: NoSuccess => throw new ParseException(result.toString, -1)
+			}
+		}finally{
+			this.session = previousSession
 		}
 	}
 }
@@ -46,6 +80,11 @@ class PSTParser extends PSTAbstractParser with PSTCodeParser {
  * Companion object of the PST parser used to encapsulate shared elements.
  */
 object PSTParser {
+	/**
+	 * The errors of the parsings that do not use a session (see parsePSTCode(content)). This global
+	 * log is only kept for compatibility: it is shared by every parser, so the errors of concurrent
+	 * parsings are mixed. The sessions should be used instead (see PSTParseSession.getDiagnostics).
+	 */
 	protected val _errorLogs = ListBuffer[String]()
 
 	/**
@@ -53,7 +92,7 @@ object PSTParser {
 	 */
 	def errorLogs_+=(msg : String) {
 		if(_errorLogs!=null)
-			_errorLogs += msg
+			_errorLogs.synchronized{ _errorLogs += msg }
 	}
 
 
@@ -64,6 +103,31 @@ object PSTParser {
 	 * Cleans the parsing logs.
 	 */
 	def cleanErrors() {
-		_errorLogs.clear
+		_errorLogs.synchronized{ _errorLogs.clear }
+	}
+
+
+	/**
+	 * Parses the given PST codes on the given executor. Each code is parsed by its own parser
+	 * in the session that has the same index: the errors and the colours of a code are stored in its session.
+	 * @return The parsings of the codes, in the order of the codes. A parsing fails with the ParseException
+	 * thrown while parsing its code.
+	 * @throws IllegalArgumentException If the numbers of codes and sessions differ.
+	 * @since 4.0
+	 */
+	def parsePSTCodes(codes : java.util.List[String], sessions : java.util.List[PSTParseSession], executor : Executor) :
+			java.util.List[CompletableFuture[Option[IGroup]]] = {
+		if(codes.size!=sessions.size)
+			throw new IllegalArgumentException("codes: " + codes.size + ", sessions: " + sessions.size)
+
+		val parsings = new java.util.ArrayList[CompletableFuture[Option[IGroup]]](codes.size)
+
+		for(i <- 0 until codes.size) {
+			val code = codes.get(i)
+			val session = sessions.get(i)
+			parsings.add(CompletableFuture.supplyAsync[Option[IGroup]](() => new PSTParser().parsePSTCode(code, session), executor))
+		}
+
+		parsings
 	}
 }
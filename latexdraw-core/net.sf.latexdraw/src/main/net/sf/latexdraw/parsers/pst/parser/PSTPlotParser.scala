@@ -36,14 +36,14 @@ trait PSTPlotParser extends PSTAbstractParser with PSTParamParser with PSTBracke
 	 * Parses readdata commands.
 	 */
 	private def parseReaddata(ctx : PSTContext) : Parser[List[IShape]] = "\\readdata" ~ parseBracket(ctx) ~ parseBracket(ctx) ^^
-	{ case cmdName ~ command ~ file => PSTParser.errorLogs += "Command readdata not supported yet."; Nil }
+	{ case cmdName ~ command ~ file => session.logError("Command readdata not supported yet."); Nil }
 
 
 	/**
 	 * Parses savedata commands.
 	 */
 	private def parseSavedata(ctx : PSTContext) : Parser[List[IShape]] = "\\savedata" ~ parseBracket(ctx) ~ parseSquaredBracket(ctx) ^^
-	{ case cmdName ~ command ~ data => PSTParser.errorLogs += "Command savedata not supported yet."; Nil }
+	{ case cmdName ~ command ~ data => session.logError("Command savedata not supported yet."); Nil }
 
 
 	/**
@@ -51,7 +51,7 @@ trait PSTPlotParser extends PSTAbstractParser with PSTParamParser with PSTBracke
 	 */
 	private def parseParametricplot(ctx : PSTContext) : Parser[List[IShape]] =
 	("\\parametricplot*" | "\\parametricplot") ~ opt(parseParam(ctx)) ~ parseBracket(ctx) ~ parseBracket(ctx) ~ parseBracket(ctx) ^^
-	{ case cmdName ~ _ ~ xmin ~ xmax ~ function => PSTParser.errorLogs += "Command parametricplot not supported yet."; Nil }
+	{ case cmdName ~ _ ~ xmin ~ xmax ~ function => session.logError("Command parametricplot not supported yet."); Nil }
 
 
 	/**
@@ -83,19 +83,19 @@ trait PSTPlotParser extends PSTAbstractParser with PSTParamParser with PSTBracke
 	 * Parses listplot commands.
 	 */
 	private def parseListplot(ctx : PSTContext) : Parser[List[IShape]] = ("\\listplot*" | "\\listplot") ~ opt(parseParam(ctx)) ~ parseBracket(ctx) ^^
-	{ case cmdName ~ _ ~ list => PSTParser.errorLogs += "Command listplot not supported yet."; Nil }
+	{ case cmdName ~ _ ~ list => session.logError("Command listplot not supported yet."); Nil }
 
 
 	/**
 	 * Parses dataplot commands.
 	 */
 	private def parseDataplot(ctx : PSTContext) : Parser[List[IShape]] = ("\\dataplot*" | "\\dataplot") ~ opt(parseParam(ctx)) ~ parseBracket(ctx) ^^
-	{ case cmdName ~ _ ~ commands => PSTParser.errorLogs += "Command dataplot not supported yet."; Nil }
+	{ case cmdName ~ _ ~ commands => session.logError("Command dataplot not supported yet."); Nil }
 
 
 	/**
 	 * Parses fileplot commands.
 	 */
 	private def parseFileplot(ctx : PSTContext) : Parser[List[IShape]] = ("\\fileplot*" | "\\fileplot") ~ opt(parseParam(ctx)) ~ parseBracket(ctx) ^^
-	{ case cmdName ~ _ ~ file => PSTParser.errorLogs += "Command fileplot not supported yet."; Nil }
+	{ case cmdName ~ _ ~ file => session.logError("Command fileplot not supported yet."); Nil }
 }
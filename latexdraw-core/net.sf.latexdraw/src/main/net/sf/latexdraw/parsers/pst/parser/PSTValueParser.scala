@@ -12,7 +12,6 @@ import net.sf.latexdraw.glib.models.interfaces.shape.IArrowableShape
 import net.sf.latexdraw.glib.models.interfaces.shape.LineStyle
 import net.sf.latexdraw.glib.models.interfaces.shape.PlottingStyle
 import net.sf.latexdraw.glib.models.interfaces.shape.TicksStyle
-import net.sf.latexdraw.glib.views.latex.DviPsColors
 import net.sf.latexdraw.glib.views.pst.PSTricksConstants
 
 
@@ -211,7 +210,7 @@ trait PSTValueParser extends PSTNumberParser {
 			case PSTricksConstants.SQUARE_STYLE => Some(DotStyle.SQUARE)
 			case PSTricksConstants.TRIANGLE_STYLE => Some(DotStyle.TRIANGLE)
 			case PSTricksConstants.X_STYLE => Some(DotStyle.X)
-			case _ => PSTParser.errorLogs += "Unknown dot style: " + value.replace(" ", ""); None
+			case _ => session.logError("Unknown dot style: " + value.replace(" ", "")); None
 		}
 
 
@@ -224,7 +223,7 @@ trait PSTValueParser extends PSTNumberParser {
 			case PSTricksConstants.TOKEN_LABELS_DISPLAYED_NONE => Some(PlottingStyle.NONE)
 			case PSTricksConstants.TOKEN_LABELS_DISPLAYED_X  => Some(PlottingStyle.X)
 			case PSTricksConstants.TOKEN_LABELS_DISPLAYED_Y  => Some(PlottingStyle.Y)
-			case _ => PSTParser.errorLogs += "Unknown tick style: " + value; None
+			case _ => session.logError("Unknown tick style: " + value); None
 	}
 
 
@@ -236,7 +235,7 @@ trait PSTValueParser extends PSTNumberParser {
 			case PSTricksConstants.TOKEN_TICKS_STYLE_BOTTOM => Some(TicksStyle.BOTTOM)
 			case PSTricksConstants.TOKEN_TICKS_STYLE_FULL => Some(TicksStyle.FULL)
 			case PSTricksConstants.TOKEN_TICKS_STYLE_TOP => Some(TicksStyle.TOP)
-			case _ => PSTParser.errorLogs += "Unknown tick style: " + value; None
+			case _ => session.logError("Unknown tick style: " + value); None
 	}
 
 
@@ -248,7 +247,7 @@ trait PSTValueParser extends PSTNumberParser {
 			case PSTricksConstants.TOKEN_AXES_STYLE_AXES  => Some(AxesStyle.AXES)
 			case PSTricksConstants.TOKEN_AXES_STYLE_FRAME => Some(AxesStyle.FRAME)
 			case PSTricksConstants.TOKEN_AXES_STYLE_NONE  => Some(AxesStyle.NONE)
-			case _ => PSTParser.errorLogs += "Unknown axes style: " + value; None
+			case _ => session.logError("Unknown axes style: " + value); None
 	}
 
 
@@ -260,7 +259,7 @@ trait PSTValueParser extends PSTNumberParser {
 			case PSTricksConstants.BORDERS_INSIDE => Some(BorderPos.INTO)
 			case PSTricksConstants.BORDERS_MIDDLE => Some(BorderPos.MID)
 			case PSTricksConstants.BORDERS_OUTSIDE=> Some(BorderPos.OUT)
-			case _ => PSTParser.errorLogs += "Unknown border position: " + value; None
+			case _ => session.logError("Unknown border position: " + value); None
 		}
 
 
@@ -270,7 +269,7 @@ trait PSTValueParser extends PSTNumberParser {
 	def parseValuePlotstyle(value : String) : Option[String] =
 		value match {
 			case "dots" | "line" | "polygon" | "curve" | "ecurve" | "ccurve" => Some(value)
-			case _ => PSTParser.errorLogs += "Unknown plotstyle: " + value; None
+			case _ => session.logError("Unknown plotstyle: " + value); None
 	}
 
 
@@ -283,9 +282,9 @@ trait PSTValueParser extends PSTNumberParser {
 			case PSTricksConstants.LINE_DOTTED_STYLE => Some(LineStyle.DOTTED)
 			case PSTricksConstants.LINE_SOLID_STYLE => Some(LineStyle.SOLID)
 			case PSTricksConstants.LINE_NONE_STYLE =>
-				PSTParser.errorLogs += "line style '"+PSTricksConstants.LINE_NONE_STYLE+"' not supported yet"
+				session.logError("line style '"+PSTricksConstants.LINE_NONE_STYLE+"' not supported yet")
 				None
-			case _ => PSTParser.errorLogs += "Unknown line style: " + value; None
+			case _ => session.logError("Unknown line style: " + value); None
 		}
 
 
@@ -303,7 +302,7 @@ trait PSTValueParser extends PSTNumberParser {
 			case "clines" => Some(FillingStyle.CLINES)
 			case "clines*" => Some(FillingStyle.CLINES_PLAIN)
 			case "gradient" => Some(FillingStyle.GRAD)
-			case _ => PSTParser.errorLogs += "Unknown filling style: " + value; None
+			case _ => session.logError("Unknown filling style: " + value); None
 		}
 
 
@@ -317,9 +316,9 @@ trait PSTValueParser extends PSTNumberParser {
 						case _ => None
 					}
 				case identPattern(_) =>
-					DviPsColors.INSTANCE.getColour(value) match {
+					session.getColour(value) match {
 						case col:Optional[Color] => Some(col.get)
-						case _ => PSTParser.errorLogs += "The following colour is unknown: " + value; None
+						case _ => session.logError("The following colour is unknown: " + value); None
 					}
 				case _ => None
 			}
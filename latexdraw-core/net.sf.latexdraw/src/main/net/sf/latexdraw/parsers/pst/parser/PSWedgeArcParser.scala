@@ -47,7 +47,7 @@ trait PSWedgeArcParser extends PSTAbstractParser
 		("\\psellipticarc*" | "\\psellipticarc") ~ opt(parseParam(ctx)) ~ opt(parseBracket(ctx)) ~ parseCoord(ctx) ~ opt(parseCoord(ctx)) ~
 		parseBracket(ctx) ~ parseBracket(ctx) ^^ {
 			case cmdName ~ _ ~ arrowRaw ~ pos0Raw ~ pos1Raw ~ angle1Str ~ angle2Str =>
-		PSTParser.errorLogs += "Command psellipticarc not supported yet."
+		session.logError("Command psellipticarc not supported yet.")
 		Nil
 	}
 
@@ -59,7 +59,7 @@ trait PSWedgeArcParser extends PSTAbstractParser
 			("\\psellipticarcn*" | "\\psellipticarcn") ~ opt(parseParam(ctx)) ~ opt(parseBracket(ctx)) ~ parseCoord(ctx) ~ opt(parseCoord(ctx)) ~
 			parseBracket(ctx) ~ parseBracket(ctx) ^^ {
 				case cmdName ~ _ ~ arrowRaw ~ pos0Raw ~ pos1Raw ~ angle1Str ~ angle2Str =>
-				PSTParser.errorLogs += "Command psellipticarcn not supported yet."
+				session.logError("Command psellipticarcn not supported yet.")
 				Nil
 	}
 
@@ -85,7 +85,7 @@ trait PSWedgeArcParser extends PSTAbstractParser
 		// One of the two bracket blocks must be defined.
 		firstBracketRaw.isDefined || angle2Raw.isDefined match {
 			case true => parsePsarc_(cmdName, posRaw, firstBracketRaw, radiusRaw, angle1Raw, angle2Raw, ctx, inverted)
-			case false => PSTParser.errorLogs += "One set of brackets is missing for the psarc command."; Nil
+			case false => session.logError("One set of brackets is missing for the psarc command."); Nil
 		}
 	}
 
@@ -127,17 +127,17 @@ trait PSWedgeArcParser extends PSTAbstractParser
 						angle2Str : String, arrows : Option[String], ctx : PSTContext, inverted : Boolean) : Option[IArc] = {
 		val radius = parseValueDim(radiusStr) match {
 			case Some(value) => value._1
-			case None => PSTParser.errorLogs += "pswedge's radius cannot be parsed: " + radiusStr ; Double.NaN
+			case None => session.logError("pswedge's radius cannot be parsed: " + radiusStr); Double.NaN
 		}
 
 		var angle1 = parseValueNum(angle1Str) match {
 			case Some(value) => value
-			case None => PSTParser.errorLogs += "pswedge's angle1 cannot be parsed: " + angle1Str ; Double.NaN
+			case None => session.logError("pswedge's angle1 cannot be parsed: " + angle1Str); Double.NaN
 		}
 
 		var angle2 = parseValueNum(angle2Str) match {
 			case Some(value) => value
-			case None => PSTParser.errorLogs += "pswedge's angle2 cannot be parsed: " + angle2Str ; Double.NaN
+			case None => session.logError("pswedge's angle2 cannot be parsed: " + angle2Str); Double.NaN
 		}
 
 		val pos = posRaw match {
@@ -1,7 +1,6 @@
 package net.sf.latexdraw.parsers.pst.parser
 
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape
-import net.sf.latexdraw.glib.views.latex.DviPsColors
 import java.util.Optional
 import net.sf.latexdraw.glib.models.interfaces.shape.Color
 
@@ -119,7 +118,7 @@ trait TextCommandsParser extends PSTAbstractParser with PSTBracketBlockParser wi
 	private def parseColorBlock(ctx:PSTContext) : Parser[Unit] = {
 		parseBracket(ctx) ^^ {
 			case colourTxt =>
-				DviPsColors.INSTANCE.getColour(colourTxt) match {
+				session.getColour(colourTxt) match {
   				case c:Optional[Color] => ctx.textColor = c.get
   				case _ =>
 				}
@@ -43,7 +43,8 @@ public class SVGAttr implements Attr, Cloneable {
 
 
 	/**
-	 * Creates an SVG attribute.
+	 * Creates an SVG attribute. The name is interned since the same few names are shared by
+	 * most of the attributes of a document.
 	 * @param n The name of the node.
 	 * @param val The value of the node.
 	 * @param parent The parent of the node.
@@ -51,7 +52,7 @@ public class SVGAttr implements Attr, Cloneable {
 	 */
 	public SVGAttr(final String n, final String val, final Element parent) {
         super();
-        name = Objects.requireNonNull(n);
+        name = Objects.requireNonNull(n).intern();
         owner = Objects.requireNonNull(parent);
         value = Objects.requireNonNull(val);
     }
@@ -92,6 +93,19 @@ public class SVGAttr implements Attr, Cloneable {
 			throw new DOMException(DOMException.SYNTAX_ERR, "A value cannot be null");//$NON-NLS-1$
 
 		this.value = value;
+		notifyNamespaceChange();
+	}
+
+
+
+	/**
+	 * Drops the cached namespace scope of the owner element if this attribute declares a namespace.
+	 * Must be called when the attribute is added to, removed from, or modified in its owner.
+	 * @since 4.0
+	 */
+	void notifyNamespaceChange() {
+		if(owner instanceof SVGElement && SVGElement.isNamespaceDeclaration(name))
+			((SVGElement)owner).invalidateNamespaceScope();
 	}
 
 
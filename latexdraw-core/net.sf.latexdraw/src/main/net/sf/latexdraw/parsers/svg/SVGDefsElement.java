@@ -68,6 +68,16 @@ public class SVGDefsElement extends SVGElement {
 		if(id==null)
 			return null;
 
+		final SVGDocument doc = getDocumentContaining();
+
+		if(doc!=null) {
+			// The identifiers of the document are indexed.
+			final SVGElement elt = doc.getElementById(id);
+
+			if(elt==null || elt.getParent()==this)
+				return elt;
+		}
+
 		final NodeList nl = getChildNodes();
 		SVGElement e = null;
 		Node n;
@@ -1,24 +1,33 @@
 package net.sf.latexdraw.parsers.svg;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
-import java.io.FileOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.FactoryConfigurationError;
+import javax.xml.stream.XMLStreamException;
 
 import net.sf.latexdraw.badaboom.BadaboomCollector;
 
 import org.w3c.dom.*;
-import org.w3c.dom.bootstrap.DOMImplementationRegistry;
-import org.w3c.dom.ls.DOMImplementationLS;
-import org.w3c.dom.ls.LSOutput;
-import org.w3c.dom.ls.LSSerializer;
 import org.xml.sax.EntityResolver;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -58,58 +67,137 @@ public class SVGDocument implements Document {
     /** The encoding of the document. @since 0.1 */
     protected String xmlEncoding;
 
+	/** The elements of the document tree indexed by their identifier. @since 4.0 */
+	private final Map<String, SVGElement> ids = new HashMap<>();
+
+	/** True if several elements of the document may have the same identifier. @since 4.0 */
+	private boolean duplicatedIds;
+
 
     public static final String ACTION_NOT_IMPLEMENTED = "Action not implemented.";//$NON-NLS-1$
 
 
     public static final String SVG_NAMESPACE = "http://www.w3.org/2000/svg";//$NON-NLS-1$
 
+	/** The extension of compressed SVG documents. @since 4.0 */
+	public static final String SVGZ_EXTENSION = ".svgz";//$NON-NLS-1$
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
 
 	/**
 	 * The constructor. An URI defines the location of the SVG document to parse. If the document is valid,
 	 * the document is read an place in the <code>root</code> attribute.
+	 * The document is read in a single pass (see {@link #SVGDocument(URI, boolean)}).
 	 * @param uri The file to parse.
 	 * @throws MalformedSVGDocument If an error occurs.
 	 * @throws IOException If the document cannot be opened.
 	 * @throws IllegalArgumentException If a n argument is not valid.
 	 */
 	public SVGDocument(final URI uri) throws MalformedSVGDocument, IOException {
-        super();
-        if (uri == null)
-            throw new IllegalArgumentException();
-
-        try {
-            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            final DocumentBuilder builder = factory.newDocumentBuilder();
-
-            builder.setEntityResolver(new SVGEntityResolver());
-            Document doc;
-            try {
-                doc = builder.parse(uri.getPath());
-            } catch (final MalformedURLException ex) {
-                doc = builder.parse("file:" + uri.getPath()); //$NON-NLS-1$
-            }
-            final NodeList nl;
-
-            setDocumentURI(getDocumentURI());
-            setXmlStandalone(doc.getXmlStandalone());
-            setXmlVersion(doc.getXmlVersion());
-            xmlEncoding = doc.getXmlEncoding();
-            root = null;
-            nl = doc.getChildNodes();
-            Node n;
-
-            for (int i = 0, size = nl.getLength(); i < size && root == null; i++) {
-                n = nl.item(i);
-
-                if (n instanceof Element && n.getNodeName().endsWith(SVGElements.SVG_SVG))
-                    root = new SVGSVGElement(this, nl.item(i));
-            }
-        } catch (final SAXException | ParserConfigurationException e) {
-            BadaboomCollector.INSTANCE.add(e);
-            throw new MalformedSVGDocument();
-        }
-    }
+		this(uri, true);
+	}
+
+
+
+	/**
+	 * The constructor. An URI defines the location of the SVG document to parse. If the document is valid,
+	 * the document is read an place in the <code>root</code> attribute.
+	 * @param uri The file to parse.
+	 * @param streamed True: the SVG elements are created while the file is read (StAX), without building
+	 * a W3C DOM first. If the streamed loading fails, the DOM loading is used as a fallback.
+	 * False: the file is first parsed into a W3C DOM which is then copied.
+	 * @throws MalformedSVGDocument If an error occurs.
+	 * @throws IOException If the document cannot be opened.
+	 * @throws IllegalArgumentException If a n argument is not valid.
+	 * @since 4.0
+	 */
+	public SVGDocument(final URI uri, final boolean streamed) throws MalformedSVGDocument, IOException {
+		super();
+		if(uri == null)
+			throw new IllegalArgumentException();
+
+		if(!streamed || !loadStreamed(uri))
+			loadDOM(uri);
+	}
+
+
+
+	/**
+	 * Loads the document using a StAX reader.
+	 * @param uri The file to parse.
+	 * @return False if the file cannot be parsed by the streamed loader.
+	 * @throws MalformedSVGDocument If the SVG root element is not valid.
+	 * @throws IOException If the document cannot be opened.
+	 */
+	private boolean loadStreamed(final URI uri) throws MalformedSVGDocument, IOException {
+		try(InputStream is = openStream(uri)) {
+			root = new SVGStreamLoader(this).load(is);
+			return true;
+		}catch(final XMLStreamException | FactoryConfigurationError ex) {
+			root = null;
+			indexIds();
+			return false;
+		}
+	}
+
+
+
+	/**
+	 * Opens the given file. Compressed (gzip) documents are uncompressed while read.
+	 */
+	private static InputStream openStream(final URI uri) throws IOException {
+		final InputStream is = new BufferedInputStream(new FileInputStream(uri.getPath()), BUFFER_SIZE);
+		is.mark(2);
+		final boolean gzip = is.read()==(GZIPInputStream.GZIP_MAGIC & 0xFF) && is.read()==GZIPInputStream.GZIP_MAGIC >> 8;
+		is.reset();
+		return gzip ? new GZIPInputStream(is, BUFFER_SIZE) : is;
+	}
+
+
+
+	/**
+	 * Loads the document by parsing the file into a W3C DOM that is then converted into SVG elements.
+	 * @param uri The file to parse.
+	 * @throws MalformedSVGDocument If an error occurs.
+	 * @throws IOException If the document cannot be opened.
+	 */
+	private void loadDOM(final URI uri) throws MalformedSVGDocument, IOException {
+		try {
+			final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+			final DocumentBuilder builder = factory.newDocumentBuilder();
+
+			builder.setEntityResolver(new SVGEntityResolver());
+			Document doc;
+			try {
+				doc = builder.parse(uri.getPath());
+			} catch (final MalformedURLException ex) {
+				doc = builder.parse("file:" + uri.getPath()); //$NON-NLS-1$
+			}
+			final NodeList nl;
+
+			setDocumentURI(getDocumentURI());
+			setXmlStandalone(doc.getXmlStandalone());
+			setXmlVersion(doc.getXmlVersion());
+			xmlEncoding = doc.getXmlEncoding();
+			root = null;
+			nl = doc.getChildNodes();
+			Node n;
+
+			for (int i = 0, size = nl.getLength(); i < size && root == null; i++) {
+				n = nl.item(i);
+
+				if (n instanceof Element && n.getNodeName().endsWith(SVGElements.SVG_SVG))
+					root = new SVGSVGElement(this, nl.item(i));
+			}
+
+			// The elements are created before the root is set: the identifiers must be indexed now.
+			indexIds();
+		} catch (final SAXException | ParserConfigurationException e) {
+			BadaboomCollector.INSTANCE.add(e);
+			throw new MalformedSVGDocument();
+		}
+	}
 
 
 
@@ -143,6 +231,7 @@ public class SVGDocument implements Document {
 
 		root = (SVGSVGElement)source;
 		root.setOwnerDocument(this);
+		indexIds();
 
 		return root;
 	}
@@ -491,8 +580,103 @@ public class SVGDocument implements Document {
 	{ /* Nothing to do. */ }
 
 	@Override
-	public Element getElementById(final String elementId)
-	{ return null; }
+	public SVGElement getElementById(final String elementId) {
+		return elementId==null ? null : ids.get(elementId);
+	}
+
+
+
+	/**
+	 * Rebuilds the index of the identifiers from the root element.
+	 */
+	void indexIds() {
+		ids.clear();
+		duplicatedIds = false;
+
+		if(root!=null)
+			registerIds(root);
+	}
+
+
+
+	/**
+	 * Indexes the identifier of the given element, if it has one.
+	 * If an element already has this identifier, it is kept in the index (as getElementById returns
+	 * the first element having the identifier).
+	 * @param elt The element to index. Must be part of the tree of the document.
+	 */
+	void registerId(final SVGElement elt) {
+		final String id = elt.getId();
+
+		if(id!=null) {
+			final SVGElement indexed = ids.putIfAbsent(id, elt);
+
+			if(indexed!=null && indexed!=elt)
+				duplicatedIds = true;
+		}
+	}
+
+
+
+	/**
+	 * Indexes the identifiers of the given element and of its descendants.
+	 * @param elt The element to index. Must be part of the tree of the document.
+	 */
+	void registerIds(final SVGElement elt) {
+		registerId(elt);
+
+		for(final SVGElement child : elt.children.getNodes())
+			registerIds(child);
+	}
+
+
+
+	/**
+	 * Removes the identifier of the given element from the index.
+	 * @param elt The element to remove from the index.
+	 */
+	void unregisterId(final SVGElement elt) {
+		final String id = elt.getId();
+
+		if(id!=null && ids.get(id)==elt) {
+			ids.remove(id);
+
+			// Another element of the tree may have the same identifier.
+			if(duplicatedIds && root!=null) {
+				final SVGElement other = findElementById(root, id, elt);
+
+				if(other!=null)
+					ids.put(id, other);
+			}
+		}
+	}
+
+
+
+	/**
+	 * Removes the identifiers of the given element and of its descendants from the index.
+	 * @param elt The element to remove from the index.
+	 */
+	void unregisterIds(final SVGElement elt) {
+		unregisterId(elt);
+
+		for(final SVGElement child : elt.children.getNodes())
+			unregisterIds(child);
+	}
+
+
+
+	private static SVGElement findElementById(final SVGElement elt, final String id, final SVGElement excluded) {
+		if(elt!=excluded && id.equals(elt.getId()))
+			return elt;
+
+		SVGElement found = null;
+
+		for(int i=0, size=elt.children.getLength(); i<size && found==null; i++)
+			found = findElementById(elt.children.item(i), id, excluded);
+
+		return found;
+	}
 
 	@Override
 	public NodeList getElementsByTagName(final String tagname)
@@ -505,7 +689,8 @@ public class SVGDocument implements Document {
 
 
 	/**
-	 * Serialise the given SVG document.
+	 * Serialise the given SVG document. The document is indented. It is compressed (gzip) if the name of the file
+	 * ends with the svgz extension.
 	 * @param path The file of the future serialised document.
 	 * @return True: the document has been successfully saved.
 	 * @since 2.0
@@ -514,23 +699,58 @@ public class SVGDocument implements Document {
 		if(path==null)
 			return false;
 
-		boolean ok = true;
-		try{
-	        DOMImplementationLS impl = (DOMImplementationLS) DOMImplementationRegistry.newInstance().getDOMImplementation("XML 3.0 LS 3.0"); //$NON-NLS-1$
-	        LSSerializer serializer = impl.createLSSerializer();
-	        serializer.getDomConfig().setParameter("format-pretty-print", true); //$NON-NLS-1$
-	        serializer.getDomConfig().setParameter("namespaces", false); //$NON-NLS-1$
-	        LSOutput output = impl.createLSOutput();
-	        final Charset charset = Charset.defaultCharset();
-	        try(OutputStreamWriter fw = new OutputStreamWriter(new FileOutputStream(path), charset.newEncoder())){
-	        	output.setEncoding(charset.name());
-	        	output.setCharacterStream(fw);
-	        	serializer.write(getDocumentElement(), output);
-	        }
-		}catch(ClassNotFoundException | InstantiationException | IllegalAccessException | ClassCastException | IOException ex){
-			ex.printStackTrace();
+		try {
+			return saveSVGDocument(Paths.get(path), false);
+		}catch(final InvalidPathException ex) {
+			BadaboomCollector.INSTANCE.add(ex);
+			return false;
+		}
+	}
+
+
+
+	/**
+	 * Serialise the given SVG document. The document is compressed (gzip) if the name of the file
+	 * ends with the svgz extension.
+	 * @param path The file of the future serialised document.
+	 * @param compact True: the document is written without indentation.
+	 * @return True: the document has been successfully saved.
+	 * @since 4.0
+	 */
+	public boolean saveSVGDocument(final Path path, final boolean compact) {
+		if(path==null)
+			return false;
+
+		final Path fileName = path.getFileName();
+		final boolean gzip = fileName!=null && fileName.toString().toLowerCase(Locale.ENGLISH).endsWith(SVGZ_EXTENSION);
+
+		try(OutputStream os = Files.newOutputStream(path)) {
+			writeSVGDocument(os, compact, gzip);
+			return true;
+		}catch(final IOException ex) {
+			BadaboomCollector.INSTANCE.add(ex);
+			return false;
+		}
+	}
+
+
+
+	/**
+	 * Serialise the given SVG document (UTF-8) into the given stream.
+	 * @param os The stream to write to. It is not closed.
+	 * @param compact True: the document is written without indentation.
+	 * @param gzip True: the written document is compressed (gzip).
+	 * @throws IOException If an error occurs while writing.
+	 * @since 4.0
+	 */
+	public void writeSVGDocument(final OutputStream os, final boolean compact, final boolean gzip) throws IOException {
+		if(gzip) {
+			final GZIPOutputStream gzos = new GZIPOutputStream(os, BUFFER_SIZE);
+			new SVGDocumentWriter(gzos, compact).write(this);
+			gzos.finish();
 		}
-        return ok;
+		else
+			new SVGDocumentWriter(os, compact).write(this);
 	}
 
 
@@ -0,0 +1,222 @@
+package net.sf.latexdraw.parsers.svg;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.w3c.dom.Node;
+
+/**
+ * Serialises an SVG document by walking its SVG elements and writing them directly as UTF-8 XML:
+ * no intermediate DOM nor DOM serialiser is used.<br>
+ * In pretty mode, the elements are indented; the content of elements that contain text is written as is.
+ * In compact mode, no indentation nor line break is added.<br>
+ *<br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2016 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+final class SVGDocumentWriter {
+	private static final String INDENT = "    "; //$NON-NLS-1$
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/** The output. */
+	private final Writer out;
+
+	/** True: no indentation. */
+	private final boolean compact;
+
+
+	/**
+	 * Creates the writer.
+	 * @param os The stream to write to. Not closed by the writer.
+	 * @param compactMode True: no indentation nor line break is written.
+	 */
+	SVGDocumentWriter(final OutputStream os, final boolean compactMode) {
+		super();
+		out = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8), BUFFER_SIZE);
+		compact = compactMode;
+	}
+
+
+	/**
+	 * Writes the given document and flushes the output.
+	 * @param doc The document to write.
+	 * @throws IOException If an error occurs while writing.
+	 */
+	void write(final SVGDocument doc) throws IOException {
+		final String version = doc.getXmlVersion();
+
+		out.write("<?xml version=\""); //$NON-NLS-1$
+		out.write(version==null ? "1.0" : version); //$NON-NLS-1$
+		out.write("\" encoding=\"UTF-8\""); //$NON-NLS-1$
+		if(doc.getXmlStandalone())
+			out.write(" standalone=\"yes\""); //$NON-NLS-1$
+		out.write("?>"); //$NON-NLS-1$
+
+		if(doc.getDocumentElement()!=null) {
+			newLine(0);
+			writeElement(doc.getDocumentElement(), 0, !compact);
+		}
+
+		if(!compact)
+			out.write('\n');
+
+		out.flush();
+	}
+
+
+	private void newLine(final int depth) throws IOException {
+		if(!compact) {
+			out.write('\n');
+			for(int i=0; i<depth; i++)
+				out.write(INDENT);
+		}
+	}
+
+
+	/**
+	 * @param elt The element to write.
+	 * @param depth The depth of the element used to indent it.
+	 * @param indent True: the children of the element can be indented. False: the parent of the element contains text,
+	 * so adding white spaces would change its content.
+	 */
+	private void writeElement(final SVGElement elt, final int depth, final boolean indent) throws IOException {
+		switch(elt.getNodeType()) {
+			case Node.TEXT_NODE:
+				writeText(((SVGText)elt).getData(), false);
+				return;
+			case Node.COMMENT_NODE:
+				writeComment(((SVGText)elt).getData());
+				return;
+			default:
+				break;
+		}
+
+		out.write('<');
+		out.write(elt.getNodeName());
+
+		for(final SVGAttr attr : elt.attributes.getAttributes()) {
+			out.write(' ');
+			out.write(attr.getName());
+			out.write("=\""); //$NON-NLS-1$
+			writeText(attr.getValue(), true);
+			out.write('"');
+		}
+
+		final List<SVGElement> children = elt.children.getNodes();
+
+		if(children.isEmpty()) {
+			out.write("/>"); //$NON-NLS-1$
+			return;
+		}
+
+		out.write('>');
+
+		final boolean indentChildren = indent && !containsText(children);
+
+		for(final SVGElement child : children) {
+			if(indentChildren)
+				newLine(depth+1);
+			writeElement(child, depth+1, indentChildren);
+		}
+
+		if(indentChildren)
+			newLine(depth);
+
+		out.write("</"); //$NON-NLS-1$
+		out.write(elt.getNodeName());
+		out.write('>');
+	}
+
+
+	private static boolean containsText(final List<SVGElement> nodes) {
+		for(final SVGElement node : nodes)
+			if(node.getNodeType()==Node.TEXT_NODE)
+				return true;
+		return false;
+	}
+
+
+	/**
+	 * Writes the given text escaping the XML special characters. The runs of characters that do not
+	 * need to be escaped are written at once.
+	 * @param text The text to write.
+	 * @param attribute True: the text is the value of an attribute (quotes and white spaces are escaped as well).
+	 */
+	private void writeText(final String text, final boolean attribute) throws IOException {
+		if(text==null)
+			return;
+
+		final int length = text.length();
+		int start = 0;
+
+		for(int i=0; i<length; i++) {
+			final String entity = getEntity(text.charAt(i), attribute);
+
+			if(entity!=null) {
+				out.write(text, start, i-start);
+				out.write(entity);
+				start = i+1;
+			}
+		}
+
+		out.write(text, start, length-start);
+	}
+
+
+	/**
+	 * Writes the given comment. A comment cannot contain "--" nor end with '-', and entities are not
+	 * recognised in comments: a space is inserted after each '-' followed by another '-' or ending the comment.
+	 * @param text The text of the comment.
+	 */
+	private void writeComment(final String text) throws IOException {
+		out.write("<!--"); //$NON-NLS-1$
+
+		if(text!=null) {
+			final int length = text.length();
+			int start = 0;
+
+			for(int i=0; i<length; i++)
+				if(text.charAt(i)=='-' && (i==length-1 || text.charAt(i+1)=='-')) {
+					out.write(text, start, i+1-start);
+					out.write(' ');
+					start = i+1;
+				}
+
+			out.write(text, start, length-start);
+		}
+
+		out.write("-->"); //$NON-NLS-1$
+	}
+
+
+	private static String getEntity(final char c, final boolean attribute) {
+		switch(c) {
+			case '&': return "&amp;"; //$NON-NLS-1$
+			case '<': return "&lt;"; //$NON-NLS-1$
+			case '>': return "&gt;"; //$NON-NLS-1$
+			case '\r': return "&#13;"; //$NON-NLS-1$
+			case '"': return attribute ? "&quot;" : null; //$NON-NLS-1$
+			case '\n': return attribute ? "&#10;" : null; //$NON-NLS-1$
+			case '\t': return attribute ? "&#9;" : null; //$NON-NLS-1$
+			default: return null;
+		}
+	}
+}
@@ -58,6 +58,15 @@ public abstract class SVGElement implements Element, Cloneable {
 	/** The document containing the element. @since 0.1 */
 	protected SVGDocument ownerDocument;
 
+	/** The prefix of the name of the tag (interned) or null. Updated with the name. @since 4.0 */
+	private String namePrefix;
+
+	/** The prefix followed by ':' or an empty string. Updated with the name. @since 4.0 */
+	private String usablePrefix;
+
+	/** The cached namespace declarations visible from the element (null if not computed yet). @since 4.0 */
+	private SVGNamespaceScope nsScope;
+
 
 
 	/**
@@ -72,6 +81,9 @@ public abstract class SVGElement implements Element, Cloneable {
 		stylesCSS	= null;
 		parent 		= null;
 		name 		= null;
+		namePrefix	= null;
+		usablePrefix = ""; //$NON-NLS-1$
+		nsScope		= null;
 		ownerDocument = null;
 	}
 
@@ -123,11 +135,15 @@ public abstract class SVGElement implements Element, Cloneable {
 		setNodeValue(n.getNodeValue());
 		setNodeName(n.getNodeName());
 
+		final SVGDocument doc = getDocumentContaining();
+		if(doc!=null)
+			doc.registerId(this);
+
 		String v = getAttribute(getUsablePrefix()+SVGAttributes.SVG_TRANSFORM);
 
 		if(v!=null) {
 			transform = new SVGTransformList();
-			transform.addTransformations(getAttribute(getUsablePrefix()+SVGAttributes.SVG_TRANSFORM));
+			transform.addTransformations(v);
 		}
 
 		v = getAttribute(getUsablePrefix()+SVGAttributes.SVG_STYLE);
@@ -200,18 +216,40 @@ public abstract class SVGElement implements Element, Cloneable {
 	 */
 	public void setParent(final SVGElement parent) {
 		if(this.parent!=parent) {
+			final SVGDocument oldDoc = getDocumentContaining();
+
 			if(this.parent!=null)
 				this.parent.children.getNodes().remove(this);
 
 			this.parent = parent;
+			invalidateNamespaceScope();
+
+			if(oldDoc!=null)
+				oldDoc.unregisterIds(this);
 
 			if(this.parent!=null && !this.parent.children.getNodes().contains(this))
 				this.parent.children.getNodes().add(this);
+
+			final SVGDocument doc = getDocumentContaining();
+			if(doc!=null)
+				doc.registerIds(this);
 		}
 	}
 
 
 
+	/**
+	 * @return The document whose tree contains this element (i.e. the root of this element is the root of
+	 * its owner document), or null.
+	 * @since 4.0
+	 */
+	SVGDocument getDocumentContaining() {
+		final SVGElement rootElt = getRootElement();
+		return rootElt.ownerDocument!=null && rootElt.ownerDocument.root==rootElt ? rootElt.ownerDocument : null;
+	}
+
+
+
 	@Override
 	public NamedNodeMap getAttributes() {
 		return attributes;
@@ -263,6 +301,16 @@ public abstract class SVGElement implements Element, Cloneable {
 	 */
 	public void setNodeName(final String name) {
 		this.name = name;
+
+		final int index = name==null ? -1 : name.indexOf(':');
+
+		if(index==-1) {
+			namePrefix = null;
+			usablePrefix = ""; //$NON-NLS-1$
+		}else {
+			namePrefix = name.substring(0, index).intern();
+			usablePrefix = namePrefix.isEmpty() ? "" : name.substring(0, index+1).intern(); //$NON-NLS-1$
+		}
 	}
 
 
@@ -375,7 +423,16 @@ public abstract class SVGElement implements Element, Cloneable {
 			final int pos = children.getNodes().indexOf(refChild);
 
 			if(pos!=-1 && newChild instanceof SVGElement) {
-				children.getNodes().add(pos, (SVGElement)newChild);
+				final SVGElement elt = (SVGElement)newChild;
+				// Detaching the element from its current parent (that may be this element).
+				elt.setParent(null);
+				children.getNodes().add(children.getNodes().indexOf(refChild), elt);
+				elt.parent = this;
+				elt.invalidateNamespaceScope();
+
+				final SVGDocument doc = getDocumentContaining();
+				if(doc!=null)
+					doc.registerIds(elt);
 				ok = true;
 			}
 		}
@@ -417,6 +474,15 @@ public abstract class SVGElement implements Element, Cloneable {
 		if(oldChild!=null)
 			ok = children.getNodes().remove(oldChild);
 
+		if(ok && oldChild instanceof SVGElement) {
+			final SVGDocument doc = getDocumentContaining();
+			((SVGElement)oldChild).parent = null;
+			((SVGElement)oldChild).invalidateNamespaceScope();
+
+			if(doc!=null)
+				doc.unregisterIds((SVGElement)oldChild);
+		}
+
 		return ok ? oldChild : null;
 	}
 
@@ -433,39 +499,7 @@ public abstract class SVGElement implements Element, Cloneable {
 
 	@Override
 	public String lookupPrefix(final String namespaceURI) {
-		if(namespaceURI == null)
-			return null;
-
-		String pref = null;
-        final String xmlns = "xmlns"; //$NON-NLS-1$
-
-        if(attributes!=null) {
-			int i=0;
-            final int size = attributes.getLength();
-            boolean again = true;
-
-			while(i<size && again) {
-				final SVGAttr attr = attributes.getAttributes().get(i);
-				final String attrName = attr.getName();
-
-				if(attrName!=null && attrName.startsWith(xmlns) && namespaceURI.equals(attr.getValue())) {
-					final int index = attrName.indexOf(':');
-
-					pref = index==-1 ? "" : attrName.substring(index+1); //$NON-NLS-1$
-					again = false;
-				}
-				else
-					i++;
-			}
-		}
-
-		if(pref!=null)
-			return pref;
-
-		if(getParentNode()==null)
-			return null;
-
-		return getParentNode().lookupPrefix(namespaceURI);
+		return getNamespaceScope().lookupPrefix(namespaceURI);
 	}
 
 
@@ -487,68 +521,56 @@ public abstract class SVGElement implements Element, Cloneable {
 
 	@Override
 	public String lookupNamespaceURI(final String pref) {
-		String uri = null;
+		return getNamespaceScope().lookupNamespaceURI(pref);
+	}
 
-		if(attributes!=null)
-			if(pref==null) {
-				int i=0;
-				final int size = attributes.getLength();
-				boolean again = true;
-				final String xmlns = "xmlns";//$NON-NLS-1$
-
-				while(i<size && again) {
-					final SVGAttr attr = attributes.getAttributes().get(i);
-					final String attrName = attr.getName();
-
-					if(xmlns.equals(attrName)) {
-						uri = attr.getNodeValue();
-						again = false;
-					}
-					else
-						i++;
-				}
-			}
-			else {
-				int i=0;
-                final int size = attributes.getLength();
-                boolean again = true;
-				final String xmlns = "xmlns:";//$NON-NLS-1$
-
-				while(i<size && again) {
-					final SVGAttr attr = attributes.getAttributes().get(i);
-					final String attrName = attr.getName();
-
-					if(attrName!=null && attrName.startsWith(xmlns) && pref.equals(attrName.substring(xmlns.length()))) {
-						uri = attr.getNodeValue();
-						again = false;
-					}
-					else
-						i++;
-				}
-			}
 
-		if(uri!=null)
-			return uri;
 
-		if(getParentNode()==null)
-			return null;
+	/**
+	 * @return The namespaces visible from this element. Computed on demand and shared with the parent
+	 * element if this element does not declare any namespace.
+	 * @since 4.0
+	 */
+	SVGNamespaceScope getNamespaceScope() {
+		if(nsScope==null)
+			nsScope = SVGNamespaceScope.create(attributes, parent==null ? null : parent.getNamespaceScope());
+		return nsScope;
+	}
+
+
 
-		return parent.lookupNamespaceURI(pref);
+	/**
+	 * Drops the cached namespace scope of this element and of its descendants. Must be called when an xmlns
+	 * attribute or the parent of the element changes. The attributes call it when they are added, removed or
+	 * modified, whatever the way (setAttribute, the list of the attributes, SVGAttr.setValue).
+	 * Since the scope of an element is computed from the scope of its parent, descendants cannot have a scope
+	 * when the element has none.
+	 * @since 4.0
+	 */
+	void invalidateNamespaceScope() {
+		if(nsScope!=null) {
+			nsScope = null;
+
+			for(final SVGElement child : children.getNodes())
+				child.invalidateNamespaceScope();
+		}
 	}
 
 
 
-	@Override
-	public String getPrefix() {
-		if(getNodeName()==null)
-			return null;
+	/**
+	 * @param attrName The name of an attribute.
+	 * @return True if the given attribute declares a namespace.
+	 */
+	static boolean isNamespaceDeclaration(final String attrName) {
+		return attrName.startsWith("xmlns"); //$NON-NLS-1$
+	}
 
-		final int index = getNodeName().indexOf(':');
 
-		if(index!=-1)
-			return getNodeName().substring(0, index);
 
-		return null;
+	@Override
+	public String getPrefix() {
+		return namePrefix;
 	}
 
 
@@ -557,9 +579,7 @@ public abstract class SVGElement implements Element, Cloneable {
 	 * @return The prefix followed by Character ':'. This method aims at simplifying the use of the prefix.
 	 */
 	public String getUsablePrefix() {
-		final String prefix = getPrefix();
-
-		return prefix==null || prefix.isEmpty() ? "" : prefix + ':'; //$NON-NLS-1$
+		return usablePrefix;
 	}
 
 
@@ -586,8 +606,16 @@ public abstract class SVGElement implements Element, Cloneable {
 		if(value==null || name==null)
 			throw new DOMException(DOMException.INVALID_CHARACTER_ERR, "Invalid name or/and value");//$NON-NLS-1$
 
+		final SVGDocument doc = isIdAttribute(name) ? getDocumentContaining() : null;
+
+		if(doc!=null)
+			doc.unregisterId(this);
+
 		attributes.setNamedItem(new SVGAttr(name, value, this));
 
+		if(doc!=null)
+			doc.registerId(this);
+
 		if(SVGAttributes.SVG_TRANSFORM.equals(name))
 			setTransformation(value);
 	}
@@ -697,20 +725,39 @@ public abstract class SVGElement implements Element, Cloneable {
 
 	@Override
 	public String getLocalName() {
-		return name.replaceAll(getUsablePrefix(), ""); //$NON-NLS-1$
+		final String prefix = getUsablePrefix();
+		return !prefix.isEmpty() && name.startsWith(prefix) ? name.substring(prefix.length()) : name;
 	}
 
 
 	@Override
 	public void removeAttribute(final String nameAttr) {
 		try {
-			if(nameAttr!=null && attributes!=null)
+			if(nameAttr!=null && attributes!=null) {
+				final SVGDocument doc = isIdAttribute(nameAttr) ? getDocumentContaining() : null;
+
+				if(doc!=null)
+					doc.unregisterId(this);
+
 				attributes.removeNamedItem(nameAttr);
+			}
 		}
 		catch(final DOMException e) { /* Nothing to do. */ }
 	}
 
 
+
+	/**
+	 * @param attrName The name of an attribute.
+	 * @return True if the given name is the name of the identifier attribute of this element (see getId).
+	 */
+	private boolean isIdAttribute(final String attrName) {
+		final String prefix = getUsablePrefix();
+		return attrName.length()==prefix.length()+SVGAttributes.SVG_ID.length() && attrName.endsWith(SVGAttributes.SVG_ID) &&
+				attrName.startsWith(prefix);
+	}
+
+
 	@Override
 	public void removeAttributeNS(final String namespaceURI, final String localName)
 	{ throw new DOMException(DOMException.INVALID_ACCESS_ERR, SVGDocument.ACTION_NOT_IMPLEMENTED); }
@@ -809,14 +856,7 @@ public abstract class SVGElement implements Element, Cloneable {
 	 * @since 0.1
 	 */
 	public String lookupPrefixUsable(final String namespaceURI) {
-		String pref = lookupPrefix(namespaceURI);
-
-		if(pref==null)
-			pref = "";//$NON-NLS-1$
-		else
-            pref += ":";//$NON-NLS-1$
-
-		return pref;
+		return getNamespaceScope().lookupPrefixUsable(namespaceURI);
 	}
 
 
@@ -885,12 +925,15 @@ public abstract class SVGElement implements Element, Cloneable {
 	 * @since 0.1
 	 */
 	public SVGElement getDef(final String id) {
-		final SVGSVGElement root = getSVGRoot();
+		// The document of the element is preferred to avoid going up to the root of the element.
+		final SVGSVGElement root = ownerDocument!=null && ownerDocument.root!=null ? ownerDocument.root : getSVGRoot();
 
 		if(root==null)
 			return null;
 
-		return root.getDefs().getDef(id);
+		final SVGDefsElement defs = root.getDefs();
+
+		return defs==null ? null : defs.getDef(id);
 	}
 
 
@@ -1165,9 +1208,7 @@ public abstract class SVGElement implements Element, Cloneable {
 	 * @since 0.1
 	 */
 	public String getUsablePrefix(final String uri) {
-		final String pref = lookupPrefix(uri);
-
-		return pref==null || pref.isEmpty() ? "" : pref+':';//$NON-NLS-1$
+		return getNamespaceScope().getUsablePrefix(uri);
 	}
 
 
@@ -1,7 +1,11 @@
 package net.sf.latexdraw.parsers.svg;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 
 import org.w3c.dom.DOMException;
 import org.w3c.dom.NamedNodeMap;
@@ -27,7 +31,7 @@ import org.w3c.dom.Node;
  * @version 3.0
  */
 public class SVGNamedNodeMap implements NamedNodeMap, Cloneable {
-	/** The set of nodes. @since 0.1 */
+	/** The set of nodes (ordered by insertion and indexed by name). @since 0.1 */
 	protected List<SVGAttr> nnm;
 
 
@@ -37,7 +41,7 @@ public class SVGNamedNodeMap implements NamedNodeMap, Cloneable {
 	 */
 	public SVGNamedNodeMap() {
         super();
-        nnm = new ArrayList<>();
+        nnm = new AttrList();
     }
 
 
@@ -55,18 +59,12 @@ public class SVGNamedNodeMap implements NamedNodeMap, Cloneable {
 		if(nnm==null || name==null)
 			return null;
 
-		int i = 0;
-		final int size = getLength();
-		boolean found = false;
-
-		while(i<size && !found)
-			if(nnm.get(i).getName().equals(name))
-				found = true;
-			else
-				i++;
+		if(nnm instanceof AttrList)
+			return ((AttrList)nnm).get(name);
 
-		if(found)
-			return nnm.get(i);
+		for(final SVGAttr attr : nnm)
+			if(attr.getName().equals(name))
+				return attr;
 
 		return null;
 	}
@@ -85,18 +83,10 @@ public class SVGNamedNodeMap implements NamedNodeMap, Cloneable {
 		if(name==null)
 			throw new DOMException(DOMException.NOT_FOUND_ERR, "name is null"); //$NON-NLS-1$
 
-		int i = 0;
-		final int size = getLength();
-		boolean found = false;
-
-		while(i<size && !found)
-			if(nnm.get(i).getName().equals(name))
-				found = true;
-			else
-				i++;
+		final int index = indexOfInstance(nnm, getNamedItem(name));
 
-		if(found)
-			return nnm.remove(i);
+		if(index!=-1)
+			return nnm.remove(index);
 
 		throw new DOMException(DOMException.NOT_FOUND_ERR, name);
 	}
@@ -116,9 +106,7 @@ public class SVGNamedNodeMap implements NamedNodeMap, Cloneable {
 			if(attr==node)
 				return null;
 
-			final int index = nnm.indexOf(attr);
-			nnm.remove(attr);
-			nnm.add(index, (SVGAttr)node);
+			nnm.set(indexOfInstance(nnm, attr), (SVGAttr)node);
 		}
 
 		return attr;
@@ -130,8 +118,7 @@ public class SVGNamedNodeMap implements NamedNodeMap, Cloneable {
 	public Object clone() {
 		try {
 			final SVGNamedNodeMap clone = (SVGNamedNodeMap)super.clone();
-			//TODO: see if the ArrayList creation is useful.
-			clone.nnm = new ArrayList<>();
+			clone.nnm = new AttrList();
 
 			for(final SVGAttr attr : nnm)
 				clone.nnm.add((SVGAttr)attr.cloneNode(false));
@@ -168,6 +155,22 @@ public class SVGNamedNodeMap implements NamedNodeMap, Cloneable {
 
 
 
+	/**
+	 * @param attrs The attributes to look at.
+	 * @param attr The attribute to look for.
+	 * @return The position of the given attribute instance in the list, or -1 (the attributes
+	 * that are equal to the given one are not considered).
+	 */
+	private static int indexOfInstance(final List<SVGAttr> attrs, final Node attr) {
+		if(attr!=null)
+			for(int i=0, size=attrs.size(); i<size; i++)
+				if(attrs.get(i)==attr)
+					return i;
+		return -1;
+	}
+
+
+
 	/**
 	 * @return the attributes.
 	 * @since 0.1
@@ -204,4 +207,104 @@ public class SVGNamedNodeMap implements NamedNodeMap, Cloneable {
 		// Nothing to do.
 		return super.hashCode()^getLength();
 	}
+
+
+
+	/**
+	 * The list of the attributes. It keeps the insertion order (for item(int)) and indexes the attributes
+	 * by name so that looking for an attribute does not require a scan of the list.
+	 * If several attributes have the same name (possible when the list is filled directly), the
+	 * index refers to the first one, as a scan of the list would do.<br>
+	 * The namespace declarations added, replaced or removed notify their owner element, since the list can
+	 * be modified directly (see getAttributes).
+	 */
+	private static final class AttrList extends AbstractList<SVGAttr> implements RandomAccess {
+		private final List<SVGAttr> attrs;
+		private final Map<String, SVGAttr> index;
+		/** True if the list may contain several attributes with the same name. */
+		private boolean duplicates;
+
+		AttrList() {
+			super();
+			attrs = new ArrayList<>();
+			index = new HashMap<>();
+			duplicates = false;
+		}
+
+		SVGAttr get(final String name) {
+			return index.get(name);
+		}
+
+		@Override
+		public SVGAttr get(final int i) {
+			return attrs.get(i);
+		}
+
+		@Override
+		public int size() {
+			return attrs.size();
+		}
+
+		@Override
+		public void add(final int i, final SVGAttr attr) {
+			attrs.add(i, attr);
+			modCount++;
+
+			final SVGAttr indexed = index.putIfAbsent(attr.getName(), attr);
+
+			if(indexed!=null) {
+				duplicates = true;
+				if(i<=indexOfInstance(attrs, indexed))
+					index.put(attr.getName(), attr);
+			}
+
+			attr.notifyNamespaceChange();
+		}
+
+		@Override
+		public SVGAttr set(final int i, final SVGAttr attr) {
+			final SVGAttr old = attrs.set(i, attr);
+
+			if(!duplicates && old.getName().equals(attr.getName()))
+				index.put(attr.getName(), attr);
+			else
+				reindex();
+
+			old.notifyNamespaceChange();
+			attr.notifyNamespaceChange();
+			return old;
+		}
+
+		@Override
+		public SVGAttr remove(final int i) {
+			final SVGAttr old = attrs.remove(i);
+			modCount++;
+
+			if(duplicates)
+				reindex();
+			else
+				index.remove(old.getName());
+
+			old.notifyNamespaceChange();
+			return old;
+		}
+
+		@Override
+		public void clear() {
+			attrs.forEach(SVGAttr::notifyNamespaceChange);
+			attrs.clear();
+			index.clear();
+			duplicates = false;
+			modCount++;
+		}
+
+		private void reindex() {
+			index.clear();
+			duplicates = false;
+
+			for(final SVGAttr attr : attrs)
+				if(index.putIfAbsent(attr.getName(), attr)!=null)
+					duplicates = true;
+		}
+	}
 }
@@ -0,0 +1,189 @@
+package net.sf.latexdraw.parsers.svg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The namespaces declared (using xmlns attributes) by an SVG element and its ancestors.
+ * A scope caches the results of the namespace look-ups. It is shared by the elements that do not
+ * declare namespaces with their parent and must be dropped when a declaration changes
+ * (see SVGElement).<br>
+ *<br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2016 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+final class SVGNamespaceScope {
+	private static final String XMLNS = "xmlns"; //$NON-NLS-1$
+
+	private static final String XMLNS_PREFIXED = "xmlns:"; //$NON-NLS-1$
+
+	/** The scope of the parent element or null. */
+	private final SVGNamespaceScope parent;
+
+	/** The names of the xmlns attributes of the element, in the order of its attributes. */
+	private final String[] declNames;
+
+	/** The values of the xmlns attributes of the element. */
+	private final String[] declValues;
+
+	/** The prefixes of the namespaces looked up so far (URI -> prefix data). */
+	private final Map<String, Prefix> prefixes;
+
+	/** The namespaces of the prefixes looked up so far (prefix, null for the default namespace -> URI or null). */
+	private final Map<String, String> uris;
+
+
+	private SVGNamespaceScope(final SVGNamespaceScope parentScope, final String[] names, final String[] values) {
+		super();
+		parent = parentScope;
+		declNames = names;
+		declValues = values;
+		prefixes = new HashMap<>();
+		uris = new HashMap<>();
+	}
+
+
+	/**
+	 * Creates the scope of an element.
+	 * @param attributes The attributes of the element (may be null).
+	 * @param parentScope The scope of the parent of the element or null.
+	 * @return The scope of the parent if the element does not declare any namespace, a new scope otherwise.
+	 */
+	static SVGNamespaceScope create(final SVGNamedNodeMap attributes, final SVGNamespaceScope parentScope) {
+		final List<String> names = new ArrayList<>();
+		final List<String> values = new ArrayList<>();
+
+		if(attributes!=null)
+			for(final SVGAttr attr : attributes.getAttributes()) {
+				final String attrName = attr.getName();
+				if(attrName!=null && attrName.startsWith(XMLNS)) {
+					names.add(attrName);
+					values.add(attr.getValue());
+				}
+			}
+
+		if(names.isEmpty() && parentScope!=null)
+			return parentScope;
+
+		return new SVGNamespaceScope(parentScope, names.toArray(new String[names.size()]), values.toArray(new String[values.size()]));
+	}
+
+
+	/**
+	 * @return True if neither this scope nor its parents declare a namespace: look-ups are useless.
+	 */
+	private boolean isEmpty() {
+		return declNames.length==0 && parent==null;
+	}
+
+
+	private Prefix getPrefix(final String namespaceURI) {
+		Prefix prefix = prefixes.get(namespaceURI);
+
+		if(prefix==null) {
+			String pref = null;
+
+			for(int i=0; i<declNames.length && pref==null; i++)
+				if(namespaceURI.equals(declValues[i])) {
+					final int index = declNames[i].indexOf(':');
+					pref = index==-1 ? "" : declNames[i].substring(index+1); //$NON-NLS-1$
+				}
+
+			prefix = pref==null && parent!=null ? parent.getPrefix(namespaceURI) : new Prefix(pref);
+			prefixes.put(namespaceURI, prefix);
+		}
+
+		return prefix;
+	}
+
+
+	/**
+	 * @param namespaceURI The URI of the namespace to look for.
+	 * @return The prefix of the given namespace ("" for a default namespace) or null.
+	 */
+	String lookupPrefix(final String namespaceURI) {
+		if(namespaceURI==null || isEmpty())
+			return null;
+		return getPrefix(namespaceURI).prefix;
+	}
+
+
+	/**
+	 * @param namespaceURI The URI of the namespace to look for.
+	 * @return The prefix of the given namespace followed by ':' or an empty string if the namespace is not declared.
+	 */
+	String lookupPrefixUsable(final String namespaceURI) {
+		if(namespaceURI==null || isEmpty())
+			return ""; //$NON-NLS-1$
+		return getPrefix(namespaceURI).usable;
+	}
+
+
+	/**
+	 * @param namespaceURI The URI of the namespace to look for.
+	 * @return The prefix of the given namespace followed by ':' or an empty string if the namespace
+	 * is not declared or is a default namespace.
+	 */
+	String getUsablePrefix(final String namespaceURI) {
+		if(namespaceURI==null || isEmpty())
+			return ""; //$NON-NLS-1$
+		return getPrefix(namespaceURI).usableNotEmpty;
+	}
+
+
+	/**
+	 * @param pref The prefix to look for or null for the default namespace.
+	 * @return The URI of the namespace of the given prefix or null.
+	 */
+	String lookupNamespaceURI(final String pref) {
+		if(isEmpty())
+			return null;
+
+		if(uris.containsKey(pref))
+			return uris.get(pref);
+
+		String uri = null;
+
+		for(int i=0; i<declNames.length && uri==null; i++)
+			if(pref==null ? XMLNS.equals(declNames[i]) :
+				declNames[i].startsWith(XMLNS_PREFIXED) && pref.equals(declNames[i].substring(XMLNS_PREFIXED.length())))
+				uri = declValues[i];
+
+		if(uri==null && parent!=null)
+			uri = parent.lookupNamespaceURI(pref);
+
+		uris.put(pref, uri);
+		return uri;
+	}
+
+
+	/**
+	 * The prefix of a namespace and its derived forms, computed once.
+	 */
+	private static final class Prefix {
+		final String prefix;
+		final String usable;
+		final String usableNotEmpty;
+
+		Prefix(final String pref) {
+			super();
+			prefix = pref;
+			usable = pref==null ? "" : pref + ':'; //$NON-NLS-1$
+			usableNotEmpty = pref==null || pref.isEmpty() ? "" : usable; //$NON-NLS-1$
+		}
+	}
+}
@@ -1,7 +1,8 @@
 package net.sf.latexdraw.parsers.svg;
 
 import net.sf.latexdraw.parsers.svg.parsers.SVGPathParser;
-import net.sf.latexdraw.parsers.svg.path.*;
+import net.sf.latexdraw.parsers.svg.path.SVGPath;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegList;
 import org.w3c.dom.Node;
 
 import java.text.ParseException;
@@ -56,10 +57,9 @@ public class SVGPathElement extends SVGElement {
 	 * @since 0.1
 	 */
 	public boolean isLine() {
-		final SVGPathSegList segList = getSegList();
+		final SVGPath path = getPath();
 
-		return segList.size()==2 && segList.get(0) instanceof SVGPathSegMoveto &&
-				segList.get(1) instanceof SVGPathSegLineto ;
+		return path.size()==2 && path.getType(0)=='M' && isLineto(path, 1);
 	}
 
 
@@ -70,17 +70,17 @@ public class SVGPathElement extends SVGElement {
 	 * @since 0.1
 	 */
 	public boolean isLines() {
-		final SVGPathSegList segList = getSegList();
+		final SVGPath path = getPath();
 
-		if(segList.size()<3 || !(segList.get(0) instanceof SVGPathSegMoveto))
+		if(path.size()<3 || path.getType(0)!='M')
 			return false;
 
 		boolean ok = true;
 		int i;
         final int size;
 
-        for(i=1, size=segList.size()-1; i<size && ok; i++)
-			if(!(segList.get(i) instanceof SVGPathSegLineto))
+        for(i=1, size=path.size()-1; i<size && ok; i++)
+			if(!isLineto(path, i))
 				ok = false;
 
 		return ok;
@@ -88,21 +88,20 @@ public class SVGPathElement extends SVGElement {
 
 
 	public boolean isBezierCurve() {
-		final SVGPathSegList segList = getSegList();
+		final SVGPath path = getPath();
 
-		if(segList.isEmpty() || !(segList.get(0) instanceof SVGPathSegMoveto))
+		if(path.isEmpty() || path.getType(0)!='M')
 			return false;
 
-		final int size = segList.size()-1;
+		final int size = path.size()-1;
 		boolean ok = true;
 		int i;
 
 		for(i=1; i<size && ok; i++)
-			if(!(segList.get(i) instanceof SVGPathSegCurvetoCubic) && !(segList.get(i) instanceof SVGPathSegCurvetoCubicSmooth))
+			if(path.getType(i)!='C' && path.getType(i)!='S')
 				ok = false;
 
-		return ok && (segList.get(size) instanceof SVGPathSegClosePath || segList.get(size) instanceof SVGPathSegCurvetoCubic
-			|| segList.get(size) instanceof SVGPathSegCurvetoCubicSmooth);
+		return ok && (path.getType(size)=='Z' || path.getType(size)=='C' || path.getType(size)=='S');
 	}
 
 	/**
@@ -110,26 +109,35 @@ public class SVGPathElement extends SVGElement {
 	 * @since 0.1
 	 */
 	public boolean isPolygon() {
-		final SVGPathSegList segList = getSegList();
+		final SVGPath path = getPath();
 
-		if(segList.isEmpty() || !(segList.get(0) instanceof SVGPathSegMoveto))
+		if(path.isEmpty() || path.getType(0)!='M')
 			return false;
 
 		boolean ok = true;
 		int i;
         final int size;
 
-        for(i=1, size=segList.size()-1; i<size && ok; i++)
-			if(!(segList.get(i) instanceof SVGPathSegLineto))
+        for(i=1, size=path.size()-1; i<size && ok; i++)
+			if(!isLineto(path, i))
 				ok = false;
 
-		if(!(segList.get(segList.size()-1) instanceof SVGPathSegClosePath))
+		if(path.getType(path.size()-1)!='Z')
 			ok = false;
 
 		return ok;
 	}
 
 
+	/**
+	 * @return True if the segment at the given position is a SVGPathSegLineto (a moveto, a lineto, or a horizontal or vertical lineto).
+	 */
+	private static boolean isLineto(final SVGPath path, final int index) {
+		final char type = path.getType(index);
+		return type=='M' || type=='L' || type=='H' || type=='V';
+	}
+
+
 
 	/**
 	 * The definition of the outline of a shape.
@@ -159,14 +167,26 @@ public class SVGPathElement extends SVGElement {
 	 * @since 0.1
 	 */
 	public SVGPathSegList getSegList() {
-		final String path			 = getPathData();
-		final SVGPathSegList segList = new SVGPathSegList();
-		final SVGPathParser pp 		 = new SVGPathParser(path, segList);
-		
+		return getPath().getSegList();
+	}
+
+
+
+	/**
+	 * Parses the path data into a compact path (no object is created per segment).
+	 * @return The parsed path.
+	 * @throws IllegalArgumentException If the path data is not valid.
+	 * @since 4.0
+	 */
+	public SVGPath getPath() {
+		final String pathData	= getPathData();
+		final SVGPath path		= new SVGPath();
+		final SVGPathParser pp	= new SVGPathParser(pathData, path);
+
 		try{ pp.parse(); }
-		catch(final ParseException e) { throw new IllegalArgumentException(e + " But : \"" + path + "\" found."); } //$NON-NLS-1$ //$NON-NLS-2$
-		
-		return segList;
+		catch(final ParseException e) { throw new IllegalArgumentException(e + " But : \"" + pathData + "\" found."); } //$NON-NLS-1$ //$NON-NLS-2$
+
+		return path;
 	}
 
 
@@ -180,4 +200,16 @@ public class SVGPathElement extends SVGElement {
 		if(path!=null)
 			setAttribute(SVGAttributes.SVG_D, path.toString());
 	}
+
+
+
+	/**
+	 * Sets the path data.
+	 * @param path The path to set.
+	 * @since 4.0
+	 */
+	public void setPathData(final SVGPath path) {
+		if(path!=null)
+			setAttribute(SVGAttributes.SVG_D, path.toString());
+	}
 }
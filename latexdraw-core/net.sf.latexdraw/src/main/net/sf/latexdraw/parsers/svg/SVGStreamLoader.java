@@ -0,0 +1,234 @@
+package net.sf.latexdraw.parsers.svg;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Node;
+
+/**
+ * Loads an SVG document in a single pass using a StAX reader: the SVG elements are created
+ * while the file is read so that no intermediate W3C DOM is built.<br>
+ *<br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2016 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+final class SVGStreamLoader {
+	/** The document to fill. */
+	private final SVGDocument document;
+
+	/**
+	 * The node that describes the tag currently read. It is given to the SVG elements constructors
+	 * (that copy its name and attributes) and reused for each tag.
+	 */
+	private final OtherNSElement tag;
+
+	/** The attributes reused by the tag from one element to another. */
+	private final List<SVGAttr> attrPool;
+
+
+	/**
+	 * Creates the loader.
+	 * @param doc The document to fill.
+	 */
+	SVGStreamLoader(final SVGDocument doc) {
+		super();
+		document = doc;
+		tag = new OtherNSElement(doc);
+		attrPool = new ArrayList<>();
+	}
+
+
+	/**
+	 * Reads the given stream and creates the SVG elements of the document.
+	 * @param in The stream to read.
+	 * @return The root element of the document or null if the document element is not an SVG tag.
+	 * @throws XMLStreamException If the stream cannot be parsed.
+	 * @throws MalformedSVGDocument If the SVG root element is not valid.
+	 */
+	SVGSVGElement load(final InputStream in) throws XMLStreamException, MalformedSVGDocument {
+		final XMLStreamReader reader = createInputFactory().createXMLStreamReader(in);
+
+		try {
+			final String version = reader.getVersion();
+			document.setXmlStandalone(reader.isStandalone());
+			document.setXmlVersion(version==null ? "1.0" : version); //$NON-NLS-1$
+			document.xmlEncoding = reader.getCharacterEncodingScheme();
+			return readElements(reader);
+		}finally {
+			reader.close();
+		}
+	}
+
+
+	private SVGSVGElement readElements(final XMLStreamReader reader) throws XMLStreamException, MalformedSVGDocument {
+		final Deque<OpenedElement> opened = new ArrayDeque<>();
+		SVGSVGElement root = null;
+		boolean rootRead = false;
+		// The depth of the current tag into a sub-tree that is ignored (unsupported or invalid element).
+		int ignoredDepth = 0;
+
+		while(reader.hasNext()) {
+			switch(reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					if(ignoredDepth>0)
+						ignoredDepth++;
+					else if(opened.isEmpty()) {
+						// The document element: only an SVG tag is supported.
+						if(!rootRead && reader.getLocalName().endsWith(SVGElements.SVG_SVG)) {
+							root = new SVGSVGElement(document, readTag(reader));
+							// The root is set now so that the identifiers of the elements are indexed during the loading.
+							document.root = root;
+							document.registerId(root);
+							opened.push(new OpenedElement(root));
+						}
+						else ignoredDepth = 1;
+						rootRead = true;
+					}
+					else {
+						final OpenedElement parent = opened.peek();
+						parent.addNode();
+						final SVGElement elt = SVGElementsFactory.INSTANCE.createSVGElement(readTag(reader), parent.element);
+
+						if(elt==null)
+							ignoredDepth = 1;
+						else
+							opened.push(new OpenedElement(elt));
+					}
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					if(ignoredDepth>0)
+						ignoredDepth--;
+					else if(!opened.isEmpty())
+						opened.pop().close();
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					if(ignoredDepth==0 && !opened.isEmpty())
+						opened.peek().addText(reader.getText());
+					break;
+				case XMLStreamConstants.COMMENT:
+				case XMLStreamConstants.PROCESSING_INSTRUCTION:
+					if(ignoredDepth==0 && !opened.isEmpty())
+						opened.peek().addNode();
+					break;
+				default:
+					break;
+			}
+		}
+
+		return root;
+	}
+
+
+	/**
+	 * Fills the reusable tag with the name and the attributes of the current element of the reader.
+	 * As done by the DOM parser, the attributes are sorted by name so that both loading paths produce
+	 * equal documents.
+	 */
+	private Node readTag(final XMLStreamReader reader) {
+		final List<SVGAttr> attrs = tag.attributes.getAttributes();
+		attrs.clear();
+		tag.setNodeName(reader.getLocalName());
+
+		for(int i=0, size=reader.getAttributeCount(); i<size; i++) {
+			final String prefix = reader.getAttributePrefix(i);
+			final String localName = reader.getAttributeLocalName(i);
+			final String attrName = prefix==null || prefix.isEmpty() ? localName : prefix + ':' + localName;
+			final SVGAttr attr;
+
+			if(i<attrPool.size()) {
+				attr = attrPool.get(i);
+				attr.name = attrName;
+				attr.value = reader.getAttributeValue(i);
+			}else {
+				attr = new SVGAttr(attrName, reader.getAttributeValue(i), tag);
+				attrPool.add(attr);
+			}
+
+			int pos = attrs.size();
+			while(pos>0 && attrs.get(pos-1).getName().compareTo(attrName)>0)
+				pos--;
+			attrs.add(pos, attr);
+		}
+
+		return tag;
+	}
+
+
+	private static XMLInputFactory createInputFactory() {
+		final XMLInputFactory factory = XMLInputFactory.newInstance();
+		// Prefixed names and xmlns attributes are managed by the SVG elements themselves.
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		// Used to avoid freeze when opening an SVG document (see SVGDocument.SVGEntityResolver).
+		factory.setXMLResolver((publicID, systemID, baseURI, namespace) -> new ByteArrayInputStream(new byte[0]));
+		return factory;
+	}
+
+
+	/**
+	 * An SVG element that has been created but whose end tag has not been read yet.
+	 * As in the DOM loading path, the text of an element is kept only if it is its single child node.
+	 */
+	private static final class OpenedElement {
+		final SVGElement element;
+		/** The number of child nodes read so far (elements, text blocks, comments). */
+		int nbNodes;
+		/** True if the last child node read is a text block. */
+		boolean lastIsText;
+		/** The text of the single text child node. */
+		StringBuilder text;
+
+		OpenedElement(final SVGElement elt) {
+			super();
+			element = elt;
+		}
+
+		void addNode() {
+			nbNodes++;
+			lastIsText = false;
+		}
+
+		void addText(final String txt) {
+			if(!lastIsText) {
+				nbNodes++;
+				lastIsText = true;
+			}
+
+			if(nbNodes==1) {
+				if(text==null)
+					text = new StringBuilder(txt);
+				else
+					text.append(txt);
+			}
+		}
+
+		void close() {
+			if(nbNodes==1 && lastIsText)
+				element.setTextContent(text.toString());
+		}
+	}
+}
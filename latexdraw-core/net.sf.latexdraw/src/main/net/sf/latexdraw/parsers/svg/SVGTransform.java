@@ -1,5 +1,8 @@
 package net.sf.latexdraw.parsers.svg;
 
+import java.text.ParseException;
+
+import net.sf.latexdraw.parsers.svg.parsers.SVGTransformParser;
 import net.sf.latexdraw.util.LNumber;
 
 /**
@@ -85,151 +88,18 @@ public class SVGTransform {
 		if(transformation==null)
 			throw new IllegalArgumentException();
 
-		String code = transformation.replaceAll("[ \t\n\r\f]+", " ");//$NON-NLS-1$//$NON-NLS-2$
-		code = code.replaceAll("^[ ]", "");//$NON-NLS-1$//$NON-NLS-2$
-		code = code.replaceAll("[ ]$", "");//$NON-NLS-1$//$NON-NLS-2$
-		code = code.replaceAll("[ ]?[(][ ]?", "(");//$NON-NLS-1$//$NON-NLS-2$
-		code = code.replaceAll("[ ]?[)]", ")");//$NON-NLS-1$//$NON-NLS-2$
-		code = code.replaceAll("[ ]?,[ ]?", ",");//$NON-NLS-1$//$NON-NLS-2$
-		int i;
-        final int lgth = code.length();
-        final int j;
-        int k;
-
-        if(code.startsWith(SVGAttributes.SVG_TRANSFORM_ROTATE)) {
-			i = SVGAttributes.SVG_TRANSFORM_ROTATE.length();
-			j = code.indexOf(')');
-			int k1 = code.indexOf(' ');
-            int k2 = code.indexOf(',');
-
-            if(i>=lgth || code.charAt(i)!='(' || j==-1)
-				throw new IllegalArgumentException();
-
-			k = k1==-1 ? k2 : k2==-1 ? k1 : Math.min(k1, k2);
-
-			if(k==-1)
-				setRotate(Double.parseDouble(code.substring(i+1, j)), 0., 0.);
-			else {
-				final double cx2;
-                final double cy2;
-                final double rotAngle;
-
-                rotAngle = Double.parseDouble(code.substring(i+1, k));
-				i = k+1;
-
-				k1 = code.indexOf(' ', k+1);
-				k2 = code.indexOf(',', k+1);
-				k = k1==-1 ? k2 : k2==-1 ? k1 : Math.min(k1, k2);
-
-				if(k==-1)
-					throw new IllegalArgumentException();
-
-				cx2 = Double.parseDouble(code.substring(i, k));
-				cy2 = Double.parseDouble(code.substring(k+1, j));
-
-				setRotate(rotAngle, cx2, cy2);
-			}
-		}
-		else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SCALE)) {
-			k = code.indexOf(',');
-			i = SVGAttributes.SVG_TRANSFORM_SCALE.length();
-			j = code.indexOf(')');
-			final double sx;
-            final double sy;
-
-            if(i>=lgth || code.charAt(i)!='(' || j==-1)
-				throw new IllegalArgumentException();
-
-			if(k==-1)
-				k = code.indexOf(' ');
-
-			if(k==-1) {
-				final double val = Double.parseDouble(code.substring(i+1, j));
-				sx = val;
-				sy = val;
-			}
-			else {
-				sx = Double.parseDouble(code.substring(i+1, k));
-				sy = Double.parseDouble(code.substring(k+1, j));
-			}
-
-			setScale(sx, sy);
-		}
-		else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_TRANSLATE)) {
-			k = code.indexOf(',');
-			i = SVGAttributes.SVG_TRANSFORM_TRANSLATE.length();
-			j = code.indexOf(')');
-			final double tx;
-            final double ty;
-
-            if(i>=lgth || code.charAt(i)!='(' || j==-1)
-				throw new IllegalArgumentException();
-
-			if(k==-1)
-				k = code.indexOf(' ');
-
-			if(k==-1) {
-				final double val = Double.parseDouble(code.substring(i+1, j));
-				tx = val;
-				ty = val;
-			}
-			else {
-				tx = Double.parseDouble(code.substring(i+1, k));
-				ty = Double.parseDouble(code.substring(k+1, j));
-			}
-
-			setTranslate(tx, ty);
-		}
-		else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_MATRIX)) {
-			final int nbPts = 6;
-            int l;
-            int k1;
-            int k2;
-            i = SVGAttributes.SVG_TRANSFORM_MATRIX.length();
-			j = code.indexOf(')');
-			final double[] coords = new double[nbPts];
-
-			if(i>=lgth || code.charAt(i)!='(' || j==-1)
-				throw new IllegalArgumentException();
-
-			i++;
-			for(l=0; l<nbPts-1; l++) {
-				k1 = code.indexOf(' ', i);
-				k2 = code.indexOf(',', i);
-
-				k = k1==-1 ? k2 : k2==-1 ? k1 : Math.min(k1, k2);
-
-				if(k==-1)
-					throw new IllegalArgumentException();
+		final SVGTransformParser parser = new SVGTransformParser(transformation);
 
-				coords[l] = Double.parseDouble(code.substring(i, k));
-				i = k+1;
-			}
-
-			coords[nbPts-1] = Double.parseDouble(code.substring(i, j));
-
-			setMatrix(coords[0], coords[1], coords[2], coords[3], coords[4], coords[5]);
+		try {
+			parser.parseTransform(this);
+		}catch(final ParseException ex) {
+			throw new IllegalArgumentException(ex);
 		}
-		else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SKEW_X)) {
-			i = SVGAttributes.SVG_TRANSFORM_SKEW_X.length();
-			j = code.indexOf(')');
 
-			if(i>=lgth || code.charAt(i)!='(' || j==-1)
-				throw new IllegalArgumentException();
-
-			setSkewX(Double.parseDouble(code.substring(i+1, j)));
-		}
-		else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SKEW_Y)) {
-			i = SVGAttributes.SVG_TRANSFORM_SKEW_Y.length();
-			j = code.indexOf(')');
+		parser.skipWSPComma();
 
-			if(i>=lgth || code.charAt(i)!='(' || j==-1)
-				throw new IllegalArgumentException();
-
-			setSkewY(Double.parseDouble(code.substring(i+1, j)));
-		}
-		else
-			throw new IllegalArgumentException();
+		if(!parser.isEOC())
+			throw new IllegalArgumentException("A single transformation is expected: " + transformation); //$NON-NLS-1$
 	}
 
 
@@ -2,7 +2,8 @@ package net.sf.latexdraw.parsers.svg;
 
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
-import java.util.regex.PatternSyntaxException;
+
+import net.sf.latexdraw.parsers.svg.parsers.SVGTransformParser;
 
 /**
  * Defines a list containing SVG transformations.<br>
@@ -72,22 +73,9 @@ public class SVGTransformList extends ArrayList<SVGTransform> {
 		if(transformations==null)
 			return ;
 
-		try {
-			String code = transformations.replaceAll("[ \t\n\r\f]+", " ");//$NON-NLS-1$//$NON-NLS-2$
-			code = code.replaceAll("^[ ]", "");//$NON-NLS-1$//$NON-NLS-2$
-			code = code.replaceAll("[ ]$", "");//$NON-NLS-1$//$NON-NLS-2$
-			code = code.replaceAll("[ ]?[(][ ]?", "(");//$NON-NLS-1$//$NON-NLS-2$
-			code = code.replaceAll("[ ]?[)]", ")");//$NON-NLS-1$//$NON-NLS-2$
-			code = code.replaceAll("[ ]?,[ ]?", ",");//$NON-NLS-1$//$NON-NLS-2$
-			code = code.replaceAll("[)][, ]?", ")_");//$NON-NLS-1$//$NON-NLS-2$
-
-			final String[] trans = code.split("_");//$NON-NLS-1$
-
-            for(final String tran : trans)
-                try { add(new SVGTransform(tran)); }
-                catch (final IllegalArgumentException e) { /* */ }
-		}
-		catch(final PatternSyntaxException e){ /* */ }
+		final SVGTransformParser parser = new SVGTransformParser(transformations);
+		parser.parse();
+		addAll(parser.getTransforms());
 	}
 
 
@@ -1,5 +1,7 @@
 package net.sf.latexdraw.parsers.svg.parsers;
 
+import java.text.ParseException;
+
 import net.sf.latexdraw.parsers.CodeParser;
 
 /**
@@ -23,6 +25,16 @@ import net.sf.latexdraw.parsers.CodeParser;
  * @since 2.0.0
  */
 public abstract class AbstractSVGParser extends CodeParser {
+	/** The powers of ten that are exactly represented by a double. */
+	private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+	/** The greatest integer exactly represented by a double. */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	/** The maximal number of significant digits read into the mantissa (fits a long). */
+	private static final int MAX_MANTISSA_DIGITS = 18;
+
 	/**
 	 * The constructor.
 	 * @param code The path to parse.
@@ -71,4 +83,106 @@ public abstract class AbstractSVGParser extends CodeParser {
 	public String skipComment() {
 		return null;
 	}
+
+
+	/**
+	 * Reads the number starting at the current position (the white spaces are not skipped).
+	 * The number is computed while reading its characters: no string is created, excepted for
+	 * the rare numbers that cannot be computed exactly this way (more than 18 significant digits or huge exponents).
+	 * An exponent that is not followed by digits is not read: '1em' is read as the number 1 followed by 'em'.
+	 * @param unsigned True: the number must not have a sign.
+	 * @return The read number.
+	 * @throws ParseException If no number starts at the current position or if the number is signed and unsigned is true.
+	 * The offset of the exception is the position of the number.
+	 * @since 4.0
+	 */
+	protected double scanNumber(final boolean unsigned) throws ParseException {
+		final int start = getPosition();
+		int c = getChar();
+		boolean negative = false;
+		boolean hasDigits = false;
+		boolean exact = true;
+		long mantissa = 0L;
+		int nbDigits = 0;
+		int exp10 = 0;
+
+		if(c=='-' || c=='+') {
+			if(unsigned)
+				throw new ParseException("Unsigned number expected.", start);//$NON-NLS-1$
+			negative = c=='-';
+			c = nextChar();
+		}
+
+		// The integer part.
+		while(c>='0' && c<='9') {
+			hasDigits = true;
+			if(nbDigits<MAX_MANTISSA_DIGITS) {
+				mantissa = mantissa*10L + c-'0';
+				if(mantissa>0L) nbDigits++;
+			}else {
+				exact = false;
+				exp10++;
+			}
+			c = nextChar();
+		}
+
+		// The fractional part.
+		if(c=='.') {
+			c = nextChar();
+			while(c>='0' && c<='9') {
+				hasDigits = true;
+				if(nbDigits<MAX_MANTISSA_DIGITS) {
+					mantissa = mantissa*10L + c-'0';
+					if(mantissa>0L) nbDigits++;
+					exp10--;
+				}else
+					exact = false;
+				c = nextChar();
+			}
+		}
+
+		if(!hasDigits)
+			throw new ParseException("Invalid number.", start);//$NON-NLS-1$
+
+		// The exponent.
+		if(c=='e' || c=='E') {
+			final int expPos = getPosition();
+			int exp = 0;
+			boolean negativeExp = false;
+
+			c = nextChar();
+
+			if(c=='-' || c=='+') {
+				negativeExp = c=='-';
+				c = nextChar();
+			}
+
+			if(c>='0' && c<='9') {
+				while(c>='0' && c<='9') {
+					// Avoiding overflows: such exponents lead to infinity or zero anyway.
+					if(exp<100000)
+						exp = exp*10 + c-'0';
+					c = nextChar();
+				}
+				exp10 += negativeExp ? -exp : exp;
+			}else
+				// Not an exponent (e.g. the unit 'em'): the exponent character is not part of the number.
+				setPosition(expPos);
+		}
+
+		if(mantissa==0L && exact)
+			return negative ? -0. : 0.;
+
+		if(exact && mantissa<=MAX_EXACT_MANTISSA && exp10>=-POWERS_OF_TEN.length+1 && exp10<POWERS_OF_TEN.length) {
+			// Both the mantissa and the power of ten are exact doubles: the result is correctly rounded.
+			final double value = exp10<0 ? mantissa/POWERS_OF_TEN[-exp10] : mantissa*POWERS_OF_TEN[exp10];
+			return negative ? -value : value;
+		}
+
+		try {
+			return Double.parseDouble(getCode().substring(start, getPosition()));
+		}catch(final NumberFormatException ex) {
+			throw new ParseException("Invalid number.", start);//$NON-NLS-1$
+		}
+	}
 }
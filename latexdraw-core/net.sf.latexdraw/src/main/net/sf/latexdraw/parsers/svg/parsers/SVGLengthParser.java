@@ -184,13 +184,13 @@ public class SVGLengthParser extends SVGNumberParser {
 	 * @throws ParseException If a problem occurs or if not managed unit are parsed (%, em and ex).
 	 */
 	public SVGLength parseLength() throws ParseException {
-		final double value = parseNumber(false);
 		final LengthType lgthType;
 		final String errorUnit = "Invalid unit";//$NON-NLS-1$
-        final String valueAsStr;
+		skipWSP();
+		final int start = getPosition();
+		final double value = scanNumber(false);
+		final String valueAsStr = getCode().substring(start, getPosition());
 
-        setPosition(0);
-		valueAsStr = parseNumberAsString(false);
 		skipWSP();
 
 		switch(getChar()) {
@@ -283,12 +283,12 @@ public class SVGLengthParser extends SVGNumberParser {
 	 * @throws ParseException If a problem occurs or if a percentage is parsed.
 	 */
 	public SVGLength parseNumberOrPercent() throws ParseException {
-		final double value = parseNumber(false);
 		final LengthType type;
-		final String valueAsStr;
+		skipWSP();
+		final int start = getPosition();
+		final double value = scanNumber(false);
+		final String valueAsStr = getCode().substring(start, getPosition());
 
-		setPosition(0);
-		valueAsStr = parseNumberAsString(false);
 		skipWSP();
 
 		switch(getChar()) {
@@ -59,71 +59,24 @@ public class SVGNumberParser extends AbstractSVGParser {
 	 * @throws ParseException If an error occurs or if the parsed number is signed and <code>unsigned</code> is true.
 	 */
 	public String parseNumberAsString(final boolean unsigned) throws ParseException {
-		boolean again = true;
-		int c;
-        final int start;
-
-        skipWSP();
-		start = getPosition();
-		c = getChar();
-
-		if(c=='-' || c=='+') {// Reading the sign
-			if(unsigned)
-				throw new ParseException("Unsigned number expected.", getPosition());//$NON-NLS-1$
-
-			c = nextChar();
-		}
-
-		while(again && !isEOC()) // Reading the first part of the number.
-			if(c<48 || c>58)
-				again = false;
-			else
-				c = nextChar();
-
-		if(c=='.') {
-			c = nextChar();
-			again = true;
-
-			while(again && !isEOC()) // Reading the second part of the number.
-				if(c<48 || c>58)
-					again = false;
-				else
-					c = nextChar();
-		}
-
-		if(c=='E' || c=='e') { // Reading the exponent.
-			c = nextChar();
-			again = true;
-
-			if(c=='-' || c=='+')// Reading the sign
-				c = nextChar();
-
-			while(again && !isEOC()) // Reading the exponent.
-				if(c<48 || c>58)
-					again = false;
-				else
-					c = nextChar();
-		}
-
-		try {  Double.parseDouble(getCode().substring(start, getPosition())); }
-		catch(final NumberFormatException e) { throw new ParseException("Invalid number.", getPosition()); }//$NON-NLS-1$
-
+		skipWSP();
+		final int start = getPosition();
+		scanNumber(unsigned);
 		return getCode().substring(start, getPosition());
 	}
 
 
 
 	/**
-	 * Parses a number (a double).
+	 * Parses a number (a double). The number is read in a single pass, without creating a string.
 	 * @param unsigned True: the parsed number must be unsigned.
 	 * @return The parsed number.
 	 * @throws ParseException If an error occurs or if the parsed number is signed and <code>unsigned</code> is true.
+	 * The offset of the exception is the position of the number.
 	 */
 	public double parseNumber(final boolean unsigned) throws ParseException {
-		final String number = parseNumberAsString(unsigned);
-
-		try {  return Double.parseDouble(number); }
-		catch(final NumberFormatException e) { throw new ParseException("Invalid number.", getPosition()); }//$NON-NLS-1$
+		skipWSP();
+		return scanNumber(unsigned);
 	}
 
 
@@ -1,6 +1,6 @@
 package net.sf.latexdraw.parsers.svg.parsers;
 
-import net.sf.latexdraw.parsers.svg.path.*;
+import net.sf.latexdraw.parsers.svg.path.SVGPathHandler;
 
 import java.text.ParseException;
 
@@ -165,7 +165,7 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSPComma();
 		y = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegCurvetoCubicSmooth(x, y, x2, y2, isRelative));
+		handler.onCurvetoCubicSmooth(x, y, x2, y2, isRelative);
 
 		while(!isEOC() && isNumber(false)) {
 			x2 = parseNumber(false);
@@ -176,7 +176,7 @@ public class SVGPathParser extends SVGNumberParser {
 			skipWSPComma();
 			y = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegCurvetoCubicSmooth(x, y, x2, y2, isRelative));
+			handler.onCurvetoCubicSmooth(x, y, x2, y2, isRelative);
 		}
 	}
 
@@ -186,7 +186,7 @@ public class SVGPathParser extends SVGNumberParser {
 	 * Parses an SVGPath closepath.
 	 */
 	protected void parseClosepath() {
-		handler.onPathSeg(new SVGPathSegClosePath());
+		handler.onClosePath();
 		nextChar();
 	}
 
@@ -203,12 +203,12 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSP();
 		h = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegLinetoHorizontal(h, isRelative));
+		handler.onLinetoHorizontal(h, isRelative);
 
 		while(!isEOC() && isNumber(false)) {
 			h = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegLinetoHorizontal(h, isRelative));
+			handler.onLinetoHorizontal(h, isRelative);
 		}
 	}
 
@@ -225,12 +225,12 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSP();
 		v = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegLinetoVertical(v, isRelative));
+		handler.onLinetoVertical(v, isRelative);
 
 		while(!isEOC() && isNumber(false)) {
 			v = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegLinetoVertical(v, isRelative));
+			handler.onLinetoVertical(v, isRelative);
 		}
 	}
 
@@ -265,7 +265,7 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSPComma();
 		y = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegArc(x, y, rx, ry, angle, laf, sf, isRelative));
+		handler.onArc(x, y, rx, ry, angle, laf, sf, isRelative);
 
 		while(!isEOC() && isNumber(true)) {
 			rx = parseNumber(true);
@@ -282,7 +282,7 @@ public class SVGPathParser extends SVGNumberParser {
 			skipWSPComma();
 			y = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegArc(x, y, rx, ry, angle, laf, sf, isRelative));
+			handler.onArc(x, y, rx, ry, angle, laf, sf, isRelative);
 		}
 	}
 
@@ -314,7 +314,7 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSPComma();
 		y = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegCurvetoCubic(x, y, x1, y1, x2, y2, isRelative));
+		handler.onCurvetoCubic(x, y, x1, y1, x2, y2, isRelative);
 
 		while(!isEOC() && isNumber(false)) {
 			x1 = parseNumber(false);
@@ -329,7 +329,7 @@ public class SVGPathParser extends SVGNumberParser {
 			skipWSPComma();
 			y = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegCurvetoCubic(x, y, x1, y1, x2, y2, isRelative));
+			handler.onCurvetoCubic(x, y, x1, y1, x2, y2, isRelative);
 		}
 	}
 
@@ -355,7 +355,7 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSPComma();
 		y = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegCurvetoQuadratic(x, y, x1, y1, isRelative));
+		handler.onCurvetoQuadratic(x, y, x1, y1, isRelative);
 
 		while(!isEOC() && isNumber(false)) {
 			x1 = parseNumber(false);
@@ -366,7 +366,7 @@ public class SVGPathParser extends SVGNumberParser {
 			skipWSPComma();
 			y = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegCurvetoQuadratic(x, y, x1, y1, isRelative));
+			handler.onCurvetoQuadratic(x, y, x1, y1, isRelative);
 		}
 	}
 
@@ -386,14 +386,14 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSPComma();
 		y = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegCurvetoQuadraticSmooth(x, y, isRelative));
+		handler.onCurvetoQuadraticSmooth(x, y, isRelative);
 
 		while(!isEOC() && isNumber(false)) {
 			x = parseNumber(false);
 			skipWSPComma();
 			y = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegLineto(x, y, isRelative));
+			handler.onCurvetoQuadraticSmooth(x, y, isRelative);
 		}
 	}
 
@@ -413,14 +413,14 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSPComma();
 		y = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegLineto(x, y, isRelative));
+		handler.onLineto(x, y, isRelative);
 
 		while(!isEOC() && isNumber(false)) {
 			x = parseNumber(false);
 			skipWSPComma();
 			y = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegLineto(x, y, isRelative));
+			handler.onLineto(x, y, isRelative);
 		}
 	}
 
@@ -441,14 +441,14 @@ public class SVGPathParser extends SVGNumberParser {
 		skipWSPComma();
 		y = parseNumber(false);
 		skipWSPComma();
-		handler.onPathSeg(new SVGPathSegMoveto(x, y, isRelative));
+		handler.onMoveto(x, y, isRelative);
 
 		while(!isEOC() && isNumber(false)) {
 			x = parseNumber(false);
 			skipWSPComma();
 			y = parseNumber(false);
 			skipWSPComma();
-			handler.onPathSeg(new SVGPathSegLineto(x, y, isRelative));
+			handler.onLineto(x, y, isRelative);
 		}
 	}
 }
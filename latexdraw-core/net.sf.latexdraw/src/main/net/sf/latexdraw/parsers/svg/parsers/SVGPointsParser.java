@@ -85,59 +85,13 @@ public class SVGPointsParser extends AbstractSVGParser {
 	 * @since 2.0.3
 	 */
 	public double readNumber() throws ParseException {
-		final double n;
-		final boolean isNegative;
-		boolean isFractional = false;
-		boolean isFloating   = false;
-		final StringBuilder strn   = new StringBuilder();
-
 		skipWSP();
+		final double n = scanNumber(false);
 
-		if(getChar()=='-' || getChar()=='+') {
-			isNegative = getChar()=='-';
-			nextChar();
-		}
-		else isNegative = false;
-
-		while(!isWSP() && getChar()!=',' && !isEOC()) {
-			switch(getChar()) {
-				case '0': case '1': case '2': case '3': case '4':
-				case '5': case '6': case '7': case '8': case '9':
-					break;
-
-				case '.':
-					if(isFractional)
-						throw new ParseException("An unexpected dot was read: "+getCode(), getPosition()); //$NON-NLS-1$
-
-					isFractional = true;
-					break;
-
-				case 'e': case 'E':
-					if(isFloating)
-						throw new ParseException("An unexpected exponantial token was read: "+getCode(), getPosition()); //$NON-NLS-1$
-
-					isFloating = true;
-					break;
-
-				case '-': case '+':
-					if(!isFloating)
-						throw new ParseException("An unexpected sign was read: "+getCode(), getPosition()); //$NON-NLS-1$
-
-					break;
-
-				default:
-					throw new ParseException("The following character is not authorised:" + (char)getChar(), getPosition()); //$NON-NLS-1$
-			}
-
-			strn.append((char)getChar());
-			nextChar();
-		}
-
-		try { n = Double.parseDouble(strn.toString()); }
-		catch(final Exception e)
-		{ throw new ParseException("Not able to parse to given number:" + strn, getPosition()); } //$NON-NLS-1$
+		if(!isWSP() && getChar()!=',' && !isEOC())
+			throw new ParseException("The following character is not authorised:" + (char)getChar(), getPosition()); //$NON-NLS-1$
 
-		return isNegative ? n*-1 : n;
+		return n;
 	}
 
 
@@ -0,0 +1,223 @@
+package net.sf.latexdraw.parsers.svg.parsers;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.latexdraw.parsers.svg.SVGAttributes;
+import net.sf.latexdraw.parsers.svg.SVGTransform;
+
+/**
+ * Defines a parser of SVG transformation lists (the attribute transform), e.g. "translate(10,20) rotate(45 5 5)".
+ * The code is read in a single pass: the transformations are set directly from the read values.<br>
+ * As in the previous versions, a single value given to translate or scale is used for both axes.<br>
+ *<br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+public class SVGTransformParser extends SVGNumberParser {
+	/** The maximal number of values of a transformation (a matrix). */
+	private static final int MAX_VALUES = 6;
+
+	/** The transformations parsed by parse. */
+	private final List<SVGTransform> transforms;
+
+	/** The values of the transformation being parsed. */
+	private final double[] values;
+
+
+	/**
+	 * Creates the parser.
+	 * @param code The code to parse.
+	 */
+	public SVGTransformParser(final String code) {
+		super(code);
+		transforms = new ArrayList<>();
+		values = new double[MAX_VALUES];
+	}
+
+
+	/**
+	 * Parses the transformation list. The transformations that are not valid are ignored.
+	 * The valid ones can be got using getTransforms.
+	 */
+	@Override
+	public void parse() {
+		setPosition(0);
+		transforms.clear();
+		skipWSPComma();
+
+		while(!isEOC()) {
+			final SVGTransform transform = new SVGTransform();
+
+			try {
+				parseTransform(transform);
+				transforms.add(transform);
+			}catch(final ParseException ex) {
+				skipInvalidTransform();
+			}
+
+			skipWSPComma();
+		}
+	}
+
+
+	/**
+	 * @return The transformations parsed by parse.
+	 */
+	public List<SVGTransform> getTransforms() {
+		return transforms;
+	}
+
+
+	/**
+	 * Parses the transformation starting at the current position and sets the given transformation with it.
+	 * The given transformation is not modified if the parsed one is not valid.
+	 * @param transform The transformation to set.
+	 * @throws ParseException If the parsed transformation is not valid.
+	 */
+	public void parseTransform(final SVGTransform transform) throws ParseException {
+		skipWSP();
+
+		final int type = parseType();
+		final int nbValues = parseValues();
+
+		if(!isValidNbValues(type, nbValues))
+			throw new ParseException("Invalid number of values.", getPosition());//$NON-NLS-1$
+
+		nextChar();// The closing parenthesis.
+
+		switch(type) {
+			case SVGTransform.SVG_TRANSFORM_MATRIX:
+				transform.setMatrix(values[0], values[1], values[2], values[3], values[4], values[5]);
+				break;
+			case SVGTransform.SVG_TRANSFORM_TRANSLATE:
+				transform.setTranslate(values[0], nbValues==1 ? values[0] : values[1]);
+				break;
+			case SVGTransform.SVG_TRANSFORM_SCALE:
+				transform.setScale(values[0], nbValues==1 ? values[0] : values[1]);
+				break;
+			case SVGTransform.SVG_TRANSFORM_ROTATE:
+				transform.setRotate(values[0], nbValues==1 ? 0. : values[1], nbValues==1 ? 0. : values[2]);
+				break;
+			case SVGTransform.SVG_TRANSFORM_SKEWX:
+				transform.setSkewX(values[0]);
+				break;
+			default:
+				transform.setSkewY(values[0]);
+				break;
+		}
+	}
+
+
+	/**
+	 * @return True if the given number of values is valid for the given type of transformation.
+	 */
+	private static boolean isValidNbValues(final int type, final int nbValues) {
+		switch(type) {
+			case SVGTransform.SVG_TRANSFORM_MATRIX:
+				return nbValues==6;
+			case SVGTransform.SVG_TRANSFORM_TRANSLATE:
+			case SVGTransform.SVG_TRANSFORM_SCALE:
+				return nbValues==1 || nbValues==2;
+			case SVGTransform.SVG_TRANSFORM_ROTATE:
+				return nbValues==1 || nbValues==3;
+			default:
+				return nbValues==1;
+		}
+	}
+
+
+	/**
+	 * Reads the name of the transformation at the current position.
+	 * @return The type of the transformation (the constants of SVGTransform).
+	 */
+	private int parseType() throws ParseException {
+		final String code = getCode();
+		final int pos = getPosition();
+		final String name;
+		final int type;
+
+		if(code.startsWith(SVGAttributes.SVG_TRANSFORM_MATRIX, pos)) {
+			name = SVGAttributes.SVG_TRANSFORM_MATRIX;
+			type = SVGTransform.SVG_TRANSFORM_MATRIX;
+		}else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_TRANSLATE, pos)) {
+			name = SVGAttributes.SVG_TRANSFORM_TRANSLATE;
+			type = SVGTransform.SVG_TRANSFORM_TRANSLATE;
+		}else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SCALE, pos)) {
+			name = SVGAttributes.SVG_TRANSFORM_SCALE;
+			type = SVGTransform.SVG_TRANSFORM_SCALE;
+		}else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_ROTATE, pos)) {
+			name = SVGAttributes.SVG_TRANSFORM_ROTATE;
+			type = SVGTransform.SVG_TRANSFORM_ROTATE;
+		}else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SKEW_X, pos)) {
+			name = SVGAttributes.SVG_TRANSFORM_SKEW_X;
+			type = SVGTransform.SVG_TRANSFORM_SKEWX;
+		}else if(code.startsWith(SVGAttributes.SVG_TRANSFORM_SKEW_Y, pos)) {
+			name = SVGAttributes.SVG_TRANSFORM_SKEW_Y;
+			type = SVGTransform.SVG_TRANSFORM_SKEWY;
+		}else
+			throw new ParseException("Transformation expected.", pos);//$NON-NLS-1$
+
+		setPosition(pos + name.length());
+		return type;
+	}
+
+
+	/**
+	 * Reads the values of the transformation, between parentheses and separated by commas and/or white spaces.
+	 * The closing parenthesis is not read.
+	 * @return The number of read values.
+	 */
+	private int parseValues() throws ParseException {
+		int nbValues = 0;
+
+		skipWSP();
+
+		if(getChar()!='(')
+			throw new ParseException("'(' expected.", getPosition());//$NON-NLS-1$
+
+		nextChar();
+		skipWSP();
+
+		if(getChar()!=')') {
+			values[nbValues++] = parseNumber(false);
+			skipWSP();
+
+			while(getChar()!=')') {
+				if(getChar()==',')
+					nextChar();
+				if(nbValues==MAX_VALUES)
+					throw new ParseException("Too many values.", getPosition());//$NON-NLS-1$
+				values[nbValues++] = parseNumber(false);
+				skipWSP();
+			}
+		}
+
+		return nbValues;
+	}
+
+
+	/**
+	 * Skips the rest of a transformation that is not valid: goes after its closing parenthesis.
+	 */
+	private void skipInvalidTransform() {
+		while(!isEOC() && getChar()!=')')
+			nextChar();
+
+		if(!isEOC())
+			nextChar();
+	}
+}
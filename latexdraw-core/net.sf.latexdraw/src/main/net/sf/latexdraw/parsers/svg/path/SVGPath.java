@@ -0,0 +1,600 @@
+package net.sf.latexdraw.parsers.svg.path;
+
+import java.util.Arrays;
+
+import net.sf.latexdraw.util.LNumberFormatter;
+
+/**
+ * A SVG path stored in a compact form: the command of each segment is stored in an array of
+ * characters (the SVG command letters, lower case for the relative segments) and the parameters of
+ * all the segments in a single array of doubles (in the order of the SVG syntax, the flags of the arcs
+ * being stored as 0 or 1). No object is created per segment: the path is read using a cursor and
+ * serialised directly. The SVGPathSeg objects are created on demand by getSeg and getSegList.<br>
+ *<br>
+ * This file is part of LaTeXDraw.<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ *<br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+public class SVGPath implements SVGPathHandler {
+	private static final int DEFAULT_CAPACITY = 8;
+
+	/** The command of each segment. */
+	private char[] commands;
+
+	/** The position in values of the first parameter of each segment. */
+	private int[] offsets;
+
+	/** The parameters of the segments. */
+	private double[] values;
+
+	/** The number of segments. */
+	private int size;
+
+	/** The number of parameters. */
+	private int nbValues;
+
+
+	/**
+	 * Creates an empty path.
+	 */
+	public SVGPath() {
+		super();
+		commands = new char[DEFAULT_CAPACITY];
+		offsets = new int[DEFAULT_CAPACITY];
+		values = new double[DEFAULT_CAPACITY * 2];
+	}
+
+
+	/**
+	 * @return The number of segments of the path.
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/**
+	 * @return True if the path has no segment.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+
+	/**
+	 * @param index The position of the segment.
+	 * @return The SVG command of the segment (e.g. 'M' or 'l'): lower case if the segment is relative.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 */
+	public char getCommand(final int index) {
+		checkIndex(index);
+		return commands[index];
+	}
+
+
+	/**
+	 * @param index The position of the segment.
+	 * @return The SVG command of the segment, in upper case whether the segment is relative or not.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 */
+	public char getType(final int index) {
+		return Character.toUpperCase(getCommand(index));
+	}
+
+
+	/**
+	 * @param index The position of the segment.
+	 * @return True if the segment is relative. A closepath is relative (as SVGPathSegClosePath).
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 */
+	public boolean isRelative(final int index) {
+		return Character.isLowerCase(getCommand(index));
+	}
+
+
+	/**
+	 * @param index The position of the segment.
+	 * @param param The position of the parameter in the segment, in the order of the SVG syntax
+	 * (e.g. x1 y1 x2 y2 x y for a cubic curveto).
+	 * @return The parameter of the segment.
+	 * @throws IndexOutOfBoundsException If the index or the parameter is not valid.
+	 */
+	public double getValue(final int index, final int param) {
+		checkIndex(index);
+		if(param < 0 || param >= getNbParams(commands[index]))
+			throw new IndexOutOfBoundsException("Parameter: " + param); //$NON-NLS-1$
+		return values[offsets[index] + param];
+	}
+
+
+	/**
+	 * Creates the SVGPathSeg object corresponding to a segment of the path.
+	 * @param index The position of the segment.
+	 * @return The created segment: modifying it does not modify the path.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 */
+	public SVGPathSeg getSeg(final int index) {
+		checkIndex(index);
+		final char cmd = commands[index];
+		final boolean rel = Character.isLowerCase(cmd);
+		final int i = offsets[index];
+
+		switch(Character.toUpperCase(cmd)) {
+			case 'M': return new SVGPathSegMoveto(values[i], values[i+1], rel);
+			case 'L': return new SVGPathSegLineto(values[i], values[i+1], rel);
+			case 'H': return new SVGPathSegLinetoHorizontal(values[i], rel);
+			case 'V': return new SVGPathSegLinetoVertical(values[i], rel);
+			case 'C': return new SVGPathSegCurvetoCubic(values[i+4], values[i+5], values[i], values[i+1], values[i+2], values[i+3], rel);
+			case 'S': return new SVGPathSegCurvetoCubicSmooth(values[i+2], values[i+3], values[i], values[i+1], rel);
+			case 'Q': return new SVGPathSegCurvetoQuadratic(values[i+2], values[i+3], values[i], values[i+1], rel);
+			case 'T': return new SVGPathSegCurvetoQuadraticSmooth(values[i], values[i+1], rel);
+			case 'A': return new SVGPathSegArc(values[i+5], values[i+6], values[i], values[i+1], values[i+2], values[i+3]>0., values[i+4]>0., rel);
+			default : return new SVGPathSegClosePath();
+		}
+	}
+
+
+	/**
+	 * @return A list of SVGPathSeg objects backed by this path: the segments added to the list are added to the path.
+	 */
+	public SVGPathSegList getSegList() {
+		return new SVGPathSegList(this);
+	}
+
+
+	/**
+	 * @return A cursor placed before the first segment of the path.
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+
+	/**
+	 * Removes all the segments of the path.
+	 */
+	public void clear() {
+		size = 0;
+		nbValues = 0;
+	}
+
+
+	/**
+	 * Writes the path in the given string builder (using the SVG syntax).
+	 * @param path The string builder that receives the path.
+	 * @return The given string builder.
+	 */
+	public StringBuilder appendTo(final StringBuilder path) {
+		for(int i = 0; i < size; i++) {
+			final char cmd = commands[i];
+			final int offset = offsets[i];
+
+			path.append(cmd);
+
+			if(Character.toUpperCase(cmd) == 'A') {
+				LNumberFormatter.INSTANCE.appendDouble(path.append(' '), values[offset]);
+				LNumberFormatter.INSTANCE.appendDouble(path.append(' '), values[offset+1]);
+				LNumberFormatter.INSTANCE.appendDouble(path.append(' '), values[offset+2]);
+				path.append(' ').append(values[offset+3]>0. ? '1' : '0').append(' ').append(values[offset+4]>0. ? '1' : '0');
+				LNumberFormatter.INSTANCE.appendDouble(path.append(' '), values[offset+5]);
+				LNumberFormatter.INSTANCE.appendDouble(path.append(' '), values[offset+6]);
+			}else
+				for(int j = offset, end = offset + getNbParams(cmd); j < end; j++)
+					LNumberFormatter.INSTANCE.appendDouble(path.append(' '), values[j]);
+
+			path.append(' ');
+		}
+
+		return path;
+	}
+
+
+	@Override
+	public String toString() {
+		return appendTo(new StringBuilder(size * 16)).toString();
+	}
+
+
+	@Override
+	public void onPathSeg(final SVGPathSeg pathSeg) {
+		if(pathSeg instanceof SVGPathSegClosePath)
+			onClosePath();
+		else if(pathSeg instanceof SVGPathSegArc) {
+			final SVGPathSegArc arc = (SVGPathSegArc)pathSeg;
+			onArc(arc.getX(), arc.getY(), arc.getRX(), arc.getRY(), arc.getAngle(), arc.isLargeArcFlag(), arc.isSweepFlag(), arc.isRelative());
+		}else if(pathSeg instanceof SVGPathSegCurvetoCubic) {
+			final SVGPathSegCurvetoCubic c = (SVGPathSegCurvetoCubic)pathSeg;
+			onCurvetoCubic(c.getX(), c.getY(), c.x1, c.y1, c.x2, c.y2, c.isRelative());
+		}else if(pathSeg instanceof SVGPathSegCurvetoCubicSmooth) {
+			final SVGPathSegCurvetoCubicSmooth c = (SVGPathSegCurvetoCubicSmooth)pathSeg;
+			onCurvetoCubicSmooth(c.getX(), c.getY(), c.x2, c.y2, c.isRelative());
+		}else if(pathSeg instanceof SVGPathSegCurvetoQuadratic) {
+			final SVGPathSegCurvetoQuadratic q = (SVGPathSegCurvetoQuadratic)pathSeg;
+			onCurvetoQuadratic(q.getX(), q.getY(), q.getX1(), q.getY1(), q.isRelative());
+		}else if(pathSeg instanceof SVGPathSegCurvetoQuadraticSmooth) {
+			final SVGPathSegCurvetoQuadraticSmooth q = (SVGPathSegCurvetoQuadraticSmooth)pathSeg;
+			onCurvetoQuadraticSmooth(q.getX(), q.getY(), q.isRelative());
+		}else if(pathSeg instanceof SVGPathSegLinetoHorizontal)
+			onLinetoHorizontal(((SVGPathSegLinetoHorizontal)pathSeg).getX(), pathSeg.isRelative());
+		else if(pathSeg instanceof SVGPathSegLinetoVertical)
+			onLinetoVertical(((SVGPathSegLinetoVertical)pathSeg).getY(), pathSeg.isRelative());
+		else if(pathSeg instanceof SVGPathSegMoveto) {
+			final SVGPathSegMoveto m = (SVGPathSegMoveto)pathSeg;
+			onMoveto(m.getX(), m.getY(), m.isRelative());
+		}else if(pathSeg instanceof SVGPathSegLineto) {
+			final SVGPathSegLineto l = (SVGPathSegLineto)pathSeg;
+			onLineto(l.getX(), l.getY(), l.isRelative());
+		}else
+			throw new IllegalArgumentException("Unsupported path segment: " + pathSeg); //$NON-NLS-1$
+	}
+
+
+	@Override
+	public void onMoveto(final double x, final double y, final boolean isRelative) {
+		addSeg(isRelative ? 'm' : 'M');
+		values[nbValues++] = x;
+		values[nbValues++] = y;
+	}
+
+
+	@Override
+	public void onLineto(final double x, final double y, final boolean isRelative) {
+		addSeg(isRelative ? 'l' : 'L');
+		values[nbValues++] = x;
+		values[nbValues++] = y;
+	}
+
+
+	@Override
+	public void onLinetoHorizontal(final double x, final boolean isRelative) {
+		addSeg(isRelative ? 'h' : 'H');
+		values[nbValues++] = x;
+	}
+
+
+	@Override
+	public void onLinetoVertical(final double y, final boolean isRelative) {
+		addSeg(isRelative ? 'v' : 'V');
+		values[nbValues++] = y;
+	}
+
+
+	@Override
+	public void onCurvetoCubic(final double x, final double y, final double x1, final double y1, final double x2, final double y2,
+							final boolean isRelative) {
+		addSeg(isRelative ? 'c' : 'C');
+		values[nbValues++] = x1;
+		values[nbValues++] = y1;
+		values[nbValues++] = x2;
+		values[nbValues++] = y2;
+		values[nbValues++] = x;
+		values[nbValues++] = y;
+	}
+
+
+	@Override
+	public void onCurvetoCubicSmooth(final double x, final double y, final double x2, final double y2, final boolean isRelative) {
+		addSeg(isRelative ? 's' : 'S');
+		values[nbValues++] = x2;
+		values[nbValues++] = y2;
+		values[nbValues++] = x;
+		values[nbValues++] = y;
+	}
+
+
+	@Override
+	public void onCurvetoQuadratic(final double x, final double y, final double x1, final double y1, final boolean isRelative) {
+		addSeg(isRelative ? 'q' : 'Q');
+		values[nbValues++] = x1;
+		values[nbValues++] = y1;
+		values[nbValues++] = x;
+		values[nbValues++] = y;
+	}
+
+
+	@Override
+	public void onCurvetoQuadraticSmooth(final double x, final double y, final boolean isRelative) {
+		addSeg(isRelative ? 't' : 'T');
+		values[nbValues++] = x;
+		values[nbValues++] = y;
+	}
+
+
+	@Override
+	public void onArc(final double x, final double y, final double rx, final double ry, final double angle,
+					final boolean largeArcFlag, final boolean sweepFlag, final boolean isRelative) {
+		addSeg(isRelative ? 'a' : 'A');
+		values[nbValues++] = rx;
+		values[nbValues++] = ry;
+		values[nbValues++] = angle;
+		values[nbValues++] = largeArcFlag ? 1. : 0.;
+		values[nbValues++] = sweepFlag ? 1. : 0.;
+		values[nbValues++] = x;
+		values[nbValues++] = y;
+	}
+
+
+	@Override
+	public void onClosePath() {
+		addSeg('z');
+	}
+
+
+	/**
+	 * Adds a segment and makes room for its parameters.
+	 */
+	private void addSeg(final char cmd) {
+		if(size == commands.length) {
+			final int capacity = size + (size >> 1);
+			commands = Arrays.copyOf(commands, capacity);
+			offsets = Arrays.copyOf(offsets, capacity);
+		}
+
+		final int nbParams = getNbParams(cmd);
+
+		if(nbValues + nbParams > values.length)
+			values = Arrays.copyOf(values, Math.max(nbValues + nbParams, values.length + (values.length >> 1)));
+
+		commands[size] = cmd;
+		offsets[size] = nbValues;
+		size++;
+	}
+
+
+	private void checkIndex(final int index) {
+		if(index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+
+	/**
+	 * @return The number of parameters of the segments that have the given command.
+	 */
+	private static int getNbParams(final char cmd) {
+		switch(Character.toUpperCase(cmd)) {
+			case 'M':
+			case 'L':
+			case 'T': return 2;
+			case 'H':
+			case 'V': return 1;
+			case 'C': return 6;
+			case 'S':
+			case 'Q': return 4;
+			case 'A': return 7;
+			default : return 0;
+		}
+	}
+
+
+	/**
+	 * Reads the segments of a path one after the other. The cursor computes the absolute positions
+	 * of the end point and of the control points of the current segment, following the SVG specification:
+	 * the relative segments are relative to the end of the previous segment, a closepath goes back to
+	 * the start of the sub-path, and the first control point of the smooth curvetos is the reflection
+	 * of the control point of the previous curveto. No object is created while moving the cursor.
+	 * @since 4.0
+	 */
+	public final class Cursor {
+		/** The position of the current segment. */
+		private int index;
+
+		/** The end of the current segment. */
+		private double x;
+		private double y;
+
+		/** The first and second control points of the current segment (equal to the start point if the segment has none). */
+		private double ctrl1X;
+		private double ctrl1Y;
+		private double ctrl2X;
+		private double ctrl2Y;
+
+		/** The start of the current sub-path. */
+		private double startX;
+		private double startY;
+
+
+		Cursor() {
+			super();
+			index = -1;
+		}
+
+
+		/**
+		 * Moves the cursor to the next segment.
+		 * @return False if there is no more segment.
+		 */
+		public boolean next() {
+			if(index >= size - 1) {
+				index = size;
+				return false;
+			}
+
+			// The previous control point used by the smooth curvetos, if the previous segment is a curveto of the same kind.
+			final char prevType = index < 0 ? 0 : Character.toUpperCase(commands[index]);
+			final double prevX = x;
+			final double prevY = y;
+			final double reflectX;
+			final double reflectY;
+
+			index++;
+
+			final char cmd = commands[index];
+			final char type = Character.toUpperCase(cmd);
+			final double dx = Character.isLowerCase(cmd) ? prevX : 0.;
+			final double dy = Character.isLowerCase(cmd) ? prevY : 0.;
+			final int i = offsets[index];
+
+			switch(type) {
+				case 'M':
+				case 'L':
+				case 'T':
+					x = values[i] + dx;
+					y = values[i+1] + dy;
+					break;
+				case 'H':
+					x = values[i] + dx;
+					break;
+				case 'V':
+					y = values[i] + dy;
+					break;
+				case 'C':
+					x = values[i+4] + dx;
+					y = values[i+5] + dy;
+					break;
+				case 'S':
+				case 'Q':
+					x = values[i+2] + dx;
+					y = values[i+3] + dy;
+					break;
+				case 'A':
+					x = values[i+5] + dx;
+					y = values[i+6] + dy;
+					break;
+				default:
+					x = startX;
+					y = startY;
+					break;
+			}
+
+			if(type == 'S' && (prevType == 'C' || prevType == 'S') || type == 'T' && (prevType == 'Q' || prevType == 'T')) {
+				reflectX = 2. * prevX - ctrl2X;
+				reflectY = 2. * prevY - ctrl2Y;
+			}else {
+				reflectX = prevX;
+				reflectY = prevY;
+			}
+
+			switch(type) {
+				case 'C':
+					ctrl1X = values[i] + dx;
+					ctrl1Y = values[i+1] + dy;
+					ctrl2X = values[i+2] + dx;
+					ctrl2Y = values[i+3] + dy;
+					break;
+				case 'S':
+					ctrl1X = reflectX;
+					ctrl1Y = reflectY;
+					ctrl2X = values[i] + dx;
+					ctrl2Y = values[i+1] + dy;
+					break;
+				case 'Q':
+					ctrl1X = values[i] + dx;
+					ctrl1Y = values[i+1] + dy;
+					ctrl2X = ctrl1X;
+					ctrl2Y = ctrl1Y;
+					break;
+				case 'T':
+					ctrl1X = reflectX;
+					ctrl1Y = reflectY;
+					ctrl2X = ctrl1X;
+					ctrl2Y = ctrl1Y;
+					break;
+				default:
+					ctrl1X = prevX;
+					ctrl1Y = prevY;
+					ctrl2X = prevX;
+					ctrl2Y = prevY;
+					break;
+			}
+
+			if(type == 'M') {
+				startX = x;
+				startY = y;
+			}
+
+			return true;
+		}
+
+
+		/**
+		 * @return The position of the current segment (-1 before the first call to next).
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+
+		/**
+		 * @return The SVG command of the current segment (lower case if the segment is relative).
+		 */
+		public char getCommand() {
+			return SVGPath.this.getCommand(index);
+		}
+
+
+		/**
+		 * @return The SVG command of the current segment, in upper case.
+		 */
+		public char getType() {
+			return SVGPath.this.getType(index);
+		}
+
+
+		/**
+		 * @param param The position of the parameter in the current segment.
+		 * @return The parameter, as written in the path (relative or not).
+		 */
+		public double getValue(final int param) {
+			return SVGPath.this.getValue(index, param);
+		}
+
+
+		/**
+		 * @return The absolute X-coordinate of the end of the current segment.
+		 */
+		public double getX() {
+			return x;
+		}
+
+
+		/**
+		 * @return The absolute Y-coordinate of the end of the current segment.
+		 */
+		public double getY() {
+			return y;
+		}
+
+
+		/**
+		 * @return The absolute X-coordinate of the first control point of the current curveto.
+		 */
+		public double getCtrl1X() {
+			return ctrl1X;
+		}
+
+
+		/**
+		 * @return The absolute Y-coordinate of the first control point of the current curveto.
+		 */
+		public double getCtrl1Y() {
+			return ctrl1Y;
+		}
+
+
+		/**
+		 * @return The absolute X-coordinate of the second control point of the current curveto.
+		 */
+		public double getCtrl2X() {
+			return ctrl2X;
+		}
+
+
+		/**
+		 * @return The absolute Y-coordinate of the second control point of the current curveto.
+		 */
+		public double getCtrl2Y() {
+			return ctrl2Y;
+		}
+	}
+}
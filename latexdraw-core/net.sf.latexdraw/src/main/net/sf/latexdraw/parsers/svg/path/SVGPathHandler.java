@@ -29,4 +29,97 @@ public interface SVGPathHandler {
 	 * @since 2.0
 	 */
 	void onPathSeg(@NonNull final SVGPathSeg pathSeg);
+
+
+	/**
+	 * Actions to do when a moveto segment is parsed. By default, the segment is created and given to onPathSeg.
+	 * The handlers that store the segments in another form (e.g. SVGPath) override these methods to avoid this creation.
+	 * @since 4.0
+	 */
+	default void onMoveto(final double x, final double y, final boolean isRelative) {
+		onPathSeg(new SVGPathSegMoveto(x, y, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when a lineto segment is parsed.
+	 * @since 4.0
+	 */
+	default void onLineto(final double x, final double y, final boolean isRelative) {
+		onPathSeg(new SVGPathSegLineto(x, y, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when a horizontal lineto segment is parsed.
+	 * @since 4.0
+	 */
+	default void onLinetoHorizontal(final double x, final boolean isRelative) {
+		onPathSeg(new SVGPathSegLinetoHorizontal(x, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when a vertical lineto segment is parsed.
+	 * @since 4.0
+	 */
+	default void onLinetoVertical(final double y, final boolean isRelative) {
+		onPathSeg(new SVGPathSegLinetoVertical(y, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when a cubic curveto segment is parsed.
+	 * @since 4.0
+	 */
+	default void onCurvetoCubic(final double x, final double y, final double x1, final double y1, final double x2, final double y2,
+								final boolean isRelative) {
+		onPathSeg(new SVGPathSegCurvetoCubic(x, y, x1, y1, x2, y2, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when a smooth cubic curveto segment is parsed.
+	 * @since 4.0
+	 */
+	default void onCurvetoCubicSmooth(final double x, final double y, final double x2, final double y2, final boolean isRelative) {
+		onPathSeg(new SVGPathSegCurvetoCubicSmooth(x, y, x2, y2, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when a quadratic curveto segment is parsed.
+	 * @since 4.0
+	 */
+	default void onCurvetoQuadratic(final double x, final double y, final double x1, final double y1, final boolean isRelative) {
+		onPathSeg(new SVGPathSegCurvetoQuadratic(x, y, x1, y1, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when a smooth quadratic curveto segment is parsed.
+	 * @since 4.0
+	 */
+	default void onCurvetoQuadraticSmooth(final double x, final double y, final boolean isRelative) {
+		onPathSeg(new SVGPathSegCurvetoQuadraticSmooth(x, y, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when an arc segment is parsed.
+	 * @since 4.0
+	 */
+	default void onArc(final double x, final double y, final double rx, final double ry, final double angle,
+						final boolean largeArcFlag, final boolean sweepFlag, final boolean isRelative) {
+		onPathSeg(new SVGPathSegArc(x, y, rx, ry, angle, largeArcFlag, sweepFlag, isRelative));
+	}
+
+
+	/**
+	 * Actions to do when a closepath segment is parsed.
+	 * @since 4.0
+	 */
+	default void onClosePath() {
+		onPathSeg(new SVGPathSegClosePath());
+	}
 }
@@ -50,4 +50,19 @@ public abstract class SVGPathSeg {
 	public void setRelative(final boolean isRelative) {
 		this.isRelative = isRelative;
 	}
+
+
+	/**
+	 * Writes the segment in the given path, without creating intermediate strings.
+	 * @param path The path that receives the segment.
+	 * @return The given path.
+	 * @since 4.0
+	 */
+	public abstract StringBuilder appendTo(final StringBuilder path);
+
+
+	@Override
+	public String toString() {
+		return appendTo(new StringBuilder()).toString();
+	}
 }
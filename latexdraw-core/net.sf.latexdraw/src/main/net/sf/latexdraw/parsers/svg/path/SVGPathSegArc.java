@@ -2,6 +2,8 @@ package net.sf.latexdraw.parsers.svg.path;
 
 import java.awt.geom.Arc2D;
 
+import net.sf.latexdraw.util.LNumberFormatter;
+
 import org.eclipse.jdt.annotation.NonNull;
 
 /**
@@ -187,8 +189,14 @@ public class SVGPathSegArc extends SVGPathPointSeg {
 	}
 
 	@Override
-	public String toString() {
-        return String.valueOf(isRelative() ? 'a' : 'A') + ' ' + rx + ' ' + ry + ' ' + angle + ' ' +
-                (largeArcFlag ? '1' : '0') + ' ' + (sweepFlag ? '1' : '0') + ' ' + x + ' ' + y;
+	public StringBuilder appendTo(final StringBuilder path) {
+		path.append(isRelative() ? 'a' : 'A');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), rx);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), ry);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), angle);
+		path.append(' ').append(largeArcFlag ? '1' : '0').append(' ').append(sweepFlag ? '1' : '0');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y);
+		return path;
 	}
 }
@@ -30,7 +30,7 @@ public class SVGPathSegClosePath extends SVGPathSeg {
 
 
 	@Override
-	public String toString() {
-		return "z";//$NON-NLS-1$
+	public StringBuilder appendTo(final StringBuilder path) {
+		return path.append('z');
 	}
 }
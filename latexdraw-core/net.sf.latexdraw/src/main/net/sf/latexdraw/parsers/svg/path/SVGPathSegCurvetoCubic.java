@@ -2,6 +2,8 @@ package net.sf.latexdraw.parsers.svg.path;
 
 import java.awt.geom.Point2D;
 
+import net.sf.latexdraw.util.LNumberFormatter;
+
 /**
  * Defines the SVGPath curveto segment.<br>
  *<br>
@@ -55,8 +57,15 @@ public class SVGPathSegCurvetoCubic extends SVGPathPointSeg implements CtrlPoint
 
 
 	@Override
-	public String toString() {
-        return String.valueOf(isRelative() ? 'c' : 'C') + ' ' + x1 + ' ' + y1 + ' ' + x2 + ' ' + y2 + ' ' + x + ' ' + y;
+	public StringBuilder appendTo(final StringBuilder path) {
+		path.append(isRelative() ? 'c' : 'C');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x1);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y1);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x2);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y2);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y);
+		return path;
 	}
 
 	@Override
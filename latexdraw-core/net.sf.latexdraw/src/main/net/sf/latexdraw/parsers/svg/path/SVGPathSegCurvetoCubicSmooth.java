@@ -2,6 +2,8 @@ package net.sf.latexdraw.parsers.svg.path;
 
 import java.awt.geom.Point2D;
 
+import net.sf.latexdraw.util.LNumberFormatter;
+
 /**
  * Defines the SVGPath smooth curveto segment.<br>
  *<br>
@@ -46,8 +48,13 @@ public class SVGPathSegCurvetoCubicSmooth extends SVGPathPointSeg implements Ctr
 
 
 	@Override
-	public String toString() {
-        return String.valueOf(isRelative() ? 's' : 'S') + ' ' + x2 + ' ' + y2 + ' ' + x + ' ' + y;
+	public StringBuilder appendTo(final StringBuilder path) {
+		path.append(isRelative() ? 's' : 'S');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x2);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y2);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y);
+		return path;
 	}
 
 
@@ -1,5 +1,7 @@
 package net.sf.latexdraw.parsers.svg.path;
 
+import net.sf.latexdraw.util.LNumberFormatter;
+
 /**
  * Defines the SVGPath quadratic curveto segment.<br>
  *<br>
@@ -45,8 +47,13 @@ public class SVGPathSegCurvetoQuadratic extends SVGPathPointSeg {
 
 
 	@Override
-	public String toString() {
-        return String.valueOf(isRelative() ? 'q' : 'Q') + ' ' + x1 + ' ' + y1 + ' ' + x + ' ' + y;
+	public StringBuilder appendTo(final StringBuilder path) {
+		path.append(isRelative() ? 'q' : 'Q');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x1);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y1);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y);
+		return path;
 	}
 
 
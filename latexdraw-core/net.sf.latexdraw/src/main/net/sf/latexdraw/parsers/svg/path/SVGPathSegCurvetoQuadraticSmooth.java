@@ -1,5 +1,7 @@
 package net.sf.latexdraw.parsers.svg.path;
 
+import net.sf.latexdraw.util.LNumberFormatter;
+
 /**
  * Defines the SVGPath quadratic smooth curveto segment.<br>
  *<br>
@@ -32,7 +34,10 @@ public class SVGPathSegCurvetoQuadraticSmooth extends SVGPathPointSeg {
 
 
 	@Override
-	public String toString() {
-        return String.valueOf(isRelative() ? 't' : 'T') + ' ' + x + ' ' + y;
+	public StringBuilder appendTo(final StringBuilder path) {
+		path.append(isRelative() ? 't' : 'T');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y);
+		return path;
 	}
 }
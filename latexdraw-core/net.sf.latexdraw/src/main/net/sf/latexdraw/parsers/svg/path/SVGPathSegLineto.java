@@ -11,6 +11,8 @@
  */
 package net.sf.latexdraw.parsers.svg.path;
 
+import net.sf.latexdraw.util.LNumberFormatter;
+
 /**
  * Defines the SVGPath lineto segment.<br>
  * 10/20/07<br>
@@ -29,7 +31,10 @@ public class SVGPathSegLineto extends SVGPathPointSeg {
 	}
 
 	@Override
-	public String toString() {
-        return String.valueOf(isRelative() ? 'l' : 'L') + ' ' + x + ' ' + y;
+	public StringBuilder appendTo(final StringBuilder path) {
+		path.append(isRelative() ? 'l' : 'L');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y);
+		return path;
 	}
 }
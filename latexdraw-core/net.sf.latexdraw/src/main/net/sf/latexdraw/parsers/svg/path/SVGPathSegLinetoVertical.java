@@ -1,5 +1,7 @@
 package net.sf.latexdraw.parsers.svg.path;
 
+import net.sf.latexdraw.util.LNumberFormatter;
+
 /**
  * Defines the SVGPath vertical lineto segment.<br>
  *<br>
@@ -31,8 +33,10 @@ public class SVGPathSegLinetoVertical extends SVGPathSegLineto {
 
 
 	@Override
-	public String toString() {
-        return String.valueOf(isRelative() ? 'v' : 'V') + ' ' + y;
+	public StringBuilder appendTo(final StringBuilder path) {
+		path.append(isRelative() ? 'v' : 'V');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y);
+		return path;
 	}
 
 
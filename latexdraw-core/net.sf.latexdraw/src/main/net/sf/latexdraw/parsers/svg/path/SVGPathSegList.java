@@ -1,9 +1,12 @@
 package net.sf.latexdraw.parsers.svg.path;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
- * Defines a list of SVGPath segments.<br>
+ * Defines a list of SVGPath segments. The segments are stored in a SVGPath: the list is a view
+ * of this path, that creates the segment objects when they are requested.<br>
  *<br>
  * This file is part of LaTeXDraw.<br>
  * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
@@ -21,27 +24,155 @@ import java.util.ArrayList;
  * @author Arnaud BLOUIN
  * @version 3.0
  */
-public class SVGPathSegList extends ArrayList<SVGPathSeg> implements SVGPathHandler {
-	private static final long	serialVersionUID	= 1L;
+public class SVGPathSegList extends AbstractList<SVGPathSeg> implements RandomAccess, SVGPathHandler {
+	/** The path that stores the segments. */
+	private final SVGPath path;
 
 
-    @Override
-	public String toString() {
-		final StringBuilder path = new StringBuilder();
+	/**
+	 * Creates an empty list of segments.
+	 */
+	public SVGPathSegList() {
+		this(new SVGPath());
+	}
 
-		for(final SVGPathSeg seg : this)
-			if(seg!=null) {
-				path.append(seg);
-				path.append(' ');
-			}
 
-		return path.toString();
+	/**
+	 * Creates a list of segments backed by the given path.
+	 * @param path The path that stores the segments.
+	 * @throws NullPointerException If the given path is null.
+	 * @since 4.0
+	 */
+	public SVGPathSegList(final SVGPath path) {
+		super();
+		this.path = Objects.requireNonNull(path);
+	}
+
+
+	/**
+	 * @return The path that stores the segments of the list.
+	 * @since 4.0
+	 */
+	public SVGPath getPath() {
+		return path;
+	}
+
+
+	/**
+	 * @return The segment at the given position. The segment is created from the path: modifying it does not modify the list.
+	 */
+	@Override
+	public SVGPathSeg get(final int index) {
+		return path.getSeg(index);
+	}
+
+
+	@Override
+	public int size() {
+		return path.size();
+	}
+
+
+	/**
+	 * Adds a segment at the end of the list (the segments can only be appended).
+	 * @throws UnsupportedOperationException If the index is not the size of the list.
+	 */
+	@Override
+	public void add(final int index, final SVGPathSeg seg) {
+		if(index != path.size())
+			throw new UnsupportedOperationException("The segments can only be appended."); //$NON-NLS-1$
+		path.onPathSeg(Objects.requireNonNull(seg));
+		modCount++;
 	}
 
 
+	@Override
+	public void clear() {
+		path.clear();
+		modCount++;
+	}
+
+
+	@Override
+	public String toString() {
+		return path.toString();
+	}
+
 
 	@Override
 	public void onPathSeg(final SVGPathSeg pathSeg) {
 		add(pathSeg);
 	}
+
+
+	@Override
+	public void onMoveto(final double x, final double y, final boolean isRelative) {
+		path.onMoveto(x, y, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onLineto(final double x, final double y, final boolean isRelative) {
+		path.onLineto(x, y, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onLinetoHorizontal(final double x, final boolean isRelative) {
+		path.onLinetoHorizontal(x, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onLinetoVertical(final double y, final boolean isRelative) {
+		path.onLinetoVertical(y, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onCurvetoCubic(final double x, final double y, final double x1, final double y1, final double x2, final double y2,
+							final boolean isRelative) {
+		path.onCurvetoCubic(x, y, x1, y1, x2, y2, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onCurvetoCubicSmooth(final double x, final double y, final double x2, final double y2, final boolean isRelative) {
+		path.onCurvetoCubicSmooth(x, y, x2, y2, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onCurvetoQuadratic(final double x, final double y, final double x1, final double y1, final boolean isRelative) {
+		path.onCurvetoQuadratic(x, y, x1, y1, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onCurvetoQuadraticSmooth(final double x, final double y, final boolean isRelative) {
+		path.onCurvetoQuadraticSmooth(x, y, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onArc(final double x, final double y, final double rx, final double ry, final double angle,
+					final boolean largeArcFlag, final boolean sweepFlag, final boolean isRelative) {
+		path.onArc(x, y, rx, ry, angle, largeArcFlag, sweepFlag, isRelative);
+		modCount++;
+	}
+
+
+	@Override
+	public void onClosePath() {
+		path.onClosePath();
+		modCount++;
+	}
 }
@@ -1,5 +1,7 @@
 package net.sf.latexdraw.parsers.svg.path;
 
+import net.sf.latexdraw.util.LNumberFormatter;
+
 /**
  * Defines the SVGPath moveto segment.<br>
  *<br>
@@ -31,7 +33,10 @@ public class SVGPathSegMoveto extends SVGPathSegLineto {
 	}
 
 	@Override
-	public String toString() {
-        return String.valueOf(isRelative() ? 'm' : 'M') + ' ' + x + ' ' + y;
+	public StringBuilder appendTo(final StringBuilder path) {
+		path.append(isRelative() ? 'm' : 'M');
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), x);
+		LNumberFormatter.INSTANCE.appendDouble(path.append(' '), y);
+		return path;
 	}
 }
@@ -95,7 +95,7 @@ public class LCodePanel implements ConcretePresentation {
 	@Override
 	public void update() {
 //		if(isVisible()) {
-//			pstGenerator.updateFull();
+//			pstGenerator.updateIncremental();
 //			editorPane.setText(pstGenerator.getCache().toString());
 //		}
 	}
@@ -0,0 +1,275 @@
+package net.sf.latexdraw.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes numbers in a StringBuilder, a CharBuffer, or any Appendable without creating
+ * intermediate strings. The code generators write a lot of coordinates: the numbers are
+ * written digit by digit instead of using Float.toString or Double.toString.<br>
+ * The default formatter (INSTANCE) writes the same text as StringBuilder.append(float)
+ * and StringBuilder.append(double): the shortest decimal number that identifies the value,
+ * with at least one fractional digit. The numbers written in the scientific notation by Java
+ * (lower than 10^-3 or greater than 10^7), NaN and the infinity are delegated to Java.<br>
+ * A formatter created with a maximal number of decimals rounds the numbers that need more decimals.
+ * It never uses the scientific notation, except for huge numbers.<br>
+ * The formatters are immutable and can be used by several threads.<br>
+ * <br>
+ * This file is part of LaTeXDraw<br>
+ * Copyright (c) 2005-2015 Arnaud BLOUIN<br>
+ *<br>
+ *  LaTeXDraw is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.<br>
+ *<br>
+ *  LaTeXDraw is distributed without any warranty; without even the
+ *  implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR
+ *  PURPOSE. See the GNU General Public License for more details.<br>
+ * <br>
+ * @author Arnaud BLOUIN
+ * @since 4.0
+ */
+public final class LNumberFormatter {
+	/** The maximal number of decimals of a formatter. */
+	public static final int MAX_DECIMALS = 18;
+
+	/** Writes the numbers as StringBuilder.append(float) and StringBuilder.append(double) do. */
+	public static final LNumberFormatter INSTANCE = new LNumberFormatter();
+
+	/** The powers of ten that are exact doubles. */
+	private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+											1e16, 1e17, 1e18};
+
+	private static final long[] POW10_LONG = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+											10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+											1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L};
+
+	/** The scaled values must be lower than 2^53 to be rounded exactly to a long. */
+	private static final double MAX_SCALED = 9007199254740992.0;
+
+	/** The maximal number of decimals written, -1 for the shortest representation of the value. */
+	private final int maxDecimals;
+
+
+	private LNumberFormatter() {
+		super();
+		maxDecimals = -1;
+	}
+
+
+	/**
+	 * Creates a formatter that writes at most the given number of decimals.
+	 * @param maxDecimals The maximal number of decimals written (at least one decimal is written).
+	 * @throws IllegalArgumentException If the number of decimals is not in [1, MAX_DECIMALS].
+	 */
+	public LNumberFormatter(final int maxDecimals) {
+		super();
+		if(maxDecimals<1 || maxDecimals>MAX_DECIMALS)
+			throw new IllegalArgumentException(String.valueOf(maxDecimals));
+		this.maxDecimals = maxDecimals;
+	}
+
+
+	/**
+	 * @return The maximal number of decimals written, -1 if the shortest representation of the values is written.
+	 */
+	public int getMaxDecimals() {
+		return maxDecimals;
+	}
+
+
+	/**
+	 * Writes a number at the float precision.
+	 * @param out The receiver of the number.
+	 * @param value The number to write. It is converted into a float.
+	 * @param <T> The type of the receiver.
+	 * @return The given receiver.
+	 * @throws UncheckedIOException If the receiver cannot write the number.
+	 */
+	public <T extends Appendable> T appendFloat(final T out, final double value) {
+		try {
+			write(out, (float)value, true);
+		}catch(final IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return out;
+	}
+
+
+	/**
+	 * Writes a number cut using the default threshold of LNumber, at the float precision
+	 * (the value written by StringBuilder.append(LNumber.getCutNumberFloat(value)) for the default formatter).
+	 * @param out The receiver of the number.
+	 * @param value The number to write.
+	 * @param <T> The type of the receiver.
+	 * @return The given receiver.
+	 * @throws UncheckedIOException If the receiver cannot write the number.
+	 */
+	public <T extends Appendable> T appendCutFloat(final T out, final double value) {
+		return appendFloat(out, LNumber.getCutNumber(value));
+	}
+
+
+	/**
+	 * Writes a number at the double precision.
+	 * @param out The receiver of the number.
+	 * @param value The number to write.
+	 * @param <T> The type of the receiver.
+	 * @return The given receiver.
+	 * @throws UncheckedIOException If the receiver cannot write the number.
+	 */
+	public <T extends Appendable> T appendDouble(final T out, final double value) {
+		try {
+			write(out, value, false);
+		}catch(final IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return out;
+	}
+
+
+	/**
+	 * @param value The value to write (a float value if isFloat).
+	 * @param isFloat True: the value is written at the float precision.
+	 */
+	private void write(final Appendable out, final double value, final boolean isFloat) throws IOException {
+		final double abs = Math.abs(value);
+
+		if(Double.isNaN(value) || Double.isInfinite(value) || maxDecimals==-1 && abs!=0.0 && (abs<1e-3 || abs>=1e7)) {
+			writeJava(out, value, isFloat);
+			return;
+		}
+
+		final boolean negative = Double.doubleToRawLongBits(value)<0L;
+		final int limit = maxDecimals==-1 ? MAX_DECIMALS : maxDecimals;
+
+		if(abs==0.0) {
+			out.append(negative ? "-0.0" : "0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+			return;
+		}
+
+		// Looking for the lowest number of decimals that identifies the value. If a number of decimals
+		// identifies the value, a greater number of decimals identifies it too: binary search.
+		int high = Math.min(limit, getMaxDecimals(abs, isFloat));
+		long digits = high<1 ? -1L : getDigits(abs, high, isFloat);
+
+		if(digits>=0L) {
+			int low = 1;
+
+			while(low<high) {
+				final int middle = (low+high)>>>1;
+				final long middleDigits = getDigits(abs, middle, isFloat);
+
+				if(middleDigits>=0L) {
+					high = middle;
+					digits = middleDigits;
+				}else
+					low = middle+1;
+			}
+
+			writeDigits(out, negative, digits, high);
+			return;
+		}
+
+		if(maxDecimals==-1) {
+			writeJava(out, value, isFloat);
+			return;
+		}
+
+		// The value is rounded.
+		final double scaled = abs*POW10[maxDecimals];
+
+		if(scaled>=MAX_SCALED) {
+			writeJava(out, value, isFloat);
+			return;
+		}
+
+		long rounded = (long)Math.rint(scaled);
+		int decimals = maxDecimals;
+
+		while(decimals>1 && rounded%10L==0L) {
+			rounded /= 10L;
+			decimals--;
+		}
+
+		writeDigits(out, negative && rounded!=0L, rounded, decimals);
+	}
+
+
+	/**
+	 * @return The greatest number of decimals that can be tested: the scaled value must be exactly rounded to a long.
+	 * For a float, no more decimals than nine significant digits are required.
+	 */
+	private static int getMaxDecimals(final double abs, final boolean isFloat) {
+		int decimals = 0;
+
+		while(decimals<MAX_DECIMALS && abs*POW10[decimals+1]<MAX_SCALED)
+			decimals++;
+
+		if(isFloat) {
+			// The number of digits before the point, or minus the number of zeros after the point.
+			int magnitude = 0;
+
+			if(abs>=1.0)
+				while(magnitude<POW10.length && abs>=POW10[magnitude])
+					magnitude++;
+			else
+				while(magnitude>-MAX_DECIMALS && abs*POW10[1-magnitude]<1.0)
+					magnitude--;
+
+			decimals = Math.min(decimals, Math.max(1, 9-magnitude));
+		}
+
+		return decimals;
+	}
+
+
+	/**
+	 * @return The digits of the value rounded to the given number of decimals if this decimal number
+	 * identifies the value (i.e. it is converted into the value), -1 otherwise.
+	 */
+	private static long getDigits(final double abs, final int decimals, final boolean isFloat) {
+		// Half-even rounding: on a tie, Java writes the even digit.
+		final long digits = (long)Math.rint(abs*POW10[decimals]);
+		final double decimal = digits/POW10[decimals];
+
+		if(!isFloat)
+			// The division is correctly rounded: the decimal number is converted into this double.
+			return decimal==abs ? digits : -1L;
+
+		// The division is correctly rounded and the bounds of the rounding interval of the float are doubles:
+		// the decimal number is strictly in the interval if its double value is strictly in the interval.
+		final float f = (float)abs;
+
+		if(decimal>=abs)
+			return decimal < (abs+Math.nextUp(f))/2.0 ? digits : -1L;
+		return decimal > (abs+Math.nextDown(f))/2.0 ? digits : -1L;
+	}
+
+
+	private static void writeDigits(final Appendable out, final boolean negative, final long digits, final int decimals) throws IOException {
+		// The number of written digits: at least one digit before the point.
+		int nbDigits = decimals+1;
+		long rest = digits;
+
+		while(nbDigits<POW10_LONG.length && digits>=POW10_LONG[nbDigits])
+			nbDigits++;
+
+		if(negative)
+			out.append('-');
+
+		for(int i=nbDigits-1; i>=0; i--) {
+			final long digit = rest/POW10_LONG[i];
+			rest -= digit*POW10_LONG[i];
+			if(i==decimals-1)
+				out.append('.');
+			out.append((char)('0'+digit));
+		}
+	}
+
+
+	private static void writeJava(final Appendable out, final double value, final boolean isFloat) throws IOException {
+		out.append(isFloat ? Float.toString((float)value) : Double.toString(value));
+	}
+}
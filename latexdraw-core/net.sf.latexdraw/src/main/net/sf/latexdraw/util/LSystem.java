@@ -227,6 +227,8 @@ public final class LSystem {
 			inp.start();
 
 			process.waitFor();// Waiting for the end of the process.
+			err.join();// Waiting for the end of the logs.
+			inp.join();
 
 			return err.getLog() + LResources.EOL + inp.getLog();
 		}catch(final Exception e) {
@@ -15,7 +15,9 @@ package net.sf.latexdraw.view.jfx;
 import java.awt.Point;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -175,20 +177,46 @@ public class Canvas extends Pane implements ConcretePresentation, ActionHandler,
 	private void defineShapeListToViewBinding() {
 		if(drawing.getShapes() instanceof ObservableList) {
 			((ObservableList<IShape>)drawing.getShapes()).addListener((Change<? extends IShape> evt) -> {
+				boolean reorder = false;
+
+				// A change can remove and add the same shape: the removals are processed first.
+				while(evt.next())
+					evt.getRemoved().forEach(sh -> shapesPane.getChildren().remove(shapesToViewMap.remove(sh)));
+
+				evt.reset();
+
 				while(evt.next()) {
-					if(evt.wasAdded()) {
+					if(evt.wasPermutated())
+						reorder = true;
+					else if(evt.wasAdded()) {
 						evt.getAddedSubList().forEach(sh -> ViewFactory.INSTANCE.createView(sh).ifPresent(v -> {
 							shapesToViewMap.put(sh, v);
 							shapesPane.getChildren().add(v);
 						}));
-					}else if(evt.wasRemoved()) {
-						evt.getRemoved().forEach(sh -> shapesPane.getChildren().remove(shapesToViewMap.remove(sh)));
+						// The views are added at the end: shapes inserted elsewhere require to reorder the views.
+						reorder = reorder || evt.getTo()<evt.getList().size();
 					}
 				}
+
+				if(reorder)
+					orderViews();
 			});
 		}
 	}
 
+	/**
+	 * Orders the views of the shapes as the shapes of the drawing: the views are moved, not created again.
+	 */
+	private void orderViews() {
+		final List<ViewShape<?, ?>> views = new ArrayList<>();
+		drawing.getShapes().forEach(sh -> {
+			final ViewShape<?, ?> view = shapesToViewMap.get(sh);
+			if(view!=null)
+				views.add(view);
+		});
+		shapesPane.getChildren().setAll(views);
+	}
+
 	// /**
 	// * Repaints the canvas.
 	// * @param withZoom True: zoom will be activated.
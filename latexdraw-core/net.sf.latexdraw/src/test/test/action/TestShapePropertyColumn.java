@@ -0,0 +1,107 @@
+package test.action;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import net.sf.latexdraw.actions.shape.ShapePropertyColumn;
+import net.sf.latexdraw.glib.models.ShapeFactory;
+import net.sf.latexdraw.glib.models.interfaces.shape.IGroup;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPolyline;
+import net.sf.latexdraw.glib.models.interfaces.shape.IRectangle;
+import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestShapePropertyColumn {
+	protected IGroup g;
+	protected IPolyline line1;
+	protected IRectangle rec;
+	protected IPolyline line2;
+
+	@Before
+	public void setUp() {
+		g = ShapeFactory.createGroup();
+		line1 = ShapeFactory.createPolyline(ShapeFactory.createPoint(), ShapeFactory.createPoint(10, 10));
+		rec = ShapeFactory.createRectangle();
+		line2 = ShapeFactory.createPolyline(ShapeFactory.createPoint(), ShapeFactory.createPoint(10, 10));
+		g.addShape(line1);
+		g.addShape(rec);
+		g.addShape(line2);
+	}
+
+	@Test
+	public void testCaptureDoubleMarksNotApplicableShapes() {
+		line1.setDotSizeNum(0.12);
+		line2.setDotSizeNum(0.23);
+		final ShapePropertyColumn.OfDouble col = ShapePropertyColumn.OfDouble.capture(g, IPolyline.class, IPolyline::getDotSizeNum);
+		assertEquals(3, col.size());
+		assertTrue(col.isApplicable(0));
+		assertFalse(col.isApplicable(1));
+		assertTrue(col.isApplicable(2));
+		assertEquals(0.12, col.get(0), 0.0001);
+		assertEquals(0.23, col.get(2), 0.0001);
+	}
+
+	@Test
+	public void testRestoreDouble() {
+		line1.setDotSizeNum(0.12);
+		line2.setDotSizeNum(0.23);
+		final ShapePropertyColumn.OfDouble col = ShapePropertyColumn.OfDouble.capture(g, IPolyline.class, IPolyline::getDotSizeNum);
+		line1.setDotSizeNum(0.5);
+		line2.setDotSizeNum(0.5);
+		col.restore(g, IPolyline.class, IPolyline::setDotSizeNum);
+		assertEquals(0.12, line1.getDotSizeNum(), 0.0001);
+		assertEquals(0.23, line2.getDotSizeNum(), 0.0001);
+	}
+
+	@Test
+	public void testRestoreDoubleSkippedWhenGroupChanged() {
+		line1.setDotSizeNum(0.12);
+		final ShapePropertyColumn.OfDouble col = ShapePropertyColumn.OfDouble.capture(g, IPolyline.class, IPolyline::getDotSizeNum);
+		line1.setDotSizeNum(0.5);
+		g.removeShape(rec);
+		col.restore(g, IPolyline.class, IPolyline::setDotSizeNum);
+		assertEquals(0.5, line1.getDotSizeNum(), 0.0001);
+	}
+
+	@Test
+	public void testCaptureIfDouble() {
+		line1.setHasShadow(true);
+		rec.setHasShadow(true);
+		line2.setHasShadow(false);
+		line1.setShadowAngle(0.1);
+		rec.setShadowAngle(0.2);
+		line2.setShadowAngle(0.3);
+		final ShapePropertyColumn.OfDouble col = ShapePropertyColumn.OfDouble.captureIf(g, IShape::hasShadow, IShape::getShadowAngle);
+		assertTrue(col.isApplicable(0));
+		assertTrue(col.isApplicable(1));
+		assertFalse(col.isApplicable(2));
+		line1.setShadowAngle(1.0);
+		rec.setShadowAngle(1.0);
+		line2.setShadowAngle(1.0);
+		col.restore(g, IShape.class, IShape::setShadowAngle);
+		assertEquals(0.1, line1.getShadowAngle(), 0.0001);
+		assertEquals(0.2, rec.getShadowAngle(), 0.0001);
+		assertEquals(1.0, line2.getShadowAngle(), 0.0001);
+	}
+
+	@Test
+	public void testCaptureRestoreBoolean() {
+		line1.setHasShadow(true);
+		rec.setHasShadow(false);
+		line2.setHasShadow(true);
+		final ShapePropertyColumn.OfBoolean col = ShapePropertyColumn.OfBoolean.capture(g, IShape.class, IShape::hasShadow);
+		assertTrue(col.get(0));
+		assertFalse(col.get(1));
+		assertTrue(col.get(2));
+		line1.setHasShadow(false);
+		rec.setHasShadow(true);
+		line2.setHasShadow(false);
+		col.restore(g, IShape.class, IShape::setHasShadow);
+		assertTrue(line1.hasShadow());
+		assertFalse(rec.hasShadow());
+		assertTrue(line2.hasShadow());
+	}
+}
@@ -1,8 +1,20 @@
 package test.glib.models;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
 import net.sf.latexdraw.glib.models.ShapeFactory;
 import net.sf.latexdraw.glib.models.interfaces.shape.IDrawing;
+import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -22,4 +34,96 @@ public class TestLDrawing extends TestIDrawing {
 		assertNotNull(d.getSelection());
 		assertNotNull(d.getShapes());
 	}
+
+	@Test
+	public void testIndexOfAfterInsertionsAndRemovals() {
+		final List<IShape> shapes = new ArrayList<>();
+		for(int i = 0; i < 10; i++) {
+			shapes.add(ShapeFactory.createRectangle());
+			drawing.addShape(shapes.get(i));
+		}
+
+		drawing.removeShape(shapes.get(3));
+		drawing.addShape(shapes.get(3), 0);
+		drawing.getShapes().removeAll(Arrays.asList(shapes.get(5), shapes.get(7)));
+
+		for(final IShape sh : shapes)
+			assertEquals(new ArrayList<>(drawing.getShapes()).indexOf(sh), drawing.getShapes().indexOf(sh));
+		assertFalse(drawing.contains(shapes.get(5)));
+		assertTrue(drawing.contains(shapes.get(9)));
+		assertEquals(0, drawing.getShapes().indexOf(shapes.get(3)));
+	}
+
+	@Test
+	public void testRemoveAllNotifiesOnce() {
+		final List<IShape> removed = new ArrayList<>();
+		final int[] nbChanges = {0};
+		final ObservableList<IShape> shapes = (ObservableList<IShape>)drawing.getShapes();
+
+		for(int i = 0; i < 1000; i++)
+			drawing.addShape(ShapeFactory.createRectangle());
+		for(int i = 0; i < 1000; i += 2)
+			removed.add(drawing.getShapeAt(i));
+
+		shapes.addListener((ListChangeListener<IShape>)change -> nbChanges[0]++);
+		shapes.removeAll(removed);
+
+		assertEquals(1, nbChanges[0]);
+		assertEquals(500, drawing.size());
+		removed.forEach(sh -> assertFalse(drawing.contains(sh)));
+	}
+
+	@Test
+	public void testChangesNotifiedOnce() {
+		final List<Change<? extends IShape>> changes = new ArrayList<>();
+		final IShape sh1 = ShapeFactory.createRectangle();
+		final IShape sh2 = ShapeFactory.createRectangle();
+
+		((ObservableList<IShape>)drawing.getShapes()).addListener((Change<? extends IShape> evt) -> changes.add(evt));
+		drawing.beginChanges();
+		drawing.addShape(sh1);
+		drawing.addShape(sh2, 0);
+		drawing.addShape(ShapeFactory.createRectangle());
+		drawing.removeShape(sh1);
+		assertTrue(changes.isEmpty());
+		drawing.commitChanges();
+
+		assertEquals(1, changes.size());
+		assertEquals(2, drawing.size());
+		assertEquals(sh2, drawing.getShapeAt(0));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCommitChangesNotStarted() {
+		drawing.commitChanges();
+	}
+
+	@Test
+	public void testMoveShapesNotifiesPermutation() {
+		final List<IShape> shapes = new ArrayList<>();
+		final List<Integer> permutation = new ArrayList<>();
+
+		for(int i = 0; i < 5; i++) {
+			shapes.add(ShapeFactory.createRectangle());
+			drawing.addShape(shapes.get(i));
+		}
+
+		((ObservableList<IShape>)drawing.getShapes()).addListener((Change<? extends IShape> evt) -> {
+			while(evt.next())
+				if(evt.wasPermutated())
+					for(int i = evt.getFrom(); i < evt.getTo(); i++)
+						permutation.add(evt.getPermutation(i));
+		});
+		drawing.moveShapes(Arrays.asList(shapes.get(1), shapes.get(3)), new int[]{3, 4});
+
+		assertEquals(Arrays.asList(3, 1, 4, 2), permutation);
+		assertEquals(Arrays.asList(shapes.get(0), shapes.get(2), shapes.get(4), shapes.get(1), shapes.get(3)), drawing.getShapes());
+		assertEquals(4, drawing.getShapes().indexOf(shapes.get(3)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMoveShapesNotInDrawing() {
+		drawing.addShape(ShapeFactory.createRectangle());
+		drawing.moveShapes(Arrays.asList(ShapeFactory.createRectangle()), new int[]{0});
+	}
 }
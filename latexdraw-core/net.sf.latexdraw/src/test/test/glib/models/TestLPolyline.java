@@ -2,8 +2,10 @@ package test.glib.models;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import net.sf.latexdraw.glib.models.ShapeFactory;
+import net.sf.latexdraw.glib.models.interfaces.shape.ArrowStyle;
 import net.sf.latexdraw.glib.models.interfaces.shape.ICircle;
 import net.sf.latexdraw.glib.models.interfaces.shape.IModifiablePointsShape;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
@@ -52,4 +54,11 @@ public class TestLPolyline extends TestIPolyline<IPolyline> {
 		assertEquals(pt1, pol.getPtAt(0));
 		assertEquals(pt2, pol.getPtAt(-1));
 	}
+
+	@Test
+	public void testGetModificationCountArrowModified() {
+		final long count = shape.getModificationCount();
+		shape.getArrowAt(0).setArrowStyle(ArrowStyle.LEFT_ARROW);
+		assertNotEquals(count, shape.getModificationCount());
+	}
 }
@@ -16,145 +16,148 @@ public class TestColor {
 	}
 
 	@Test
-	public void testSetGetO() {
-		color.setO(0.2);
-		assertEquals(0.2, color.getO(), 0.0001);
-		color.setO(0);
-		assertEquals(0, color.getO(), 0.0001);
-		color.setO(1);
-		assertEquals(1, color.getO(), 0.0001);
+	public void testGetO() {
+		assertEquals(0.2, ShapeFactory.createColor(0.5, 0.5, 0.5, 0.2).getO(), 0.0001);
+		assertEquals(0, ShapeFactory.createColor(0.5, 0.5, 0.5, 0).getO(), 0.0001);
+		assertEquals(1, ShapeFactory.createColor(0.5, 0.5, 0.5, 1).getO(), 0.0001);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetOInvalidGreater() {
-		color.setO(1.001);
+	public void testCreateOInvalidGreater() {
+		ShapeFactory.createColor(0.5, 0.5, 0.5, 1.001);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetOInvalidLower() {
-		color.setO(-0.001);
+	public void testCreateOInvalidLower() {
+		ShapeFactory.createColor(0.5, 0.5, 0.5, -0.001);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetOInvalidNaN() {
-		color.setO(Double.NaN);
+	public void testCreateOInvalidNaN() {
+		ShapeFactory.createColor(0.5, 0.5, 0.5, Double.NaN);
 	}
 
 	@Test
-	public void testSetGetB() {
-		color.setB(0.2);
-		assertEquals(0.2, color.getB(), 0.0001);
-		color.setB(0);
-		assertEquals(0, color.getB(), 0.0001);
-		color.setB(1);
-		assertEquals(1, color.getB(), 0.0001);
+	public void testGetB() {
+		assertEquals(0.2, ShapeFactory.createColor(0.5, 0.5, 0.2, 0.5).getB(), 0.0001);
+		assertEquals(0, ShapeFactory.createColor(0.5, 0.5, 0, 0.5).getB(), 0.0001);
+		assertEquals(1, ShapeFactory.createColor(0.5, 0.5, 1, 0.5).getB(), 0.0001);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetBInvalidGreater() {
-		color.setB(1.001);
+	public void testCreateBInvalidGreater() {
+		ShapeFactory.createColor(0.5, 0.5, 1.001, 0.5);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetBInvalidLower() {
-		color.setB(-0.001);
+	public void testCreateBInvalidLower() {
+		ShapeFactory.createColor(0.5, 0.5, -0.001, 0.5);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetBInvalidNaN() {
-		color.setB(Double.NaN);
+	public void testCreateBInvalidNaN() {
+		ShapeFactory.createColor(0.5, 0.5, Double.NaN, 0.5);
 	}
 
 	@Test
-	public void testSetGetG() {
-		color.setG(0.2);
-		assertEquals(0.2, color.getG(), 0.0001);
-		color.setG(0);
-		assertEquals(0, color.getG(), 0.0001);
-		color.setG(1);
-		assertEquals(1, color.getG(), 0.0001);
+	public void testGetG() {
+		assertEquals(0.2, ShapeFactory.createColor(0.5, 0.2, 0.5, 0.5).getG(), 0.0001);
+		assertEquals(0, ShapeFactory.createColor(0.5, 0, 0.5, 0.5).getG(), 0.0001);
+		assertEquals(1, ShapeFactory.createColor(0.5, 1, 0.5, 0.5).getG(), 0.0001);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetGInvalidGreater() {
-		color.setG(1.001);
+	public void testCreateGInvalidGreater() {
+		ShapeFactory.createColor(0.5, 1.001, 0.5, 0.5);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetGInvalidLower() {
-		color.setG(-0.001);
+	public void testCreateGInvalidLower() {
+		ShapeFactory.createColor(0.5, -0.001, 0.5, 0.5);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetGInvalidNaN() {
-		color.setG(Double.NaN);
+	public void testCreateGInvalidNaN() {
+		ShapeFactory.createColor(0.5, Double.NaN, 0.5, 0.5);
 	}
 
 	@Test
-	public void testSetGetR() {
-		color.setR(0.2);
-		assertEquals(0.2, color.getR(), 0.0001);
-		color.setR(0);
-		assertEquals(0, color.getR(), 0.0001);
-		color.setR(1);
-		assertEquals(1, color.getR(), 0.0001);
+	public void testGetR() {
+		assertEquals(0.2, ShapeFactory.createColor(0.2, 0.5, 0.5, 0.5).getR(), 0.0001);
+		assertEquals(0, ShapeFactory.createColor(0, 0.5, 0.5, 0.5).getR(), 0.0001);
+		assertEquals(1, ShapeFactory.createColor(1, 0.5, 0.5, 0.5).getR(), 0.0001);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetRInvalidGreater() {
-		color.setR(1.001);
+	public void testCreateRInvalidGreater() {
+		ShapeFactory.createColor(1.001, 0.5, 0.5, 0.5);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetRInvalidLower() {
-		color.setR(-0.001);
+	public void testCreateRInvalidLower() {
+		ShapeFactory.createColor(-0.001, 0.5, 0.5, 0.5);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
-	public void testSetGetRInvalidNaN() {
-		color.setR(Double.NaN);
+	public void testCreateRInvalidNaN() {
+		ShapeFactory.createColor(Double.NaN, 0.5, 0.5, 0.5);
 	}
 
 	@Test
 	public void testtoJFX() {
-		color.setO(0.2);
-		color.setB(0.1);
-		color.setR(0.3);
-		color.setG(0.7);
+		color = ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2);
 		assertEquals(0.1, color.toJFX().getBlue(), 0.0001);
 		assertEquals(0.3, color.toJFX().getRed(), 0.0001);
 		assertEquals(0.7, color.toJFX().getGreen(), 0.0001);
 		assertEquals(0.2, color.toJFX().getOpacity(), 0.0001);
 	}
 
+	@Test
+	public void testtoJFXCached() {
+		color = ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2);
+		assertSame(color.toJFX(), color.toJFX());
+	}
+
 	@Test
 	public void testtoAWT() {
-		color.setO(0.2);
-		color.setB(0.1);
-		color.setR(0.3);
-		color.setG(0.7);
+		color = ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2);
 		assertEquals(Math.ceil(0.1 * 255.0), color.toAWT().getBlue(), 0.0001);
 		assertEquals(Math.ceil(0.3 * 255.0), color.toAWT().getRed(), 0.0001);
 		assertEquals(Math.ceil(0.7 * 255.0), color.toAWT().getGreen(), 0.0001);
 		assertEquals(Math.ceil(0.2 * 255.0), color.toAWT().getAlpha(), 0.0001);
 	}
 
+	@Test
+	public void testtoAWTCached() {
+		color = ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2);
+		assertSame(color.toAWT(), color.toAWT());
+	}
+
+	@Test
+	public void testCreateColorInterned() {
+		assertSame(ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2), ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2));
+		assertSame(ShapeFactory.createColorInt(10, 20, 30), ShapeFactory.createColorInt(10, 20, 30));
+		assertSame(ShapeFactory.createColor(), ShapeFactory.createColor(1, 1, 1, 1));
+	}
+
+	@Test
+	public void testCreateColorCloseKeepsChannels() {
+		final Color c1 = ShapeFactory.createColor(0.4, 0.4, 0.4, 1);
+		final Color c2 = ShapeFactory.createColor(0.4000001, 0.4, 0.4, 1);
+		assertEquals(0.4, c1.getR(), 0.);
+		assertEquals(0.4000001, c2.getR(), 0.);
+	}
+
 	@Test
 	public void testEqualsOK() {
-		color.setO(0.2);
-		color.setB(0.1);
-		color.setR(0.3);
-		color.setG(0.7);
+		color = ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2);
 		assertTrue(color.equals(color));
 		assertEquals(color, ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2));
 	}
 
 	@Test
 	public void testEqualsNOK() {
-		color.setO(0.2);
-		color.setB(0.1);
-		color.setR(0.3);
-		color.setG(0.7);
+		color = ShapeFactory.createColor(0.3, 0.7, 0.1, 0.2);
 		assertNotEquals(color, ShapeFactory.createColor(0.2, 0.7, 0.1, 0.2));
 		assertNotEquals(color, ShapeFactory.createColor(0.3, 0.8, 0.1, 0.2));
 		assertNotEquals(color, ShapeFactory.createColor(0.2, 0.7, 0, 0.2));
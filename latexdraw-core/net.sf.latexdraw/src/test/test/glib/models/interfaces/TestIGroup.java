@@ -741,6 +741,21 @@ public abstract class TestIGroup<T extends IGroup> extends TestIShape<T> {
 		shape.getShapes().stream().filter(sh -> sh instanceof IAxes).map(sh -> (IAxes)sh).forEach(sh -> assertEquals(pt, sh.getDistLabels()));
 	}
 
+	@Override
+	@Test
+	public void testGetModificationCountSetRotationAngle() {
+		init4setFill();
+		super.testGetModificationCountSetRotationAngle();
+	}
+
+	@Test
+	public void testGetModificationCountShapeModified() {
+		init4setFill();
+		final long count = shape.getModificationCount();
+		shape.getShapes().get(1).setHasShadow(true);
+		assertNotEquals(count, shape.getModificationCount());
+	}
+
 	private void init4setFill() {
 		IAxes sh2 = ShapeFactory.createAxes(ShapeFactory.createPoint());
 		IShape sh1 = ShapeFactory.createRectangle();
@@ -4,7 +4,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import javafx.beans.property.DoubleProperty;
 import net.sf.latexdraw.glib.models.ShapeFactory;
 import net.sf.latexdraw.glib.models.interfaces.shape.IModifiablePointsShape;
 import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
@@ -64,6 +66,11 @@ public abstract class TestIModifiablePointsShape<T extends IModifiablePointsShap
 		shape.addPoint(pt2);
 		shape.addPoint(pt3);
 		shape.addPoint(pt4);
+		// The shape stores copies of the added points.
+		pt1 = shape.getPtAt(shape.getNbPoints() - 4);
+		pt2 = shape.getPtAt(shape.getNbPoints() - 3);
+		pt3 = shape.getPtAt(shape.getNbPoints() - 2);
+		pt4 = shape.getPtAt(-1);
 		shape.mirrorHorizontal(shape.getGravityCentre());
 		HelperTest.assertEqualsDouble(3., pt1.getX());
 		HelperTest.assertEqualsDouble(1., pt2.getX());
@@ -86,6 +93,11 @@ public abstract class TestIModifiablePointsShape<T extends IModifiablePointsShap
 		shape.addPoint(pt2);
 		shape.addPoint(pt3);
 		shape.addPoint(pt4);
+		// The shape stores copies of the added points.
+		pt1 = shape.getPtAt(shape.getNbPoints() - 4);
+		pt2 = shape.getPtAt(shape.getNbPoints() - 3);
+		pt3 = shape.getPtAt(shape.getNbPoints() - 2);
+		pt4 = shape.getPtAt(-1);
 		shape.mirrorVertical(shape.getGravityCentre());
 		HelperTest.assertEqualsDouble(1., pt1.getX());
 		HelperTest.assertEqualsDouble(3., pt2.getX());
@@ -108,6 +120,11 @@ public abstract class TestIModifiablePointsShape<T extends IModifiablePointsShap
 		shape.addPoint(pt2);
 		shape.addPoint(pt3);
 		shape.addPoint(pt4);
+		// The shape stores copies of the added points.
+		pt1 = shape.getPtAt(shape.getNbPoints() - 4);
+		pt2 = shape.getPtAt(shape.getNbPoints() - 3);
+		pt3 = shape.getPtAt(shape.getNbPoints() - 2);
+		pt4 = shape.getPtAt(-1);
 		shape.translate(10, 0);
 		HelperTest.assertEqualsDouble(11., pt1.getX());
 		HelperTest.assertEqualsDouble(13., pt2.getX());
@@ -337,6 +354,7 @@ public abstract class TestIModifiablePointsShape<T extends IModifiablePointsShap
 
 		shape.getPoints().clear();
 		shape.addPoint(pt);
+		pt = shape.getPtAt(0);
 
 		assertFalse(shape.setPoint(ShapeFactory.createPoint(), -2));
 		assertFalse(shape.setPoint(ShapeFactory.createPoint(), Integer.MIN_VALUE));
@@ -358,6 +376,7 @@ public abstract class TestIModifiablePointsShape<T extends IModifiablePointsShap
 
 		shape.getPoints().clear();
 		shape.addPoint(pt);
+		pt = shape.getPtAt(0);
 
 		assertFalse(shape.setPoint(0, 0, -2));
 		assertFalse(shape.setPoint(0, 0, Integer.MIN_VALUE));
@@ -466,4 +485,52 @@ public abstract class TestIModifiablePointsShape<T extends IModifiablePointsShap
 		shape.addPoint(pt4);
 		assertTrue(shape.getBottomLeftPoint().equals(pt4));
 	}
+
+	@Test
+	public void testGetPtAtReturnsTheSamePoint() {
+		shape.getPoints().clear();
+		shape.addPoint(ShapeFactory.createPoint(1, 2));
+		assertSame(shape.getPtAt(0), shape.getPtAt(0));
+		shape.getPtAt(0).setPoint(5, 6);
+		assertEquals(ShapeFactory.createPoint(5, 6), shape.getPtAt(0));
+	}
+
+	@Test
+	public void testPointMovedWhenPointInserted() {
+		shape.getPoints().clear();
+		shape.addPoint(ShapeFactory.createPoint(1, 2));
+		shape.addPoint(ShapeFactory.createPoint(3, 4));
+		final IPoint pt = shape.getPtAt(1);
+		shape.addPoint(ShapeFactory.createPoint(5, 6), 0);
+		assertSame(pt, shape.getPtAt(2));
+		HelperTest.assertEqualsDouble(3., pt.getX());
+		HelperTest.assertEqualsDouble(4., pt.getY());
+	}
+
+	@Test
+	public void testRemovedPointKeepsItsCoordinates() {
+		shape.getPoints().clear();
+		shape.addPoint(ShapeFactory.createPoint(1, 2));
+		shape.addPoint(ShapeFactory.createPoint(3, 4));
+		final IPoint pt = shape.getPtAt(0);
+		assertSame(pt, shape.removePoint(0));
+		shape.translate(10, 10);
+		HelperTest.assertEqualsDouble(1., pt.getX());
+		HelperTest.assertEqualsDouble(2., pt.getY());
+		HelperTest.assertEqualsDouble(13., shape.getPtAt(0).getX());
+	}
+
+	@Test
+	public void testPointPropertiesUpdatedOnTranslate() {
+		shape.getPoints().clear();
+		shape.addPoint(ShapeFactory.createPoint(1, 2));
+		final DoubleProperty x = shape.getPtAt(0).xProperty();
+		final DoubleProperty y = shape.getPtAt(0).yProperty();
+		shape.translate(10, 20);
+		HelperTest.assertEqualsDouble(11., x.get());
+		HelperTest.assertEqualsDouble(22., y.get());
+		x.set(5.);
+		HelperTest.assertEqualsDouble(5., shape.getPtAt(0).getX());
+		HelperTest.assertEqualsDouble(5., shape.getTopLeftPoint().getX());
+	}
 }
@@ -306,6 +306,49 @@ public abstract class TestIPlot<T extends IPlot> extends TestIPositionShape<T> {
 		assertEquals(20.0 - 20.0 * IShape.PPC, pt.getY(), 0.0001);
 	}
 
+	@Test
+	public void testGetPlottedPoints() {
+		shape.setPlotEquation("x 2 mul");
+		shape.setPlotMaxX(10.0);
+		shape.setPlotMinX(1.0);
+		shape.setNbPlottedPoints(10);
+
+		for(int i=0; i<10; i++) {
+			assertEquals(1.0 + i, shape.getPlottedX(i), 0.00001);
+			assertEquals(2.0 + 2.0 * i, shape.getPlottedY(i), 0.00001);
+		}
+		assertEquals(2.0, shape.getPlottedMinY(), 0.00001);
+		assertEquals(20.0, shape.getPlottedMaxY(), 0.00001);
+	}
+
+	@Test
+	public void testGetPlottedPointsUpdated() {
+		shape.setPlotEquation("x");
+		shape.setPlotMaxX(10.0);
+		shape.setPlotMinX(1.0);
+		shape.setNbPlottedPoints(10);
+		assertEquals(10.0, shape.getPlottedMaxY(), 0.00001);
+
+		shape.setPlotEquation("x neg");
+		assertEquals(-1.0, shape.getPlottedMaxY(), 0.00001);
+		assertEquals(-10.0, shape.getPlottedMinY(), 0.00001);
+
+		shape.setPlotMinX(-5.0);
+		assertEquals(5.0, shape.getPlottedMaxY(), 0.00001);
+
+		shape.setPlotMaxX(20.0);
+		assertEquals(-20.0, shape.getPlottedMinY(), 0.00001);
+
+		shape.setNbPlottedPoints(26);
+		assertEquals(4.0, shape.getPlottedY(1), 0.00001);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetPlottedXInvalidIndex() {
+		shape.setNbPlottedPoints(10);
+		shape.getPlottedX(10);
+	}
+
 	@Test
 	public void testInvalidMirrorHorizontal() {
 		shape.setPosition(100, 200);
@@ -2,6 +2,7 @@ package test.glib.models.interfaces;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import net.sf.latexdraw.glib.models.GLibUtilities;
@@ -479,6 +480,20 @@ public abstract class TestIShape<T extends IShape> {
 		}
 	}
 
+	@Test
+	public void testGetModificationCountSetRotationAngle() {
+		final long count = shape.getModificationCount();
+		shape.setRotationAngle(shape.getRotationAngle() + 1.);
+		assertNotEquals(count, shape.getModificationCount());
+	}
+
+	@Test
+	public void testGetModificationCountInvalidRotationAngle() {
+		final long count = shape.getModificationCount();
+		shape.setRotationAngle(Double.NaN);
+		assertEquals(count, shape.getModificationCount());
+	}
+
 	@Test
 	public void testGetSetRotationAngle() {
 		shape.setRotationAngle(30.);
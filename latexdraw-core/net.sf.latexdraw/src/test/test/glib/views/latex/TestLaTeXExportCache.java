@@ -0,0 +1,193 @@
+package test.glib.views.latex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import net.sf.latexdraw.glib.views.latex.LaTeXExportCache;
+import net.sf.latexdraw.util.LSystem;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestLaTeXExportCache {
+	private Path dir;
+	private LaTeXExportCache cache;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = Files.createTempDirectory("latexdrawExportCache"); //$NON-NLS-1$
+		cache = new LaTeXExportCache(dir.resolve("cache").toFile(), 1000L); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try(Stream<Path> files = Files.walk(dir)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Creates a shell script standing for a binary of the tool chain: each execution is logged in the
+	 * calls file, the script writes its first argument in the file given as second argument.
+	 */
+	private File createStubBinary(final String name) throws IOException {
+		final Path bin = dir.resolve(name);
+		Files.write(bin, ("#!/bin/sh\necho \"$1\" >> \"" + dir.resolve(name + ".calls") + "\"\n" + //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						"if [ -n \"$2\" ]; then echo \"$1\" > \"$2\"; else echo \"" + name + " 1.0\"; fi\n").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		bin.toFile().setExecutable(true);
+		return bin.toFile();
+	}
+
+	private int getNbCalls(final String name) throws IOException {
+		final Path calls = dir.resolve(name + ".calls"); //$NON-NLS-1$
+		return calls.toFile().exists() ? Files.readAllLines(calls).size() : 0;
+	}
+
+	private File export(final File bin, final String doc, final File target) {
+		final String key = LaTeXExportCache.createKey(".ps", doc, cache.getToolVersion(bin.getAbsolutePath())); //$NON-NLS-1$
+		return cache.getOrCreate(key, target, () -> {
+			LSystem.INSTANCE.execute(new String[] {bin.getAbsolutePath(), doc, target.getAbsolutePath()}, null);
+			return target.exists() ? target : null;
+		});
+	}
+
+	private File createFile(final String name, final int size) throws IOException {
+		final File file = dir.resolve(name).toFile();
+		Files.write(file.toPath(), new byte[size]);
+		return file;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCreateNoDirectory() {
+		new LaTeXExportCache(null, 10L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCreateNoSize() {
+		new LaTeXExportCache(dir.toFile(), 0L);
+	}
+
+	@Test
+	public void testCreateKey() {
+		assertEquals(LaTeXExportCache.createKey("a", "b"), LaTeXExportCache.createKey("a", "b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertNotEquals(LaTeXExportCache.createKey("a", "b"), LaTeXExportCache.createKey("a", "c")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertNotEquals(LaTeXExportCache.createKey("ab", "c"), LaTeXExportCache.createKey("a", "bc")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertEquals(64, LaTeXExportCache.createKey("a").length()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testExportUnchangedDocumentNotCompiledAgain() throws IOException {
+		Assume.assumeFalse(LSystem.INSTANCE.isWindows());
+		final File bin = createStubBinary("latex"); //$NON-NLS-1$
+		final File target = dir.resolve("fig.ps").toFile(); //$NON-NLS-1$
+
+		assertEquals(target, export(bin, "doc1", target)); //$NON-NLS-1$
+		assertTrue(target.delete());
+		assertEquals(target, export(bin, "doc1", target)); //$NON-NLS-1$
+
+		assertEquals("doc1", Files.readAllLines(target.toPath()).get(0)); //$NON-NLS-1$
+		// One call for the version, one for the compilation.
+		assertEquals(2, getNbCalls("latex")); //$NON-NLS-1$
+		assertEquals(1L, cache.getHitCount());
+		assertEquals(1L, cache.getMissCount());
+		assertEquals(1, cache.getEntryCount());
+	}
+
+	@Test
+	public void testExportChangedDocumentCompiled() throws IOException {
+		Assume.assumeFalse(LSystem.INSTANCE.isWindows());
+		final File bin = createStubBinary("latex"); //$NON-NLS-1$
+		final File target = dir.resolve("fig.ps").toFile(); //$NON-NLS-1$
+
+		export(bin, "doc1", target); //$NON-NLS-1$
+		export(bin, "doc2", target); //$NON-NLS-1$
+
+		assertEquals("doc2", Files.readAllLines(target.toPath()).get(0)); //$NON-NLS-1$
+		assertEquals(3, getNbCalls("latex")); //$NON-NLS-1$
+		assertEquals(0L, cache.getHitCount());
+		assertEquals(2L, cache.getMissCount());
+		assertEquals(2, cache.getEntryCount());
+	}
+
+	@Test
+	public void testGetToolVersionComputedOnce() throws IOException {
+		Assume.assumeFalse(LSystem.INSTANCE.isWindows());
+		final File bin = createStubBinary("dvips"); //$NON-NLS-1$
+
+		assertTrue(cache.getToolVersion(bin.getAbsolutePath()).contains("dvips 1.0")); //$NON-NLS-1$
+		assertEquals(cache.getToolVersion(bin.getAbsolutePath()), cache.getToolVersion(bin.getAbsolutePath()));
+		assertEquals(1, getNbCalls("dvips")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testFailedExportNotCached() {
+		final File target = dir.resolve("fig.ps").toFile(); //$NON-NLS-1$
+
+		assertNull(cache.getOrCreate("key", target, () -> null)); //$NON-NLS-1$
+		assertNull(cache.getOrCreate("key", target, () -> null)); //$NON-NLS-1$
+		assertEquals(0, cache.getEntryCount());
+		assertEquals(2L, cache.getMissCount());
+		assertFalse(target.exists());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEvicted() throws IOException {
+		cache.store("k1", createFile("f1", 400)); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.store("k2", createFile("f2", 400)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(cache.fetch("k1", dir.resolve("out").toFile())); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.store("k3", createFile("f3", 400)); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(2, cache.getEntryCount());
+		assertEquals(800L, cache.getSize());
+		assertFalse(cache.fetch("k2", dir.resolve("out").toFile())); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(cache.fetch("k1", dir.resolve("out").toFile())); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(cache.fetch("k3", dir.resolve("out").toFile())); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testDocumentLargerThanCacheNotStored() throws IOException {
+		cache.store("k1", createFile("f1", 1001)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(0, cache.getEntryCount());
+		assertEquals(0L, cache.getSize());
+	}
+
+	@Test
+	public void testEntriesKeptBetweenCaches() throws IOException {
+		cache.store("k1", createFile("f1", 10)); //$NON-NLS-1$ //$NON-NLS-2$
+		final LaTeXExportCache cache2 = new LaTeXExportCache(cache.getDirectory(), 1000L);
+		assertEquals(1, cache2.getEntryCount());
+		assertEquals(10L, cache2.getSize());
+		assertTrue(cache2.fetch("k1", dir.resolve("out").toFile())); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(10L, dir.resolve("out").toFile().length()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testClear() throws IOException {
+		cache.store("k1", createFile("f1", 10)); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.clear();
+		assertEquals(0, cache.getEntryCount());
+		assertEquals(0L, cache.getSize());
+		assertFalse(cache.fetch("k1", dir.resolve("out").toFile())); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testResetStatistics() {
+		cache.fetch("k1", dir.resolve("out").toFile()); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.resetStatistics();
+		assertEquals(0L, cache.getMissCount());
+		assertEquals(0L, cache.getHitCount());
+	}
+}
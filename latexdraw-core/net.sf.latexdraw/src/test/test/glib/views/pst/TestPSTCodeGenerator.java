@@ -0,0 +1,132 @@
+package test.glib.views.pst;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import net.sf.latexdraw.glib.models.ShapeFactory;
+import net.sf.latexdraw.glib.models.interfaces.shape.IDrawing;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
+import net.sf.latexdraw.glib.models.interfaces.shape.IRectangle;
+import net.sf.latexdraw.glib.views.latex.DviPsColors;
+import net.sf.latexdraw.glib.views.pst.PSTCodeGenerator;
+import net.sf.latexdraw.glib.views.synchroniser.ViewsSynchroniserHandler;
+
+public class TestPSTCodeGenerator {
+	private ForkJoinPool pool;
+	private IDrawing drawing;
+	private PSTCodeGenerator gen;
+
+	private final ViewsSynchroniserHandler handler = new ViewsSynchroniserHandler() {
+		@Override
+		public IPoint getTopRightDrawingPoint() {
+			return ShapeFactory.createPoint(500, 0);
+		}
+
+		@Override
+		public IPoint getBottomLeftDrawingPoint() {
+			return ShapeFactory.createPoint(0, 500);
+		}
+
+		@Override
+		public IPoint getOriginDrawingPoint() {
+			return ShapeFactory.createPoint(0, 500);
+		}
+
+		@Override
+		public int getPPCDrawing() {
+			return 50;
+		}
+	};
+
+	@Before
+	public void setUp() {
+		pool = new ForkJoinPool(4);
+		drawing = ShapeFactory.createDrawing();
+		gen = new PSTCodeGenerator(drawing, handler, true, true);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	/** Adds rectangles whose line colour is not defined yet. */
+	private void addShapes(final int red) {
+		for(int i = 0; i < 100; i++) {
+			final IRectangle rec = ShapeFactory.createRectangle(ShapeFactory.createPoint(i, i), 10, 10);
+			rec.setLineColour(ShapeFactory.createColorInt(red, i, 255 - i));
+			drawing.addShape(rec);
+		}
+	}
+
+	@Test
+	public void testUpdateFullParallelSameCodeAsSequential() {
+		addShapes(1);
+		gen.updateFull(pool);
+		final String code = gen.getCache().toString();
+		gen.updateFull();
+		assertEquals(gen.getCache().toString(), code);
+	}
+
+	@Test
+	public void testUpdateFullParallelColoursNamedFromValues() {
+		addShapes(2);
+		gen.updateFull(pool);
+		final Matcher matcher = Pattern.compile("linecolor=(colour[0-9a-f]+)").matcher(gen.getCache()); //$NON-NLS-1$
+		int nb = 0;
+
+		while(matcher.find()) {
+			assertEquals(String.format("colour02%02x%02xff", nb, 255 - nb), matcher.group(1)); //$NON-NLS-1$
+			nb++;
+		}
+
+		assertEquals(100, nb);
+	}
+
+	@Test
+	public void testColoursNotInGlobalRegistry() {
+		addShapes(4);
+		gen.updateFull(pool);
+		assertEquals(100, gen.getColourRegistry().getUserColours().size());
+		assertFalse(DviPsColors.INSTANCE.getColour("colour0400ffff").isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSameCodeForEachGenerator() {
+		addShapes(5);
+		gen.updateFull(pool);
+		final String code = gen.getCache().toString();
+		final PSTCodeGenerator gen2 = new PSTCodeGenerator(drawing, handler, true, true);
+		gen2.updateFull(pool);
+		assertEquals(code, gen2.getCache().toString());
+	}
+
+	@Test
+	public void testUpdateFullParallelColoursDefinedOnce() {
+		addShapes(3);
+		addShapes(3);
+		gen.updateFull(pool);
+		final Matcher matcher = Pattern.compile("\\\\definecolor").matcher(gen.getCache()); //$NON-NLS-1$
+		int nb = 0;
+
+		while(matcher.find())
+			nb++;
+
+		assertEquals(100, nb);
+	}
+
+	@Test
+	public void testUpdateFullParallelEmptyDrawing() {
+		gen.updateFull(pool);
+		assertEquals(0, gen.getCache().length());
+	}
+}
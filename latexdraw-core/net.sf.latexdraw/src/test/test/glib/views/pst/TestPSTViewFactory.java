@@ -1,15 +1,35 @@
 package test.glib.views.pst;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Method;
+
 import org.junit.Test;
 
 import net.sf.latexdraw.glib.models.ShapeFactory;
 import net.sf.latexdraw.glib.models.interfaces.shape.IGroup;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
+import net.sf.latexdraw.glib.models.interfaces.shape.IRectangle;
+import net.sf.latexdraw.glib.views.AbstractCodeView;
+import net.sf.latexdraw.glib.views.latex.DviPsColors;
 import net.sf.latexdraw.glib.views.pst.PSTViewsFactory;
 
 public class TestPSTViewFactory {
+	@Test
+	public void testCreatedViewColoursNotInGlobalRegistry() throws ReflectiveOperationException {
+		final IRectangle rec = ShapeFactory.createRectangle(ShapeFactory.createPoint(), 10, 10);
+		rec.setLineColour(ShapeFactory.createColorInt(3, 5, 7));
+		final AbstractCodeView<?> view = PSTViewsFactory.INSTANCE.createView(rec);
+		// PSTShapeView is not visible from the tests.
+		final Method method = view.getClass().getMethod("updateCache", IPoint.class, float.class); //$NON-NLS-1$
+		method.setAccessible(true);
+		method.invoke(view, ShapeFactory.createPoint(), 50f);
+		assertTrue(view.getCache().toString().contains("linecolor=colour030507ff")); //$NON-NLS-1$
+		assertFalse(DviPsColors.INSTANCE.getColour("colour030507ff").isPresent()); //$NON-NLS-1$
+	}
+
 	@Test
 	public void testCreateGroupViewPST() {
 		IGroup gp = ShapeFactory.createGroup();
@@ -0,0 +1,221 @@
+package test.glib.views.pst;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import net.sf.latexdraw.glib.models.ShapeFactory;
+import net.sf.latexdraw.glib.models.interfaces.shape.ArrowStyle;
+import net.sf.latexdraw.glib.models.interfaces.shape.IDrawing;
+import net.sf.latexdraw.glib.models.interfaces.shape.IGroup;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPoint;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPolygon;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPolyline;
+import net.sf.latexdraw.glib.models.interfaces.shape.IRectangle;
+import net.sf.latexdraw.glib.views.AbstractCodeView;
+import net.sf.latexdraw.glib.views.pst.PSTCodeGenerator;
+import net.sf.latexdraw.glib.views.pst.PSTViewsSynchroniser;
+import net.sf.latexdraw.glib.views.synchroniser.ViewsSynchroniserHandler;
+
+public class TestPSTViewsSynchroniser {
+	private IDrawing drawing;
+	private PSTCodeGenerator gen;
+	private PSTViewsSynchroniser synchro;
+	private IRectangle rec1;
+	private IRectangle rec2;
+
+	private final ViewsSynchroniserHandler handler = new ViewsSynchroniserHandler() {
+		@Override
+		public IPoint getTopRightDrawingPoint() {
+			return ShapeFactory.createPoint(500, 0);
+		}
+
+		@Override
+		public IPoint getBottomLeftDrawingPoint() {
+			return ShapeFactory.createPoint(0, 500);
+		}
+
+		@Override
+		public IPoint getOriginDrawingPoint() {
+			return ShapeFactory.createPoint(0, 500);
+		}
+
+		@Override
+		public int getPPCDrawing() {
+			return 50;
+		}
+	};
+
+	@Before
+	public void setUp() {
+		drawing = ShapeFactory.createDrawing();
+		rec1 = ShapeFactory.createRectangle(ShapeFactory.createPoint(10, 10), 20, 20);
+		rec2 = ShapeFactory.createRectangle(ShapeFactory.createPoint(100, 100), 20, 20);
+		drawing.addShape(rec1);
+		drawing.addShape(rec2);
+		gen = new PSTCodeGenerator(drawing, handler, true, true);
+		synchro = gen.getSynchro();
+		gen.updateIncremental();
+	}
+
+	private String getCode(final AbstractCodeView<?> view) {
+		return view.getCache().toString();
+	}
+
+	/** PSTShapeView is not visible from the tests. */
+	private static boolean isDirty(final AbstractCodeView<?> view) throws ReflectiveOperationException {
+		final Method method = view.getClass().getMethod("isDirty"); //$NON-NLS-1$
+		method.setAccessible(true);
+		return (Boolean)method.invoke(view);
+	}
+
+	/** PSTShapeView is not visible from the tests. */
+	private static Object getObserved(final AbstractCodeView<?> view) throws ReflectiveOperationException {
+		Class<?> clazz = view.getClass();
+		while(!"PSTShapeView".equals(clazz.getSimpleName())) //$NON-NLS-1$
+			clazz = clazz.getSuperclass();
+		final Field field = clazz.getDeclaredField("observed"); //$NON-NLS-1$
+		field.setAccessible(true);
+		return field.get(view);
+	}
+
+	@Test
+	public void testUpdateDirtyNothingModified() throws ReflectiveOperationException {
+		assertFalse(isDirty(synchro.getView(rec1)));
+		assertFalse(isDirty(synchro.getView(rec2)));
+	}
+
+	@Test
+	public void testUpdateDirtyRegeneratesTranslatedShapeOnly() throws ReflectiveOperationException {
+		final String code1 = getCode(synchro.getView(rec1));
+		final String code2 = getCode(synchro.getView(rec2));
+		rec1.translate(50, 0);
+		assertTrue(isDirty(synchro.getView(rec1)));
+		assertFalse(isDirty(synchro.getView(rec2)));
+
+		gen.updateIncremental();
+
+		assertNotEquals(code1, getCode(synchro.getView(rec1)));
+		assertEquals(code2, getCode(synchro.getView(rec2)));
+		assertFalse(isDirty(synchro.getView(rec1)));
+	}
+
+	@Test
+	public void testUpdateDirtyRegeneratesMovedPointShapeOnly() {
+		final String code1 = getCode(synchro.getView(rec1));
+		final String code2 = getCode(synchro.getView(rec2));
+		rec1.getPoints().get(1).setX(200);
+		gen.updateIncremental();
+		assertNotEquals(code1, getCode(synchro.getView(rec1)));
+		assertEquals(code2, getCode(synchro.getView(rec2)));
+	}
+
+	@Test
+	public void testUpdateDirtyRegeneratesStyledShapeOnly() {
+		final String code1 = getCode(synchro.getView(rec1));
+		final String code2 = getCode(synchro.getView(rec2));
+		rec1.setThickness(12.);
+		gen.updateIncremental();
+		assertNotEquals(code1, getCode(synchro.getView(rec1)));
+		assertEquals(code2, getCode(synchro.getView(rec2)));
+	}
+
+	@Test
+	public void testUpdateDirtyRegeneratesRotatedShape() throws ReflectiveOperationException {
+		final String code1 = getCode(synchro.getView(rec1));
+		rec2.setRotationAngle(Math.PI / 2.);
+		assertTrue(isDirty(synchro.getView(rec2)));
+		assertFalse(isDirty(synchro.getView(rec1)));
+
+		gen.updateIncremental();
+
+		assertTrue(getCode(synchro.getView(rec2)).contains("\\rput{")); //$NON-NLS-1$
+		assertEquals(code1, getCode(synchro.getView(rec1)));
+		assertFalse(isDirty(synchro.getView(rec2)));
+	}
+
+	@Test
+	public void testUpdateDirtyRegeneratesShadowedShape() {
+		final String code2 = getCode(synchro.getView(rec2));
+		rec2.setHasShadow(true);
+		gen.updateIncremental();
+		assertNotEquals(code2, getCode(synchro.getView(rec2)));
+		assertTrue(gen.getCache().toString().contains("shadow=true")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testUpdateDirtyRegeneratesModifiedArrow() {
+		final IPolyline pol = ShapeFactory.createPolyline(ShapeFactory.createPoint(1, 1), ShapeFactory.createPoint(20, 1));
+		drawing.addShape(pol);
+		gen.updateIncremental();
+		final String code = getCode(synchro.getView(pol));
+
+		pol.getArrowAt(0).setArrowStyle(ArrowStyle.LEFT_ARROW);
+		gen.updateIncremental();
+		assertNotEquals(code, getCode(synchro.getView(pol)));
+	}
+
+	@Test
+	public void testUpdateDirtyRegeneratesGroupOfRotatedShape() {
+		final IGroup group = ShapeFactory.createGroup();
+		final IRectangle rec3 = ShapeFactory.createRectangle(ShapeFactory.createPoint(200, 200), 20, 20);
+		group.addShape(rec3);
+		group.addShape(ShapeFactory.createRectangle(ShapeFactory.createPoint(300, 200), 20, 20));
+		drawing.addShape(group);
+		gen.updateIncremental();
+
+		rec3.setRotationAngle(Math.PI / 2.);
+		gen.updateIncremental();
+		assertTrue(getCode(synchro.getView(group)).contains("\\rput{")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testUpdateDirtyAddedPoint() throws ReflectiveOperationException {
+		final IPolygon pol = ShapeFactory.createPolygon(ShapeFactory.createPoint(1, 1), ShapeFactory.createPoint(20, 1));
+		drawing.addShape(pol);
+		gen.updateIncremental();
+		final String code = getCode(synchro.getView(pol));
+
+		pol.addPoint(ShapeFactory.createPoint(20, 40));
+		assertTrue(isDirty(synchro.getView(pol)));
+		gen.updateIncremental();
+		assertNotEquals(code, getCode(synchro.getView(pol)));
+
+		// The added point is observed as well.
+		pol.getPoints().get(2).setY(60);
+		assertTrue(isDirty(synchro.getView(pol)));
+	}
+
+	@Test
+	public void testRemovedShapeViewEvicted() {
+		assertNotNull(synchro.getView(rec1));
+		drawing.removeShape(rec1);
+		assertNull(synchro.getView(rec1));
+		assertNotNull(synchro.getView(rec2));
+	}
+
+	@Test
+	public void testRemovedShapeViewDisposed() throws ReflectiveOperationException {
+		final AbstractCodeView<?> view = synchro.getView(rec1);
+		drawing.removeShape(rec1);
+		assertNull(getObserved(view));
+	}
+
+	@Test
+	public void testRemovedShapeNotInCode() {
+		drawing.removeShape(rec1);
+		gen.updateIncremental();
+		final String code = gen.getCache().toString();
+		assertEquals(code.indexOf("\\psframe"), code.lastIndexOf("\\psframe")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(code.contains("\\psframe")); //$NON-NLS-1$
+	}
+}
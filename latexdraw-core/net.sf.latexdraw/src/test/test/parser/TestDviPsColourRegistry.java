@@ -0,0 +1,107 @@
+package test.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import net.sf.latexdraw.glib.models.ShapeFactory;
+import net.sf.latexdraw.glib.models.interfaces.shape.Color;
+import net.sf.latexdraw.glib.views.latex.DviPsColourRegistry;
+import net.sf.latexdraw.glib.views.latex.DviPsColors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestDviPsColourRegistry {
+	private DviPsColourRegistry registry;
+
+	@Before
+	public void setUp() {
+		registry = new DviPsColourRegistry();
+	}
+
+	@Test
+	public void testAddUserColourNameFromValue() {
+		assertEquals("colourff8001ff", registry.addUserColour(ShapeFactory.createColorInt(255, 128, 1)).get()); //$NON-NLS-1$
+		assertEquals("colourff800180", registry.addUserColour(ShapeFactory.createColorInt(255, 128, 1, 128)).get()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testAddUserColourSameNameInEachRegistry() {
+		final Color colour = ShapeFactory.createColorInt(12, 34, 56);
+		registry.addUserColour(ShapeFactory.createColorInt(1, 2, 3));
+		assertEquals(registry.addUserColour(colour), new DviPsColourRegistry().addUserColour(colour));
+	}
+
+	@Test
+	public void testAddUserColourPredefined() {
+		assertEquals(DviPsColors.N_APRICOT, registry.addUserColour(DviPsColors.APRICOT).get());
+		assertTrue(registry.getUserColours().isEmpty());
+	}
+
+	@Test
+	public void testAddUserColourNotInGlobalRegistry() {
+		final String name = registry.addUserColour(ShapeFactory.createColorInt(13, 14, 15)).get();
+		assertTrue(registry.getColour(name).isPresent());
+		assertFalse(DviPsColors.INSTANCE.getColour(name).isPresent());
+	}
+
+	@Test
+	public void testAddUserColourNameTaken() {
+		final Color colour = ShapeFactory.createColorInt(10, 10, 10);
+		registry.addUserColour(ShapeFactory.createColorInt(20, 20, 20), "colour0a0a0aff"); //$NON-NLS-1$
+		final String name = registry.addUserColour(colour).get();
+		assertNotEquals("colour0a0a0aff", name); //$NON-NLS-1$
+		assertEquals(colour, registry.getColour(name).get());
+	}
+
+	@Test
+	public void testParentColoursLookedUp() {
+		final DviPsColourRegistry parent = new DviPsColourRegistry();
+		final Color colour = ShapeFactory.createColorInt(40, 50, 60);
+		parent.addUserColour(colour, "myColour"); //$NON-NLS-1$
+		registry = new DviPsColourRegistry(parent);
+		assertEquals("myColour", registry.addUserColour(colour).get()); //$NON-NLS-1$
+		assertEquals(colour, registry.getColour("myColour").get()); //$NON-NLS-1$
+		registry.addUserColour(ShapeFactory.createColorInt(1, 1, 1));
+		assertEquals(1, parent.getUserColours().size());
+	}
+
+	@Test
+	public void testGetUsercolourCodeCached() {
+		final String name = registry.addUserColour(ShapeFactory.createColorInt(70, 80, 90)).get();
+		final String code = registry.getUsercolourCode(name);
+		assertTrue(code.startsWith("\\definecolor{" + name + "}{rgb}{")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame(code, registry.getUsercolourCode(name));
+	}
+
+	@Test
+	public void testGetUsercolourCodeRedefined() {
+		registry.addUserColour(ShapeFactory.createColorInt(70, 80, 90), "c"); //$NON-NLS-1$
+		final String code = registry.getUsercolourCode("c"); //$NON-NLS-1$
+		registry.addUserColour(ShapeFactory.createColorInt(90, 80, 70), "c"); //$NON-NLS-1$
+		assertNotEquals(code, registry.getUsercolourCode("c")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testGetUsercolourCodeUnknown() {
+		assertEquals("", registry.getUsercolourCode("fooColour")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("", registry.getUsercolourCode(null)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testAddUserColourConcurrently() {
+		final List<String> names = IntStream.range(0, 10000).parallel().mapToObj(i ->
+			registry.addUserColour(ShapeFactory.createColorInt(1 + i % 50, 2, 3)).get()).collect(Collectors.toList());
+
+		assertEquals(50, registry.getUserColours().size());
+		for(int i = 0; i < names.size(); i++)
+			assertEquals(names.get(i % 50), names.get(i));
+	}
+}
@@ -1,5 +1,6 @@
 package test.parser.ps;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import net.sf.latexdraw.parsers.ps.InvalidFormatPSFunctionException;
 import net.sf.latexdraw.parsers.ps.PSFunctionParser;
@@ -25,6 +26,12 @@ public class TestPSFunctionParser {
 		new PSFunctionParser("Y"); //$NON-NLS-1$
 	}
 
+	@SuppressWarnings("unused")
+	@Test(expected = InvalidFormatPSFunctionException.class)
+	public void testPSFunctionParserInvalidAfterValidCommands() throws InvalidFormatPSFunctionException {
+		new PSFunctionParser("x 1 foo add"); //$NON-NLS-1$
+	}
+
 	@SuppressWarnings("unused")
 	@Test
 	public void testPSFunctionParserSinOk() throws InvalidFormatPSFunctionException {
@@ -168,4 +175,48 @@ public class TestPSFunctionParser {
 		PSFunctionParser parser = new PSFunctionParser("x add"); //$NON-NLS-1$
 		parser.getY(3);
 	}
+
+	@Test(expected = InvalidFormatPSFunctionException.class)
+	public void testGetYEmptyStackAtEnd() throws InvalidFormatPSFunctionException {
+		PSFunctionParser parser = new PSFunctionParser("x 2 clear"); //$NON-NLS-1$
+		parser.getY(3);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testGetYDivByZeroBeforeInvalidCommand() throws InvalidFormatPSFunctionException {
+		PSFunctionParser parser = new PSFunctionParser("x 0 div add"); //$NON-NLS-1$
+		parser.getY(3);
+	}
+
+	@Test
+	public void testGetYCount() throws InvalidFormatPSFunctionException {
+		PSFunctionParser parser = new PSFunctionParser("x x count mul add"); //$NON-NLS-1$
+		assertEquals(9.0, parser.getY(3), 0.0);
+	}
+
+	@Test
+	public void testGetYExchDup() throws InvalidFormatPSFunctionException {
+		PSFunctionParser parser = new PSFunctionParser("x 1 exch sub dup mul"); //$NON-NLS-1$
+		assertEquals(4.0, parser.getY(3), 0.0);
+	}
+
+	@Test
+	public void testEvaluate() throws InvalidFormatPSFunctionException {
+		PSFunctionParser parser = new PSFunctionParser("x 2 mul 1 add"); //$NON-NLS-1$
+		double[] ys = new double[3];
+		parser.evaluate(new double[] {0.0, 1.0, -2.0}, ys);
+		assertArrayEquals(new double[] {1.0, 3.0, -3.0}, ys, 0.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEvaluateOutputTooSmall() throws InvalidFormatPSFunctionException {
+		PSFunctionParser parser = new PSFunctionParser("x"); //$NON-NLS-1$
+		parser.evaluate(new double[] {0.0, 1.0}, new double[1]);
+	}
+
+	@Test(expected = InvalidFormatPSFunctionException.class)
+	public void testEvaluateInvalidFunction() throws InvalidFormatPSFunctionException {
+		PSFunctionParser parser = new PSFunctionParser("x add"); //$NON-NLS-1$
+		parser.evaluate(new double[] {0.0, 1.0}, new double[2]);
+	}
 }
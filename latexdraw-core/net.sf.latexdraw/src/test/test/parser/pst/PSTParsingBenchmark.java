@@ -0,0 +1,87 @@
+package test.parser.pst;
+
+import java.lang.management.ManagementFactory;
+import java.text.ParseException;
+
+import net.sf.latexdraw.parsers.pst.parser.PSTParser;
+
+/**
+ * Measures the time and the memory allocated to parse a large PST document, as done when
+ * importing a PST file. Not a unit test: run its main method, e.g.
+ * <code>java test.parser.pst.PSTParsingBenchmark 2000 10</code> (number of commands, number of runs).
+ * Run it before and after a change of the parser to compare the parsing time and the allocated memory.
+ */
+public final class PSTParsingBenchmark {
+	private PSTParsingBenchmark() {
+		super();
+	}
+
+	public static void main(final String[] args) throws ParseException {
+		final int nbCmds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		final int nbRuns = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		final String code = createCode(nbCmds);
+		final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long thread = Thread.currentThread().getId();
+
+		System.out.println("Code size: " + code.length() / 1024 + " KiB, " + nbCmds + " commands"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// Warm-up
+		for(int i = 0; i < 3; i++)
+			parse(code);
+
+		long time = 0L;
+		long allocated = 0L;
+
+		for(int i = 0; i < nbRuns; i++) {
+			final long bytes = threads.getThreadAllocatedBytes(thread);
+			final long start = System.nanoTime();
+			parse(code);
+			time += System.nanoTime() - start;
+			allocated += threads.getThreadAllocatedBytes(thread) - bytes;
+		}
+
+		System.out.println(time / nbRuns / 1000000L + " ms/parse, " + allocated / nbRuns / (1024 * 1024) + " MiB allocated/parse, " + //$NON-NLS-1$ //$NON-NLS-2$
+			allocated / nbRuns / nbCmds + " bytes/command"); //$NON-NLS-1$
+	}
+
+	private static void parse(final String code) throws ParseException {
+		PSTParser.cleanErrors();
+		if(!new PSTParser().parsePSTCode(code).isDefined())
+			throw new IllegalStateException();
+	}
+
+	/**
+	 * Generates a PST document mixing parameter changes and the commonly used commands.
+	 */
+	private static String createCode(final int nbCmds) {
+		final StringBuilder code = new StringBuilder("\\begin{pspicture}(0,0)(20,20)\n"); //$NON-NLS-1$
+
+		for(int i = 0; i < nbCmds; i++) {
+			final int x = i % 20;
+			final int y = i / 20 % 20;
+
+			switch(i % 6) {
+				case 0:
+					code.append("\\psset{linewidth=0.0").append(i % 9 + 1).append("cm}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					break;
+				case 1:
+					code.append("\\psframe[linecolor=blue](").append(x).append(',').append(y).append(")(").append(x + 1).append(',').append(y + 1).append(")\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					break;
+				case 2:
+					code.append("\\psline{->}(").append(x).append(',').append(y).append(")(").append(x + 2).append(',').append(y + 1).append(")\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					break;
+				case 3:
+					code.append("\\pscircle(").append(x).append(',').append(y).append("){0.5}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					break;
+				case 4:
+					code.append("\\psbezier(").append(x).append(',').append(y).append(")(1,2)(3,4)(").append(y).append(',').append(x).append(")\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					break;
+				default:
+					code.append("\\rput(").append(x).append(',').append(y).append("){\\psdot(0,0)}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					break;
+			}
+		}
+
+		return code.append("\\end{pspicture}\n").toString(); //$NON-NLS-1$
+	}
+}
@@ -9,6 +9,7 @@ import java.text.ParseException;
 import net.sf.latexdraw.glib.models.ShapeFactory;
 import net.sf.latexdraw.glib.models.interfaces.shape.IDot;
 import net.sf.latexdraw.glib.models.interfaces.shape.IGroup;
+import net.sf.latexdraw.glib.models.interfaces.shape.IPolyline;
 import net.sf.latexdraw.glib.models.interfaces.shape.IRectangle;
 import net.sf.latexdraw.glib.models.interfaces.shape.IShape;
 import net.sf.latexdraw.glib.views.latex.DviPsColors;
@@ -71,6 +72,20 @@ public class TestPSTGeneralFeatures extends TestPSTParser {
 		assertFalse(PSTParser.errorLogs().isEmpty());
 	}
 
+	@Test
+	public void testUnknownCommandBetweenShapes() throws ParseException {
+		final IGroup gp = parser.parsePSTCode("\\psframe(1,1)\\fuhfisduf\\begin{center}\\psdot(1,1)\\end{center}\\psline(0,0)(1,1)").get(); //$NON-NLS-1$
+		assertFalse(PSTParser.errorLogs().isEmpty());
+		assertEquals(1, gp.getShapes().stream().filter(sh -> sh instanceof IRectangle).count());
+		assertEquals(1, gp.getShapes().stream().filter(sh -> sh instanceof IDot).count());
+		assertEquals(1, gp.getShapes().stream().filter(sh -> sh instanceof IPolyline).count());
+	}
+
+	@Test(expected = ParseException.class)
+	public void testMalformedCommandNotParsedAsText() throws ParseException {
+		parser.parsePSTCode("\\psline"); //$NON-NLS-1$
+	}
+
 	@Test(expected = ParseException.class)
 	public void test_BeginCenter_fail_no_begin() throws ParseException {
 		parser.parsePSTCode("\\psline(1,1)(1,0)\\end{center}"); //$NON-NLS-1$
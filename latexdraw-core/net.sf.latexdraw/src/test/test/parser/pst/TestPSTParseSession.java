@@ -0,0 +1,114 @@
+package test.parser.pst;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.sf.latexdraw.glib.models.interfaces.shape.IGroup;
+import net.sf.latexdraw.glib.models.interfaces.shape.IRectangle;
+import net.sf.latexdraw.glib.views.latex.DviPsColors;
+import net.sf.latexdraw.parsers.pst.parser.PSTDiagnostic;
+import net.sf.latexdraw.parsers.pst.parser.PSTParseSession;
+import net.sf.latexdraw.parsers.pst.parser.PSTParser;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import scala.Option;
+
+public class TestPSTParseSession {
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+		PSTParser.cleanErrors();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testErrorsInSessionOnly() throws ParseException {
+		final PSTParseSession session = new PSTParseSession();
+		new PSTParser().parsePSTCode("\\psframe[foo=1](1,1)", session); //$NON-NLS-1$
+		assertEquals(1, session.getDiagnostics().size());
+		assertEquals("Unknown parameter: foo=1", session.getDiagnostics().get(0).message()); //$NON-NLS-1$
+		assertTrue(PSTParser.errorLogs().isEmpty());
+	}
+
+	@Test
+	public void testErrorsLocated() throws ParseException {
+		final PSTParseSession session = new PSTParseSession();
+		new PSTParser().parsePSTCode("\\psframe(1,1)\n  \\psline[foo=1](1,1)(2,2)", session); //$NON-NLS-1$
+		final PSTDiagnostic diag = session.getDiagnostics().get(0);
+		assertEquals(2, diag.line());
+		assertEquals(3, diag.column());
+	}
+
+	@Test
+	public void testColourDefinedInSessionOnly() throws ParseException {
+		final PSTParseSession session = new PSTParseSession();
+		final IGroup group = new PSTParser().parsePSTCode("\\definecolor{sessionColour}{rgb}{0.1,0.2,0.3}\\psframe[linecolor=sessionColour](1,1)", session).get(); //$NON-NLS-1$
+		assertTrue(session.getColour("sessionColour").isPresent()); //$NON-NLS-1$
+		assertEquals(session.getColour("sessionColour").get(), ((IRectangle)group.getShapeAt(0)).getLineColour()); //$NON-NLS-1$
+		assertFalse(DviPsColors.INSTANCE.getColour("sessionColour").isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testParseWithoutSessionLogsGlobally() throws ParseException {
+		new PSTParser().parsePSTCode("\\psframe[foo=1](1,1)"); //$NON-NLS-1$
+		assertEquals(1, PSTParser.errorLogs().size());
+	}
+
+	@Test
+	public void testParsePSTCodesOwnErrors() throws InterruptedException, ExecutionException {
+		final List<String> codes = new ArrayList<>();
+		final List<PSTParseSession> sessions = new ArrayList<>();
+
+		for(int i = 0; i < 100; i++) {
+			final StringBuilder code = new StringBuilder();
+			for(int j = 0; j <= i % 5; j++)
+				code.append("\\psframe[param").append(i).append("=1](1,1)\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			codes.add(code.toString());
+			sessions.add(new PSTParseSession());
+		}
+
+		final List<CompletableFuture<Option<IGroup>>> parsings = PSTParser.parsePSTCodes(codes, sessions, executor);
+
+		for(int i = 0; i < 100; i++) {
+			assertEquals(i % 5 + 1, parsings.get(i).get().get().size());
+			assertEquals(i % 5 + 1, sessions.get(i).getDiagnostics().size());
+			for(final PSTDiagnostic diag : sessions.get(i).getDiagnostics())
+				assertEquals("Unknown parameter: param" + i + "=1", diag.message()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertTrue(PSTParser.errorLogs().isEmpty());
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void testParsePSTCodesFailure() throws InterruptedException, ExecutionException {
+		final List<String> codes = new ArrayList<>();
+		final List<PSTParseSession> sessions = new ArrayList<>();
+		codes.add("$foo"); //$NON-NLS-1$
+		sessions.add(new PSTParseSession());
+		PSTParser.parsePSTCodes(codes, sessions, executor).get(0).get();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParsePSTCodesNotSameSize() {
+		final List<String> codes = new ArrayList<>();
+		codes.add("\\psframe(1,1)"); //$NON-NLS-1$
+		PSTParser.parsePSTCodes(codes, new ArrayList<>(), executor);
+	}
+}
@@ -1084,6 +1084,34 @@ public class TestTextParsing extends TestPSTParser {
 		assertEquals("$\\mathcal{M}$", ((IText)group.getShapeAt(0)).getText()); //$NON-NLS-1$
 	}
 
+	@Test
+	public void testMathModeLong() throws ParseException {
+		final StringBuilder math = new StringBuilder();
+		for(int i = 0; i < 50000; i++)
+			math.append("x_{").append(i).append("}+"); //$NON-NLS-1$ //$NON-NLS-2$
+		math.append('y');
+
+		IGroup group = parser.parsePSTCode('$' + math.toString() + '$').get();
+		assertEquals(1, group.size());
+		assertEquals('$' + math.toString() + '$', ((IText)group.getShapeAt(0)).getText());
+
+		group = parser.parsePSTCode("\\(" + math + "\\)").get(); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(1, group.size());
+		assertEquals('$' + math.toString() + '$', ((IText)group.getShapeAt(0)).getText());
+	}
+
+	@Test
+	public void testLongCommentIgnored() throws ParseException {
+		final StringBuilder code = new StringBuilder("%"); //$NON-NLS-1$
+		for(int i = 0; i < 100000; i++)
+			code.append("comment "); //$NON-NLS-1$
+		code.append("\n$foo$"); //$NON-NLS-1$
+
+		IGroup group = parser.parsePSTCode(code.toString()).get();
+		assertEquals(1, group.size());
+		assertEquals("$foo$", ((IText)group.getShapeAt(0)).getText()); //$NON-NLS-1$
+	}
+
 	@Test
 	public void testParse1WordBracketedInto1TextShape() throws ParseException {
 		IGroup group = parser.parsePSTCode("{ foo }").get(); //$NON-NLS-1$
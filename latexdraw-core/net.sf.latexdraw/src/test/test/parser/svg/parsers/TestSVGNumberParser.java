@@ -0,0 +1,72 @@
+package test.parser.svg.parsers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+
+import net.sf.latexdraw.parsers.svg.parsers.SVGNumberParser;
+
+import org.junit.Test;
+
+public class TestSVGNumberParser {
+	@Test
+	public void testParseNumberSameAsJava() throws ParseException {
+		final String[] numbers = {"0", "-0", "12", "+12.5", "-.5", "1.", "0.1", "0.3", "1e10", "1.5E-5", "-2.5e+3", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$
+			"9007199254740993", "123456789012345678901234567890", "0.000000000000000000000000123", "1e23", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"1.7976931348623157e308", "4.9e-324", "1e400", "1e-400"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+		for(final String number : numbers) {
+			final SVGNumberParser parser = new SVGNumberParser(number);
+			assertEquals(number, Double.doubleToLongBits(Double.parseDouble(number)), Double.doubleToLongBits(parser.parseNumber(false)));
+			assertTrue(parser.isEOC());
+		}
+	}
+
+	@Test
+	public void testParseNumberSkipsWSP() throws ParseException {
+		final SVGNumberParser parser = new SVGNumberParser(" \t\n10.5 -3"); //$NON-NLS-1$
+		assertEquals(10.5, parser.parseNumber(false), 0.);
+		assertEquals(-3., parser.parseNumber(false), 0.);
+		assertTrue(parser.isEOC());
+	}
+
+	@Test
+	public void testParseNumberNoExponentDigits() throws ParseException {
+		final SVGNumberParser parser = new SVGNumberParser("1em"); //$NON-NLS-1$
+		assertEquals(1., parser.parseNumber(false), 0.);
+		assertEquals('e', parser.getChar());
+
+		final SVGNumberParser parser2 = new SVGNumberParser("2e-x"); //$NON-NLS-1$
+		assertEquals(2., parser2.parseNumber(false), 0.);
+		assertEquals(1, parser2.getPosition());
+	}
+
+	@Test
+	public void testParseNumberAsString() throws ParseException {
+		final SVGNumberParser parser = new SVGNumberParser("  -1.50e2,3"); //$NON-NLS-1$
+		assertEquals("-1.50e2", parser.parseNumberAsString(false)); //$NON-NLS-1$
+		assertEquals(',', parser.getChar());
+	}
+
+	@Test
+	public void testParseNumberErrorsLocated() {
+		try {
+			new SVGNumberParser("  -5").parseNumber(true); //$NON-NLS-1$
+			fail();
+		}catch(final ParseException ex) {
+			assertEquals(2, ex.getErrorOffset());
+		}
+
+		try {
+			new SVGNumberParser(" -.e2").parseNumber(false); //$NON-NLS-1$
+			fail();
+		}catch(final ParseException ex) {
+			assertEquals(1, ex.getErrorOffset());
+		}
+
+		assertFalse(new SVGNumberParser("x").isEOC()); //$NON-NLS-1$
+	}
+}
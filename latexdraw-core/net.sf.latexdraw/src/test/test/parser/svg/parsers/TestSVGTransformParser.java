@@ -0,0 +1,72 @@
+package test.parser.svg.parsers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.util.List;
+
+import net.sf.latexdraw.parsers.svg.SVGTransform;
+import net.sf.latexdraw.parsers.svg.parsers.SVGTransformParser;
+
+import org.junit.Test;
+
+public class TestSVGTransformParser {
+	@Test
+	public void testParseAllTypes() {
+		final SVGTransformParser parser = new SVGTransformParser("matrix(1,2,3,4,5,6) translate(1) scale(2 3),rotate(45 1 2)\nskewX(10)skewY(20)"); //$NON-NLS-1$
+		parser.parse();
+		final List<SVGTransform> ts = parser.getTransforms();
+
+		assertEquals(6, ts.size());
+		assertEquals(SVGTransform.SVG_TRANSFORM_MATRIX, ts.get(0).getType());
+		assertEquals(6., ts.get(0).getMatrix().getF(), 0.);
+		assertTrue(ts.get(1).isTranslation());
+		assertEquals(1., ts.get(1).getTY(), 0.);
+		assertTrue(ts.get(2).isScale());
+		assertEquals(3., ts.get(2).getYScaleFactor(), 0.);
+		assertTrue(ts.get(3).isRotation());
+		assertEquals(45., ts.get(3).getRotationAngle(), 0.);
+		assertEquals(2., ts.get(3).getCy(), 0.);
+		assertEquals(10., ts.get(4).getXSkewAngle(), 0.);
+		assertEquals(20., ts.get(5).getYSkewAngle(), 0.);
+	}
+
+	@Test
+	public void testParseSkipsInvalidTransforms() {
+		final SVGTransformParser parser = new SVGTransformParser("foo(1) rotate(1 2) translate(a) scale(1,2,3,4,5,6,7) skewX(5)"); //$NON-NLS-1$
+		parser.parse();
+		assertEquals(1, parser.getTransforms().size());
+		assertTrue(parser.getTransforms().get(0).isXSkew());
+	}
+
+	@Test
+	public void testParseSpacesAndCommas() {
+		final SVGTransformParser parser = new SVGTransformParser(" , translate ( -1e1 , .5 ) , "); //$NON-NLS-1$
+		parser.parse();
+		assertEquals(1, parser.getTransforms().size());
+		assertEquals(-10., parser.getTransforms().get(0).getTX(), 0.);
+		assertEquals(0.5, parser.getTransforms().get(0).getTY(), 0.);
+	}
+
+	@Test(expected = ParseException.class)
+	public void testParseTransformNoClosingParenthesis() throws ParseException {
+		new SVGTransformParser("scale(2 2").parseTransform(new SVGTransform()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testParseTransformInvalidDoesNotModify() {
+		final SVGTransform transform = new SVGTransform();
+		transform.setTranslate(1., 2.);
+
+		try {
+			new SVGTransformParser("rotate(1 2)").parseTransform(transform); //$NON-NLS-1$
+		}catch(final ParseException ex) {
+			assertTrue(transform.isTranslation());
+			assertEquals(2., transform.getTY(), 0.);
+			return;
+		}
+		fail();
+	}
+}
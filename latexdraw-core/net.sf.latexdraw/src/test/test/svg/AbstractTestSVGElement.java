@@ -7,6 +7,7 @@ import net.sf.latexdraw.parsers.svg.SVGAttr;
 import net.sf.latexdraw.parsers.svg.SVGAttributes;
 import net.sf.latexdraw.parsers.svg.SVGDocument;
 import net.sf.latexdraw.parsers.svg.SVGElement;
+import net.sf.latexdraw.parsers.svg.SVGNamedNodeMap;
 import net.sf.latexdraw.parsers.svg.SVGNodeList;
 
 import org.junit.Before;
@@ -101,4 +102,71 @@ public abstract class AbstractTestSVGElement {
 		assertEquals(node.appendChild(elt), elt);
 		assertEquals(node.getChildren("eltAppendChild").getLength(), 1); //$NON-NLS-1$
 	}
+
+	@Test
+	public void testLookupPrefixUpdatedOnNamespaceChanges() {
+		SVGElement elt = (SVGElement)doc.createElement("eltNS"); //$NON-NLS-1$
+		elt.appendChild(node);
+
+		assertNull(node.lookupPrefix("uriNS")); //$NON-NLS-1$
+		assertEquals("", node.lookupPrefixUsable("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		elt.setAttribute("xmlns:pref", "uriNS"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("pref", node.lookupPrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("pref:", node.lookupPrefixUsable("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("pref:", node.getUsablePrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("uriNS", node.lookupNamespaceURI("pref")); //$NON-NLS-1$ //$NON-NLS-2$
+		node.setAttribute("xmlns:pref2", "uriNS"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("pref2", node.lookupPrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		node.removeAttribute("xmlns:pref2"); //$NON-NLS-1$
+		assertEquals("pref", node.lookupPrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		elt.removeAttribute("xmlns:pref"); //$NON-NLS-1$
+		assertNull(node.lookupPrefix("uriNS")); //$NON-NLS-1$
+		assertNull(node.lookupNamespaceURI("pref")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testLookupPrefixUpdatedOnAttributeListChanges() {
+		SVGElement elt = (SVGElement)doc.createElement("eltNS"); //$NON-NLS-1$
+		SVGNamedNodeMap attrs = (SVGNamedNodeMap)elt.getAttributes();
+		elt.appendChild(node);
+
+		assertNull(node.lookupPrefix("uriNS")); //$NON-NLS-1$
+		attrs.getAttributes().add(new SVGAttr("xmlns:pref", "uriNS", elt)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("pref", node.lookupPrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		attrs.getAttributes().set(0, new SVGAttr("xmlns:pref2", "uriNS", elt)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("pref2", node.lookupPrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		attrs.getAttributes().remove(0);
+		assertNull(node.lookupPrefix("uriNS")); //$NON-NLS-1$
+		attrs.getAttributes().add(new SVGAttr("xmlns:pref", "uriNS", elt)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("pref", node.lookupPrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		attrs.getAttributes().clear();
+		assertNull(node.lookupPrefix("uriNS")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testLookupNamespaceURIUpdatedOnAttributeValueChanges() {
+		SVGElement elt = (SVGElement)doc.createElement("eltNS"); //$NON-NLS-1$
+		elt.setAttribute("xmlns:pref", "uriNS"); //$NON-NLS-1$ //$NON-NLS-2$
+		elt.appendChild(node);
+
+		assertEquals("uriNS", node.lookupNamespaceURI("pref")); //$NON-NLS-1$ //$NON-NLS-2$
+		((SVGAttr)elt.getAttributes().getNamedItem("xmlns:pref")).setValue("uriNS2"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("uriNS2", node.lookupNamespaceURI("pref")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(node.lookupPrefix("uriNS")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testLookupNamespaceURIUpdatedOnParentChanges() {
+		SVGElement elt = (SVGElement)doc.createElement("eltNS"); //$NON-NLS-1$
+		elt.setAttribute("xmlns", "uriNS"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertNull(node.lookupNamespaceURI(null));
+		elt.appendChild(node);
+		assertEquals("uriNS", node.lookupNamespaceURI(null)); //$NON-NLS-1$
+		assertEquals("", node.lookupPrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(":", node.lookupPrefixUsable("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("", node.getUsablePrefix("uriNS")); //$NON-NLS-1$ //$NON-NLS-2$
+		elt.removeChild(node);
+		assertNull(node.lookupNamespaceURI(null));
+	}
 }
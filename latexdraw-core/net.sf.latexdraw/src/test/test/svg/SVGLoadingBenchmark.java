@@ -0,0 +1,106 @@
+package test.svg;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import net.sf.latexdraw.parsers.svg.MalformedSVGDocument;
+import net.sf.latexdraw.parsers.svg.SVGDocument;
+
+/**
+ * Compares the streamed (StAX) and the DOM loading paths of SVG documents, as used when
+ * opening a drawing. Not a unit test: run its main method with a large heap, e.g.
+ * <code>java -Xmx2g test.svg.SVGLoadingBenchmark 20000 10</code> (number of shapes, number of runs).
+ */
+public final class SVGLoadingBenchmark {
+	private SVGLoadingBenchmark() {
+		super();
+	}
+
+	public static void main(final String[] args) throws IOException, MalformedSVGDocument {
+		final int nbShapes = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		final int nbRuns = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		final Path file = createDrawing(nbShapes);
+
+		try {
+			System.out.println("File size: " + Files.size(file) / 1024 + " KiB, " + nbShapes + " shapes"); //$NON-NLS-1$ //$NON-NLS-2$
+			// Warm-up
+			for(int i = 0; i < 3; i++) {
+				new SVGDocument(file.toUri(), false);
+				new SVGDocument(file.toUri(), true);
+			}
+			bench(file, false, nbRuns);
+			bench(file, true, nbRuns);
+		}finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static void bench(final Path file, final boolean streamed, final int nbRuns) throws IOException, MalformedSVGDocument {
+		long time = 0L;
+		long peak = 0L;
+
+		for(int i = 0; i < nbRuns; i++) {
+			System.gc();
+			resetPeaks();
+			final long baseline = usedHeap();
+			final long start = System.nanoTime();
+			final SVGDocument doc = new SVGDocument(file.toUri(), streamed);
+			time += System.nanoTime() - start;
+			peak = Math.max(peak, peakHeap() - baseline);
+
+			if(doc.getDocumentElement() == null)
+				throw new IllegalStateException();
+		}
+
+		System.out.println((streamed ? "StAX: " : "DOM:  ") + time / nbRuns / 1000000L + " ms/load, peak heap ~" + //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			peak / (1024 * 1024) + " MiB"); //$NON-NLS-1$
+	}
+
+	private static void resetPeaks() {
+		for(final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+			if(pool.getType() == MemoryType.HEAP)
+				pool.resetPeakUsage();
+	}
+
+	private static long peakHeap() {
+		return ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP).
+			mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+	}
+
+	private static long usedHeap() {
+		return ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP).
+			mapToLong(pool -> pool.getUsage().getUsed()).sum();
+	}
+
+	/**
+	 * Generates a drawing similar to the ones produced by latexdraw: a group per shape with latexdraw attributes.
+	 */
+	private static Path createDrawing(final int nbShapes) throws IOException {
+		final Path file = Files.createTempFile("ldBench", ".svg"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		try(BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"); //$NON-NLS-1$
+			out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:latexdraw=\"http://latexdraw.sourceforge.net/namespaces/latexdraw\" " + //$NON-NLS-1$
+				"version=\"1.1\">\n<defs/>\n<g>\n"); //$NON-NLS-1$
+
+			for(int i = 0; i < nbShapes; i++) {
+				final double x = i % 100 * 10.0;
+				final double y = i / 100 * 10.0;
+				out.write("<g latexdraw:type=\"rectangle\" id=\"id" + i + "\" latexdraw:rotationAngle=\"0.0\">\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				out.write("<rect x=\"" + x + "\" y=\"" + y + "\" width=\"8.0\" height=\"8.0\" latexdraw:borderPos=\"outer\" " + //$NON-NLS-1$ //$NON-NLS-2$
+					"stroke-width=\"2.0\" stroke=\"black\" fill=\"none\" transform=\"translate(1.0,2.0) rotate(0.0)\"/>\n"); //$NON-NLS-1$
+				out.write("<path d=\"M " + x + ' ' + y + " L " + (x + 5.0) + ' ' + (y + 3.0) + " C 1 2 3 4 5 6 Z\" fill=\"none\"/>\n</g>\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+
+			out.write("</g>\n</svg>\n"); //$NON-NLS-1$
+		}
+
+		return file;
+	}
+}
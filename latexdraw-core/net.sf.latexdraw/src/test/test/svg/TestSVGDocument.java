@@ -7,10 +7,17 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -18,9 +25,12 @@ import org.w3c.dom.DOMException;
 import org.w3c.dom.Node;
 
 import net.sf.latexdraw.parsers.svg.MalformedSVGDocument;
+import net.sf.latexdraw.parsers.svg.SVGAttributes;
 import net.sf.latexdraw.parsers.svg.SVGComment;
+import net.sf.latexdraw.parsers.svg.SVGDefsElement;
 import net.sf.latexdraw.parsers.svg.SVGDocument;
 import net.sf.latexdraw.parsers.svg.SVGElement;
+import net.sf.latexdraw.parsers.svg.SVGMarkerElement;
 import net.sf.latexdraw.parsers.svg.SVGSVGElement;
 import net.sf.latexdraw.parsers.svg.SVGText;
 
@@ -229,4 +239,122 @@ public class TestSVGDocument {
 		assertEquals(elt.getData(), "test"); //$NON-NLS-1$
 		assertEquals(doc1, elt.getOwnerDocument());
 	}
+
+	@Test
+	public void testStreamedAndDOMLoadingGiveSameDocument() throws MalformedSVGDocument, URISyntaxException, IOException {
+		final SVGDocument streamed = new SVGDocument(new URI("src/resources/test/res/test.svg"), true); //$NON-NLS-1$
+		final SVGDocument dom = new SVGDocument(new URI("src/resources/test/res/test.svg"), false); //$NON-NLS-1$
+		assertTrue(streamed.isEqualNode(dom));
+		assertEquals(dom.toString(), streamed.toString());
+		assertEquals(dom.getXmlEncoding(), streamed.getXmlEncoding());
+		assertEquals(dom.getXmlVersion(), streamed.getXmlVersion());
+	}
+
+	@Test
+	public void testStreamedLoadingSetsOwnerDocument() throws MalformedSVGDocument, URISyntaxException, IOException {
+		final SVGDocument doc = new SVGDocument(new URI("src/resources/test/res/test.svg"), true); //$NON-NLS-1$
+		assertEquals(doc, doc.getDocumentElement().getOwnerDocument());
+		assertEquals(doc, doc.getDocumentElement().getChildNodes().item(0).getOwnerDocument());
+	}
+
+	@Test
+	public void testGetElementByIdLoadedDocument() throws MalformedSVGDocument, URISyntaxException, IOException {
+		final SVGDocument dom = new SVGDocument(new URI("src/resources/test/res/test.svg"), false); //$NON-NLS-1$
+		assertNotNull(doc2.getElementById("id2")); //$NON-NLS-1$
+		assertEquals("id3", doc2.getElementById("id3").getId()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull(dom.getElementById("id2")); //$NON-NLS-1$
+		assertNull(doc2.getElementById("foo")); //$NON-NLS-1$
+		assertNull(doc2.getElementById(null));
+	}
+
+	@Test
+	public void testGetElementByIdUpdatedOnTreeChanges() {
+		final SVGDefsElement defs = new SVGDefsElement(doc1);
+		final SVGMarkerElement mark = new SVGMarkerElement(doc1);
+		mark.setAttribute(SVGAttributes.SVG_ID, "m1"); //$NON-NLS-1$
+		defs.appendChild(mark);
+		assertNull(doc1.getElementById("m1")); //$NON-NLS-1$
+
+		doc1.getFirstChild().appendChild(defs);
+		assertEquals(mark, doc1.getElementById("m1")); //$NON-NLS-1$
+		assertEquals(mark, defs.getDef("m1")); //$NON-NLS-1$
+		assertEquals(mark, mark.getDef("m1")); //$NON-NLS-1$
+
+		mark.setAttribute(SVGAttributes.SVG_ID, "m2"); //$NON-NLS-1$
+		assertNull(doc1.getElementById("m1")); //$NON-NLS-1$
+		assertEquals(mark, doc1.getElementById("m2")); //$NON-NLS-1$
+
+		defs.removeChild(mark);
+		assertNull(doc1.getElementById("m2")); //$NON-NLS-1$
+		assertNull(defs.getDef("m2")); //$NON-NLS-1$
+	}
+
+	private static void assertSavedDocumentEquals(final SVGDocument doc, final Path path, final boolean compact)
+						throws MalformedSVGDocument, IOException {
+		try {
+			assertTrue(doc.saveSVGDocument(path, compact));
+			final SVGDocument saved = new SVGDocument(path.toUri());
+			assertTrue(doc.isEqualNode(saved));
+			assertEquals(doc.toString(), saved.toString());
+		}finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void testSaveSVGDocument() throws MalformedSVGDocument, IOException {
+		assertSavedDocumentEquals(doc2, Files.createTempFile("testSave", ".svg"), false); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testSaveSVGDocumentCompact() throws MalformedSVGDocument, IOException {
+		final ByteArrayOutputStream os = new ByteArrayOutputStream();
+		doc2.writeSVGDocument(os, true, false);
+		assertFalse(new String(os.toByteArray(), StandardCharsets.UTF_8).contains("\n    <")); //$NON-NLS-1$
+		assertSavedDocumentEquals(doc2, Files.createTempFile("testSave", ".svg"), true); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testSaveSVGDocumentGzip() throws MalformedSVGDocument, IOException {
+		final Path path = Files.createTempFile("testSave", SVGDocument.SVGZ_EXTENSION); //$NON-NLS-1$
+		assertTrue(doc2.saveSVGDocument(path, true));
+		try(InputStream is = new GZIPInputStream(Files.newInputStream(path))) {
+			assertTrue(is.read()!=-1);
+		}
+		assertSavedDocumentEquals(doc2, path, true);
+	}
+
+	@Test
+	public void testSaveSVGDocumentEscapesSpecialCharacters() throws MalformedSVGDocument, IOException {
+		final SVGElement text = (SVGElement)doc1.createElement("text"); //$NON-NLS-1$
+		text.setTextContent("a<b && c>\"d\""); //$NON-NLS-1$
+		// Set on a new element: the attributes are compared in their order and a loaded element has sorted attributes.
+		text.setAttribute("title", "\"<&>\n\t"); //$NON-NLS-1$ //$NON-NLS-2$
+		doc1.getFirstChild().appendChild(text);
+		assertSavedDocumentEquals(doc1, Files.createTempFile("testSave", ".svg"), false); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testSaveSVGDocumentEscapesComments() throws MalformedSVGDocument, IOException {
+		doc1.getFirstChild().appendChild(doc1.createComment("a--b---c-")); //$NON-NLS-1$
+		final ByteArrayOutputStream os = new ByteArrayOutputStream();
+		doc1.writeSVGDocument(os, true, false);
+		assertTrue(new String(os.toByteArray(), StandardCharsets.UTF_8).contains("<!--a- -b- - -c- -->")); //$NON-NLS-1$
+
+		final Path path = Files.createTempFile("testSave", ".svg"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			assertTrue(doc1.saveSVGDocument(path, false));
+			// The saved document is well-formed.
+			assertNotNull(new SVGDocument(path.toUri()).getFirstChild());
+		}finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void testSaveSVGDocumentKO() {
+		assertFalse(doc1.saveSVGDocument((String)null));
+		assertFalse(doc1.saveSVGDocument(null, false));
+		assertFalse(doc1.saveSVGDocument(Paths.get("src/resources/test/res/notADirectory/test.svg"), false)); //$NON-NLS-1$
+	}
 }
@@ -3,6 +3,7 @@ package test.svg;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import net.sf.latexdraw.parsers.svg.SVGAttr;
@@ -120,6 +121,67 @@ public class TestSVGNamedNodeMap {
 		map.getAttributes().clear();
 	}
 
+	@Test
+	public void testSetNamedItemKeepsOrder() {
+		SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		SVGAttr attr2 = new SVGAttr("test2", "v2", doc.createElement("elt2")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		SVGAttr attr3 = new SVGAttr("test1", "v1b", doc.createElement("elt1b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		map.getAttributes().clear();
+		map.setNamedItem(attr1);
+		map.setNamedItem(attr2);
+		map.setNamedItem(attr3);
+		assertEquals(2, map.getLength());
+		assertEquals(attr3, map.item(0));
+		assertEquals(attr2, map.item(1));
+		map.removeNamedItem("test1"); //$NON-NLS-1$
+		assertNull(map.getNamedItem("test1")); //$NON-NLS-1$
+		assertEquals(attr2, map.item(0));
+		map.getAttributes().clear();
+	}
+
+	@Test
+	public void testGetNamedItemSameNamesAddedToList() {
+		SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		SVGAttr attr2 = new SVGAttr("test1", "v2", doc.createElement("elt2")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		map.getAttributes().clear();
+		map.getAttributes().add(attr1);
+		map.getAttributes().add(0, attr2);
+		assertEquals(attr2, map.getNamedItem("test1")); //$NON-NLS-1$
+		assertEquals(attr2, map.removeNamedItem("test1")); //$NON-NLS-1$
+		assertEquals(attr1, map.getNamedItem("test1")); //$NON-NLS-1$
+		map.getAttributes().remove(attr1);
+		assertNull(map.getNamedItem("test1")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRemoveNamedItemRemovesIndexedAttribute() {
+		final SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		// An attribute equal to the others: removing it must not remove an earlier equal attribute.
+		final SVGAttr attr2 = new SVGAttr("test2", "v2", doc.createElement("elt2")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			@Override
+			public boolean equals(final Object obj) {
+				return obj instanceof SVGAttr;
+			}
+
+			@Override
+			public int hashCode() {
+				return 0;
+			}
+		};
+
+		map.getAttributes().clear();
+		map.setNamedItem(attr1);
+		map.setNamedItem(attr2);
+		assertSame(attr2, map.removeNamedItem("test2")); //$NON-NLS-1$
+		assertEquals(1, map.getLength());
+		assertSame(attr1, map.item(0));
+		assertSame(attr1, map.getNamedItem("test1")); //$NON-NLS-1$
+		assertNull(map.getNamedItem("test2")); //$NON-NLS-1$
+		map.getAttributes().clear();
+	}
+
 	@Test
 	public void testClone() {
 		SVGAttr attr1 = new SVGAttr("test1", "v1", doc.createElement("elt1")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
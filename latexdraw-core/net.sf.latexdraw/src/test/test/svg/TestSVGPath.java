@@ -0,0 +1,129 @@
+package test.svg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.text.ParseException;
+
+import net.sf.latexdraw.parsers.svg.parsers.SVGPathParser;
+import net.sf.latexdraw.parsers.svg.path.SVGPath;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegArc;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegClosePath;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegCurvetoCubic;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegCurvetoQuadraticSmooth;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegList;
+import net.sf.latexdraw.parsers.svg.path.SVGPathSegMoveto;
+
+import org.junit.Test;
+
+public class TestSVGPath {
+	private static SVGPath parse(final String code) throws ParseException {
+		final SVGPath path = new SVGPath();
+		new SVGPathParser(code, path).parse();
+		return path;
+	}
+
+	@Test
+	public void testParseCommands() throws ParseException {
+		final SVGPath path = parse("M 1 2 l 3 4 H 5 v 6 C 1 2 3 4 5 6 s 1 2 3 4 Q 1 2 3 4 t 5 6 A 1 2 30 1 0 7 8 z"); //$NON-NLS-1$
+		assertEquals("MlHvCsQtAz", new String(new char[]{path.getCommand(0), path.getCommand(1), path.getCommand(2), //$NON-NLS-1$
+			path.getCommand(3), path.getCommand(4), path.getCommand(5), path.getCommand(6), path.getCommand(7), path.getCommand(8), path.getCommand(9)}));
+		assertEquals(10, path.size());
+		assertTrue(path.isRelative(1));
+		assertFalse(path.isRelative(2));
+		assertEquals(30., path.getValue(8, 2), 0.);
+		assertEquals(1., path.getValue(8, 3), 0.);
+		assertEquals(0., path.getValue(8, 4), 0.);
+	}
+
+	@Test
+	public void testToStringSameAsSegments() throws ParseException {
+		final String code = "M 1 2 L 3 4 h 5 V 6 c 1 2 3 4 5 6 S 1 2 3 4 q 1 2 3 4 T 5 6 a 1 2 30 1 0 7 8 Z"; //$NON-NLS-1$
+		final SVGPathSegList segs = new SVGPathSegList();
+		new SVGPathParser(code, segs::onPathSeg).parse();
+		final StringBuilder expected = new StringBuilder();
+		segs.forEach(seg -> seg.appendTo(expected).append(' '));
+
+		assertEquals(expected.toString(), parse(code).toString());
+		assertEquals(expected.toString(), parse(parse(code).toString()).toString());
+	}
+
+	@Test
+	public void testSegListView() throws ParseException {
+		final SVGPath path = parse("M 1 2 C 1 2 3 4 5 6 T 7 8 A 1 2 30 1 0 7 8 z"); //$NON-NLS-1$
+		final SVGPathSegList list = path.getSegList();
+
+		assertEquals(5, list.size());
+		assertTrue(list.get(0) instanceof SVGPathSegMoveto);
+		assertEquals(5., ((SVGPathSegCurvetoCubic)list.get(1)).getX(), 0.);
+		assertTrue(list.get(2) instanceof SVGPathSegCurvetoQuadraticSmooth);
+		assertTrue(((SVGPathSegArc)list.get(3)).isLargeArcFlag());
+		assertFalse(((SVGPathSegArc)list.get(3)).isSweepFlag());
+		assertTrue(list.get(4) instanceof SVGPathSegClosePath);
+
+		list.add(new SVGPathSegMoveto(10, 20, true));
+		assertEquals(6, path.size());
+		assertEquals('m', path.getCommand(5));
+		assertEquals(20., path.getValue(5, 1), 0.);
+	}
+
+	@Test
+	public void testCursorAbsolutePositions() throws ParseException {
+		final SVGPath.Cursor cursor = parse("m 10 10 l 5 0 v 5 h -5 z l 1 1").cursor(); //$NON-NLS-1$
+
+		assertTrue(cursor.next());
+		assertEquals(10., cursor.getX(), 0.);
+		assertEquals(10., cursor.getY(), 0.);
+		assertTrue(cursor.next());
+		assertEquals(15., cursor.getX(), 0.);
+		assertTrue(cursor.next());
+		assertEquals(15., cursor.getY(), 0.);
+		assertTrue(cursor.next());
+		assertEquals(10., cursor.getX(), 0.);
+		assertEquals(15., cursor.getY(), 0.);
+		assertTrue(cursor.next());
+		assertEquals('Z', cursor.getType());
+		assertEquals(10., cursor.getY(), 0.);
+		assertTrue(cursor.next());
+		assertEquals(11., cursor.getX(), 0.);
+		assertEquals(11., cursor.getY(), 0.);
+		assertFalse(cursor.next());
+	}
+
+	@Test
+	public void testCursorControlPoints() throws ParseException {
+		final SVGPath.Cursor cursor = parse("M 0 0 C 1 1 2 2 3 3 s 1 1 2 2").cursor(); //$NON-NLS-1$
+
+		cursor.next();
+		cursor.next();
+		assertEquals(1., cursor.getCtrl1X(), 0.);
+		assertEquals(2., cursor.getCtrl2Y(), 0.);
+		cursor.next();
+		// The first control point is the reflection of the previous second control point.
+		assertEquals(4., cursor.getCtrl1X(), 0.);
+		assertEquals(4., cursor.getCtrl1Y(), 0.);
+		assertEquals(4., cursor.getCtrl2X(), 0.);
+		assertEquals(5., cursor.getX(), 0.);
+	}
+
+	@Test
+	public void testRepeatedSmoothQuadratic() throws ParseException {
+		final SVGPath path = parse("M 0 0 T 1 1 2 2"); //$NON-NLS-1$
+		assertEquals('T', path.getCommand(2));
+	}
+
+	@Test
+	public void testLargePath() {
+		final SVGPath path = new SVGPath();
+
+		path.onMoveto(0, 0, false);
+		for(int i = 0; i < 10000; i++)
+			path.onCurvetoCubic(i, i, i + 0.25, i + 0.5, i + 0.75, i, false);
+		path.onClosePath();
+
+		assertEquals(10002, path.size());
+		assertEquals(9999.75, path.getValue(10000, 2), 0.);
+		assertEquals('z', path.getCommand(10001));
+	}
+}
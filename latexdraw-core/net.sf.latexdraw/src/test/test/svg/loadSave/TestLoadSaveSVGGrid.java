@@ -0,0 +1,99 @@
+package test.svg.loadSave;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.sf.latexdraw.generators.svg.IShapeSVGFactory;
+import net.sf.latexdraw.generators.svg.SVGShapesFactory;
+import net.sf.latexdraw.glib.models.ShapeFactory;
+import net.sf.latexdraw.glib.models.interfaces.shape.IGrid;
+import net.sf.latexdraw.glib.views.latex.DviPsColors;
+import net.sf.latexdraw.parsers.svg.SVGDefsElement;
+import net.sf.latexdraw.parsers.svg.SVGDocument;
+import net.sf.latexdraw.parsers.svg.SVGElement;
+import net.sf.latexdraw.util.LNamespace;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+public class TestLoadSaveSVGGrid {
+	private IGrid grid;
+	private SVGDocument doc;
+
+	@Before
+	public void setUp() {
+		grid = ShapeFactory.createGrid(ShapeFactory.createPoint(100, 200));
+		grid.setGridEnd(40, 30);
+		grid.setLineColour(DviPsColors.BLUE);
+		grid.setSubGridColour(DviPsColors.RED);
+		grid.setGridWidth(2.);
+		grid.setSubGridWidth(1.);
+		grid.setSubGridDiv(4);
+		doc = new SVGDocument();
+		doc.getFirstChild().appendChild(new SVGDefsElement(doc));
+		doc.getFirstChild().setAttribute("xmlns:" + LNamespace.LATEXDRAW_NAMESPACE, LNamespace.LATEXDRAW_NAMESPACE_URI);//$NON-NLS-1$
+	}
+
+	private static int countElements(final Node node) {
+		final NodeList children = node.getChildNodes();
+		int nb = 1;
+		for(int i = 0, size = children==null ? 0 : children.getLength(); i < size; i++)
+			nb += countElements(children.item(i));
+		return nb;
+	}
+
+	private IGrid saveLoad() {
+		final SVGElement elt = SVGShapesFactory.INSTANCE.createSVGElement(grid, doc);
+		// The element must be in the document to find the latexdraw namespace.
+		doc.getFirstChild().appendChild(elt);
+		return (IGrid)IShapeSVGFactory.INSTANCE.createShape(elt);
+	}
+
+	@Test
+	public void testDottedGridIsCompact() {
+		grid.setGridDots(20);
+		grid.setSubGridDots(10);
+		grid.setLabelsSize(0);
+		assertTrue(countElements(SVGShapesFactory.INSTANCE.createSVGElement(grid, doc)) < 20);
+	}
+
+	@Test
+	public void testGridLinesIsCompact() {
+		grid.setGridDots(0);
+		grid.setSubGridDots(0);
+		grid.setLabelsSize(0);
+		assertTrue(countElements(SVGShapesFactory.INSTANCE.createSVGElement(grid, doc)) < 10);
+	}
+
+	@Test
+	public void testLoadSaveDottedGrid() {
+		grid.setGridDots(5);
+		grid.setSubGridDots(3);
+		final IGrid grid2 = saveLoad();
+		assertEquals(5, grid2.getGridDots());
+		assertEquals(3, grid2.getSubGridDots());
+		assertEquals(4, grid2.getSubGridDiv());
+		assertEquals(2., grid2.getGridWidth(), 0.0001);
+		assertEquals(1., grid2.getSubGridWidth(), 0.0001);
+		assertEquals(DviPsColors.BLUE, grid2.getLineColour());
+		assertEquals(DviPsColors.RED, grid2.getSubGridColour());
+		assertEquals(40., grid2.getGridEndX(), 0.0001);
+		assertEquals(30., grid2.getGridEndY(), 0.0001);
+	}
+
+	@Test
+	public void testLoadSaveGridLines() {
+		grid.setGridDots(0);
+		grid.setSubGridDots(0);
+		final IGrid grid2 = saveLoad();
+		assertEquals(0, grid2.getGridDots());
+		assertEquals(0, grid2.getSubGridDots());
+		assertEquals(4, grid2.getSubGridDiv());
+		assertEquals(2., grid2.getGridWidth(), 0.0001);
+		assertEquals(1., grid2.getSubGridWidth(), 0.0001);
+		assertEquals(DviPsColors.BLUE, grid2.getLineColour());
+		assertEquals(DviPsColors.RED, grid2.getSubGridColour());
+	}
+}
@@ -0,0 +1,90 @@
+package test.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import net.sf.latexdraw.util.LNumber;
+import net.sf.latexdraw.util.LNumberFormatter;
+
+import org.junit.Test;
+
+public class TestLNumberFormatter {
+	private static String formatFloat(final LNumberFormatter formatter, final double value) {
+		return formatter.appendFloat(new StringBuilder(), value).toString();
+	}
+
+	private static String formatDouble(final LNumberFormatter formatter, final double value) {
+		return formatter.appendDouble(new StringBuilder(), value).toString();
+	}
+
+	@Test
+	public void testFloatSameAsJava() {
+		final Random random = new Random(42);
+
+		for(int i = 0; i < 100000; i++) {
+			final float value = (float)((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(14) - 5));
+			assertEquals(Float.toString(value), formatFloat(LNumberFormatter.INSTANCE, value));
+		}
+	}
+
+	@Test
+	public void testDoubleSameAsJava() {
+		final Random random = new Random(42);
+
+		for(int i = 0; i < 100000; i++) {
+			final double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(14) - 5);
+			assertEquals(Double.toString(value), formatDouble(LNumberFormatter.INSTANCE, value));
+		}
+	}
+
+	@Test
+	public void testSpecialValuesSameAsJava() {
+		final double[] values = {0.0, -0.0, 1.0, -1.0, 0.1, 0.001, 9999999.0, 1e7, 1e-4, 2.5, 0.3, 100.0, Double.NaN,
+								Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MAX_VALUE, Double.MIN_VALUE};
+
+		for(final double value : values) {
+			assertEquals(Float.toString((float)value), formatFloat(LNumberFormatter.INSTANCE, value));
+			assertEquals(Double.toString(value), formatDouble(LNumberFormatter.INSTANCE, value));
+		}
+	}
+
+	@Test
+	public void testAppendCutFloat() {
+		assertEquals("0.0", LNumberFormatter.INSTANCE.appendCutFloat(new StringBuilder(), 1e-10).toString()); //$NON-NLS-1$
+		assertEquals(String.valueOf(LNumber.getCutNumberFloat(12.345)), LNumberFormatter.INSTANCE.appendCutFloat(new StringBuilder(), 12.345).toString());
+	}
+
+	@Test
+	public void testMaxDecimals() {
+		final LNumberFormatter formatter = new LNumberFormatter(3);
+		assertEquals(3, formatter.getMaxDecimals());
+		assertEquals("1.235", formatDouble(formatter, 1.23456)); //$NON-NLS-1$
+		assertEquals("12345.679", formatDouble(formatter, 12345.6789)); //$NON-NLS-1$
+		assertEquals("2.5", formatDouble(formatter, 2.5)); //$NON-NLS-1$
+		assertEquals("100.0", formatDouble(formatter, 100.0)); //$NON-NLS-1$
+		assertEquals("0.3", formatDouble(formatter, 0.1 + 0.2)); //$NON-NLS-1$
+		assertEquals("0.0", formatDouble(formatter, -0.0004)); //$NON-NLS-1$
+		assertEquals("0.001", formatDouble(formatter, 0.001)); //$NON-NLS-1$
+		assertEquals("12345678.0", formatDouble(formatter, 12345678.0)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testAppendToCharBuffer() {
+		final CharBuffer buffer = CharBuffer.allocate(20);
+		LNumberFormatter.INSTANCE.appendFloat(buffer, -12.5);
+		buffer.flip();
+		assertEquals("-12.5", buffer.toString()); //$NON-NLS-1$
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCreateNoDecimal() {
+		new LNumberFormatter(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCreateTooManyDecimals() {
+		new LNumberFormatter(LNumberFormatter.MAX_DECIMALS + 1);
+	}
+}